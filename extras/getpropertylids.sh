@@ -1,6 +1,11 @@
 #!/bin/bash
 # shellcheck disable=SC1004
 # Process pstreader/extras/properties.csv to get properties for msgreader
+PROPERTIES_CSV=$(mktemp)
+LIDS=$(mktemp)
+trap 'rm -f "$PROPERTIES_CSV" "$LIDS"' EXIT
+curl https://raw.githubusercontent.com/Jmcleodfoss/pstreader/master/extras/properties.csv > "$PROPERTIES_CSV"
+
 cat << END_HEADER > PropertyLIDs.java
 // DO NOT EDIT THIS FILE
 // Automatically generated on $(date) by msgreader/extras/getpropertylids.sh
@@ -17,21 +22,8 @@ package io.github.jmcleodfoss.msg;
 public class PropertyLIDs
 {
 END_HEADER
-curl https://raw.githubusercontent.com/Jmcleodfoss/pstreader/master/extras/properties.csv | sort -t , -k 2 | sed '
-	${
-		i\
-
-		i\
-	static final java.util.HashMap<Integer, String> lids = new java.util.HashMap<Integer, String>();
-		i\
-	static final java.util.HashMap<Integer, GUID> guids = new java.util.HashMap<Integer, GUID>();
-		i\
-	static {
-		g
-		a\
-	}
-	}
-
+# Extract the name, LID, and property set GUID of each LID
+sort -t , -k 2 "$PROPERTIES_CSV" | sed -n '
 	/\([^.]\)PS_PUBLIC_STRINGS/s//\1GUID.PS_PUBLIC_STRINGS/
 	/PSETID_Address/s//GUID.PSETID_ADDRESS/
 	/PSETID_Appointment/s//GUID.PSETID_APPOINTMENT/
@@ -50,37 +42,70 @@ curl https://raw.githubusercontent.com/Jmcleodfoss/pstreader/master/extras/prope
 	# we ll ignore it for now.
 	/PidLidPKMDocSummaryInformation17/d
 
-	/^\(PidLid[^,]*\),0x\([^,]*\),\([^,]*\),0x\([^,]*\),\([^,]*\),\(.*\)$/{
-		s//\	\	public static final int \1 = 0x\2;\
-\	\	lids.put(\1, "\1");\
-\	\	guids.put(\1, \5);/
-		P
-		/=/s/^[^\n]*\n\(.*\)$/\1/
-		H
-		d
-	}
+	/^\(PidLid[^,]*\),0x\([^,]*\),\([^,]*\),0x\([^,]*\),\([^,]*\),\(.*\)$/s//\1 0x\2 \5/p
+	' > "$LIDS"
 
-	/n\/a/d
+sed 's/^\([^ ]*\) \([^ ]*\) .*$/\t\tpublic static final int \1 = \2;/' "$LIDS" >> PropertyLIDs.java
 
-	/^PidTag/d
-	' >> PropertyLIDs.java
+# Sort the LIDs by value so they can be found with a binary search. A LID may be defined in more than one property set, so all are
+# kept. The sort key is the value with its sign bit flipped, so the LIDs are in the signed order java.util.Arrays.binarySearch
+# expects.
+while read -r name value guid; do
+	printf '%08x %s %s\n' $(( (value ^ 0x80000000) & 0xffffffff )) "$name" "$guid"
+done < "$LIDS" | sort -s -k 1,1 | cut -d ' ' -f 2,3 > "$LIDS.sorted"
+mv "$LIDS.sorted" "$LIDS"
+
+{
+	echo
+	echo '	/** The known LIDs, in increasing order */'
+	echo '	private static final int[] LIDS = {'
+	sed 's/^\([^ ]*\) .*$/\t\t\1,/' "$LIDS"
+	echo '	};'
+	echo
+	echo '	/** The names of the LIDs in LIDS */'
+	echo '	private static final String[] NAMES = {'
+	sed 's/^\([^ ]*\) .*$/\t\t"\1",/' "$LIDS"
+	echo '	};'
+	echo
+	echo '	/** The property sets of the LIDs in LIDS */'
+	echo '	private static final GUID[] GUIDS = {'
+	sed 's/^[^ ]* \(.*\)$/\t\t\1,/' "$LIDS"
+	echo '	};'
+} >> PropertyLIDs.java
 
 cat << END_FOOTER >> PropertyLIDs.java
 
+	/** Find the name of a known LID. Where the same LID is listed more than once in a property set, the last name listed is used.
+	*	@param	lid	The LID to look up
+	*	@param	guid	The property set the LID belongs to
+	*	@return	The name of the LID, or null if it is not a known LID in the given property set
+	*/
+	static String find(int lid, GUID guid)
+	{
+		int index = java.util.Arrays.binarySearch(LIDS, lid);
+		if (index < 0)
+			return null;
+		while (index + 1 < LIDS.length && LIDS[index + 1] == lid)
+			++index;
+		for (; index >= 0 && LIDS[index] == lid; --index) {
+			if (GUIDS[index].equals(guid))
+				return NAMES[index];
+		}
+		return null;
+	}
+
 	static String name(int lid, GUID guid)
 	{
-		if (lids.containsKey(lid) && guids.containsKey(lid) && guid.equals(guids.get(lid)))
-			return PropertyLIDs.lids.get(lid);
+		String name = find(lid, guid);
+		if (name != null)
+			return name;
 		return String.format("LID-%08x (%s)", lid, GUID.name(guid));
 	}
 
 	public static void main(String[] args)
 	{
-		java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = PropertyLIDs.lids.entrySet().iterator();
-		while (iter.hasNext()) {
-			java.util.Map.Entry<Integer, String> e = iter.next();
-			System.out.printf("0x%08x: %s%n", e.getKey(), e.getValue());
-		}
+		for (int i = 0; i < LIDS.length; ++i)
+			System.out.printf("0x%08x: %s (%s)%n", LIDS[i], NAMES[i], GUID.name(GUIDS[i]));
 	}
 }
 END_FOOTER
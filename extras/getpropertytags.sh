@@ -1,6 +1,11 @@
 #!/bin/bash
 # shellcheck disable=SC1004
 # Process pstreader/extras/properties.csv to get properties for msgreader
+PROPERTIES_CSV=$(mktemp)
+TAGS=$(mktemp)
+trap 'rm -f "$PROPERTIES_CSV" "$TAGS"' EXIT
+curl https://raw.githubusercontent.com/Jmcleodfoss/pstreader/master/extras/properties.csv > "$PROPERTIES_CSV"
+
 cat << END_HEADER > PropertyTags.java
 // DO NOT EDIT THIS FILE
 // Automatically generated on $(date) by msgreader/extras/getpropertytags.sh
@@ -17,39 +22,47 @@ package io.github.jmcleodfoss.msg;
 public class PropertyTags
 {
 END_HEADER
-curl https://raw.githubusercontent.com/Jmcleodfoss/pstreader/master/extras/properties.csv | sort -t , -k 2 | sed '
-	${
-		i\
-
-		i\
-	static final java.util.HashMap<Integer, String> tags = new java.util.HashMap<Integer, String>();
-		i\
-	static {
-		g
-		a\
-	}
-	}
-
+sort -t , -k 2 "$PROPERTIES_CSV" | sed -n '
 	/\(PidTag\)\(7BitDisplayName\)/s//\1_\2/
 	/^\(PidTag[^,]*\),\([^,]*\),\([^,]*\),0x\([^,]*\),,$/s//\	static final public int \1 = \2\4;/p
-	/^.*static final public int \([^ ]*\).*$/{
-		s//\	\	tags.put(\1, "\1");/
-		H
-		d
-	}
-	/n\/a/d
-	/^PidLid/d
 	' >> PropertyTags.java
 
+# Sort the tags by value so they can be found with a binary search, keeping the last name listed for tags with more than one. The
+# sort key is the value with its sign bit flipped, so the tags are in the signed order java.util.Arrays.binarySearch expects.
+sed -n 's/^\tstatic final public int \([^ ]*\) = \([^;]*\);$/\2 \1/p' PropertyTags.java |
+	while read -r value name; do
+		printf '%08x %s\n' $(( (value ^ 0x80000000) & 0xffffffff )) "$name"
+	done | tac | sort -s -u -k 1,1 | cut -d ' ' -f 2 > "$TAGS"
+
+{
+	echo
+	echo '	/** The known property tags, in increasing order */'
+	echo '	private static final int[] TAGS = {'
+	sed 's/^.*$/\t\t&,/' "$TAGS"
+	echo '	};'
+	echo
+	echo '	/** The names of the property tags in TAGS */'
+	echo '	private static final String[] NAMES = {'
+	sed 's/^.*$/\t\t"&",/' "$TAGS"
+	echo '	};'
+} >> PropertyTags.java
+
 cat << END_FOOTER >> PropertyTags.java
 
+	/** Find the name of a known property tag.
+	*	@param	tag	The property tag to look up
+	*	@return	The name of the property tag, or null if it is not a known property tag
+	*/
+	static String find(int tag)
+	{
+		int index = java.util.Arrays.binarySearch(TAGS, tag);
+		return index >= 0 ? NAMES[index] : null;
+	}
+
 	public static void main(String[] args)
 	{
-		java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = PropertyTags.tags.entrySet().iterator();
-		while (iter.hasNext()) {
-			java.util.Map.Entry<Integer, String> e = iter.next();
-			System.out.printf("0x%08x: %s%n", e.getKey(), e.getValue());
-		}
+		for (int i = 0; i < TAGS.length; ++i)
+			System.out.printf("0x%08x: %s%n", TAGS[i], NAMES[i]);
 	}
 }
 END_FOOTER
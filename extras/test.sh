@@ -63,14 +63,31 @@ TestMSGFile() {
 	fi
 	echo "Testing $msg; output directory $output_dir" >> $stats
 
+	TestModule io.github.jmcleodfoss.msg.AttachmentStore "$msg"
+	TestModule io.github.jmcleodfoss.msg.AttachmentWalker "$msg"
+	TestModule io.github.jmcleodfoss.msg.CFBWriter "$msg"
+	TestModule io.github.jmcleodfoss.msg.Compactor "$msg"
+	TestModule io.github.jmcleodfoss.msg.CompressedRTF "$msg"
 	TestModule io.github.jmcleodfoss.msg.DIFAT "$msg"
 	TestModule io.github.jmcleodfoss.msg.Directory "$msg"
 	TestModule io.github.jmcleodfoss.msg.DirectoryEntry "$msg"
 	TestModule io.github.jmcleodfoss.msg.FAT "$msg"
+	TestModule io.github.jmcleodfoss.msg.Fingerprint "$msg"
 	TestModule io.github.jmcleodfoss.msg.Header "$msg"
+	TestModule io.github.jmcleodfoss.msg.JSONExporter "$msg"
+	TestModule io.github.jmcleodfoss.msg.LayoutAnalysis "$msg"
+	TestModule io.github.jmcleodfoss.msg.MIMEConverter "$msg"
+	TestModule io.github.jmcleodfoss.msg.MSGRewriter "$msg"
+	TestModule io.github.jmcleodfoss.msg.MessageFilter "$msg"
 	TestModule io.github.jmcleodfoss.msg.MiniFAT "$msg"
+	TestModule io.github.jmcleodfoss.msg.MsgCache "$msg"
+	TestModule io.github.jmcleodfoss.msg.MsgStatistics "$msg"
 	TestModule io.github.jmcleodfoss.msg.NamedProperties "$msg"
+	TestModule io.github.jmcleodfoss.msg.NamedPropertyNameCache "$msg"
 	TestModule io.github.jmcleodfoss.msg.Property "$msg"
+	TestModule io.github.jmcleodfoss.msg.PropertyCache "$msg"
+	TestModule io.github.jmcleodfoss.msg.RTFDeEncapsulator "$msg"
+	TestModule io.github.jmcleodfoss.msg.Validator "$msg"
 }
 
 rm -rf $results_dir
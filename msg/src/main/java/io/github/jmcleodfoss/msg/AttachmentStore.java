@@ -0,0 +1,334 @@
+package io.github.jmcleodfoss.msg;
+
+/** A content-addressed store for attachment data, which keeps a single copy of each distinct attachment however many messages it
+*   is found in. Each attachment is streamed from the file once: it is hashed with SHA-256 as it is copied to a temporary file in the
+*   store, which is then either renamed to its hash or, if the store already holds a blob with that hash, deleted. Blobs are stored
+*   as <code>directory/ab/abcdef...</code>, where <code>abcdef...</code> is the hexadecimal SHA-256 hash of the content.
+*   <p>
+*   An AttachmentStore is not thread-safe: every call to {@link #store} copies through the same buffer and updates the same
+*   counts. Threads adding to the same directory should each open their own AttachmentStore on it; blobs are added with an
+*   atomic rename, so separate stores, in this process or others, can share a directory.
+*   <p>
+*   Example:
+*   <pre>
+*	AttachmentStore store = new AttachmentStore(java.nio.file.Paths.get("blobs"));
+*	try (java.io.Writer manifest = java.nio.file.Files.newBufferedWriter(java.nio.file.Paths.get("manifest.ndjson"))) {
+*		for (String fileName: fileNames) {
+*			MSG msg = new MSG(fileName);
+*			try {
+*				store.storeAttachments(msg, fileName, manifest);
+*			} finally {
+*				msg.close();
+*			}
+*		}
+*	}
+*   </pre>
+*	@see AttachmentWalker
+*/
+public class AttachmentStore
+{
+	/** The digest algorithm used to address blobs */
+	public static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The size of the buffer used to copy attachments */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** The number of hexadecimal digits of the hash used to name the subdirectory of the store holding a blob */
+	private static final int FAN_OUT_DIGITS = 2;
+
+	/** A blob in the store. */
+	public static class Blob
+	{
+		/** The hexadecimal SHA-256 hash of the blob's content */
+		public final String hash;
+
+		/** The size of the blob in bytes */
+		public final long size;
+
+		/** Was the blob added to the store, rather than found to be a duplicate of a blob already there? */
+		public final boolean added;
+
+		/** The file holding the blob */
+		public final java.nio.file.Path path;
+
+		/** Create a description of a blob.
+		*	@param	hash	The hash of the blob's content
+		*	@param	size	The size of the blob
+		*	@param	added	Was the blob added to the store?
+		*	@param	path	The file holding the blob
+		*/
+		private Blob(String hash, long size, boolean added, java.nio.file.Path path)
+		{
+			this.hash = hash;
+			this.size = size;
+			this.added = added;
+			this.path = path;
+		}
+
+		/** Return a String describing the blob.
+		*	@return	The hash and size of the blob, and whether it was added to the store
+		*/
+		@Override
+		public String toString()
+		{
+			return String.format("%s %d bytes%s", hash, size, added ? "" : " (duplicate)");
+		}
+	}
+
+	/** The directory holding the store */
+	private final java.nio.file.Path directory;
+
+	/** The buffer used to copy attachments, shared by every call to {@link #store} */
+	private final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(BUFFER_SIZE);
+
+	/** The number of blobs added to the store by this object */
+	private long blobsAdded;
+
+	/** The number of bytes added to the store by this object */
+	private long bytesAdded;
+
+	/** The number of duplicate attachments found by this object */
+	private long duplicates;
+
+	/** The number of bytes in the duplicate attachments found by this object, which were not written to the store */
+	private long duplicateBytes;
+
+	/** Open a store, creating its directory if necessary. A store may be opened again later to add more blobs to it.
+	*	@param	directory	The directory holding the store
+	*	@throws	java.io.IOException	The directory could not be created.
+	*/
+	public AttachmentStore(java.nio.file.Path directory)
+	throws
+		java.io.IOException
+	{
+		this.directory = java.nio.file.Files.createDirectories(directory);
+	}
+
+	/** Add content to the store, unless the store already holds a copy of it.
+	*	@param	content	The content to add, which is read to the end but not closed
+	*	@return	The blob holding the content
+	*	@throws	java.io.IOException	There was a problem reading the content or writing to the store.
+	*/
+	public Blob store(java.nio.channels.ReadableByteChannel content)
+	throws
+		java.io.IOException
+	{
+		java.security.MessageDigest digest;
+		try {
+			digest = java.security.MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (final java.security.NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+
+		java.nio.file.Path temp = java.nio.file.Files.createTempFile(directory, "blob", ".tmp");
+		try {
+			long size = 0;
+			try (java.nio.channels.FileChannel out = java.nio.channels.FileChannel.open(temp, java.nio.file.StandardOpenOption.WRITE)) {
+				buffer.clear();
+				while (content.read(buffer) != -1) {
+					buffer.flip();
+					size += buffer.remaining();
+					digest.update(buffer.duplicate());
+					while (buffer.hasRemaining())
+						out.write(buffer);
+					buffer.clear();
+				}
+			}
+
+			StringBuilder hash = new StringBuilder();
+			for (byte b: digest.digest())
+				hash.append(String.format("%02x", b & 0xff));
+			java.nio.file.Path path = directory.resolve(hash.substring(0, FAN_OUT_DIGITS)).resolve(hash.toString());
+
+			boolean added = false;
+			if (!java.nio.file.Files.exists(path)) {
+				java.nio.file.Files.createDirectories(path.getParent());
+				try {
+					java.nio.file.Files.move(temp, path, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+					added = true;
+				} catch (final java.nio.file.FileAlreadyExistsException e) {
+					// Another process added the same content after the check above
+				}
+			}
+
+			if (added) {
+				++blobsAdded;
+				bytesAdded += size;
+			} else {
+				++duplicates;
+				duplicateBytes += size;
+			}
+			return new Blob(hash.toString(), size, added, path);
+		} finally {
+			java.nio.file.Files.deleteIfExists(temp);
+		}
+	}
+
+	/** Add the content of every attachment in a message, including those in embedded messages, to the store, writing a manifest
+	*   line for each. Embedded messages themselves, and attachments with no content stream, are listed in the manifest with no
+	*   hash. Each manifest line is a JSON object with the properties file, path, filename, mimeTag, method, size, sha256, and
+	*   added.
+	*	@param	msg		The message to store the attachments of
+	*	@param	fileName	The name of the file to give in the manifest
+	*	@param	manifest	The destination for the manifest lines
+	*	@return	The number of attachments whose content was stored
+	*	@throws	java.io.IOException	There was a problem reading the file or writing to the store or manifest.
+	*	@see	AttachmentWalker#walk
+	*/
+	public int storeAttachments(MSG msg, String fileName, java.io.Writer manifest)
+	throws
+		java.io.IOException
+	{
+		final int[] stored = {0};
+		AttachmentWalker.walk(msg, attachment -> {
+			Blob blob = null;
+			java.nio.channels.ReadableByteChannel channel = attachment.openChannel();
+			if (channel != null) {
+				try {
+					blob = store(channel);
+					++stored[0];
+				} finally {
+					channel.close();
+				}
+			}
+			manifest.write(manifestLine(fileName, attachment, blob));
+			manifest.write('\n');
+			return AttachmentWalker.Action.CONTINUE;
+		});
+		return stored[0];
+	}
+
+	/** Create a manifest line for an attachment.
+	*	@param	fileName	The name of the file containing the attachment
+	*	@param	attachment	The attachment
+	*	@param	blob		The blob holding the attachment's content, or null if it has none
+	*	@return	A single line JSON object describing the attachment
+	*/
+	private static String manifestLine(String fileName, AttachmentWalker.Attachment attachment, Blob blob)
+	{
+		StringBuilder s = new StringBuilder("{\"file\":");
+		JSONString.append(fileName, s);
+		s.append(",\"path\":\"");
+		int[] path = attachment.path();
+		for (int i = 0; i < path.length; ++i){
+			if (i > 0)
+				s.append('/');
+			s.append(path[i]);
+		}
+		s.append("\",\"filename\":");
+		appendNullableString(attachment.filename, s);
+		s.append(",\"mimeTag\":");
+		appendNullableString(attachment.mimeTag, s);
+		s.append(",\"method\":").append(attachment.method);
+		if (blob != null)
+			s.append(String.format(",\"size\":%d,\"sha256\":\"%s\",\"added\":%b}", blob.size, blob.hash, blob.added));
+		else
+			s.append(",\"size\":null,\"sha256\":null,\"added\":false}");
+		return s.toString();
+	}
+
+	/** Write a JSON string, or null.
+	*	@param	s	The string to write, which may be null
+	*	@param	out	The StringBuilder to write the string to
+	*/
+	private static void appendNullableString(String s, StringBuilder out)
+	{
+		if (s == null)
+			out.append("null");
+		else
+			JSONString.append(s, out);
+	}
+
+	/** Get the number of blobs added to the store by this object.
+	*	@return	The number of distinct attachments added
+	*/
+	public long blobsAdded()
+	{
+		return blobsAdded;
+	}
+
+	/** Get the number of bytes added to the store by this object.
+	*	@return	The total size of the blobs added
+	*/
+	public long bytesAdded()
+	{
+		return bytesAdded;
+	}
+
+	/** Get the number of attachments found to be duplicates of blobs already in the store.
+	*	@return	The number of duplicate attachments
+	*/
+	public long duplicates()
+	{
+		return duplicates;
+	}
+
+	/** Get the number of bytes in attachments found to be duplicates of blobs already in the store.
+	*	@return	The number of bytes which were not written to the store because they were already there
+	*/
+	public long duplicateBytes()
+	{
+		return duplicateBytes;
+	}
+
+	/** Return a String describing the blobs stored by this object.
+	*	@return	The number and size of the blobs added and the duplicates found
+	*/
+	@Override
+	public String toString()
+	{
+		return String.format("%d blobs added (%d bytes), %d duplicates (%d bytes)", blobsAdded, bytesAdded, duplicates, duplicateBytes);
+	}
+
+	/** Test this class by storing the attachments of each msg file in a temporary store, writing the manifest to the standard
+	*   output, and then deleting the store.
+	*	@param	args	The msg file or files to store the attachments of.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.AttachmentStore msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		java.nio.file.Path directory;
+		AttachmentStore store;
+		try {
+			directory = java.nio.file.Files.createTempDirectory("AttachmentStore");
+			store = new AttachmentStore(directory);
+		} catch (final java.io.IOException e) {
+			System.out.println("There was a problem creating the store");
+			return;
+		}
+
+		java.io.PrintWriter manifest = new java.io.PrintWriter(System.out, true);
+		for (String a: args) {
+			try {
+				MSG msg = new MSG(a);
+				try {
+					store.storeAttachments(msg, a, manifest);
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+			manifest.flush();
+		}
+		System.out.println(store);
+
+		try (java.util.stream.Stream<java.nio.file.Path> walk = java.nio.file.Files.walk(directory)) {
+			walk.sorted(java.util.Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		} catch (final java.io.IOException e) {
+			System.out.printf("There was a problem deleting the store %s%n", directory);
+		}
+	}
+}
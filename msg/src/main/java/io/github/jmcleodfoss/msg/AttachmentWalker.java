@@ -0,0 +1,299 @@
+package io.github.jmcleodfoss.msg;
+
+/** Visit the attachments of a message at every depth, in document order: each attachment is visited before the attachments of the
+*   message embedded in it, if any, and those before the attachment's next sibling. Only the Properties stream and the filename,
+*   MIME tag, and content ID substorages of each attachment are read before it is visited; its content is read only if the visitor
+*   opens it, so attachments can be skipped, and embedded messages pruned, without reading their data. Only the attachments of the
+*   messages enclosing the one being visited are held in memory.
+*   <p>
+*   Example:
+*   <pre>
+*	AttachmentWalker.walk(msg, attachment -&gt; {
+*		if (attachment.contentId != null)
+*			return AttachmentWalker.Action.CONTINUE;	// skip inline images
+*		try (java.nio.channels.ReadableByteChannel channel = attachment.openChannel()) {
+*			...
+*		}
+*		return AttachmentWalker.Action.CONTINUE;
+*	});
+*   </pre>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/b046868c-9fbf-41ae-9ffb-8de2bd4eec82">MS-OXMSG Section 2.4.1.2: Embedded Message Object Storage</a>
+*/
+public class AttachmentWalker
+{
+	/** PidTagAttachMethod for attachments whose data is in PidTagAttachDataBinary */
+	public static final int ATTACH_BY_VALUE = 1;
+
+	/** PidTagAttachMethod for attachments which are embedded messages */
+	public static final int ATTACH_EMBEDDED_MESSAGE = 5;
+
+	/** What the walk should do after an attachment has been visited. */
+	public enum Action {
+		/** Continue with the attachments of the embedded message, if the attachment is one, and then the next attachment */
+		CONTINUE,
+
+		/** Continue with the next attachment, skipping the attachments of the embedded message if the attachment is one */
+		SKIP_EMBEDDED,
+
+		/** Stop the walk */
+		STOP
+	}
+
+	/** The callback for each attachment found. */
+	@FunctionalInterface
+	public interface Visitor
+	{
+		/** Visit an attachment.
+		*	@param	attachment	The attachment being visited
+		*	@return	What the walk should do next
+		*	@throws	java.io.IOException	There was a problem processing the attachment.
+		*/
+		Action visit(Attachment attachment)
+		throws
+			java.io.IOException;
+	}
+
+	/** The metadata for an attachment, and access to its content. */
+	public static class Attachment
+	{
+		/** The attachment's long filename, its short filename if it has no long filename, or null if it has neither */
+		public final String filename;
+
+		/** The attachment's MIME type, or null if it has none */
+		public final String mimeTag;
+
+		/** The attachment's content ID, or null if it has none; attachments with content IDs are normally inline images */
+		public final String contentId;
+
+		/** The attachment method, such as {@link #ATTACH_BY_VALUE} or {@link #ATTACH_EMBEDDED_MESSAGE} */
+		public final int method;
+
+		/** The size of the attachment object given by PidTagAttachSize, or -1 if it has none */
+		public final long attachSize;
+
+		/** The position of the attachment among the attachments of each enclosing message, from the top-level message down */
+		private final int[] path;
+
+		/** The file containing the attachment */
+		private final MSG msg;
+
+		/** The entry holding the attachment's content: a stream for attachments by value, a storage for embedded messages, or null
+		*   for attachments with no content this class can read
+		*/
+		private final DirectoryEntry content;
+
+		/** Read the metadata for an attachment.
+		*	@param	msg	The file containing the attachment
+		*	@param	de	The Attachment entry
+		*	@param	path	The position of the attachment in each enclosing message
+		*/
+		private Attachment(MSG msg, DirectoryEntry de, int[] path)
+		{
+			this.msg = msg;
+			this.path = path;
+
+			byte[] data = msg.getPropertiesData(de);
+			java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(data == null ? new byte[0] : data);
+			records.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+			int headerSize = de.getChildPropertiesHeaderSize();
+
+			int offset = MessageFilter.findValue(records, headerSize, PropertyTags.PidTagAttachMethod);
+			method = offset == -1 ? ATTACH_BY_VALUE : records.getInt(offset);
+			offset = MessageFilter.findValue(records, headerSize, PropertyTags.PidTagAttachSize);
+			attachSize = offset == -1 ? -1 : records.getInt(offset) & 0xffffffffL;
+
+			java.util.ArrayList<DirectoryEntry> children = msg.getChildren(de);
+			String name = emptyToNull(MessageFilter.readString(msg, children, PropertyTags.PidTagAttachLongFilename));
+			filename = name != null ? name : emptyToNull(MessageFilter.readString(msg, children, PropertyTags.PidTagAttachFilename));
+			mimeTag = emptyToNull(MessageFilter.readString(msg, children, PropertyTags.PidTagAttachMimeTag));
+			contentId = emptyToNull(MessageFilter.readString(msg, children, PropertyTags.PidTagAttachContentId));
+
+			DirectoryEntry contentEntry = null;
+			if (method == ATTACH_BY_VALUE || method == ATTACH_EMBEDDED_MESSAGE) {
+				int contentTag = method == ATTACH_BY_VALUE ? PropertyTags.PidTagAttachDataBinary : PropertyTags.PidTagAttachDataObject;
+				for (DirectoryEntry child: children){
+					if (child.getPropertyTag() == contentTag && child.objectType.isStorage() == (method == ATTACH_EMBEDDED_MESSAGE)){
+						contentEntry = child;
+						break;
+					}
+				}
+			}
+			content = contentEntry;
+		}
+
+		/** Get the depth of the message the attachment belongs to.
+		*	@return	0 for attachments of the top-level message, 1 for attachments of messages embedded in it, and so on
+		*/
+		public int depth()
+		{
+			return path.length - 1;
+		}
+
+		/** Get the position of the attachment in each enclosing message.
+		*	@return	The index of the attachment among the attachments of the top-level message which contains it, then the index
+		*		among the attachments of the embedded message which contains it, and so on down to the attachment itself
+		*/
+		public int[] path()
+		{
+			return path.clone();
+		}
+
+		/** Get the size of the attachment's content.
+		*	@return	The size of the content stream for attachments by value, or -1 for other attachments
+		*/
+		public long contentSize()
+		{
+			return isEmbeddedMessage() || content == null ? -1 : content.streamSize;
+		}
+
+		/** Is the attachment an embedded message?
+		*	@return	true if the attachment is an embedded message which can be opened with {@link #openEmbedded}, false otherwise
+		*/
+		public boolean isEmbeddedMessage()
+		{
+			return method == ATTACH_EMBEDDED_MESSAGE && content != null;
+		}
+
+		/** Open a channel for the attachment's content. The content is read from the file as the channel is read.
+		*	@return	A channel for the content of an attachment by value, or null for other attachments
+		*	@see MSG#getChannel
+		*/
+		public java.nio.channels.ReadableByteChannel openChannel()
+		{
+			if (isEmbeddedMessage() || content == null)
+				return null;
+			return msg.getChannel(content);
+		}
+
+		/** Open the embedded message, if the attachment is one.
+		*	@return	A view of the embedded message, or null if the attachment is not an embedded message
+		*	@see MSG#openEmbedded
+		*/
+		public MSG openEmbedded()
+		{
+			if (!isEmbeddedMessage())
+				return null;
+			return msg.openEmbedded(content);
+		}
+
+		/** Return a String describing the attachment.
+		*	@return	The attachment's path, filename, MIME type, method, and size
+		*/
+		@Override
+		public String toString()
+		{
+			StringBuilder s = new StringBuilder();
+			for (int i = 0; i < path.length; ++i){
+				if (i > 0)
+					s.append('/');
+				s.append(path[i]);
+			}
+			return String.format("%s: %s (%s) method %d, %d bytes", s, filename, mimeTag, method, isEmbeddedMessage() ? attachSize : contentSize());
+		}
+	}
+
+	/** Static methods only; no instances. */
+	private AttachmentWalker()
+	{
+	}
+
+	/** Convert an empty string to null.
+	*	@param	s	The string to check
+	*	@return	s, or null if s is empty
+	*/
+	private static String emptyToNull(String s)
+	{
+		return s == null || s.isEmpty() ? null : s;
+	}
+
+	/** Visit all the attachments of a message, including those of embedded messages.
+	*	@param	msg	The message to visit the attachments of, which may be a view of an embedded message
+	*	@param	visitor	The callback for each attachment
+	*	@return	true if every attachment was visited, false if the visitor stopped the walk
+	*	@throws	java.io.IOException	The visitor reported a problem processing an attachment.
+	*/
+	public static boolean walk(MSG msg, Visitor visitor)
+	throws
+		java.io.IOException
+	{
+		return walk(msg, msg.getDirectoryTree().entry, new int[0], visitor);
+	}
+
+	/** Visit the attachments of a message and of the messages embedded in it.
+	*	@param	msg		The file containing the message
+	*	@param	message		The Root Storage or embedded message entry for the message
+	*	@param	parentPath	The position of the message in each enclosing message
+	*	@param	visitor		The callback for each attachment
+	*	@return	true if every attachment was visited, false if the visitor stopped the walk
+	*	@throws	java.io.IOException	The visitor reported a problem processing an attachment.
+	*/
+	private static boolean walk(MSG msg, DirectoryEntry message, int[] parentPath, Visitor visitor)
+	throws
+		java.io.IOException
+	{
+		int index = 0;
+		for (DirectoryEntry de: msg.getChildren(message)){
+			if (!msg.isAttachment(de))
+				continue;
+
+			int[] path = java.util.Arrays.copyOf(parentPath, parentPath.length + 1);
+			path[parentPath.length] = index++;
+			Attachment attachment = new Attachment(msg, de, path);
+			Action action = visitor.visit(attachment);
+			if (action == Action.STOP)
+				return false;
+			if (action == Action.CONTINUE && attachment.isEmbeddedMessage() && !walk(msg, attachment.content, path, visitor))
+				return false;
+		}
+		return true;
+	}
+
+	/** Test this class by listing the attachments at every depth of each msg file, with the number of bytes in each.
+	*	@param	args	The msg file or files to list the attachments of.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.AttachmentWalker msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(4096);
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					walk(msg, attachment -> {
+						long bytes = 0;
+						java.nio.channels.ReadableByteChannel channel = attachment.openChannel();
+						if (channel != null) {
+							try {
+								int n;
+								while ((n = channel.read(buffer)) != -1) {
+									bytes += n;
+									buffer.clear();
+								}
+							} finally {
+								channel.close();
+							}
+						}
+						System.out.printf("%s%s; %d bytes read%n", "\t".repeat(attachment.depth() + 1), attachment, bytes);
+						return Action.CONTINUE;
+					});
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
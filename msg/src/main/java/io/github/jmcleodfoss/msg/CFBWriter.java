@@ -0,0 +1,847 @@
+package io.github.jmcleodfoss.msg;
+
+/** Write a compound file from a tree of storages and streams. The contents of each stream are supplied by a {@link Content} object
+*   which is only opened when the stream is written, so large streams are copied into their sectors through a fixed-size buffer
+*   rather than being held in memory. Streams smaller than the mini stream cutoff size are stored in the mini stream.
+*   <p>
+*   The file is laid out as the DIFAT sectors, the FAT sectors, the directory, the mini FAT, the mini stream, and then each stream
+*   stored in regular sectors, with every sector chain contiguous unless the writer has been asked to {@link #scatter} them. The
+*   children of each storage are stored in a balanced binary tree colored so that it is a valid red-black tree.
+<pre>
+	CFBWriter writer = new CFBWriter(3);
+	CFBWriter.Storage storage = writer.root().addStorage("__attach_version1.0_#00000000");
+	storage.addStream("__substg1.0_37010102", Files.size(path), () -&gt; FileChannel.open(path));
+	writer.write(outputFile);
+</pre>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB Section 2.6: Compound File Directory Sectors</a>
+*/
+public class CFBWriter {
+
+	/** The minor version of all compound files.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
+	*/
+	private static final short MINOR_VERSION = 0x003e;
+
+	/** The byte order mark, indicating little-endian data.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
+	*/
+	private static final short BYTE_ORDER = (short)0xfffe;
+
+	/** The sector shift for version 3 files (512-byte sectors) */
+	static final short VERSION_3_SECTOR_SHIFT = 9;
+
+	/** The sector shift for version 4 files (4096-byte sectors) */
+	static final short VERSION_4_SECTOR_SHIFT = 12;
+
+	/** The mini sector shift, which is the same for both versions */
+	private static final short MINI_SECTOR_SHIFT = 6;
+
+	/** Streams smaller than this are stored in the mini stream.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
+	*/
+	static final int MINI_STREAM_CUTOFF_SIZE = 4096;
+
+	/** The maximum length of an entry name in characters, excluding the terminating null character. */
+	private static final int MAX_NAME_LENGTH = 31;
+
+	/** The size of the buffer used to copy the contents of a stream stored in regular sectors */
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	/** The offset of the CLSID, state bits, creation time, and modified time in a directory entry
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/60fe8611-66c3-496b-b70d-a504c94c9ace">MS-CFB 2.6.1 Compound File Directory Entry</a>
+	*/
+	private static final int METADATA_OFFSET = (MAX_NAME_LENGTH + 1) * DataType.SIZEOF_SHORT + DataType.SIZEOF_SHORT + 2 + 3 * DataType.SIZEOF_INT;
+
+	/** The size of the CLSID, state bits, creation time, and modified time in a directory entry */
+	private static final int METADATA_SIZE = GUID.SIZE + DataType.SIZEOF_INT + 2 * DataType.SIZEOF_LONG;
+
+	/** The color flag value for red directory entries */
+	private static final byte RED = 0;
+
+	/** The color flag value for black directory entries */
+	private static final byte BLACK = 1;
+
+	/** The source of a stream's contents. */
+	public interface Content {
+		/** Open a channel from which the stream's contents can be read. This is called once, when the stream is written, and the
+		*   channel is closed once the stream's contents have been read.
+		*	@return	A channel supplying the stream's contents
+		*	@throws	java.io.IOException	The channel could not be opened.
+		*/
+		java.nio.channels.ReadableByteChannel open()
+		throws
+			java.io.IOException;
+	}
+
+	/** A storage or stream in the tree to be written. */
+	abstract static class Entry {
+
+		/** The entry name */
+		final String name;
+
+		/** The entry's index in the directory */
+		int id;
+
+		/** The index of the left sibling in the parent storage's tree, or {@link Sector#FREESECT} */
+		private int leftSiblingId = Sector.FREESECT;
+
+		/** The index of the right sibling in the parent storage's tree, or {@link Sector#FREESECT} */
+		private int rightSiblingId = Sector.FREESECT;
+
+		/** The color of this entry in the parent storage's tree */
+		private byte color = BLACK;
+
+		/** Create an entry with the given name.
+		*	@param	name	The entry name
+		*/
+		private Entry(String name)
+		{
+			this.name = name;
+		}
+
+		/** Get the entry name.
+		*	@return	The name of the entry
+		*/
+		public String name()
+		{
+			return name;
+		}
+	}
+
+	/** A storage to be written, to which child storages and streams may be added. */
+	public static class Storage extends Entry {
+
+		/** The storage's children */
+		private final java.util.ArrayList<Entry> children = new java.util.ArrayList<Entry>();
+
+		/** The index of the root of the tree of the storage's children, or {@link Sector#FREESECT} */
+		private int childId = Sector.FREESECT;
+
+		/** The CLSID, state bits, creation time, and modified time, or null if they are all zero */
+		private byte[] metadata;
+
+		/** Create a storage with the given name.
+		*	@param	name	The storage name
+		*/
+		private Storage(String name)
+		{
+			super(name);
+		}
+
+		/** Add a child entry, checking that its name is valid and not already in use in this storage.
+		*	@param	entry	The entry to add
+		*/
+		private void add(Entry entry)
+		{
+			if (entry.name.isEmpty() || entry.name.length() > MAX_NAME_LENGTH || entry.name.matches(".*[/\\\\:!].*"))
+				throw new IllegalArgumentException("Invalid entry name " + entry.name);
+			for (Entry child : children){
+				if (compare(child, entry) == 0)
+					throw new IllegalArgumentException("Duplicate entry name " + entry.name);
+			}
+			children.add(entry);
+		}
+
+		/** Copy the CLSID, state bits, creation time, and modified time from a directory entry read from another file.
+		*	@param	rawDirectoryEntry	The bytes of the directory entry
+		*	@return	This storage
+		*/
+		Storage copyMetadata(byte[] rawDirectoryEntry)
+		{
+			metadata = java.util.Arrays.copyOfRange(rawDirectoryEntry, METADATA_OFFSET, METADATA_OFFSET + METADATA_SIZE);
+			return this;
+		}
+
+		/** Add a child storage.
+		*	@param	name	The name of the new storage
+		*	@return	The new storage
+		*/
+		public Storage addStorage(String name)
+		{
+			Storage storage = new Storage(name);
+			add(storage);
+			return storage;
+		}
+
+		/** Add a child stream with the given contents.
+		*	@param	name	The name of the new stream
+		*	@param	data	The contents of the new stream
+		*	@return	This storage, so calls may be chained
+		*/
+		public Storage addStream(String name, byte[] data)
+		{
+			return addStream(name, data.length, () -> java.nio.channels.Channels.newChannel(new java.io.ByteArrayInputStream(data)));
+		}
+
+		/** Add a child stream whose contents will be read from the given source when the file is written.
+		*	@param	name	The name of the new stream
+		*	@param	size	The number of bytes in the stream
+		*	@param	content	The source of the stream's contents, which must supply at least size bytes
+		*	@return	This storage, so calls may be chained
+		*/
+		public Storage addStream(String name, long size, Content content)
+		{
+			if (size < 0)
+				throw new IllegalArgumentException("Invalid size " + size + " for stream " + name);
+			add(new Stream(name, size, content));
+			return this;
+		}
+	}
+
+	/** A stream to be written. */
+	private static class Stream extends Entry {
+
+		/** The number of bytes in the stream */
+		private final long size;
+
+		/** The source of the stream's contents */
+		private final Content content;
+
+		/** The first sector (or mini sector) of the stream */
+		private int startingSectorLocation = Sector.ENDOFCHAIN;
+
+		/** Create a stream.
+		*	@param	name	The stream name
+		*	@param	size	The number of bytes in the stream
+		*	@param	content	The source of the stream's contents
+		*/
+		private Stream(String name, long size, Content content)
+		{
+			super(name);
+			this.size = size;
+			this.content = content;
+		}
+	}
+
+	/** The file's version, 3 or 4 */
+	private final int version;
+
+	/** The sector size for the file's version */
+	private final int sectorSize;
+
+	/** The root storage */
+	private final Storage root = new Storage(DirectoryEntry.ROOT_ENTRY);
+
+	/** The random number generator used to order the sectors after the FAT, or null to write each sector chain contiguously */
+	private java.util.Random scatter;
+
+	/** A channel which writes the sectors after the FAT, which are supplied in the order they are laid out, to their scattered
+	*   locations in the file.
+	*/
+	private static class ScatteringChannel implements java.nio.channels.WritableByteChannel {
+
+		/** The file being written */
+		private final java.nio.channels.SeekableByteChannel out;
+
+		/** The sector size */
+		private final int sectorSize;
+
+		/** The sector number of the first sector after the FAT */
+		private final long firstSector;
+
+		/** The location of each sector after the FAT, relative to firstSector, indexed by its position in the layout */
+		private final int[] locations;
+
+		/** The number of bytes written so far */
+		private long position;
+
+		/** Create a channel which scatters sectors.
+		*	@param	out		The file being written
+		*	@param	sectorSize	The sector size
+		*	@param	firstSector	The sector number of the first sector after the FAT
+		*	@param	locations	The location of each sector after the FAT, relative to firstSector
+		*/
+		private ScatteringChannel(java.nio.channels.SeekableByteChannel out, int sectorSize, long firstSector, int[] locations)
+		{
+			this.out = out;
+			this.sectorSize = sectorSize;
+			this.firstSector = firstSector;
+			this.locations = locations;
+		}
+
+		/** Write bytes, splitting them at sector boundaries and writing each part to its sector's location.
+		*	@param	src	The bytes to write
+		*	@return	The number of bytes written
+		*	@throws	java.io.IOException	The bytes could not be written.
+		*/
+		@Override
+		public int write(java.nio.ByteBuffer src)
+		throws
+			java.io.IOException
+		{
+			int written = 0;
+			while (src.hasRemaining()){
+				int offset = (int)(position % sectorSize);
+				int length = Math.min(src.remaining(), sectorSize - offset);
+				java.nio.ByteBuffer part = src.duplicate();
+				part.limit(part.position() + length);
+				out.position((1 + firstSector + locations[(int)(position / sectorSize)]) * sectorSize + offset);
+				while (part.hasRemaining())
+					out.write(part);
+				src.position(src.position() + length);
+				position += length;
+				written += length;
+			}
+			return written;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean isOpen()
+		{
+			return out.isOpen();
+		}
+
+		/** The file is closed by the caller. */
+		@Override
+		public void close()
+		{
+		}
+	}
+
+	/** Create a writer for a file of the given version.
+	*	@param	version	3 for 512-byte sectors, or 4 for 4096-byte sectors
+	*/
+	public CFBWriter(int version)
+	{
+		if (version != 3 && version != 4)
+			throw new IllegalArgumentException("Unsupported compound file version " + version);
+		this.version = version;
+		sectorSize = Sector.sectorSize(version == 3 ? VERSION_3_SECTOR_SHIFT : VERSION_4_SECTOR_SHIFT);
+	}
+
+	/** Scatter the sectors holding the directory, mini FAT, mini stream, and streams stored in regular sectors in random order
+	*   rather than writing each sector chain contiguously, to produce fragmented files for testing readers and {@link Compactor}.
+	*   The mini sectors within the mini stream stay in order. A writer which scatters sectors can only write to a
+	*   {@link java.nio.channels.SeekableByteChannel}.
+	*	@param	random	The random number generator used to order the sectors, or null to write each sector chain contiguously
+	*	@return	This writer, so calls may be chained
+	*/
+	public CFBWriter scatter(java.util.Random random)
+	{
+		scatter = random;
+		return this;
+	}
+
+	/** Get the root storage, to which the top-level storages and streams are added.
+	*	@return	The root storage
+	*/
+	public Storage root()
+	{
+		return root;
+	}
+
+	/** Compare two entries in the order used for the red-black tree of a storage's children.
+	*	@param	a	The first entry to compare
+	*	@param	b	The second entry to compare
+	*	@return	A negative number, 0, or a positive number as a is less than, the same as, or greater than b
+	*	@see DirectoryEntry#NAME_ORDER
+	*/
+	private static int compare(Entry a, Entry b)
+	{
+		return DirectoryEntry.NAME_ORDER.compare(a.name, b.name);
+	}
+
+	/** Number the entries in the tree rooted at the given storage, and build the tree of each storage's children.
+	*	@param	storage	The storage to number the children of
+	*	@param	entries	The list of entries, in directory order
+	*/
+	private static void number(Storage storage, java.util.ArrayList<Entry> entries)
+	{
+		java.util.ArrayList<Entry> sorted = new java.util.ArrayList<Entry>(storage.children);
+		sorted.sort(CFBWriter::compare);
+		for (Entry child : sorted){
+			child.id = entries.size();
+			entries.add(child);
+		}
+
+		int blackHeight = 31 - Integer.numberOfLeadingZeros(sorted.size() + 1);
+		storage.childId = balance(sorted, 0, sorted.size(), 0, blackHeight);
+
+		for (Entry child : sorted){
+			if (child instanceof Storage)
+				number((Storage)child, entries);
+		}
+	}
+
+	/** Build a balanced tree from a sorted range of entries. The levels of the tree above the given black height are full, so
+	*   coloring the entries on those levels black and the remaining entries (which are all on the bottom level) red gives a
+	*   valid red-black tree.
+	*	@param	sorted	The sorted entries
+	*	@param	start	The first entry in the range
+	*	@param	end	The entry after the last entry in the range
+	*	@param	depth	The depth of the range's root in the tree
+	*	@param	blackHeight	The number of full levels in the tree
+	*	@return	The index of the root of the range's tree, or {@link Sector#FREESECT} if the range is empty
+	*/
+	private static int balance(java.util.List<Entry> sorted, int start, int end, int depth, int blackHeight)
+	{
+		if (start >= end)
+			return Sector.FREESECT;
+
+		int mid = (start + end) >>> 1;
+		Entry entry = sorted.get(mid);
+		entry.leftSiblingId = balance(sorted, start, mid, depth + 1, blackHeight);
+		entry.rightSiblingId = balance(sorted, mid + 1, end, depth + 1, blackHeight);
+		entry.color = depth < blackHeight ? BLACK : RED;
+		return entry.id;
+	}
+
+	/** Calculate the number of units of the given size needed to hold the given number of bytes.
+	*	@param	bytes	The number of bytes
+	*	@param	unitSize	The size of each unit
+	*	@return	The number of units needed
+	*/
+	private static long units(long bytes, int unitSize)
+	{
+		return (bytes + unitSize - 1) / unitSize;
+	}
+
+	/** Write a buffer to the channel.
+	*	@param	out	The channel to write to
+	*	@param	bb	The buffer to write, which is flipped before writing and cleared after
+	*	@throws	java.io.IOException	The buffer could not be written.
+	*/
+	private static void writeBuffer(java.nio.channels.WritableByteChannel out, java.nio.ByteBuffer bb)
+	throws
+		java.io.IOException
+	{
+		bb.flip();
+		while (bb.hasRemaining())
+			out.write(bb);
+		bb.clear();
+	}
+
+	/** Fill the rest of a buffer with zeroes and write it to the channel.
+	*	@param	out	The channel to write to
+	*	@param	bb	The buffer to pad and write
+	*	@throws	java.io.IOException	The buffer could not be written.
+	*/
+	private static void padAndWrite(java.nio.channels.WritableByteChannel out, java.nio.ByteBuffer bb)
+	throws
+		java.io.IOException
+	{
+		while (bb.hasRemaining())
+			bb.put((byte)0);
+		writeBuffer(out, bb);
+	}
+
+	/** Read from the channel until the buffer is full.
+	*	@param	in	The channel to read from
+	*	@param	bb	The buffer to fill
+	*	@param	stream	The stream being read, for the error message
+	*	@throws	java.io.EOFException	The channel ended before the buffer was full.
+	*	@throws	java.io.IOException	The channel could not be read.
+	*/
+	private static void readFully(java.nio.channels.ReadableByteChannel in, java.nio.ByteBuffer bb, Stream stream)
+	throws
+		java.io.EOFException,
+		java.io.IOException
+	{
+		while (bb.hasRemaining()){
+			if (in.read(bb) < 0)
+				throw new java.io.EOFException("Content for stream " + stream.name + " is shorter than " + stream.size + " bytes");
+		}
+	}
+
+	/** Get the location of a sector in the file.
+	*	@param	sector		The sector's position in the layout
+	*	@param	firstSector	The sector number of the first sector after the FAT
+	*	@param	locations	The location of each sector after the FAT relative to firstSector, or null if they are not scattered
+	*	@return	The sector number of the sector in the file
+	*/
+	private static int location(long sector, long firstSector, int[] locations)
+	{
+		if (locations == null || sector < firstSector)
+			return (int)sector;
+		return (int)(firstSector + locations[(int)(sector - firstSector)]);
+	}
+
+	/** Write the compound file to a channel.
+	*	@param	out	The channel to write to, which must be a {@link java.nio.channels.SeekableByteChannel} if the sectors are
+	*			{@link #scatter scattered}
+	*	@throws	java.io.IOException	The file could not be written or a stream's contents could not be read.
+	*/
+	public void write(java.nio.channels.WritableByteChannel out)
+	throws
+		java.io.IOException
+	{
+		if (scatter != null && !(out instanceof java.nio.channels.SeekableByteChannel))
+			throw new IllegalArgumentException("Scattered sectors can only be written to a seekable channel");
+
+		final int intsPerSector = sectorSize / DataType.SIZEOF_INT;
+
+		java.util.ArrayList<Entry> entries = new java.util.ArrayList<Entry>();
+		root.id = 0;
+		entries.add(root);
+		number(root, entries);
+
+		java.util.ArrayList<Stream> miniStreams = new java.util.ArrayList<Stream>();
+		java.util.ArrayList<Stream> regularStreams = new java.util.ArrayList<Stream>();
+		long miniSectors = 0;
+		long regularStreamSectors = 0;
+		for (Entry entry : entries){
+			if (!(entry instanceof Stream))
+				continue;
+			Stream stream = (Stream)entry;
+			if (stream.size == 0)
+				continue;
+			if (stream.size < MINI_STREAM_CUTOFF_SIZE){
+				stream.startingSectorLocation = (int)miniSectors;
+				miniSectors += units(stream.size, MiniFAT.MINI_SECTOR_SIZE);
+				miniStreams.add(stream);
+			} else {
+				regularStreamSectors += units(stream.size, sectorSize);
+				regularStreams.add(stream);
+			}
+		}
+
+		final long miniStreamSize = miniSectors * MiniFAT.MINI_SECTOR_SIZE;
+		final int directorySectors = (int)units((long)entries.size() * DirectoryEntry.SIZE, sectorSize);
+		final int miniFATSectors = (int)units(miniSectors * DataType.SIZEOF_INT, sectorSize);
+		final int miniStreamSectors = (int)units(miniStreamSize, sectorSize);
+		final long dataSectors = directorySectors + miniFATSectors + miniStreamSectors + regularStreamSectors;
+
+		// The FAT must describe its own sectors and the DIFAT sectors, so iterate until the sizes are consistent
+		int fatSectors = 0;
+		int difatSectors = 0;
+		int previousFATSectors;
+		do {
+			previousFATSectors = fatSectors;
+			fatSectors = (int)units(dataSectors + fatSectors + difatSectors, intsPerSector);
+			difatSectors = fatSectors <= DIFAT.HEADER_DIFAT_ENTRIES ? 0 : (int)units(fatSectors - DIFAT.HEADER_DIFAT_ENTRIES, intsPerSector - 1);
+		} while (fatSectors != previousFATSectors);
+
+		final long totalSectors = difatSectors + fatSectors + dataSectors;
+		if (totalSectors > (Sector.DIFSECT & 0xffffffffL))
+			throw new java.io.IOException("File is too large for a compound file");
+
+		final int firstFATSector = difatSectors;
+		final int firstDirectorySector = firstFATSector + fatSectors;
+		final int firstMiniFATSector = firstDirectorySector + directorySectors;
+		final int firstMiniStreamSector = firstMiniFATSector + miniFATSectors;
+
+		// Sector locations in the file, indexed by position in the layout, and the layout position of the sector at each location
+		int[] locations = null;
+		int[] layoutPositions = null;
+		if (scatter != null){
+			locations = new int[(int)dataSectors];
+			for (int i = 0; i < locations.length; ++i)
+				locations[i] = i;
+			for (int i = locations.length - 1; i > 0; --i){
+				int j = scatter.nextInt(i + 1);
+				int t = locations[i];
+				locations[i] = locations[j];
+				locations[j] = t;
+			}
+			layoutPositions = new int[locations.length];
+			for (int i = 0; i < locations.length; ++i)
+				layoutPositions[locations[i]] = i;
+		}
+
+		java.util.BitSet chainEnds = new java.util.BitSet();
+		chainEnds.set(firstDirectorySector + directorySectors - 1);
+		if (miniFATSectors > 0)
+			chainEnds.set(firstMiniFATSector + miniFATSectors - 1);
+		if (miniStreamSectors > 0)
+			chainEnds.set(firstMiniStreamSector + miniStreamSectors - 1);
+		long nextSector = firstMiniStreamSector + miniStreamSectors;
+		for (Stream stream : regularStreams){
+			stream.startingSectorLocation = location(nextSector, firstDirectorySector, locations);
+			nextSector += units(stream.size, sectorSize);
+			chainEnds.set((int)(nextSector - 1));
+		}
+
+		java.nio.ByteBuffer bb = java.nio.ByteBuffer.allocate(sectorSize);
+		bb.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+
+		// Header; the fields are in the order of Header.header_fields. For version 4 files, the rest of the first sector is zero.
+		bb.putLong(HeaderSignature.SIGNATURE);
+		bb.put(new byte[GUID.SIZE]);
+		bb.putShort(MINOR_VERSION);
+		bb.putShort((short)version);
+		bb.putShort(BYTE_ORDER);
+		bb.putShort(version == 3 ? VERSION_3_SECTOR_SHIFT : VERSION_4_SECTOR_SHIFT);
+		bb.putShort(MINI_SECTOR_SHIFT);
+		bb.put(new byte[6]);
+		bb.putInt(version == 3 ? 0 : directorySectors);
+		bb.putInt(fatSectors);
+		bb.putInt(location(firstDirectorySector, firstDirectorySector, locations));
+		bb.putInt(0);
+		bb.putInt(MINI_STREAM_CUTOFF_SIZE);
+		bb.putInt(miniFATSectors > 0 ? location(firstMiniFATSector, firstDirectorySector, locations) : Sector.ENDOFCHAIN);
+		bb.putInt(miniFATSectors);
+		bb.putInt(difatSectors > 0 ? 0 : Sector.ENDOFCHAIN);
+		bb.putInt(difatSectors);
+		assert bb.position() == DIFAT.HEADER_DIFAT_OFFSET * DataType.SIZEOF_INT;
+		for (int i = 0; i < DIFAT.HEADER_DIFAT_ENTRIES; ++i)
+			bb.putInt(i < fatSectors ? firstFATSector + i : Sector.FREESECT);
+		padAndWrite(out, bb);
+
+		// DIFAT sectors; the last entry in each is the location of the next one
+		int fatIndex = DIFAT.HEADER_DIFAT_ENTRIES;
+		for (int sector = 0; sector < difatSectors; ++sector){
+			for (int i = 0; i < intsPerSector - 1; ++i, ++fatIndex)
+				bb.putInt(fatIndex < fatSectors ? firstFATSector + fatIndex : Sector.FREESECT);
+			bb.putInt(sector + 1 < difatSectors ? sector + 1 : Sector.ENDOFCHAIN);
+			writeBuffer(out, bb);
+		}
+
+		// FAT sectors
+		for (long sector = 0; sector < (long)fatSectors * intsPerSector; ++sector){
+			if (sector < firstFATSector)
+				bb.putInt(Sector.DIFSECT);
+			else if (sector < firstDirectorySector)
+				bb.putInt(Sector.FATSECT);
+			else if (sector < totalSectors){
+				long layoutPosition = layoutPositions == null ? sector : firstDirectorySector + layoutPositions[(int)(sector - firstDirectorySector)];
+				bb.putInt(chainEnds.get((int)layoutPosition) ? Sector.ENDOFCHAIN : location(layoutPosition + 1, firstDirectorySector, locations));
+			} else {
+				bb.putInt(Sector.FREESECT);
+			}
+			if (!bb.hasRemaining())
+				writeBuffer(out, bb);
+		}
+
+		// The remaining sectors are written in layout order, so if they are scattered, send each one to its location
+		if (locations != null)
+			out = new ScatteringChannel((java.nio.channels.SeekableByteChannel)out, sectorSize, firstDirectorySector, locations);
+
+		// Directory
+		for (Entry entry : entries){
+			int nameStart = bb.position();
+			bb.put(entry.name.getBytes(java.nio.charset.StandardCharsets.UTF_16LE));
+			bb.position(nameStart + (MAX_NAME_LENGTH + 1) * DataType.SIZEOF_SHORT);
+			bb.putShort((short)((entry.name.length() + 1) * DataType.SIZEOF_SHORT));
+			if (entry instanceof Storage){
+				bb.put(entry == root ? ObjectType.ROOT_STORAGE.type : ObjectType.STORAGE.type);
+			} else {
+				bb.put(ObjectType.STREAM.type);
+			}
+			bb.put(entry.color);
+			bb.putInt(entry.leftSiblingId);
+			bb.putInt(entry.rightSiblingId);
+			bb.putInt(entry instanceof Storage ? ((Storage)entry).childId : Sector.FREESECT);
+			if (entry instanceof Storage && ((Storage)entry).metadata != null)
+				bb.put(((Storage)entry).metadata);
+			else
+				bb.put(new byte[METADATA_SIZE]);
+			if (entry == root){
+				bb.putInt(miniStreamSectors > 0 ? location(firstMiniStreamSector, firstDirectorySector, locations) : Sector.ENDOFCHAIN);
+				bb.putLong(miniStreamSize);
+			} else if (entry instanceof Stream){
+				bb.putInt(((Stream)entry).startingSectorLocation);
+				bb.putLong(((Stream)entry).size);
+			} else {
+				bb.putInt(0);
+				bb.putLong(0);
+			}
+			if (!bb.hasRemaining())
+				writeBuffer(out, bb);
+		}
+		while (bb.position() != 0){
+			// Unused entries have no siblings or children
+			bb.put(new byte[METADATA_OFFSET - 3 * DataType.SIZEOF_INT]);
+			bb.putInt(Sector.FREESECT);
+			bb.putInt(Sector.FREESECT);
+			bb.putInt(Sector.FREESECT);
+			bb.put(new byte[DirectoryEntry.SIZE - METADATA_OFFSET]);
+			if (!bb.hasRemaining())
+				writeBuffer(out, bb);
+		}
+
+		// Mini FAT
+		if (miniFATSectors > 0){
+			for (Stream stream : miniStreams){
+				long last = stream.startingSectorLocation + units(stream.size, MiniFAT.MINI_SECTOR_SIZE) - 1;
+				for (long miniSector = stream.startingSectorLocation; miniSector <= last; ++miniSector){
+					bb.putInt(miniSector == last ? Sector.ENDOFCHAIN : (int)(miniSector + 1));
+					if (!bb.hasRemaining())
+						writeBuffer(out, bb);
+				}
+			}
+			while (bb.position() != 0){
+				bb.putInt(Sector.FREESECT);
+				if (!bb.hasRemaining())
+					writeBuffer(out, bb);
+			}
+		}
+
+		// Mini stream; each stream is small enough to read into memory
+		for (Stream stream : miniStreams){
+			java.nio.ByteBuffer data = java.nio.ByteBuffer.allocate((int)units(stream.size, MiniFAT.MINI_SECTOR_SIZE) * MiniFAT.MINI_SECTOR_SIZE);
+			data.limit((int)stream.size);
+			try (java.nio.channels.ReadableByteChannel in = stream.content.open()) {
+				readFully(in, data, stream);
+			}
+			data.limit(data.capacity());
+			data.position(data.capacity());
+			writeBuffer(out, data);
+		}
+		if (miniStreamSize % sectorSize != 0){
+			bb.limit((int)(sectorSize - miniStreamSize % sectorSize));
+			padAndWrite(out, bb);
+		}
+
+		// Streams stored in regular sectors, copied a buffer at a time
+		java.nio.ByteBuffer copyBuffer = java.nio.ByteBuffer.allocate(Math.max(COPY_BUFFER_SIZE, sectorSize));
+		for (Stream stream : regularStreams){
+			try (java.nio.channels.ReadableByteChannel in = stream.content.open()) {
+				long remaining = stream.size;
+				while (remaining > 0){
+					copyBuffer.limit((int)Math.min(copyBuffer.capacity(), remaining));
+					readFully(in, copyBuffer, stream);
+					remaining -= copyBuffer.position();
+					writeBuffer(out, copyBuffer);
+				}
+			}
+			if (stream.size % sectorSize != 0){
+				bb.limit((int)(sectorSize - stream.size % sectorSize));
+				padAndWrite(out, bb);
+			}
+		}
+	}
+
+	/** Write the compound file to a file, replacing it if it exists.
+	*	@param	fileName	The name of the file to write
+	*	@throws	java.io.IOException	The file could not be written or a stream's contents could not be read.
+	*/
+	public void write(String fileName)
+	throws
+		java.io.IOException
+	{
+		try (java.nio.channels.FileChannel out = java.nio.channels.FileChannel.open(java.nio.file.Paths.get(fileName),
+				java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.TRUNCATE_EXISTING, java.nio.file.StandardOpenOption.WRITE)) {
+			write(out);
+		}
+	}
+
+	/** Add copies of the children of an entry in a msg file to a storage. The stream contents are read from the msg file when
+	*   the copy is written.
+	*	@param	msg	The msg file to copy from
+	*	@param	from	The entry whose children are to be copied
+	*	@param	to	The storage to add the copies to
+	*/
+	static void copyChildren(MSG msg, DirectoryEntry from, Storage to)
+	{
+		for (DirectoryEntry child : msg.getChildren(from)){
+			if (child.objectType.isStream())
+				to.addStream(child.directoryEntryName, child.streamSize, () -> msg.getChannel(child));
+			else
+				copyChildren(msg, child, to.addStorage(child.directoryEntryName).copyMetadata(msg.getRawDirectoryEntry(child)));
+		}
+	}
+
+	/** Get the compound file version of a msg file.
+	*	@param	msg	The msg file
+	*	@return	3 if the file has 512-byte sectors, or 4 if it has 4096-byte sectors
+	*/
+	static int versionOf(MSG msg)
+	{
+		return msg.sectorSize() == Sector.sectorSize(VERSION_3_SECTOR_SHIFT) ? 3 : 4;
+	}
+
+	/** Create a writer for a copy of a msg file.
+	*	@param	msg	The msg file to copy
+	*	@param	version	The compound file version of the copy
+	*	@return	A writer for the copy, which reads the stream contents from the msg file when it is written
+	*/
+	static CFBWriter copyOf(MSG msg, int version)
+	{
+		CFBWriter writer = new CFBWriter(version);
+		DirectoryEntry root = msg.getDirectoryTree().entry;
+		writer.root.copyMetadata(msg.getRawDirectoryEntry(root));
+		copyChildren(msg, root, writer.root);
+		return writer;
+	}
+
+	/** Compare the children of two entries in two msg files.
+	*	@param	a	The first msg file
+	*	@param	aEntry	The entry in the first msg file
+	*	@param	b	The second msg file
+	*	@param	bEntry	The entry in the second msg file
+	*	@return	The number of streams compared, or -1 if the trees differ
+	*/
+	private static int compareChildren(MSG a, DirectoryEntryData aEntry, MSG b, DirectoryEntryData bEntry)
+	{
+		java.util.TreeMap<String, DirectoryEntryData> bChildren = new java.util.TreeMap<String, DirectoryEntryData>();
+		java.util.Iterator<DirectoryEntryData> bIter = b.getChildIterator(bEntry);
+		while (bIter.hasNext()){
+			DirectoryEntryData child = bIter.next();
+			bChildren.put(child.entry.directoryEntryName, child);
+		}
+
+		int streams = 0;
+		java.util.Iterator<DirectoryEntryData> aIter = a.getChildIterator(aEntry);
+		while (aIter.hasNext()){
+			DirectoryEntryData aChild = aIter.next();
+			DirectoryEntryData bChild = bChildren.remove(aChild.entry.directoryEntryName);
+			if (bChild == null || aChild.entry.objectType != bChild.entry.objectType)
+				return -1;
+			if (aChild.entry.objectType.isStream()){
+				if (!java.util.Arrays.equals(a.getFile(aChild), b.getFile(bChild)))
+					return -1;
+				++streams;
+			} else {
+				int childStreams = compareChildren(a, aChild, b, bChild);
+				if (childStreams < 0)
+					return -1;
+				streams += childStreams;
+			}
+		}
+		return bChildren.isEmpty() ? streams : -1;
+	}
+
+	/** Test this class by copying each msg file to version 3 and version 4 compound files, and comparing the copies' streams with
+	*   the original.
+	*	@param	args	The msg file or files to copy.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.CFBWriter msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					for (int version = 3; version <= 4; ++version){
+						CFBWriter writer = copyOf(msg, version);
+						java.io.File copy = java.io.File.createTempFile("CFBWriter", ".msg");
+						try {
+							writer.write(copy.getPath());
+							MSG copyMSG = new MSG(copy.getPath());
+							try {
+								int streams = compareChildren(msg, msg.getDirectoryTree(), copyMSG, copyMSG.getDirectoryTree());
+								if (streams < 0)
+									System.out.printf("version %d copy differs from original%n", version);
+								else
+									System.out.printf("version %d copy has %d streams, %d bytes, identical to original%n", version, streams, copy.length());
+							} finally {
+								copyMSG.close();
+							}
+						} finally {
+							if (!copy.delete())
+								copy.deleteOnExit();
+						}
+					}
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package io.github.jmcleodfoss.msg;
+
+/** Compact a msg file by copying it to a new file with no free sectors, every sector chain contiguous, and the mini stream
+*   packed. Storage CLSIDs and timestamps are preserved; the stream contents are copied without being decoded.
+*	@see CFBWriter
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/9d33df18-7aee-4065-9121-4eabe41c29d4">MS-CFB Section 2.1: Compound Sector Numbers and Types</a>
+*/
+public class Compactor
+{
+	/** This class has only static members. */
+	private Compactor()
+	{
+	}
+
+	/** The sizes and fragmentation of a file before and after compaction. */
+	public static class Result
+	{
+		/** The size of the original file in bytes */
+		public final long originalSize;
+
+		/** The size of the compacted file in bytes */
+		public final long compactedSize;
+
+		/** The number of free sectors in the original file */
+		public final int originalFreeSectors;
+
+		/** The fraction of sector chain links in the original file which are discontiguous
+		*	@see MSG#fragmentation
+		*/
+		public final double originalFragmentation;
+
+		/** The fraction of sector chain links in the compacted file which are discontiguous
+		*	@see MSG#fragmentation
+		*/
+		public final double compactedFragmentation;
+
+		/** Create the result of a compaction.
+		*	@param	originalSize	The size of the original file
+		*	@param	compactedSize	The size of the compacted file
+		*	@param	originalFreeSectors	The number of free sectors in the original file
+		*	@param	originalFragmentation	The fragmentation of the original file
+		*	@param	compactedFragmentation	The fragmentation of the compacted file
+		*/
+		private Result(long originalSize, long compactedSize, int originalFreeSectors, double originalFragmentation, double compactedFragmentation)
+		{
+			this.originalSize = originalSize;
+			this.compactedSize = compactedSize;
+			this.originalFreeSectors = originalFreeSectors;
+			this.originalFragmentation = originalFragmentation;
+			this.compactedFragmentation = compactedFragmentation;
+		}
+
+		/** Get the number of bytes saved by compacting the file.
+		*	@return	The difference between the original and compacted file sizes
+		*/
+		public long bytesSaved()
+		{
+			return originalSize - compactedSize;
+		}
+
+		/** Return a String describing the result.
+		*	@return	A description of the sizes and fragmentation before and after compaction
+		*/
+		@Override
+		public String toString()
+		{
+			return String.format("%d bytes -> %d bytes (%d saved), %d free sectors, fragmentation %.1f%% -> %.1f%%",
+				originalSize, compactedSize, bytesSaved(), originalFreeSectors, 100 * originalFragmentation, 100 * compactedFragmentation);
+		}
+	}
+
+	/** Compact a msg file, keeping its compound file version.
+	*	@param	inputFile	The name of the file to compact
+	*	@param	outputFile	The name of the compacted file to write; this must not be the input file
+	*	@return	The sizes and fragmentation of the file before and after compaction
+	*	@throws	NotCFBFileException	The input file is not a CFB file.
+	*	@throws	UnknownStorageTypeException	The input file contains an unknown storage type.
+	*	@throws	java.nio.file.FileSystemException	The output file is the input file.
+	*	@throws	java.io.IOException	There was a problem reading the input file or writing the output file.
+	*/
+	public static Result compact(String inputFile, String outputFile)
+	throws
+		NotCFBFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		// Writing the output would truncate the input while it is still mapped
+		if (isSameFile(inputFile, outputFile))
+			throw new java.nio.file.FileSystemException(inputFile, outputFile, "The output file is the input file");
+
+		MSG msg = new MSG(inputFile);
+		int originalFreeSectors;
+		double originalFragmentation;
+		try {
+			originalFreeSectors = msg.numberOfFreeSectors();
+			originalFragmentation = msg.fragmentation();
+			CFBWriter.copyOf(msg, CFBWriter.versionOf(msg)).write(outputFile);
+		} finally {
+			msg.close();
+		}
+
+		MSG compacted = new MSG(outputFile);
+		double compactedFragmentation;
+		try {
+			compactedFragmentation = compacted.fragmentation();
+		} finally {
+			compacted.close();
+		}
+
+		return new Result(new java.io.File(inputFile).length(), new java.io.File(outputFile).length(), originalFreeSectors, originalFragmentation, compactedFragmentation);
+	}
+
+	/** Are the two names for the same file?
+	*	@param	file1	The first file name
+	*	@param	file2	The second file name
+	*	@return	true if both names exist and refer to the same file, false otherwise
+	*	@throws	java.io.IOException	There was a problem comparing the files.
+	*/
+	public static boolean isSameFile(String file1, String file2)
+	throws
+		java.io.IOException
+	{
+		java.nio.file.Path path1 = java.nio.file.Paths.get(file1);
+		java.nio.file.Path path2 = java.nio.file.Paths.get(file2);
+		return java.nio.file.Files.exists(path1) && java.nio.file.Files.exists(path2) && java.nio.file.Files.isSameFile(path1, path2);
+	}
+
+	/** Test this class by compacting each msg file to a temporary file and displaying the result.
+	*	@param	args	The msg file or files to compact.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.Compactor msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				java.io.File copy = java.io.File.createTempFile("Compactor", ".msg");
+				try {
+					System.out.println(compact(a, copy.getPath()));
+				} finally {
+					if (!copy.delete())
+						copy.deleteOnExit();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -0,0 +1,391 @@
+package io.github.jmcleodfoss.msg;
+
+/** Decompressor for the contents of the PidTagRtfCompressed property. The compressed data is read from an InputStream and the
+*   decompressed RTF is written to an OutputStream or Writer as it is produced, so the only memory used is the fixed 4096-byte
+*   dictionary and small input and output buffers, regardless of the size of the RTF.
+*	@see MSG#decompressRTF(DirectoryEntryData, java.io.OutputStream)
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/65dfe2df-1b69-43fc-8ebd-21819a7463fb">MS-OXRTFCP Section 2.1.3.1: Decompression Algorithm</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/86f44b3c-e1ed-4d11-a73f-8b9bfd0b0148">MS-OXRTFCP Section 2.2.1.1: Header</a>
+*/
+public class CompressedRTF
+{
+	/** The size of the compressed RTF header: COMPSIZE, RAWSIZE, COMPTYPE, and CRC. */
+	private static final int HEADER_SIZE = 16;
+
+	/** The number of bytes in the header which are included in COMPSIZE (all but COMPSIZE itself). */
+	private static final int HEADER_SIZE_IN_COMPSIZE = 12;
+
+	/** The offset of RAWSIZE in the header. */
+	private static final int RAW_SIZE_OFFSET = 4;
+
+	/** COMPTYPE value for compressed data, "LZFu" */
+	private static final int COMPRESSED = 0x75465a4c;
+
+	/** COMPTYPE value for uncompressed data, "MELA" */
+	private static final int UNCOMPRESSED = 0x414c454d;
+
+	/** The size of the dictionary. Dictionary references are 12-bit offsets into it. */
+	private static final int DICTIONARY_SIZE = 4096;
+
+	/** The mask to wrap dictionary offsets to the dictionary size. */
+	private static final int DICTIONARY_MASK = DICTIONARY_SIZE - 1;
+
+	/** The size of the input and output buffers. */
+	private static final int BUFFER_SIZE = 4096;
+
+	/** The initial contents of the dictionary
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/e49a5ae7-7086-4b29-ac6d-c5e6c48b3a4b">MS-OXRTFCP Section 2.1.2.1: Dictionary</a>
+	*/
+	private static final byte[] INITIAL_DICTIONARY = (
+		"{\\rtf1\\ansi\\mac\\deff0\\deftab720{\\fonttbl;}" +
+		"{\\f0\\fnil \\froman \\fswiss \\fmodern \\fscript \\fdecor MS Sans SerifSymbolArialTimes New RomanCourier" +
+		"{\\colortbl\\red0\\green0\\blue0\r\n\\par \\pard\\plain\\f0\\fs20\\b\\i\\u\\tab\\tx"
+		).getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+
+	/** The CRC lookup table
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/34b78de0-0c72-4fbc-a3fe-eec9a2d5fd13">MS-OXRTFCP Section 2.1.3.2: CRC Calculation</a>
+	*/
+	private static final int[] CRC_TABLE = initCRCTable();
+
+	/** The destination for decompressed data */
+	private abstract static class Sink
+	{
+		/** Write decompressed data.
+		*	@param	b	The buffer holding the data
+		*	@param	len	The number of bytes in the buffer to write
+		*	@throws	java.io.IOException	The data could not be written.
+		*/
+		abstract void write(byte[] b, int len)
+		throws
+			java.io.IOException;
+	}
+
+	/** The source of compressed data, which keeps track of the number of bytes left to read and the CRC of the bytes read so far. */
+	private static class Source
+	{
+		/** The stream to read from */
+		private final java.io.InputStream in;
+
+		/** The input buffer */
+		private final byte[] buffer;
+
+		/** The position of the next byte to return from the buffer */
+		private int position;
+
+		/** The number of bytes in the buffer */
+		private int limit;
+
+		/** The number of bytes of compressed data not yet read into the buffer */
+		private long remaining;
+
+		/** The CRC of the bytes returned so far */
+		int crc;
+
+		/** Create a source for the given number of bytes of compressed data.
+		*	@param	in		The stream to read from
+		*	@param	size	The number of bytes to read
+		*/
+		Source(java.io.InputStream in, long size)
+		{
+			this.in = in;
+			buffer = new byte[BUFFER_SIZE];
+			remaining = size;
+		}
+
+		/** Get the next byte.
+		*	@return	The next byte of compressed data, or -1 if there is no more data.
+		*	@throws	java.io.IOException	There was a problem reading from the input stream.
+		*/
+		int next()
+		throws
+			java.io.IOException
+		{
+			if (position == limit && !fill())
+				return -1;
+
+			int b = buffer[position++] & 0xff;
+			crc = CRC_TABLE[(crc ^ b) & 0xff] ^ (crc >>> 8);
+			return b;
+		}
+
+		/** Read the remaining bytes so that they are included in the CRC.
+		*	@throws	java.io.IOException	There was a problem reading from the input stream.
+		*/
+		void drain()
+		throws
+			java.io.IOException
+		{
+			while (next() != -1)
+				;
+		}
+
+		/** Refill the input buffer.
+		*	@return	false if there is no more data, true otherwise.
+		*	@throws	java.io.IOException	There was a problem reading from the input stream.
+		*/
+		private boolean fill()
+		throws
+			java.io.IOException
+		{
+			if (remaining == 0)
+				return false;
+
+			int n = in.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+			if (n <= 0)
+				return false;
+
+			position = 0;
+			limit = n;
+			remaining -= n;
+			return true;
+		}
+	}
+
+	/** Static methods only; no instances. */
+	private CompressedRTF()
+	{
+	}
+
+	/** Get the size of the decompressed RTF from the header, without decompressing it. Decompression never produces more than this
+	*   many bytes.
+	*	@param	data	The contents of a PidTagRtfCompressed property, or at least its header
+	*	@return	The RAWSIZE field of the header, or 0 if the header is truncated
+	*/
+	static long rawSize(byte[] data)
+	{
+		if (data.length < HEADER_SIZE)
+			return 0;
+		java.nio.ByteBuffer header = java.nio.ByteBuffer.wrap(data, 0, HEADER_SIZE);
+		header.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		return header.getInt(RAW_SIZE_OFFSET) & 0xffffffffL;
+	}
+
+	/** Get the size of the decompressed RTF from the header, without decompressing it.
+	*	@param	in	The contents of a PidTagRtfCompressed property; only the header is read
+	*	@return	The RAWSIZE field of the header, or 0 if the header is truncated
+	*	@throws	java.io.IOException	There was a problem reading the header.
+	*/
+	static long rawSize(java.io.InputStream in)
+	throws
+		java.io.IOException
+	{
+		return rawSize(in.readNBytes(HEADER_SIZE));
+	}
+
+	/** Decompress compressed RTF, writing the RTF to the given OutputStream.
+	*	@param	in	The contents of a PidTagRtfCompressed property, including the header
+	*	@param	out	The stream to write the decompressed RTF to
+	*	@throws	CompressedRTFException	The data is not valid compressed RTF. Note that since the data is written as it is
+	*					decompressed, some output may already have been written.
+	*	@throws	java.io.IOException	There was a problem reading the input or writing the output.
+	*/
+	public static void decompress(java.io.InputStream in, final java.io.OutputStream out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		decompress(in, new Sink() {
+			@Override
+			void write(byte[] b, int len)
+			throws
+				java.io.IOException
+			{
+				out.write(b, 0, len);
+			}
+		});
+	}
+
+	/** Decompress compressed RTF, writing the RTF to the given Writer. RTF is a 7-bit format (characters outside that range are
+	*   escaped), so each byte is written as the character with the same value.
+	*	@param	in	The contents of a PidTagRtfCompressed property, including the header
+	*	@param	out	The Writer to write the decompressed RTF to
+	*	@throws	CompressedRTFException	The data is not valid compressed RTF. Note that since the data is written as it is
+	*					decompressed, some output may already have been written.
+	*	@throws	java.io.IOException	There was a problem reading the input or writing the output.
+	*/
+	public static void decompress(java.io.InputStream in, final java.io.Writer out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		final char[] chars = new char[BUFFER_SIZE];
+		decompress(in, new Sink() {
+			@Override
+			void write(byte[] b, int len)
+			throws
+				java.io.IOException
+			{
+				for (int i = 0; i < len; ++i)
+					chars[i] = (char)(b[i] & 0xff);
+				out.write(chars, 0, len);
+			}
+		});
+	}
+
+	/** Decompress compressed RTF, sending the RTF to the given sink.
+	*	@param	in	The contents of a PidTagRtfCompressed property, including the header
+	*	@param	sink	The destination for the decompressed RTF
+	*	@throws	CompressedRTFException	The data is not valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the input or writing the output.
+	*/
+	private static void decompress(java.io.InputStream in, Sink sink)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		java.nio.ByteBuffer header = java.nio.ByteBuffer.wrap(in.readNBytes(HEADER_SIZE));
+		if (header.limit() < HEADER_SIZE)
+			throw new CompressedRTFException("Compressed RTF header is truncated");
+		header.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+
+		long compressedSize = (header.getInt() & 0xffffffffL) - HEADER_SIZE_IN_COMPSIZE;
+		long rawSize = header.getInt() & 0xffffffffL;
+		int compressionType = header.getInt();
+		int crc = header.getInt();
+
+		if (compressedSize < 0)
+			throw new CompressedRTFException("Compressed RTF size is smaller than the header");
+
+		if (compressionType == UNCOMPRESSED) {
+			copy(in, sink, rawSize);
+			return;
+		}
+		if (compressionType != COMPRESSED)
+			throw new CompressedRTFException(String.format("Unknown compressed RTF type 0x%08x", compressionType));
+
+		Source source = new Source(in, compressedSize);
+		byte[] dictionary = new byte[DICTIONARY_SIZE];
+		System.arraycopy(INITIAL_DICTIONARY, 0, dictionary, 0, INITIAL_DICTIONARY.length);
+		int writeOffset = INITIAL_DICTIONARY.length;
+
+		byte[] output = new byte[BUFFER_SIZE];
+		int outputLength = 0;
+		long outputRemaining = rawSize;
+
+		boolean foundEnd = false;
+		int control;
+		while (!foundEnd && (control = source.next()) != -1){
+			for (int bit = 0; bit < 8; ++bit){
+				int length;
+				int readOffset;
+				if ((control & (1 << bit)) == 0) {
+					int b = source.next();
+					if (b == -1)
+						break;
+					dictionary[writeOffset] = (byte)b;
+					readOffset = writeOffset;
+					length = 1;
+				} else {
+					int high = source.next();
+					int low = source.next();
+					if (low == -1)
+						throw new CompressedRTFException("Compressed RTF ends in the middle of a dictionary reference");
+					readOffset = (high << 4) | (low >>> 4);
+					if (readOffset == writeOffset) {
+						foundEnd = true;
+						break;
+					}
+					length = (low & 0x0f) + 2;
+				}
+
+				for (int i = 0; i < length; ++i){
+					byte b = dictionary[(readOffset + i) & DICTIONARY_MASK];
+					dictionary[writeOffset] = b;
+					writeOffset = (writeOffset + 1) & DICTIONARY_MASK;
+					if (outputRemaining > 0) {
+						output[outputLength++] = b;
+						--outputRemaining;
+						if (outputLength == output.length) {
+							sink.write(output, outputLength);
+							outputLength = 0;
+						}
+					}
+				}
+			}
+		}
+		if (outputLength > 0)
+			sink.write(output, outputLength);
+
+		source.drain();
+		if (!foundEnd && outputRemaining > 0)
+			throw new CompressedRTFException("Compressed RTF ends before the end marker");
+		if (source.crc != crc)
+			throw new CompressedRTFException(String.format("Compressed RTF CRC mismatch: expected 0x%08x, found 0x%08x", crc, source.crc));
+		if (outputRemaining > 0)
+			throw new CompressedRTFException("Compressed RTF has fewer than " + rawSize + " bytes");
+	}
+
+	/** Copy uncompressed RTF to the given sink.
+	*	@param	in	The stream to read from, positioned after the header
+	*	@param	sink	The destination for the RTF
+	*	@param	size	The number of bytes to copy
+	*	@throws	CompressedRTFException	The stream contains fewer bytes than the header says.
+	*	@throws	java.io.IOException	There was a problem reading the input or writing the output.
+	*/
+	private static void copy(java.io.InputStream in, Sink sink, long size)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		byte[] buffer = new byte[BUFFER_SIZE];
+		while (size > 0){
+			int n = in.read(buffer, 0, (int)Math.min(buffer.length, size));
+			if (n <= 0)
+				throw new CompressedRTFException("Uncompressed RTF has fewer bytes than the header says");
+			sink.write(buffer, n);
+			size -= n;
+		}
+	}
+
+	/** Create the CRC lookup table.
+	*	@return	The table of CRC values for each byte value
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/34b78de0-0c72-4fbc-a3fe-eec9a2d5fd13">MS-OXRTFCP Section 2.1.3.2: CRC Calculation</a>
+	*/
+	private static int[] initCRCTable()
+	{
+		int[] table = new int[256];
+		for (int i = 0; i < table.length; ++i){
+			int c = i;
+			for (int k = 0; k < 8; ++k)
+				c = (c & 1) != 0 ? 0xedb88320 ^ (c >>> 1) : c >>> 1;
+			table[i] = c;
+		}
+		return table;
+	}
+
+	/** Test this class by printing out the decompressed RTF body of each given file.
+	*	@param	args	The msg file(s) to display the RTF body of.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.CompressedRTF msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					if (!msg.decompressRTF(System.out))
+						System.out.println("No RTF body");
+					System.out.println();
+				} finally {
+					msg.close();
+				}
+			} catch (final CompressedRTFException e) {
+				e.printStackTrace(System.out);
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
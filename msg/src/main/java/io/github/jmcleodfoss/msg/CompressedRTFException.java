@@ -0,0 +1,20 @@
+package io.github.jmcleodfoss.msg;
+
+/** The CompressedRTFException is thrown when the contents of a PidTagRtfCompressed property are not valid compressed RTF: the header
+*   is truncated or has an unknown compression type, the data ends before the end-of-stream marker, or the CRC does not match.
+*	@see CompressedRTF
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/65dfe2df-1b69-43fc-8ebd-21819a7463fb">MS-OXRTFCP Section 2.1.3.1: Decompression Algorithm</a>
+*/
+public class CompressedRTFException extends Exception
+{
+	/**	The serialVersionUID is required because the base class is serializable. */
+	private static final long serialVersionUID = 1L;
+
+	/**	Create a CompressedRTFException.
+	*	@param	message	A description of the problem with the compressed data
+	*/
+	CompressedRTFException(String message)
+	{
+		super(message);
+	}
+}
@@ -0,0 +1,21 @@
+package io.github.jmcleodfoss.msg;
+
+/** The CorruptFileException is thrown when a file has a structural error, such as a sector chain which loops back on itself or a
+*   directory entry which refers to a sibling outside the directory, or exceeds one of the limits of the {@link Validator} it was
+*   opened with. The storage tree is always checked; the other checks are made only when the file is opened with a validator.
+*	@see Validator
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/9d33df18-7aee-4065-9121-4eabe41c29d4">MS-CFB Section 2.1: Compound Sector Numbers and Types</a>
+*/
+public class CorruptFileException extends NotCFBFileException
+{
+	/**	The serialVersionUID is required because the base class is serializable. */
+	private static final long serialVersionUID = 1L;
+
+	/**	Create a CorruptFileException.
+	*	@param	message	A description of the problem found
+	*/
+	CorruptFileException(String message)
+	{
+		super(message);
+	}
+}
@@ -8,12 +8,12 @@ class DIFAT {
 	/** Offset of DIFAT entries in the header (in terms of ints).
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
 	*/
-	private static final int HEADER_DIFAT_OFFSET = 0x004c / DataType.SIZEOF_INT;
+	static final int HEADER_DIFAT_OFFSET = 0x004c / DataType.SIZEOF_INT;
 
 	/** The number of DIFAT entries in the header.
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
 	*/
-	private static final int HEADER_DIFAT_ENTRIES = 109;
+	static final int HEADER_DIFAT_ENTRIES = 109;
 
 	/** The number of DIFAT sectors (from the header)
 	*	@see	Header#numberOfDIFATSectors
@@ -61,39 +61,30 @@ class DIFAT {
 	*/
 	DIFAT(java.nio.MappedByteBuffer mbb, Header header)
 	{
-		// First index in a DIFAT sector is the DIFAT signature
-		// and the last is either the index to the next sector, or the empty sector flag, 0xffffffff
-		final int entriesPerSector = header.intsPerSector() - 2;
+		// Each DIFAT sector holds the locations of FAT sectors, except
+		// for the last entry, which is the location of the next DIFAT
+		// sector, or ENDOFCHAIN.
+		final int entriesPerSector = header.intsPerSector() - 1;
 		numEntries = HEADER_DIFAT_ENTRIES + header.numberOfDIFATEntries();
 		difat = new int[numEntries];
 
 		mbb.rewind();
 		java.nio.IntBuffer al = mbb.asIntBuffer();
 
-		boolean fHeader = true;
-		int nToRead;
-		int currentSector = 0;
-		int destIndex = 0;
-
-		do {
-			if (fHeader){
-				nToRead = HEADER_DIFAT_ENTRIES;
-				al.position(HEADER_DIFAT_OFFSET);
-			} else {
-				nToRead = entriesPerSector;
-				al.position(currentSector*header.intsPerSector());
-				final int sectorSignature = al.get();
-				if (sectorSignature != Sector.DIFSECT){
-					System.out.printf("Invalid sector signature for DIFAT: found 0x%08x expected 0x%08x%n", sectorSignature, Sector.DIFSECT);
-				}
-			}
-
-			al.get(difat, destIndex, nToRead);
+		al.position(HEADER_DIFAT_OFFSET);
+		al.get(difat, 0, HEADER_DIFAT_ENTRIES);
 
-			currentSector = fHeader ? header.firstDIFATSectorLocation : al.get();
+		int currentSector = header.firstDIFATSectorLocation;
+		int destIndex = HEADER_DIFAT_ENTRIES;
 
+		// Some writers end the chain with FREESECT rather than ENDOFCHAIN;
+		// the number of DIFAT sectors in the header bounds it in any case.
+		while (currentSector != Sector.ENDOFCHAIN && currentSector != Sector.FREESECT && destIndex < numEntries){
+			al.position(header.offset(currentSector) / DataType.SIZEOF_INT);
+			al.get(difat, destIndex, entriesPerSector);
+			currentSector = al.get();
 			destIndex += entriesPerSector;
-		} while (currentSector != Sector.ENDOFCHAIN);
+		}
 	}
 
 	/** Make DIFAT data available to client applications
@@ -153,6 +144,13 @@ class DIFAT {
 						KVPEntry<Integer, Integer> e = fatchain.next();
 						System.out.printf("FAT sector %d index %d%n", e.getKey(), e.getValue());
 					}
+
+					// Every FAT sector must be listed, including those whose locations are in DIFAT sectors
+					int numFATSectors = header.numberOfFATEntries() / header.intsPerSector();
+					if (data.size() != numFATSectors) {
+						System.out.printf("The DIFAT lists %d FAT sectors but the header says there are %d%n", data.size(), numFATSectors);
+						throw new NotCFBFileException();
+					}
 				} catch (final java.io.IOException e) {
 					System.out.printf("There was a problem reading from file %s%n", a);
 				} catch (final NotCFBFileException e) {
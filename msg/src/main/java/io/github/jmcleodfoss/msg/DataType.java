@@ -6,21 +6,61 @@ abstract class DataType {
 	/** The mask for getting the property type from the tag. */
 	static final int PROPERTY_TYPE_MASK = 0xffff;
 
+	/** PTypInteger16, 16-bit integer
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int INTEGER_16 = 0x0002;
+
 	/** PTypInteger32, 32-bit integer
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
 	*/
 	final static int INTEGER_32 = 0x0003;
 
+	/** PTypFloating32, 32-bit floating point number
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int FLOATING_32 = 0x0004;
+
+	/** PTypFloating64, 64-bit floating point number
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int FLOATING_64 = 0x0005;
+
+	/** PTypCurrency, 64-bit integer representing a currency value scaled by 10,000
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int CURRENCY = 0x0006;
+
+	/** PTypFloatingTime, 64-bit floating point number representing the days since December 30, 1899
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int FLOATING_TIME = 0x0007;
+
+	/** PTypErrorCode, 32-bit integer error code
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int ERROR_CODE = 0x000a;
+
 	/** PTypBoolean, a 1-bit value restricted to 1 or 0
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
 	*/
 	final static int BOOLEAN = 0x000b;
 
+	/** PTypObject, an embedded object stored in a storage
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int OBJECT = 0x000d;
+
 	/** PTypInteger64, 64-bit integer
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
 	*/
 	final static int INTEGER_64 = 0x0014;
 
+	/** PTypString8, variable-sized 8-bit character string in the message's code page
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int STRING8 = 0x001e;
+
 	/** PTypString, variable-sized Unicode character string represented in UTF-16LE (Little Endian)
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
 	*/
@@ -36,6 +76,14 @@ abstract class DataType {
 	*/
 	final static int BINARY = 0x0102;
 
+	/** The flag indicating a multiple-valued property type
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
+	*/
+	final static int MULTIPLE_VALUED = 0x1000;
+
+	/** The number of bytes in a short. */
+	static final int SIZEOF_SHORT = Short.SIZE / Byte.SIZE;
+
 	/** The number of bytes in an integer. */
 	static final int SIZEOF_INT = Integer.SIZE / Byte.SIZE;
 
@@ -410,6 +458,16 @@ abstract class DataType {
 			return new java.util.Date(ms);
 		}
 
+		/** Convert a Java Date to an MS time value, using the same base as {@link #read}, so that raw property values can be compared without
+		*   creating Date objects.
+		*	@param	date	The date to convert
+		*	@return	The number of hundreds of nanoseconds between the MS time base and the given date
+		*/
+		static long toMSTime(java.util.Date date)
+		{
+			return (date.getTime() - PST_BASE_TIME.getTime()) * 10000;
+		}
+
 		/** Obtain the size in bytes of an MS time object
 		*	@return	The size of an MS time object
 		*/
@@ -23,6 +23,12 @@ class Directory {
 	/** The parents of each entry */
 	final java.util.HashMap<DirectoryEntry, DirectoryEntry> parents;
 
+	/** The children of each storage in the tree which has any */
+	private final java.util.HashMap<DirectoryEntry, java.util.ArrayList<DirectoryEntry>> children;
+
+	/** The Properties entry for each Root Storage, Attachment, Recipient, or embedded message entry which has one */
+	private final java.util.HashMap<DirectoryEntry, DirectoryEntry> propertiesEntries;
+
 	/** Ad hoc utility class to collect information from DirectoryEntry construction for use in final variables in Directory.
 	*	@see Directory#Directory
 	*/
@@ -61,12 +67,34 @@ class Directory {
 	*	@param	byteBuffer	The CFB file
 	*	@param	header		The CFB header
 	*	@param	fat		The CFB file allocation table
+	*	@throws	CorruptFileException	The storage tree loops, shares an entry, or refers to an entry outside the directory.
 	*	@throws	UnknownStorageTypeException	The object type is not one of UNKNOWN, STORAGE, STREAM, or ROOT_STORAGE.
 	*	@throws	java.io.IOException	An error was encountered reading the directory structure.
 	*	@see DirectoryEntry#factory
 	*/
 	Directory(java.nio.ByteBuffer byteBuffer, Header header, FAT fat)
 	throws
+		CorruptFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		this(byteBuffer, header, fat, new MsgLimits());
+	}
+
+	/** Construct a directory object.
+	*	@param	byteBuffer	The CFB file
+	*	@param	header		The CFB header
+	*	@param	fat		The CFB file allocation table
+	*	@param	limits		The resource limits for reading the file
+	*	@throws	CorruptFileException	The storage tree loops, shares an entry, or refers to an entry outside the directory.
+	*	@throws	UnknownStorageTypeException	The object type is not one of UNKNOWN, STORAGE, STREAM, or ROOT_STORAGE.
+	*	@throws	java.io.IOException	An error was encountered reading the directory structure.
+	*	@throws	LimitExceededException	The directory has more entries, or more deeply embedded messages, than allowed.
+	*	@see DirectoryEntry#factory
+	*/
+	Directory(java.nio.ByteBuffer byteBuffer, Header header, FAT fat, MsgLimits limits)
+	throws
+		CorruptFileException,
 		UnknownStorageTypeException,
 		java.io.IOException
 	{
@@ -76,6 +104,7 @@ class Directory {
 		java.util.Iterator<Integer> chain = fat.chainIterator(header.firstDirectorySectorLocation);
 		while(chain.hasNext()){
 			int dirSector = chain.next();
+			limits.checkDirectoryEntries(entries.size() + header.sectorSize / DirectoryEntry.SIZE);
 			byteBuffer.position(header.offset(dirSector));
 			for (int i = 0; i < header.sectorSize / DirectoryEntry.SIZE; ++i)
 				entries.add(DirectoryEntry.factory(byteBuffer, cd));
@@ -86,49 +115,145 @@ class Directory {
 		propertyEntries = cd.propertyEntries;
 		recipientEntries = cd.recipientEntries;
 
+		if (entries.isEmpty())
+			throw new CorruptFileException("The directory has no entries");
 		parents = new java.util.HashMap<DirectoryEntry, DirectoryEntry>();
-		setParent(entries.get(0));
+		children = new java.util.HashMap<DirectoryEntry, java.util.ArrayList<DirectoryEntry>>();
+		setParent(entries.get(0), limits);
+
+		// Index the properties entries by their parents so they need not be searched for on every lookup. Entries which
+		// are not in the tree have no parent; where a storage has more than one, the first is used.
+		propertiesEntries = new java.util.HashMap<DirectoryEntry, DirectoryEntry>();
+		for (DirectoryEntry propertiesEntry: propertyEntries){
+			DirectoryEntry parent = parents.get(propertiesEntry);
+			if (parent != null)
+				propertiesEntries.putIfAbsent(parent, propertiesEntry);
+		}
 	}
 
 	/** Collect all siblings and self for the given childIndex.
 	*	@param	siblings	The list of children of childIndex's parent
 	*	@param	child		The given child for the parent we are collecting the children of.
+	*	@throws	CorruptFileException	The siblings loop, or one of them refers to an entry outside the directory.
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB 2.6 Compound File Directory Sectors</a>
 	*/
 	private void addSiblings(java.util.ArrayList<DirectoryEntry> siblings, DirectoryEntry child)
+	throws
+		CorruptFileException
 	{
-		if (child.leftSiblingId != Sector.FREESECT)
-			addSiblings(siblings, entries.get(child.leftSiblingId));
-
-		siblings.add(child);
+		// Walk the tree in order with an explicit stack, so a badly unbalanced tree cannot overflow the call stack. A tree with
+		// more nodes than the directory has entries must loop back on itself.
+		java.util.ArrayDeque<DirectoryEntry> stack = new java.util.ArrayDeque<DirectoryEntry>();
+		DirectoryEntry de = child;
+		while (de != null || !stack.isEmpty()){
+			while (de != null){
+				if (stack.size() + siblings.size() >= entries.size())
+					throw new CorruptFileException("Directory entry " + de.directoryEntryName + " is in a loop of siblings");
+				stack.push(de);
+				de = getEntry(de.leftSiblingId, de);
+			}
+			de = stack.pop();
+			siblings.add(de);
+			de = getEntry(de.rightSiblingId, de);
+		}
+	}
 
-		if (child.rightSiblingId != Sector.FREESECT)
-			addSiblings(siblings, entries.get(child.rightSiblingId));
+	/** Get the substorage holding the value of the given property for a given entry.
+	*	@param	parent		The Root Storage, Attachment, Recipient, or embedded message entry to look in
+	*	@param	propertyTag	The property tag of the property to look for
+	*	@return	The child of parent whose name matches the property tag, or null if there is none.
+	*/
+	DirectoryEntry getChild(DirectoryEntry parent, int propertyTag)
+	{
+		java.util.Iterator<DirectoryEntry> iter = getChildren(parent).iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (de.getPropertyTag() == propertyTag)
+				return de;
+		}
+		return null;
 	}
 
 	/** Get the first generation child nodes for a given node.
 	*	@param	parent	The directory entry of the parent we want to find the children of, if any.
-	*	@return	The (possibly empty) list of children of the directory entry for parentIndex.
+	*	@return	The (possibly empty) list of children of the directory entry for parentIndex. Entries which are not in the storage
+	*		tree have no children.
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB 2.6 Compound File Directory Sectors</a>
 	*/
 	java.util.ArrayList<DirectoryEntry> getChildren(DirectoryEntry parent)
 	{
-		java.util.ArrayList<DirectoryEntry> children = new java.util.ArrayList<DirectoryEntry>();
-		if (parent.childId != Sector.FREESECT)
-			addSiblings(children, entries.get(parent.childId));
-		return children;
+		java.util.ArrayList<DirectoryEntry> storageChildren = children.get(parent);
+		if (storageChildren == null)
+			return new java.util.ArrayList<DirectoryEntry>();
+		return new java.util.ArrayList<DirectoryEntry>(storageChildren);
 	}
 
-	/** Set the parent node for each child node
-	*	@param	parent	The parent node
+	/** Get the entry a sibling or child ID refers to.
+	*	@param	id	The sibling or child ID
+	*	@param	from	The entry the ID was read from
+	*	@return	The entry with the given ID, or null if the ID is NOSTREAM
+	*	@throws	CorruptFileException	The ID is outside the directory.
 	*/
-	private void setParent(DirectoryEntry parent)
+	private DirectoryEntry getEntry(int id, DirectoryEntry from)
+	throws
+		CorruptFileException
 	{
-		java.util.ArrayList<DirectoryEntry> children = getChildren(parent);
-		for (java.util.Iterator<DirectoryEntry> iter = children.iterator(); iter.hasNext(); ){
-			DirectoryEntry de = iter.next();
-			parents.put(de, parent);
-			setParent(de);
+		if (id == Sector.FREESECT)
+			return null;
+		if (id < 0 || id >= entries.size())
+			throw new CorruptFileException(String.format("Directory entry %s refers to entry %d, outside the directory of %d entries", from.directoryEntryName, id, entries.size()));
+		return entries.get(id);
+	}
+
+	/** Get the Properties entry for a given Root Storage, Attachment, Recipient, or embedded message entry.
+	*	@param	parent	The entry to find the Properties entry for
+	*	@return	The Properties entry whose parent is the given entry, or null if there is none.
+	*/
+	DirectoryEntry getPropertiesEntry(DirectoryEntry parent)
+	{
+		return propertiesEntries.get(parent);
+	}
+
+	/** Set the parent node for each node in the storage tree, and record the children of each storage.
+	*	@param	root	The Root Storage node
+	*	@param	limits	The resource limits for reading the file
+	*	@throws	CorruptFileException	An entry appears more than once in the tree, or refers to an entry outside the directory.
+	*	@throws	LimitExceededException	A message is embedded more deeply than allowed.
+	*/
+	private void setParent(DirectoryEntry root, MsgLimits limits)
+	throws
+		CorruptFileException
+	{
+		// Walk the tree with an explicit stack, so a deep tree cannot overflow the call stack, and refuse to visit an entry twice,
+		// so a child pointer back to an ancestor cannot make the walk go on forever.
+		java.util.HashMap<DirectoryEntry, Integer> embeddedDepths = new java.util.HashMap<DirectoryEntry, Integer>();
+		java.util.ArrayDeque<DirectoryEntry> stack = new java.util.ArrayDeque<DirectoryEntry>();
+		embeddedDepths.put(root, 0);
+		stack.push(root);
+		while (!stack.isEmpty()){
+			DirectoryEntry parent = stack.pop();
+			DirectoryEntry child = getEntry(parent.childId, parent);
+			if (child == null)
+				continue;
+
+			java.util.ArrayList<DirectoryEntry> siblings = new java.util.ArrayList<DirectoryEntry>();
+			addSiblings(siblings, child);
+			children.put(parent, siblings);
+			int embeddedDepth = embeddedDepths.get(parent);
+			for (DirectoryEntry de: siblings){
+				if (embeddedDepths.containsKey(de))
+					throw new CorruptFileException("Directory entry " + de.directoryEntryName + " appears more than once in the storage tree");
+				parents.put(de, parent);
+
+				// Embedded messages are stored in PidTagAttachDataObject storages
+				int childDepth = embeddedDepth;
+				if (de.objectType.isStorage() && de.getPropertyTag() == PropertyTags.PidTagAttachDataObject) {
+					++childDepth;
+					limits.checkEmbeddedDepth(childDepth);
+				}
+				embeddedDepths.put(de, childDepth);
+				stack.push(de);
+			}
 		}
 	}
 
@@ -9,12 +9,12 @@ public class DirectoryEntry {
 	/** The directory top-level entry
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/026fde6e-143d-41bf-a7da-c08b2130d50e">MS-CFB Section 2.6.2: Root Directory Entry</a>
 	*/
-	private static final String ROOT_ENTRY = "Root Entry";
+	static final String ROOT_ENTRY = "Root Entry";
 
 	/** The Named Property Mapping Storage
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/193c169b-0628-4392-aa51-83009be7d71f">MS-OXMSG Section 2.2.3: Named Property Mapping Storage</a>
 	*/
-	private static final String NAMEID = "__nameid_version1.0";
+	static final String NAMEID = "__nameid_version1.0";
 
 	/** String Stream entry name template
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/08185828-e9e9-4ef2-bcd2-f6e69c00891b">MS-OXMSG Section 2.1.3: Variable Length Properties</a>
@@ -24,7 +24,7 @@ public class DirectoryEntry {
 	/** Property Stream entries (One under the Root Entry, and one under each Recipient and each Attachment)
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
 	*/
-	private static final String PROPERTIES = "__properties_version1.0";
+	static final String PROPERTIES = "__properties_version1.0";
 
 	/** Recipient Object Storage entry name template
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/38a5cb3c-4454-48ba-b113-6de75321b67f">MS-OXMSG Section 2.2.1: Recipient Object Storage</a>
@@ -63,6 +63,16 @@ public class DirectoryEntry {
 	*/
 	private static final int NO_PROPERTY_TAG = 0x0000;
 
+	/** The order of entry names in the red-black tree of a storage's children: shorter names come first, and names of the same
+	*   length are compared after converting them to upper case.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/60fe8611-66c3-496b-b70d-a504c94c9ace">MS-CFB 2.6.4 Red-Black Tree</a>
+	*/
+	static final java.util.Comparator<String> NAME_ORDER = (a, b) -> {
+		if (a.length() != b.length())
+			return a.length() - b.length();
+		return a.toUpperCase(java.util.Locale.ROOT).compareTo(b.toUpperCase(java.util.Locale.ROOT));
+	};
+
 	/** Data definition key and KVP key for the {@link #directoryEntryName}. The intention is that client applications will use this to look up a localized description if needed.
 	*	@see #data
 	*	@see #keys
@@ -367,6 +377,22 @@ public class DirectoryEntry {
 		return ByteUtil.createHexByteString(data);
 	}
 
+	/** Get the largest number of characters getDataAsText can return for the given data, without decoding it.
+	*	@param	data	The data a text representation would be created for
+	*	@return	The maximum length of the String returned by getDataAsText
+	*	@see #getDataAsText
+	*/
+	long getDataAsTextLength(byte[] data)
+	{
+		if (data == null)
+			return "Empty".length();
+
+		if ((getPropertyTag() & DataType.PROPERTY_TYPE_MASK) == DataType.STRING)
+			return (data.length + 1) / 2;
+
+		return data.length == 0 ? 0 : 3L * data.length - 1;
+	}
+
 	/** Get the header data for primary msg object (if it is a child of the root object) or for an embedded message
 	*	@param	data	The contents of the Properties stream
 	*	@return	An array of KVPs contianing the header information
@@ -697,11 +723,12 @@ public class DirectoryEntry {
 		/** Get the size of the Property header information for embedded messages
 		*	@return	The size of the Properties header for embedded messages.
 		*	@see Substorage#getChildPropertiesHeader
+		*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/b046868c-9fbf-41ae-9ffb-8de2bd4eec82">MS-OXMSG Section 2.4.1.2: Embedded Message Object Storage</a>
 		*/
 		@Override
 		int getChildPropertiesHeaderSize()
 		{
-			return 28;
+			return 24;
 		}
 
 		/** Get the entry's contents, if any.
@@ -803,13 +830,16 @@ public class DirectoryEntry {
 		} else if (propertyTag == NO_PROPERTY_TAG) {
 			hasPropertyTag= false;
 			propertyName = "n/a";
-		} else if (PropertyTags.tags.keySet().contains(propertyTag)) {
-			propertyName = PropertyTags.tags.get(propertyTag);
-		} else if ((propertyTag & 0x80000000) != 0) {
-			int propertyIndex = (propertyTag >> 16) & 0x7fff;
-			propertyName = namedProperties.getPropertyName(propertyIndex);
 		} else {
-			propertyName = String.format("Unknown property 0x%08x", propertyTag);
+			propertyName = PropertyTags.find(propertyTag);
+			if (propertyName == null) {
+				if ((propertyTag & 0x80000000) != 0) {
+					int propertyIndex = (propertyTag >> 16) & 0x7fff;
+					propertyName = namedProperties.getPropertyName(propertyIndex);
+				} else {
+					propertyName = String.format("Unknown property 0x%08x", propertyTag);
+				}
+			}
 		}
 		l.add(nm_PropertyName, propertyName);
 
@@ -0,0 +1,188 @@
+package io.github.jmcleodfoss.msg;
+
+/** A channel which reads the contents of a stream entry directly from the memory-mapped file. Runs of sectors (or mini sectors)
+*   which are adjacent in the file are copied with a single bulk transfer, so copying an unfragmented stream costs about the same
+*   as copying the bytes of the file.
+*	@see EntryInputStream
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB Section 2.6: Compound File Directory Sectors</a>
+*/
+class EntryChannel implements java.nio.channels.ReadableByteChannel
+{
+	/** A view of the file with its own position and limit, so that reading from this channel does not disturb other users of the file */
+	private final java.nio.ByteBuffer file;
+
+	/** The chain of sectors (or mini sectors) making up the entry */
+	private final java.util.Iterator<Integer> chain;
+
+	/** Is the entry stored in the mini stream? */
+	private final boolean inMiniStream;
+
+	/** The file header */
+	private final Header header;
+
+	/** The file's Mini FAT, used to find the file offset of mini sectors */
+	private final MiniFAT miniFAT;
+
+	/** The number of bytes in each sector of the chain */
+	private final int sectorSize;
+
+	/** The number of bytes remaining in the entry */
+	private long remaining;
+
+	/** The file offset of the next byte in the current run of adjacent sectors */
+	private int runOffset;
+
+	/** The number of bytes remaining in the current run of adjacent sectors */
+	private int remainingInRun;
+
+	/** The file offset of a sector which has been taken from the chain but was not adjacent to the previous run, or -1 */
+	private int pendingOffset = -1;
+
+	/** Is the channel open? */
+	private boolean open = true;
+
+	/** Create a channel for the contents of the given entry.
+	*	@param	de	The entry to read
+	*	@param	mbb	The file to read the entry from
+	*	@param	header	The file header
+	*	@param	fat	The file's FAT
+	*	@param	miniFAT	The file's Mini FAT
+	*/
+	EntryChannel(DirectoryEntry de, java.nio.MappedByteBuffer mbb, Header header, FAT fat, MiniFAT miniFAT)
+	{
+		file = mbb.duplicate();
+		this.header = header;
+		this.miniFAT = miniFAT;
+		remaining = de.streamSize;
+		inMiniStream = header.isInMiniStream(de.streamSize);
+		if (inMiniStream) {
+			sectorSize = header.miniSectorSize;
+			chain = miniFAT.getChainIterator(de.startingSectorLocation);
+		} else {
+			sectorSize = header.sectorSize;
+			chain = fat.chainIterator(de.startingSectorLocation);
+		}
+	}
+
+	/** Get the file offset of the next sector in the chain.
+	*	@return	The file offset of the next sector
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	private int nextSectorOffset()
+	throws
+		java.io.IOException
+	{
+		if (pendingOffset != -1) {
+			int offset = pendingOffset;
+			pendingOffset = -1;
+			return offset;
+		}
+		if (!chain.hasNext())
+			throw new java.io.IOException("Sector chain ended with " + remaining + " bytes remaining");
+		int sector = chain.next();
+		return inMiniStream ? miniFAT.fileOffset(sector) : header.offset(sector);
+	}
+
+	/** Start a new run of adjacent sectors if the current one has been read.
+	*	@return	false if the end of the entry has been reached, true otherwise
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	private boolean nextRun()
+	throws
+		java.io.IOException
+	{
+		if (remainingInRun > 0)
+			return true;
+		if (remaining == 0)
+			return false;
+
+		runOffset = nextSectorOffset();
+		long runLength = sectorSize;
+		while (runLength < remaining && runLength <= Integer.MAX_VALUE - sectorSize) {
+			int offset = nextSectorOffset();
+			if (offset != runOffset + runLength) {
+				pendingOffset = offset;
+				break;
+			}
+			runLength += sectorSize;
+		}
+		remainingInRun = (int)Math.min(runLength, remaining);
+		return true;
+	}
+
+	/** Read bytes from the entry into the given buffer.
+	*	@param	dst	The buffer to read into
+	*	@return	The number of bytes read, or -1 if the end of the entry has been reached.
+	*	@throws	java.nio.channels.ClosedChannelException	The channel has been closed.
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	@Override
+	public int read(java.nio.ByteBuffer dst)
+	throws
+		java.nio.channels.ClosedChannelException,
+		java.io.IOException
+	{
+		if (!open)
+			throw new java.nio.channels.ClosedChannelException();
+		if (!dst.hasRemaining())
+			return 0;
+		if (!nextRun())
+			return -1;
+
+		int read = 0;
+		while (dst.hasRemaining() && nextRun()) {
+			int n = Math.min(dst.remaining(), remainingInRun);
+			file.limit(runOffset + n);
+			file.position(runOffset);
+			dst.put(file);
+			file.limit(file.capacity());
+			runOffset += n;
+			remainingInRun -= n;
+			remaining -= n;
+			read += n;
+		}
+		return read;
+	}
+
+	/** Get a view of the next run of adjacent sectors in the file, so it can be processed without being copied. Bytes returned this
+	*   way are not returned by {@link #read}.
+	*	@return	A read-only buffer holding the bytes of the entry in the next run of adjacent sectors, or null if the end of the entry
+	*		has been reached.
+	*	@throws	java.nio.channels.ClosedChannelException	The channel has been closed.
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	java.nio.ByteBuffer nextRunView()
+	throws
+		java.nio.channels.ClosedChannelException,
+		java.io.IOException
+	{
+		if (!open)
+			throw new java.nio.channels.ClosedChannelException();
+		if (!nextRun())
+			return null;
+
+		java.nio.ByteBuffer view = file.asReadOnlyBuffer();
+		view.limit(runOffset + remainingInRun);
+		view.position(runOffset);
+		remaining -= remainingInRun;
+		runOffset += remainingInRun;
+		remainingInRun = 0;
+		return view;
+	}
+
+	/** Is the channel open?
+	*	@return	true if the channel has not been closed, false otherwise
+	*/
+	@Override
+	public boolean isOpen()
+	{
+		return open;
+	}
+
+	/** Close the channel. */
+	@Override
+	public void close()
+	{
+		open = false;
+	}
+}
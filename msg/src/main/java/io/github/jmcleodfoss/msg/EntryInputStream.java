@@ -0,0 +1,148 @@
+package io.github.jmcleodfoss.msg;
+
+/** An InputStream which reads the contents of a stream entry directly from the memory-mapped file, one sector or mini sector at a
+*   time, following the sector chain in the FAT or Mini FAT, rather than reading the whole entry into memory.
+*	@see DirectoryEntry#getContent
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB Section 2.6: Compound File Directory Sectors</a>
+*/
+class EntryInputStream extends java.io.InputStream
+{
+	/** A view of the file with its own position, so that reading from this stream does not disturb other users of the file */
+	private final java.nio.ByteBuffer file;
+
+	/** The chain of sectors (or mini sectors) making up the entry */
+	private final java.util.Iterator<Integer> chain;
+
+	/** Is the entry stored in the mini stream? */
+	private final boolean inMiniStream;
+
+	/** The file header */
+	private final Header header;
+
+	/** The file's Mini FAT, used to find the file offset of mini sectors */
+	private final MiniFAT miniFAT;
+
+	/** The number of bytes in each sector of the chain */
+	private final int sectorSize;
+
+	/** The number of bytes remaining in the entry */
+	private long remaining;
+
+	/** The number of bytes remaining in the current sector */
+	private int remainingInSector;
+
+	/** Create an InputStream for the contents of the given entry.
+	*	@param	de	The entry to read
+	*	@param	mbb	The file to read the entry from
+	*	@param	header	The file header
+	*	@param	fat	The file's FAT
+	*	@param	miniFAT	The file's Mini FAT
+	*/
+	EntryInputStream(DirectoryEntry de, java.nio.MappedByteBuffer mbb, Header header, FAT fat, MiniFAT miniFAT)
+	{
+		file = mbb.duplicate();
+		this.header = header;
+		this.miniFAT = miniFAT;
+		remaining = de.streamSize;
+		inMiniStream = header.isInMiniStream(de.streamSize);
+		if (inMiniStream) {
+			sectorSize = header.miniSectorSize;
+			chain = miniFAT.getChainIterator(de.startingSectorLocation);
+		} else {
+			sectorSize = header.sectorSize;
+			chain = fat.chainIterator(de.startingSectorLocation);
+		}
+	}
+
+	/** Get the number of bytes which can be read without blocking.
+	*	@return	The number of bytes remaining in the entry
+	*/
+	@Override
+	public int available()
+	{
+		return (int)Math.min(remaining, Integer.MAX_VALUE);
+	}
+
+	/** Move to the next sector in the chain if the current one has been read.
+	*	@return	false if the end of the entry has been reached, true otherwise
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	private boolean nextSector()
+	throws
+		java.io.IOException
+	{
+		if (remainingInSector > 0)
+			return true;
+		if (remaining == 0)
+			return false;
+		if (!chain.hasNext())
+			throw new java.io.IOException("Sector chain ended with " + remaining + " bytes remaining");
+
+		int sector = chain.next();
+		file.position(inMiniStream ? miniFAT.fileOffset(sector) : header.offset(sector));
+		remainingInSector = (int)Math.min(sectorSize, remaining);
+		return true;
+	}
+
+	/** Read a single byte.
+	*	@return	The next byte in the entry, or -1 if the end of the entry has been reached.
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	@Override
+	public int read()
+	throws
+		java.io.IOException
+	{
+		if (!nextSector())
+			return -1;
+		--remaining;
+		--remainingInSector;
+		return file.get() & 0xff;
+	}
+
+	/** Read up to len bytes into the given array, stopping at the end of the current sector.
+	*	@param	b	The array to read into
+	*	@param	off	The offset into b at which to start storing bytes
+	*	@param	len	The maximum number of bytes to read
+	*	@return	The number of bytes read, or -1 if the end of the entry has been reached.
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	@Override
+	public int read(byte[] b, int off, int len)
+	throws
+		java.io.IOException
+	{
+		java.util.Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0)
+			return 0;
+		if (!nextSector())
+			return -1;
+
+		int n = Math.min(len, remainingInSector);
+		file.get(b, off, n);
+		remaining -= n;
+		remainingInSector -= n;
+		return n;
+	}
+
+	/** Skip over up to n bytes.
+	*	@param	n	The number of bytes to skip
+	*	@return	The number of bytes skipped
+	*	@throws	java.io.IOException	The sector chain ended before the end of the entry.
+	*/
+	@Override
+	public long skip(long n)
+	throws
+		java.io.IOException
+	{
+		long skipped = 0;
+		while (skipped < n && nextSector()){
+			int s = (int)Math.min(n - skipped, remainingInSector);
+			file.position(file.position() + s);
+			remaining -= s;
+			remainingInSector -= s;
+			skipped += s;
+		}
+		return skipped;
+	}
+}
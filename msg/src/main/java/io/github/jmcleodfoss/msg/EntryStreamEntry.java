@@ -40,17 +40,15 @@ class EntryStreamEntry
 	*/
 	final PropertyType propertyType;
 
-	/** Create a EntryStreamEntry from a raw byte stream
-	*	@param	rawData	The byte stream to read this entry from.
+	/** Create a EntryStreamEntry from a stream of entries
+	*	@param	bb	The little-endian stream contents to read this entry from.
+	*	@param	offset	The offset of this entry in the stream.
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/abdc1a7d-5a44-4bb2-aa35-b241e4a3f0d9">MS-OXMSG Section 2.2.3.1.2.1: Index and Kind Information</a>
 	*/
-	EntryStreamEntry(byte[] rawData)
+	EntryStreamEntry(java.nio.ByteBuffer bb, int offset)
 	{
-		java.nio.ByteBuffer bb = java.nio.ByteBuffer.wrap(rawData);
-		bb.order(java.nio.ByteOrder.LITTLE_ENDIAN);
-
-		nameIdentifierOrStringOffset = bb.getInt();
-		int temp = bb.getInt();
+		nameIdentifierOrStringOffset = bb.getInt(offset);
+		int temp = bb.getInt(offset + DataType.SIZEOF_INT);
 		propertyIndex = (short)(temp >>> 16);
 		guidIndex = (short)((temp & 0xffff) >>> 1);
 		propertyType = ((temp & 0x01) != 0) ? PropertyType.STRING_NAMED_PROPERTY : PropertyType.NUMERICAL_NAMED_PROPERTY;
@@ -16,6 +16,9 @@ class FAT {
 	/** The list of FAT index entries. */
 	final private int[] fat;
 
+	/** The resource limits for reading the file */
+	final private MsgLimits limits;
+
 	/** Iterator for FAT index entry chains */
 	private class ChainIterator implements java.util.Iterator<Integer> {
 
@@ -96,6 +99,19 @@ class FAT {
 	*/
 	FAT(java.nio.MappedByteBuffer mbb, Header header, DIFAT difat)
 	{
+		this(mbb, header, difat, new MsgLimits());
+	}
+
+	/** Read in the entire FAT
+	* 	@param	mbb	The data stream
+	* 	@param	header	The CFB header structure
+	* 	@param	difat	The double-indirect file allocation table structure.
+	*	@param	limits	The resource limits for reading the file
+	*/
+	FAT(java.nio.MappedByteBuffer mbb, Header header, DIFAT difat, MsgLimits limits)
+	{
+		this.limits = limits;
+
 		// First index in a FAT sector is the FAT signature
 		// and the last is either the index to the next sector, or the empty sector flag, 0xffffffff
 
@@ -106,7 +122,8 @@ class FAT {
 		numEntries = header.numberOfFATEntries();
 		fat = new int[numEntries];
 
-		numSectors = header.numberOfSectors();
+		// The header occupies the first sector of the file but has no FAT entry
+		numSectors = header.numberOfSectors() - 1;
 
 		mbb.rewind();
 		java.nio.IntBuffer al = mbb.asIntBuffer();
@@ -134,6 +151,15 @@ class FAT {
 		return new ChainIterator(firstSector);
 	}
 
+	/** Get the FAT entry for a sector: the next sector in its chain, or one of the special values in {@link Sector}.
+	*	@param	sector	The sector to look up, which must be less than {@link Header#numberOfFATEntries}
+	*	@return	The FAT entry for the sector
+	*/
+	int next(int sector)
+	{
+		return fat[sector];
+	}
+
 	/** Get an iterator for free sectors in this file's FAT
 	*	@return	An iterator through the free sectors in this file's FAT
 	*/
@@ -142,6 +168,36 @@ class FAT {
 		return new FreeSectorIterator();
 	}
 
+	/** Get the fraction of links in the file's sector chains which lead to a sector other than the next one in the file. Every
+	*   chain in a file written with no fragmentation is contiguous, so this is 0; each break in a chain requires a seek when the
+	*   chain is read.
+	*	@return	The fraction of links which are discontiguous, from 0 to 1
+	*/
+	double fragmentation()
+	{
+		int links = 0;
+		int breaks = 0;
+		for (int i = 0; i < numEntries; ++i){
+			if (!Sector.isRegularSector(fat[i]))
+				continue;
+			++links;
+			if (fat[i] != i + 1)
+				++breaks;
+		}
+		return links == 0 ? 0.0 : (double)breaks / links;
+	}
+
+	/** Get the number of free sectors in the file.
+	*	@return	The number of sectors marked as free in the FAT
+	*/
+	int numberOfFreeSectors()
+	{
+		int free = 0;
+		for (java.util.Iterator<Integer> iter = freeSectorIterator(); iter.hasNext(); iter.next())
+			++free;
+		return free;
+	}
+
 	/** Get all the sector chains
 	*	@return	An ArrayList of ArrayLists containing the sector chains
 	*/
@@ -212,11 +268,12 @@ class FAT {
 	*/
 	byte[] read(int startingSector, long size, java.nio.MappedByteBuffer mbb, Header header)
 	{
+		limits.checkAllocation(size);
 		int nRemaining = (int)size;
 		byte[] data = new byte[nRemaining];
 		java.util.Iterator<Integer> iter = chainIterator(startingSector);
 		int destOffset = 0;
-		while (iter.hasNext()){
+		while (nRemaining > 0 && iter.hasNext()){
 			int sector = iter.next();
 			mbb.position(header.offset(sector));
 			int nToRead = Math.min(nRemaining, header.sectorSize);
@@ -265,7 +322,15 @@ class FAT {
 					while (iter.hasNext()){
 						if (s.length() > 0)
 							s.append(" ");
-						s.append(iter.next());
+						int sector = iter.next();
+						s.append(sector);
+
+						// A free sector must be inside the file
+						if (header.offset(sector) + header.sectorSize > fc.size()){
+							System.out.println(s);
+							System.out.printf("Free sector %d ends past the end of the file%n", sector);
+							throw new NotCFBFileException();
+						}
 					}
 					System.out.println(s);
 				} catch (final java.io.IOException e) {
@@ -0,0 +1,211 @@
+package io.github.jmcleodfoss.msg;
+
+/** Compute a hash of the logical content of a message which does not depend on how the content is laid out in the compound file,
+*   so that copies of a message which differ only in sector order, free space, fragmentation, or the shape of the directory's
+*   red-black tree have the same fingerprint.
+*   <p>
+*   The directory tree is walked depth first with the children of each storage in the canonical CFB name order. For each entry the
+*   hash includes its type and name, and for each stream its size and content. The content of Properties streams is hashed as the
+*   header followed by the 16-byte property records sorted by property tag, since the order of the records is not significant.
+*   Other streams are hashed straight from the memory-mapped file a run of adjacent sectors at a time, without being copied or
+*   decoded. Class IDs, timestamps, and state bits are not included.
+*	@see MSG#fingerprint
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/60fe8611-66c3-496b-b70d-a504c94c9ace">MS-CFB Section 2.6.4: Red-Black Tree</a>
+*/
+final class Fingerprint
+{
+	/** The digest algorithm used for fingerprints */
+	static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The tag hashed before a storage */
+	private static final byte STORAGE_TAG = 'S';
+
+	/** The tag hashed before a stream */
+	private static final byte STREAM_TAG = 'F';
+
+	/** The file, as a memory-mapped byte file. */
+	private final java.nio.MappedByteBuffer mbb;
+
+	/** The file header */
+	private final Header header;
+
+	/** The file's FAT */
+	private final FAT fat;
+
+	/** The file's Mini FAT */
+	private final MiniFAT miniFAT;
+
+	/** The file's directory */
+	private final Directory directory;
+
+	/** The digest the content is hashed into */
+	private final java.security.MessageDigest digest;
+
+	/** A buffer for the fixed-size values hashed */
+	private final java.nio.ByteBuffer scratch = java.nio.ByteBuffer.allocate(DataType.SIZEOF_LONG).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+
+	/** Set up to compute the fingerprint of a message in the given file.
+	*	@param	mbb		The file
+	*	@param	header		The file header
+	*	@param	fat		The file's FAT
+	*	@param	miniFAT		The file's Mini FAT
+	*	@param	directory	The file's directory
+	*/
+	private Fingerprint(java.nio.MappedByteBuffer mbb, Header header, FAT fat, MiniFAT miniFAT, Directory directory)
+	{
+		this.mbb = mbb;
+		this.header = header;
+		this.fat = fat;
+		this.miniFAT = miniFAT;
+		this.directory = directory;
+		try {
+			digest = java.security.MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (final java.security.NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/** Compute the fingerprint of a message.
+	*	@param	root		The Root Storage or embedded message storage for the message
+	*	@param	mbb		The file
+	*	@param	header		The file header
+	*	@param	fat		The file's FAT
+	*	@param	miniFAT		The file's Mini FAT
+	*	@param	directory	The file's directory
+	*	@return	The fingerprint, as a string of hexadecimal digits
+	*	@throws	java.io.IOException	A stream's sector chain ended before the end of the stream.
+	*/
+	static String compute(DirectoryEntry root, java.nio.MappedByteBuffer mbb, Header header, FAT fat, MiniFAT miniFAT, Directory directory)
+	throws
+		java.io.IOException
+	{
+		Fingerprint fingerprint = new Fingerprint(mbb, header, fat, miniFAT, directory);
+		fingerprint.hashChildren(root);
+		StringBuilder s = new StringBuilder();
+		for (byte b: fingerprint.digest.digest())
+			s.append(String.format("%02x", b & 0xff));
+		return s.toString();
+	}
+
+	/** Hash an int.
+	*	@param	value	The value to hash
+	*/
+	private void hashInt(int value)
+	{
+		scratch.clear();
+		scratch.putInt(value);
+		scratch.flip();
+		digest.update(scratch);
+	}
+
+	/** Hash a long.
+	*	@param	value	The value to hash
+	*/
+	private void hashLong(long value)
+	{
+		scratch.clear();
+		scratch.putLong(value);
+		scratch.flip();
+		digest.update(scratch);
+	}
+
+	/** Hash the children of a storage, in canonical order.
+	*	@param	parent	The storage whose children are to be hashed
+	*	@throws	java.io.IOException	A stream's sector chain ended before the end of the stream.
+	*/
+	private void hashChildren(DirectoryEntry parent)
+	throws
+		java.io.IOException
+	{
+		java.util.ArrayList<DirectoryEntry> children = directory.getChildren(parent);
+		children.sort((a, b) -> DirectoryEntry.NAME_ORDER.compare(a.directoryEntryName, b.directoryEntryName));
+		hashInt(children.size());
+		for (DirectoryEntry child: children){
+			digest.update(child.objectType.isStorage() ? STORAGE_TAG : STREAM_TAG);
+			hashInt(child.directoryEntryName.length());
+			for (int i = 0; i < child.directoryEntryName.length(); ++i)
+				hashInt(child.directoryEntryName.charAt(i));
+
+			if (child.objectType.isStorage()) {
+				hashChildren(child);
+			} else {
+				hashLong(child.streamSize);
+				if (DirectoryEntry.PROPERTIES.equals(child.directoryEntryName))
+					hashProperties(child, parent);
+				else
+					hashStream(child);
+			}
+		}
+	}
+
+	/** Hash a Properties stream: its header, followed by its property records sorted by tag.
+	*	@param	properties	The Properties stream
+	*	@param	parent		The storage the Properties stream belongs to
+	*/
+	private void hashProperties(DirectoryEntry properties, DirectoryEntry parent)
+	{
+		byte[] data = properties.getContent(mbb, header, fat, miniFAT);
+		int headerSize = Math.min(parent.getChildPropertiesHeaderSize(), data.length);
+		digest.update(data, 0, headerSize);
+
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(data).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		int numRecords = (data.length - headerSize) / Property.RECORD_SIZE;
+		long[] order = new long[numRecords];
+		for (int i = 0; i < numRecords; ++i){
+			int offset = headerSize + i * Property.RECORD_SIZE;
+			order[i] = (records.getInt(offset) & 0xffffffffL) << Integer.SIZE | offset;
+		}
+		java.util.Arrays.sort(order);
+		for (long record: order)
+			digest.update(data, (int)record, Property.RECORD_SIZE);
+
+		int trailing = (data.length - headerSize) % Property.RECORD_SIZE;
+		digest.update(data, data.length - trailing, trailing);
+	}
+
+	/** Hash the content of a stream directly from the file.
+	*	@param	stream	The stream to hash
+	*	@throws	java.io.IOException	The stream's sector chain ended before the end of the stream.
+	*/
+	private void hashStream(DirectoryEntry stream)
+	throws
+		java.io.IOException
+	{
+		EntryChannel channel = new EntryChannel(stream, mbb, header, fat, miniFAT);
+		java.nio.ByteBuffer run;
+		while ((run = channel.nextRunView()) != null)
+			digest.update(run);
+	}
+
+	/** Test this class by printing the fingerprint of each msg file.
+	*	@param	args	The msg file or files to fingerprint.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.Fingerprint msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			try {
+				MSG msg = new MSG(a);
+				try {
+					System.out.printf("%s %s%n", msg.fingerprint(), a);
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package io.github.jmcleodfoss.msg;
+
+/** Java Flight Recorder events for opening msg files and reading their contents. Each event type can be enabled, disabled, or
+*   given a duration threshold through the JFR settings like the JDK's own events, using the names given by the
+*   {@link jdk.jfr.Name @Name} annotations below; when an event type is not enabled, creating the event costs almost nothing.
+*	@see MSG
+*/
+final class FlightRecorderEvents
+{
+	/** The JFR category used for all msg events */
+	private static final String CATEGORY = "MSG";
+
+	/** The event recorded when a msg file is opened, covering everything done by the MSG constructor. */
+	@jdk.jfr.Name("io.github.jmcleodfoss.msg.Open")
+	@jdk.jfr.Label("MSG Open")
+	@jdk.jfr.Category(CATEGORY)
+	@jdk.jfr.Description("Opening a msg file and reading its header, allocation tables, directory, and named properties")
+	static final class Open extends jdk.jfr.Event
+	{
+		/** The name of the file opened */
+		@jdk.jfr.Label("File Name")
+		String fileName;
+
+		/** The size of the file opened */
+		@jdk.jfr.Label("File Size")
+		@jdk.jfr.DataAmount
+		long fileSize;
+
+		/** The number of directory entries in the file */
+		@jdk.jfr.Label("Directory Entries")
+		int directoryEntries;
+	}
+
+	/** The event recorded when the directory of a msg file is read and its tree is built. */
+	@jdk.jfr.Name("io.github.jmcleodfoss.msg.DirectoryBuild")
+	@jdk.jfr.Label("MSG Directory Build")
+	@jdk.jfr.Category(CATEGORY)
+	@jdk.jfr.Description("Reading the directory of a msg file and building the directory tree")
+	static final class DirectoryBuild extends jdk.jfr.Event
+	{
+		/** The name of the file the directory was read from */
+		@jdk.jfr.Label("File Name")
+		String fileName;
+
+		/** The number of directory entries read */
+		@jdk.jfr.Label("Directory Entries")
+		int directoryEntries;
+	}
+
+	/** The event recorded when the contents of a stream are read. */
+	@jdk.jfr.Name("io.github.jmcleodfoss.msg.StreamRead")
+	@jdk.jfr.Label("MSG Stream Read")
+	@jdk.jfr.Category(CATEGORY)
+	@jdk.jfr.Description("Reading the contents of a stream in a msg file")
+	static final class StreamRead extends jdk.jfr.Event
+	{
+		/** The name of the stream's directory entry */
+		@jdk.jfr.Label("Entry Name")
+		String entryName;
+
+		/** The size of the stream */
+		@jdk.jfr.Label("Size")
+		@jdk.jfr.DataAmount
+		long size;
+
+		/** Whether the stream is stored in the mini stream */
+		@jdk.jfr.Label("In Mini Stream")
+		boolean inMiniStream;
+
+		/** The number of sectors (or mini sectors, for streams in the mini stream) the stream occupies */
+		@jdk.jfr.Label("Sectors")
+		int sectors;
+	}
+
+	/** The event recorded when a properties stream is decoded. */
+	@jdk.jfr.Name("io.github.jmcleodfoss.msg.PropertiesDecode")
+	@jdk.jfr.Label("MSG Properties Decode")
+	@jdk.jfr.Category(CATEGORY)
+	@jdk.jfr.Description("Decoding the properties in a properties stream of a msg file")
+	static final class PropertiesDecode extends jdk.jfr.Event
+	{
+		/** The name of the storage the properties belong to */
+		@jdk.jfr.Label("Storage Name")
+		String storageName;
+
+		/** The size of the properties stream */
+		@jdk.jfr.Label("Size")
+		@jdk.jfr.DataAmount
+		long size;
+
+		/** The number of properties decoded */
+		@jdk.jfr.Label("Properties")
+		int properties;
+	}
+
+	/** This class only holds the event types, so no instances may be created. */
+	private FlightRecorderEvents()
+	{
+	}
+}
@@ -268,9 +268,8 @@ class Header {
 	*/
 	int numberOfDIFATEntries()
 	{
-		// First index in a DIFAT sector is the DIFAT signature
-		// and the last is either the index to the next sector, or the empty sector flag, 0xffffffff
-		return numberOfDIFATSectors * (intsPerSector() - 2);
+		// The last entry in a DIFAT sector is the location of the next DIFAT sector
+		return numberOfDIFATSectors * (intsPerSector() - 1);
 	}
 
 	/** The number of FAT entries
@@ -289,6 +288,38 @@ class Header {
 		return numberOfMiniFATSectors * sectorSize / DataType.SIZEOF_INT;
 	}
 
+	/** The number of DIFAT sectors in this file
+	*	@return	The number of DIFAT sectors given in the header
+	*/
+	int numberOfDIFATSectors()
+	{
+		return numberOfDIFATSectors;
+	}
+
+	/** The number of FAT sectors in this file
+	*	@return	The number of FAT sectors given in the header
+	*/
+	int numberOfFATSectors()
+	{
+		return numberOfFATSectors;
+	}
+
+	/** The number of Mini FAT sectors in this file
+	*	@return	The number of Mini FAT sectors given in the header
+	*/
+	int numberOfMiniFATSectors()
+	{
+		return numberOfMiniFATSectors;
+	}
+
+	/** The size of this file
+	*	@return	The size of the file in bytes
+	*/
+	long fileSize()
+	{
+		return fileSize;
+	}
+
 	/** The number of sectors in this file
 	*	@return	The number of sectors (based on the sector size)
 	*/
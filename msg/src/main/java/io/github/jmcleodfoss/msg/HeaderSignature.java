@@ -12,7 +12,7 @@ class HeaderSignature {
 	private static final byte[] SIGNATURE_BYTES = {(byte)0xd0, (byte)0xcf, (byte)0x11, (byte)0xe0, (byte)0xa1, (byte)0xb1, (byte)0x1a, (byte)0xe1};
 
 	/** The header signature as an 8-byte (long) value. */
-	private static final long SIGNATURE = ByteUtil.makeLongLE(SIGNATURE_BYTES);
+	static final long SIGNATURE = ByteUtil.makeLongLE(SIGNATURE_BYTES);
 
 	/** Validate that the passed signature is a valid header signature.
 	*	@param	signature	The signature to be checked
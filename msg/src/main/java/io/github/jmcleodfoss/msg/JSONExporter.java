@@ -0,0 +1,493 @@
+package io.github.jmcleodfoss.msg;
+
+/** Write the properties of a message, its recipients, and its attachments, including embedded messages, as a single-line JSON
+*   object. Each message is written as
+<pre>
+{"file":"name.msg","properties":{...},"recipients":[{"properties":{...}}, ...],"attachments":[{"properties":{...},"message":{...}}, ...]}
+</pre>
+*   where "file" is present only if a file name is given, and "message" is present only for embedded messages. Property names are
+*   taken from {@link PropertyTags} and the file's named property mapping; properties without a known name use the property tag in
+*   hex. Times are written as ISO-8601 strings, and binary properties, if included, as base64 strings. Multiple-valued and object
+*   properties are not written.
+*   <p>
+*   The JSON is written directly to a Writer as the message is read: string properties are decoded and escaped from their
+*   substorages a buffer at a time, so very large bodies do not need to be held in memory. For best performance the Writer should
+*   be buffered. If reading the message fails, the part of the object written so far is left in the Writer; callers writing one
+*   object per line should write each object to a buffer first, and copy it to the output only once it is complete.
+*	@see <a href="https://tools.ietf.org/html/rfc8259">RFC 8259: The JavaScript Object Notation (JSON) Data Interchange Format</a>
+*/
+public class JSONExporter
+{
+	/** The size of the buffer used to read strings */
+	private static final int BUFFER_SIZE = 4096;
+
+	/** The destination for the JSON */
+	private final java.io.Writer out;
+
+	/** The buffer used to read and escape strings */
+	private final char[] buffer;
+
+	/** Property names for the file being exported, indexed by property tag, so each name is looked up only once per file. */
+	private final java.util.HashMap<Integer, String> names;
+
+	/** Should binary properties be written? */
+	private boolean includeBinary;
+
+	/** The file being exported */
+	private MSG msg;
+
+	/** Create an exporter which writes JSON to the given Writer.
+	*	@param	out	The destination for the JSON
+	*/
+	public JSONExporter(java.io.Writer out)
+	{
+		this.out = out;
+		buffer = new char[BUFFER_SIZE];
+		names = new java.util.HashMap<Integer, String>();
+	}
+
+	/** Set whether binary properties are written. They are left out by default, since they include attachment contents and the
+	*   compressed RTF body.
+	*	@param	includeBinary	true to write binary properties as base64 strings, false to leave them out
+	*	@return	This exporter, to allow calls to be chained.
+	*/
+	public JSONExporter includeBinary(boolean includeBinary)
+	{
+		this.includeBinary = includeBinary;
+		return this;
+	}
+
+	/** Write the top-level message in a file as a JSON object. No line separator is written after the object.
+	*	@param	msg	The file to export
+	*	@param	file	The file name to include in the JSON object, or null to leave it out
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	public void export(MSG msg, String file)
+	throws
+		java.io.IOException
+	{
+		export(msg, msg.getDirectoryTree(), file);
+	}
+
+	/** Write a message as a JSON object. No line separator is written after the object.
+	*	@param	msg	The file containing the message
+	*	@param	ded	The Root Storage or embedded message entry for the message to export
+	*	@param	file	The file name to include in the JSON object, or null to leave it out
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	public void export(MSG msg, DirectoryEntryData ded, String file)
+	throws
+		java.io.IOException
+	{
+		this.msg = msg;
+		names.clear();
+		try {
+			out.write('{');
+			if (file != null) {
+				writeKey("file");
+				writeString(file);
+				out.write(',');
+			}
+			writeMessageMembers(ded.entry);
+			out.write('}');
+		} finally {
+			this.msg = null;
+		}
+	}
+
+	/** Write the properties, recipients, and attachments of a message as members of the enclosing JSON object.
+	*	@param	message	The Root Storage or embedded message entry for the message
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	private void writeMessageMembers(DirectoryEntry message)
+	throws
+		java.io.IOException
+	{
+		java.util.ArrayList<DirectoryEntry> children = msg.getChildren(message);
+		writeProperties(message, children);
+
+		out.write(',');
+		writeKey("recipients");
+		out.write('[');
+		boolean first = true;
+		java.util.Iterator<DirectoryEntry> iter = children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (!msg.isRecipient(de))
+				continue;
+			if (!first)
+				out.write(',');
+			first = false;
+			out.write('{');
+			writeProperties(de, msg.getChildren(de));
+			out.write('}');
+		}
+		out.write(']');
+
+		out.write(',');
+		writeKey("attachments");
+		out.write('[');
+		first = true;
+		iter = children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (!msg.isAttachment(de))
+				continue;
+			if (!first)
+				out.write(',');
+			first = false;
+			writeAttachment(de);
+		}
+		out.write(']');
+	}
+
+	/** Write an attachment as a JSON object.
+	*	@param	attachment	The Attachment entry
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	private void writeAttachment(DirectoryEntry attachment)
+	throws
+		java.io.IOException
+	{
+		java.util.ArrayList<DirectoryEntry> children = msg.getChildren(attachment);
+		out.write('{');
+		writeProperties(attachment, children);
+
+		// OLE attachments are also stored in a PidTagAttachDataObject storage, but have no Properties stream.
+		DirectoryEntry embedded = getChild(children, PropertyTags.PidTagAttachDataObject);
+		if (embedded != null && msg.getPropertiesData(embedded) != null) {
+			out.write(',');
+			writeKey("message");
+			out.write('{');
+			writeMessageMembers(embedded);
+			out.write('}');
+		}
+		out.write('}');
+	}
+
+	/** Write the "properties" member for a message, attachment, or recipient.
+	*	@param	parent		The Root Storage, embedded message, Attachment, or Recipient entry
+	*	@param	children	The children of the parent entry, which include the substorages for variable-length properties
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	private void writeProperties(DirectoryEntry parent, java.util.ArrayList<DirectoryEntry> children)
+	throws
+		java.io.IOException
+	{
+		writeKey("properties");
+		out.write('{');
+
+		byte[] data = msg.getPropertiesData(parent);
+		if (data == null) {
+			out.write('}');
+			return;
+		}
+
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(data);
+		records.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		int headerSize = parent.getChildPropertiesHeaderSize();
+
+		boolean first = true;
+		for (int offset = headerSize; offset + Property.RECORD_SIZE <= records.limit(); offset += Property.RECORD_SIZE){
+			int propertyTag = records.getInt(offset);
+			int value = offset + Property.VALUE_OFFSET;
+			int propertyType = propertyTag & DataType.PROPERTY_TYPE_MASK;
+
+			DirectoryEntry substorage = null;
+			if (propertyType == DataType.STRING || propertyType == DataType.STRING8 || propertyType == DataType.BINARY) {
+				if (propertyType == DataType.BINARY && !includeBinary)
+					continue;
+				substorage = getChild(children, propertyTag);
+				if (substorage == null)
+					continue;
+			} else if (!isFixedWidth(propertyType)) {
+				continue;
+			}
+
+			if (!first)
+				out.write(',');
+			first = false;
+			writeKey(propertyName(propertyTag));
+
+			switch (propertyType) {
+			case DataType.INTEGER_16:
+				out.write(Short.toString(records.getShort(value)));
+				break;
+
+			case DataType.INTEGER_32:
+			case DataType.ERROR_CODE:
+				out.write(Integer.toString(records.getInt(value)));
+				break;
+
+			case DataType.FLOATING_32:
+				writeDouble(records.getFloat(value));
+				break;
+
+			case DataType.FLOATING_64:
+			case DataType.FLOATING_TIME:
+				writeDouble(records.getDouble(value));
+				break;
+
+			case DataType.CURRENCY:
+				out.write(java.math.BigDecimal.valueOf(records.getLong(value), 4).toPlainString());
+				break;
+
+			case DataType.BOOLEAN:
+				out.write(records.get(value) != 0 ? "true" : "false");
+				break;
+
+			case DataType.INTEGER_64:
+				out.write(Long.toString(records.getLong(value)));
+				break;
+
+			case DataType.TIME:
+				records.position(value);
+				writeString(((java.util.Date)DataType.timeReader.read(records)).toInstant().toString());
+				break;
+
+			case DataType.BINARY:
+				writeBinary(substorage);
+				break;
+
+			default:
+				writeString(stringReader(substorage, records, headerSize));
+				break;
+			}
+		}
+		out.write('}');
+	}
+
+	/** Is the given property type a fixed-width type which this class writes?
+	*	@param	propertyType	The property type
+	*	@return	true if the property is written from the value in its property record, false otherwise
+	*/
+	private static boolean isFixedWidth(int propertyType)
+	{
+		switch (propertyType) {
+		case DataType.INTEGER_16:
+		case DataType.INTEGER_32:
+		case DataType.FLOATING_32:
+		case DataType.FLOATING_64:
+		case DataType.CURRENCY:
+		case DataType.FLOATING_TIME:
+		case DataType.ERROR_CODE:
+		case DataType.BOOLEAN:
+		case DataType.INTEGER_64:
+		case DataType.TIME:
+			return true;
+
+		default:
+			return false;
+		}
+	}
+
+	/** Find the substorage holding the value of a property.
+	*	@param	children	The children of the entry the property belongs to
+	*	@param	propertyTag	The property tag
+	*	@return	The substorage for the property, or null if there is none
+	*/
+	private static DirectoryEntry getChild(java.util.ArrayList<DirectoryEntry> children, int propertyTag)
+	{
+		java.util.Iterator<DirectoryEntry> iter = children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (de.getPropertyTag() == propertyTag)
+				return de;
+		}
+		return null;
+	}
+
+	/** Get the name to use for a property.
+	*	@param	propertyTag	The property tag
+	*	@return	The property name, or the property tag in hex if the property is not known
+	*/
+	private String propertyName(int propertyTag)
+	{
+		String name = names.get(propertyTag);
+		if (name == null) {
+			name = msg.getPropertyName(propertyTag);
+			if (name == null) {
+				char[] hex = new char[10];
+				hex[0] = '0';
+				hex[1] = 'x';
+				for (int i = 0; i < 8; ++i)
+					hex[9-i] = JSONString.HEX_DIGITS[(propertyTag >>> (4*i)) & 0xf];
+				name = new String(hex);
+			}
+			names.put(propertyTag, name);
+		}
+		return name;
+	}
+
+	/** Create a Reader for a string property substorage.
+	*	@param	de		The string substorage
+	*	@param	records		The Properties stream of the entry the property belongs to, used to find the code page for PtypString8 values
+	*	@param	headerSize	The size of the Properties stream header
+	*	@return	A Reader for the string
+	*/
+	private java.io.Reader stringReader(DirectoryEntry de, java.nio.ByteBuffer records, int headerSize)
+	{
+		java.nio.charset.Charset charset = java.nio.charset.StandardCharsets.UTF_16LE;
+		if ((de.getPropertyTag() & DataType.PROPERTY_TYPE_MASK) == DataType.STRING8) {
+			int offset = MessageFilter.findValue(records, headerSize, PropertyTags.PidTagMessageCodepage);
+			charset = RTFDeEncapsulator.codePageCharset(offset == -1 ? 0 : records.getInt(offset));
+		}
+		return msg.getTextReader(de, charset);
+	}
+
+	/** Write an object member name and the following colon.
+	*	@param	key	The member name
+	*	@throws	java.io.IOException	There was a problem writing the JSON.
+	*/
+	private void writeKey(String key)
+	throws
+		java.io.IOException
+	{
+		writeString(key);
+		out.write(':');
+	}
+
+	/** Write a floating point value. JSON has no representation for infinite values or NaN, so these are written as null.
+	*	@param	d	The value to write
+	*	@throws	java.io.IOException	There was a problem writing the JSON.
+	*/
+	private void writeDouble(double d)
+	throws
+		java.io.IOException
+	{
+		if (Double.isNaN(d) || Double.isInfinite(d))
+			out.write("null");
+		else
+			out.write(Double.toString(d));
+	}
+
+	/** Write a string value.
+	*	@param	s	The string to write
+	*	@throws	java.io.IOException	There was a problem writing the JSON.
+	*/
+	private void writeString(String s)
+	throws
+		java.io.IOException
+	{
+		out.write('"');
+		int start = 0;
+		while (start < s.length()){
+			int length = Math.min(buffer.length, s.length() - start);
+			s.getChars(start, start + length, buffer, 0);
+			writeEscaped(length);
+			start += length;
+		}
+		out.write('"');
+	}
+
+	/** Write a string value read from a Reader.
+	*	@param	reader	The source of the string
+	*	@throws	java.io.IOException	There was a problem reading the string or writing the JSON.
+	*/
+	private void writeString(java.io.Reader reader)
+	throws
+		java.io.IOException
+	{
+		out.write('"');
+		int n;
+		while ((n = reader.read(buffer)) != -1)
+			writeEscaped(n);
+		out.write('"');
+	}
+
+	/** Write characters from the buffer, escaping those which cannot appear in a JSON string. Null characters, which terminate
+	*   strings in MSG files, are dropped.
+	*	@param	length	The number of characters in the buffer
+	*	@throws	java.io.IOException	There was a problem writing the JSON.
+	*/
+	private void writeEscaped(int length)
+	throws
+		java.io.IOException
+	{
+		int start = 0;
+		for (int i = 0; i < length; ++i){
+			char c = buffer[i];
+			String escape = c == '\0' ? "" : JSONString.escape(c);
+			if (escape == null)
+				continue;
+
+			out.write(buffer, start, i - start);
+			out.write(escape);
+			start = i + 1;
+		}
+		out.write(buffer, start, length - start);
+	}
+
+	/** Write a binary property as a base64 string.
+	*	@param	de	The binary substorage
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the JSON.
+	*/
+	private void writeBinary(DirectoryEntry de)
+	throws
+		java.io.IOException
+	{
+		out.write('"');
+		java.io.OutputStream base64 = java.util.Base64.getEncoder().wrap(new java.io.OutputStream() {
+			@Override
+			public void write(int b)
+			throws
+				java.io.IOException
+			{
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			throws
+				java.io.IOException
+			{
+				while (len > 0){
+					int n = Math.min(len, buffer.length);
+					for (int i = 0; i < n; ++i)
+						buffer[i] = (char)b[off + i];
+					out.write(buffer, 0, n);
+					off += n;
+					len -= n;
+				}
+			}
+		});
+		msg.getInputStream(de).transferTo(base64);
+		base64.close();
+		out.write('"');
+	}
+
+	/** Test this class by writing out the JSON for each given file, one line per file.
+	*	@param	args	The msg file(s) to export.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.JSONExporter msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		java.io.PrintWriter out = new java.io.PrintWriter(new java.io.OutputStreamWriter(System.out, java.nio.charset.StandardCharsets.UTF_8));
+		JSONExporter exporter = new JSONExporter(out);
+		for (String a: args) {
+			try {
+				MSG msg = new MSG(a);
+				try {
+					exporter.export(msg, a);
+					out.println();
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(out);
+			}
+			out.flush();
+		}
+	}
+}
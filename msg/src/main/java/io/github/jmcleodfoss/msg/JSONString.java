@@ -0,0 +1,77 @@
+package io.github.jmcleodfoss.msg;
+
+/** Escape strings for JSON output. Quotes, backslashes, and control characters are escaped as required by RFC 8259, and the line
+*   and paragraph separators U+2028 and U+2029 are escaped as well so the output is also valid JavaScript.
+*	@see <a href="https://tools.ietf.org/html/rfc8259#section-7">RFC 8259 Section 7: Strings</a>
+*/
+final class JSONString
+{
+	/** Hex digits for escaped characters and property tags */
+	static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/** The escape sequences for the characters below 0x20 */
+	private static final String[] CONTROL_ESCAPES = new String[0x20];
+	static {
+		for (int c = 0; c < CONTROL_ESCAPES.length; ++c)
+			CONTROL_ESCAPES[c] = unicodeEscape((char)c);
+		CONTROL_ESCAPES['\n'] = "\\n";
+		CONTROL_ESCAPES['\r'] = "\\r";
+		CONTROL_ESCAPES['\t'] = "\\t";
+	}
+
+	/** This class has only static members. */
+	private JSONString()
+	{
+	}
+
+	/** Create a \\u escape sequence for a character.
+	*	@param	c	The character to escape
+	*	@return	The escape sequence
+	*/
+	private static String unicodeEscape(char c)
+	{
+		return new String(new char[]{'\\', 'u', HEX_DIGITS[(c >>> 12) & 0xf], HEX_DIGITS[(c >>> 8) & 0xf], HEX_DIGITS[(c >>> 4) & 0xf], HEX_DIGITS[c & 0xf]});
+	}
+
+	/** Get the escape sequence for a character, if it needs one.
+	*	@param	c	The character to check
+	*	@return	The escape sequence to write in place of c, or null if c can be written as it is
+	*/
+	static String escape(char c)
+	{
+		if (c < CONTROL_ESCAPES.length)
+			return CONTROL_ESCAPES[c];
+		switch (c) {
+		case '"':
+			return "\\\"";
+
+		case '\\':
+			return "\\\\";
+
+		case '\u2028':
+		case '\u2029':
+			return unicodeEscape(c);
+
+		default:
+			return null;
+		}
+	}
+
+	/** Append a quoted and escaped JSON string.
+	*	@param	s	The string to append
+	*	@param	out	The StringBuilder to append the string to
+	*/
+	static void append(String s, StringBuilder out)
+	{
+		out.append('"');
+		int start = 0;
+		for (int i = 0; i < s.length(); ++i){
+			String escape = escape(s.charAt(i));
+			if (escape != null){
+				out.append(s, start, i).append(escape);
+				start = i + 1;
+			}
+		}
+		out.append(s, start, s.length()).append('"');
+	}
+}
@@ -0,0 +1,311 @@
+package io.github.jmcleodfoss.msg;
+
+/** An analysis of the physical layout of a msg file: how fragmented each stream's sector chain is, how much of the file is free,
+*   how well the mini stream is used, and how many bytes are lost to padding at the ends of sectors. This is intended to help decide
+*   whether a file is worth compacting, and to estimate the cost of reading it.
+*   <p>
+*   Each sector chain is followed once, so every FAT and Mini FAT entry in use is visited at most once. A run is a sequence of
+*   sectors (or mini sectors) in a chain which are adjacent in the file, and so can be read without seeking; the seek distance of a
+*   chain is the total number of bytes skipped, forwards or backwards, between the end of one run and the start of the next.
+*	@see Compactor
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/30e1013a-a0ff-4404-9ccf-d75d835ff404">MS-CFB Section 2.3: Compound File FAT Sectors</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/c5d235f7-b73c-4ec5-bf8d-5c08306cd023">MS-CFB Section 2.4: Compound File Mini FAT Sectors</a>
+*/
+public class LayoutAnalysis
+{
+	/** The name used for the directory sector chain in the list of chains */
+	public static final String DIRECTORY_CHAIN = "[directory]";
+
+	/** The name used for the Mini FAT sector chain in the list of chains */
+	public static final String MINI_FAT_CHAIN = "[mini FAT]";
+
+	/** The name used for the mini stream sector chain in the list of chains */
+	public static final String MINI_STREAM_CHAIN = "[mini stream]";
+
+	/** The layout of a single sector chain. */
+	public static class ChainLayout
+	{
+		/** The directory entry ID of the stream, or -1 for the directory, Mini FAT, and mini stream chains */
+		public final int id;
+
+		/** The name of the stream, or one of {@link #DIRECTORY_CHAIN}, {@link #MINI_FAT_CHAIN}, or {@link #MINI_STREAM_CHAIN} */
+		public final String name;
+
+		/** The number of bytes of data in the chain */
+		public final long size;
+
+		/** Is the stream stored in the mini stream? */
+		public final boolean inMiniStream;
+
+		/** The number of sectors (or mini sectors) in the chain */
+		public final int sectors;
+
+		/** The number of runs of adjacent sectors in the chain */
+		public final int runs;
+
+		/** The total number of bytes skipped between runs */
+		public final long seekDistance;
+
+		/** The number of bytes allocated to the chain but not used by its data */
+		public final long slackBytes;
+
+		/** Create the layout description of a chain.
+		*	@param	id		The directory entry ID of the stream, or -1
+		*	@param	name		The name of the stream or chain
+		*	@param	size		The number of bytes of data in the chain
+		*	@param	inMiniStream	Is the stream stored in the mini stream?
+		*	@param	sectorSize	The size of each sector in the chain
+		*	@param	sectors		The number of sectors in the chain
+		*	@param	runs		The number of runs of adjacent sectors
+		*	@param	seekDistance	The total number of bytes skipped between runs
+		*/
+		private ChainLayout(int id, String name, long size, boolean inMiniStream, int sectorSize, int sectors, int runs, long seekDistance)
+		{
+			this.id = id;
+			this.name = name;
+			this.size = size;
+			this.inMiniStream = inMiniStream;
+			this.sectors = sectors;
+			this.runs = runs;
+			this.seekDistance = seekDistance;
+			slackBytes = Math.max((long)sectors * sectorSize - size, 0);
+		}
+
+		/** Get the average number of sectors in each run.
+		*	@return	The average run length in sectors, or 0 if the chain is empty
+		*/
+		public double averageRunLength()
+		{
+			return runs == 0 ? 0.0 : (double)sectors / runs;
+		}
+	}
+
+	/** The compound file version, 3 or 4 */
+	public final int version;
+
+	/** The size of the file in bytes */
+	public final long fileSize;
+
+	/** The number of bytes in each sector */
+	public final int sectorSize;
+
+	/** The number of sectors in the file, excluding the header */
+	public final int sectors;
+
+	/** The number of free sectors in the file */
+	public final int freeSectors;
+
+	/** The fraction of sector chain links which are discontiguous
+	*	@see MSG#fragmentation
+	*/
+	public final double fragmentation;
+
+	/** The number of bytes allocated to the mini stream */
+	public final long miniStreamSize;
+
+	/** The number of bytes of stream data stored in the mini stream */
+	public final long miniStreamDataSize;
+
+	/** The total number of runs in all chains */
+	public final int runs;
+
+	/** The total number of bytes skipped between runs in all chains */
+	public final long seekDistance;
+
+	/** The total number of bytes allocated to streams and the mini stream but not used by their data */
+	public final long slackBytes;
+
+	/** The layout of each stream, followed by the directory, Mini FAT, and mini stream chains */
+	public final java.util.List<ChainLayout> chains;
+
+	/** Analyze the layout of a file.
+	*	@param	version		The compound file version
+	*	@param	header		The file header
+	*	@param	fat		The file's FAT
+	*	@param	miniFAT		The file's Mini FAT
+	*	@param	directory	The file's directory
+	*/
+	LayoutAnalysis(int version, Header header, FAT fat, MiniFAT miniFAT, Directory directory)
+	{
+		this.version = version;
+		fileSize = header.fileSize();
+		sectorSize = header.sectorSize;
+		sectors = header.numberOfSectors() - 1;
+		freeSectors = fat.numberOfFreeSectors();
+		fragmentation = fat.fragmentation();
+
+		java.util.ArrayList<ChainLayout> chains = new java.util.ArrayList<ChainLayout>();
+		long miniStreamDataSize = 0;
+		for (int i = 0; i < directory.entries.size(); ++i){
+			DirectoryEntry de = directory.entries.get(i);
+			if (!de.objectType.isStream())
+				continue;
+			if (header.isInMiniStream(de.streamSize)) {
+				chains.add(analyzeChain(i, de.directoryEntryName, de.streamSize, true, header.miniSectorSize, miniFAT.getChainIterator(de.startingSectorLocation), header, miniFAT));
+				miniStreamDataSize += de.streamSize;
+			} else {
+				chains.add(analyzeChain(i, de.directoryEntryName, de.streamSize, false, header.sectorSize, fat.chainIterator(de.startingSectorLocation), header, miniFAT));
+			}
+		}
+		this.miniStreamDataSize = miniStreamDataSize;
+
+		chains.add(analyzeChain(-1, DIRECTORY_CHAIN, -1, false, header.sectorSize, fat.chainIterator(header.firstDirectorySectorLocation), header, miniFAT));
+		chains.add(analyzeChain(-1, MINI_FAT_CHAIN, -1, false, header.sectorSize, fat.chainIterator(header.firstMiniFATSectorLocation), header, miniFAT));
+		DirectoryEntry root = directory.entries.get(0);
+		chains.add(analyzeChain(-1, MINI_STREAM_CHAIN, root.streamSize, false, header.sectorSize, fat.chainIterator(root.startingSectorLocation), header, miniFAT));
+		miniStreamSize = root.streamSize;
+
+		int runs = 0;
+		long seekDistance = 0;
+		long slackBytes = 0;
+		for (ChainLayout chain: chains){
+			runs += chain.runs;
+			seekDistance += chain.seekDistance;
+			slackBytes += chain.slackBytes;
+		}
+		this.runs = runs;
+		this.seekDistance = seekDistance;
+		this.slackBytes = slackBytes;
+		this.chains = java.util.Collections.unmodifiableList(chains);
+	}
+
+	/** Follow a sector chain, counting its sectors and runs and the distance between runs.
+	*	@param	id		The directory entry ID of the stream, or -1
+	*	@param	name		The name of the stream or chain
+	*	@param	size		The number of bytes of data in the chain, or -1 to use all the sectors in the chain
+	*	@param	inMiniStream	Is the chain a mini sector chain?
+	*	@param	chainSectorSize	The size of each sector in the chain
+	*	@param	iter		An iterator through the chain
+	*	@param	header		The file header
+	*	@param	miniFAT		The file's Mini FAT, used to find the file offsets of mini sectors
+	*	@return	The layout of the chain
+	*/
+	private static ChainLayout analyzeChain(int id, String name, long size, boolean inMiniStream, int chainSectorSize, java.util.Iterator<Integer> iter, Header header, MiniFAT miniFAT)
+	{
+		/* Stop at the number of sectors the data needs, or the number of sectors in the file, so that a chain which loops back on
+		*  itself does not keep the analysis going forever.
+		*/
+		long maxSectors = size >= 0 ? (size + chainSectorSize - 1) / chainSectorSize : header.numberOfSectors();
+		int sectors = 0;
+		int runs = 0;
+		long seekDistance = 0;
+		long nextOffset = -1;
+		while (sectors < maxSectors && iter.hasNext()){
+			int sector = iter.next();
+			long offset = inMiniStream ? miniFAT.fileOffset(sector) : header.offset(sector);
+			if (offset != nextOffset) {
+				if (runs > 0)
+					seekDistance += Math.abs(offset - nextOffset);
+				++runs;
+			}
+			nextOffset = offset + chainSectorSize;
+			++sectors;
+		}
+		return new ChainLayout(id, name, size >= 0 ? size : (long)sectors * chainSectorSize, inMiniStream, chainSectorSize, sectors, runs, seekDistance);
+	}
+
+	/** Get the fraction of the sectors in the file which are free.
+	*	@return	The fraction of sectors which are free, from 0 to 1
+	*/
+	public double freeSpace()
+	{
+		return sectors == 0 ? 0.0 : (double)freeSectors / sectors;
+	}
+
+	/** Get the fraction of the mini stream used by stream data.
+	*	@return	The fraction of the mini stream holding stream data, or 1 if there is no mini stream
+	*/
+	public double miniStreamUtilization()
+	{
+		return miniStreamSize == 0 ? 1.0 : (double)miniStreamDataSize / miniStreamSize;
+	}
+
+	/** Get the average number of sectors in each run over all chains.
+	*	@return	The average run length in sectors (or mini sectors for streams in the mini stream)
+	*/
+	public double averageRunLength()
+	{
+		int chainSectors = 0;
+		for (ChainLayout chain: chains)
+			chainSectors += chain.sectors;
+		return runs == 0 ? 0.0 : (double)chainSectors / runs;
+	}
+
+	/** Create a compact, single line JSON description of the analysis.
+	*	@param	fileName	The name of the file to include in the description, or null to leave it out
+	*	@param	includeChains	Include the layout of each chain in the description?
+	*	@return	A JSON object describing the analysis
+	*/
+	public String toJSON(String fileName, boolean includeChains)
+	{
+		StringBuilder s = new StringBuilder("{");
+		if (fileName != null) {
+			s.append("\"file\":");
+			JSONString.append(fileName, s);
+			s.append(',');
+		}
+		s.append(String.format(java.util.Locale.ROOT,
+			"\"version\":%d,\"fileSize\":%d,\"sectorSize\":%d,\"sectors\":%d,\"freeSectors\":%d,\"freeSpace\":%.4f,\"fragmentation\":%.4f,\"runs\":%d,\"averageRunLength\":%.2f,\"seekDistance\":%d,\"slackBytes\":%d,\"miniStreamSize\":%d,\"miniStreamUtilization\":%.4f",
+			version, fileSize, sectorSize, sectors, freeSectors, freeSpace(), fragmentation, runs, averageRunLength(), seekDistance, slackBytes, miniStreamSize, miniStreamUtilization()));
+		if (includeChains) {
+			s.append(",\"chains\":[");
+			for (int i = 0; i < chains.size(); ++i){
+				ChainLayout chain = chains.get(i);
+				if (i > 0)
+					s.append(',');
+				s.append("{\"id\":").append(chain.id).append(",\"name\":");
+				JSONString.append(chain.name, s);
+				s.append(String.format(java.util.Locale.ROOT,
+					",\"size\":%d,\"mini\":%b,\"sectors\":%d,\"runs\":%d,\"averageRunLength\":%.2f,\"seekDistance\":%d,\"slackBytes\":%d}",
+					chain.size, chain.inMiniStream, chain.sectors, chain.runs, chain.averageRunLength(), chain.seekDistance, chain.slackBytes));
+			}
+			s.append(']');
+		}
+		s.append('}');
+		return s.toString();
+	}
+
+	/** Return a String describing the analysis.
+	*	@return	A summary of the file's layout
+	*/
+	@Override
+	public String toString()
+	{
+		return String.format("%d sectors of %d bytes, %d free (%.1f%%), fragmentation %.1f%%, %d runs (average %.1f sectors), seek distance %d bytes, slack %d bytes, mini stream %.1f%% used",
+			sectors, sectorSize, freeSectors, 100 * freeSpace(), 100 * fragmentation, runs, averageRunLength(), seekDistance, slackBytes, 100 * miniStreamUtilization());
+	}
+
+	/** Test this class by analyzing the layout of each msg file and displaying the result.
+	*	@param	args	The msg file or files to analyze.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.LayoutAnalysis msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					LayoutAnalysis analysis = msg.analyzeLayout();
+					System.out.println(analysis);
+					System.out.println(analysis.toJSON(a, true));
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
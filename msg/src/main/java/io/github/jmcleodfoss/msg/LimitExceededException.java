@@ -0,0 +1,21 @@
+package io.github.jmcleodfoss.msg;
+
+/** The LimitExceededException is thrown when reading a msg file would exceed one of the resource limits it was opened with. It is
+*   unchecked because the limits are enforced both when the file is opened and later, as entries are read from it.
+*	@see MsgLimits
+*/
+public class LimitExceededException extends RuntimeException
+{
+	/**	The serialVersionUID is required because the base class is serializable. */
+	private static final long serialVersionUID = 1L;
+
+	/**	Create a LimitExceededException.
+	*	@param	what	A description of the resource whose limit was exceeded
+	*	@param	value	The amount of the resource requested
+	*	@param	limit	The limit
+	*/
+	LimitExceededException(String what, long value, long limit)
+	{
+		super(String.format("%s %d exceeds the limit of %d", what, value, limit));
+	}
+}
@@ -0,0 +1,798 @@
+package io.github.jmcleodfoss.msg;
+
+/** Convert a message to RFC 5322 Internet Message Format with MIME body parts, as used by .eml files. The output is written directly
+*   to an OutputStream: the body and attachments are base64-encoded as they are read from the file, and embedded messages are
+*   converted recursively into message/rfc822 parts, so memory use is bounded by a few small buffers rather than by the size of the
+*   message.
+*   <p>
+*   The plain text body comes from PidTagBody and the HTML body from PidTagHtml or PidTagBodyHtml. If the message has no HTML body
+*   but its RTF body encapsulates HTML, the HTML is extracted from the RTF as it is written.
+*	@see <a href="https://tools.ietf.org/html/rfc5322">RFC 5322: Internet Message Format</a>
+*	@see <a href="https://tools.ietf.org/html/rfc2045">RFC 2045: Multipurpose Internet Mail Extensions (MIME) Part One</a>
+*	@see <a href="https://tools.ietf.org/html/rfc2047">RFC 2047: MIME Part Three: Message Header Extensions for Non-ASCII Text</a>
+*	@see <a href="https://tools.ietf.org/html/rfc2231">RFC 2231: MIME Parameter Value and Encoded Word Extensions</a>
+*/
+public class MIMEConverter
+{
+	/** The line separator used in Internet messages */
+	private static final String CRLF = "\r\n";
+
+	/** The line length to fold headers at, if possible */
+	private static final int MAX_LINE_LENGTH = 78;
+
+	/** The maximum number of UTF-8 bytes in an RFC 2047 encoded word; 45 bytes encodes to 60 base64 characters, which keeps the
+	*   encoded word within the 75 character limit.
+	*/
+	private static final int MAX_ENCODED_WORD_BYTES = 45;
+
+	/** The size of the buffers used to copy data */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The recipient type for primary recipients */
+	private static final int RECIPIENT_TO = 1;
+
+	/** The recipient type for carbon copy recipients */
+	private static final int RECIPIENT_CC = 2;
+
+	/** The recipient type for blind carbon copy recipients */
+	private static final int RECIPIENT_BCC = 3;
+
+	/** The PidTagRecipientType bits holding the recipient type */
+	private static final int RECIPIENT_TYPE_MASK = 0x0000000f;
+
+	/** PidTagAttachMethod for attachments whose data is in PidTagAttachDataBinary */
+	private static final int ATTACH_BY_VALUE = 1;
+
+	/** PidTagAttachMethod for attachments which are embedded messages */
+	private static final int ATTACH_EMBEDDED_MESSAGE = 5;
+
+	/** Characters which may appear unencoded in an RFC 2231 parameter value */
+	private static final String ATTRIBUTE_CHARS = "!#$&+-.^_`|~";
+
+	/** Characters which may appear in a display name without quoting */
+	private static final String ATOM_CHARS = "!#$%&'*+-/=?^_`{|}~ ";
+
+	/** The file being converted */
+	private final MSG msg;
+
+	/** The destination for the converted message */
+	private final java.io.OutputStream out;
+
+	/** The number of multipart boundaries created so far, used to make each boundary unique */
+	private int boundaries;
+
+	/** Thrown to stop decompressing an RTF body once the format of its content is known.
+	*	@see #rtfFormat
+	*/
+	private static class FormatFoundException extends java.io.IOException
+	{
+		/** The serialVersionUID is required because the base class is serializable. */
+		private static final long serialVersionUID = 1L;
+
+		/** Create an exception indicating the RTF content format has been found. */
+		FormatFoundException()
+		{
+			super();
+		}
+	}
+
+	/** The properties of a message, attachment, or recipient: the fixed-width values in its Properties stream, and the substorages
+	*   holding its variable-length values.
+	*/
+	private class Properties
+	{
+		/** The contents of the Properties stream */
+		private final java.nio.ByteBuffer records;
+
+		/** The size of the header at the start of the Properties stream */
+		private final int headerSize;
+
+		/** The children of the entry, which include the substorages for variable-length properties */
+		private final java.util.ArrayList<DirectoryEntry> children;
+
+		/** Read the Properties stream and the list of children for the given entry.
+		*	@param	parent	The Root Storage, embedded message, Attachment, or Recipient entry
+		*/
+		Properties(DirectoryEntry parent)
+		{
+			byte[] data = msg.getPropertiesData(parent);
+			records = java.nio.ByteBuffer.wrap(data == null ? new byte[0] : data);
+			records.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+			headerSize = parent.getChildPropertiesHeaderSize();
+			children = msg.getChildren(parent);
+		}
+
+		/** Get the substorage holding the value of a variable-length property.
+		*	@param	propertyTag	The property to look for; string properties are found whether they are stored as PtypString or PtypString8.
+		*	@return	The substorage, or null if the property is not present
+		*/
+		DirectoryEntry getChild(int propertyTag)
+		{
+			java.util.Iterator<DirectoryEntry> iter = children.iterator();
+			while (iter.hasNext()){
+				DirectoryEntry de = iter.next();
+				if (MessageFilter.tagMatches(de.getPropertyTag(), propertyTag))
+					return de;
+			}
+			return null;
+		}
+
+		/** Get the value of a 32-bit integer property.
+		*	@param	propertyTag	The property to look for
+		*	@param	defaultValue	The value to return if the property is not present
+		*	@return	The property value, or defaultValue if the property is not present
+		*/
+		int getInt(int propertyTag, int defaultValue)
+		{
+			int offset = MessageFilter.findValue(records, headerSize, propertyTag);
+			return offset == -1 ? defaultValue : records.getInt(offset);
+		}
+
+		/** Get the value of a time property.
+		*	@param	propertyTag	The property to look for
+		*	@return	The property value, or null if the property is not present
+		*/
+		java.util.Date getTime(int propertyTag)
+		{
+			int offset = MessageFilter.findValue(records, headerSize, propertyTag);
+			if (offset == -1)
+				return null;
+			records.position(offset);
+			return (java.util.Date)DataType.timeReader.read(records);
+		}
+
+		/** Get the value of a string property.
+		*	@param	propertyTag	The property to look for
+		*	@return	The property value, or null if the property is not present or empty
+		*/
+		String getString(int propertyTag)
+		{
+			String value = MessageFilter.readString(msg, children, propertyTag);
+			if (value == null || value.isEmpty())
+				return null;
+			return value;
+		}
+	}
+
+	/** Create a converter for the given file.
+	*	@param	msg	The file to convert
+	*	@param	out	The destination for the converted message
+	*/
+	private MIMEConverter(MSG msg, java.io.OutputStream out)
+	{
+		this.msg = msg;
+		this.out = out;
+	}
+
+	/** Convert the top-level message in a file to RFC 5322 / MIME format.
+	*	@param	msg	The file to convert
+	*	@param	out	The destination for the converted message
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	public static void convert(MSG msg, java.io.OutputStream out)
+	throws
+		java.io.IOException
+	{
+		convert(msg, msg.getDirectoryTree(), out);
+	}
+
+	/** Convert a message to RFC 5322 / MIME format.
+	*	@param	msg	The file containing the message
+	*	@param	ded	The Root Storage or embedded message entry for the message to convert
+	*	@param	out	The destination for the converted message
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	public static void convert(MSG msg, DirectoryEntryData ded, java.io.OutputStream out)
+	throws
+		java.io.IOException
+	{
+		java.io.BufferedOutputStream buffered = new java.io.BufferedOutputStream(out, BUFFER_SIZE);
+		new MIMEConverter(msg, buffered).writeMessage(ded.entry);
+		buffered.flush();
+	}
+
+	/** Write a message: its headers followed by its body and attachments.
+	*	@param	message	The Root Storage or embedded message entry for the message
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void writeMessage(DirectoryEntry message)
+	throws
+		java.io.IOException
+	{
+		Properties properties = new Properties(message);
+		writeHeaders(properties);
+
+		java.util.ArrayList<DirectoryEntry> attachments = new java.util.ArrayList<DirectoryEntry>();
+		java.util.Iterator<DirectoryEntry> iter = properties.children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (msg.isAttachment(de) && attachmentData(new Properties(de)) != null)
+				attachments.add(de);
+		}
+
+		if (attachments.isEmpty()) {
+			writeBody(message, properties);
+			return;
+		}
+
+		String boundary = nextBoundary();
+		header("Content-Type", "multipart/mixed;" + CRLF + " boundary=\"" + boundary + "\"");
+		write(CRLF);
+		write("--" + boundary + CRLF);
+		writeBody(message, properties);
+		iter = attachments.iterator();
+		while (iter.hasNext()){
+			write("--" + boundary + CRLF);
+			writeAttachment(iter.next());
+		}
+		write("--" + boundary + "--" + CRLF);
+	}
+
+	/** Write the message headers, up to and including MIME-Version.
+	*	@param	properties	The message properties
+	*	@throws	java.io.IOException	There was a problem writing the output.
+	*/
+	private void writeHeaders(Properties properties)
+	throws
+		java.io.IOException
+	{
+		java.util.Date date = properties.getTime(PropertyTags.PidTagClientSubmitTime);
+		if (date == null)
+			date = properties.getTime(PropertyTags.PidTagMessageDeliveryTime);
+		if (date != null)
+			header("Date", java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME.format(date.toInstant().atZone(java.time.ZoneOffset.UTC)));
+
+		String from = address(properties.getString(PropertyTags.PidTagSenderName),
+			properties.getString(PropertyTags.PidTagSenderSmtpAddress),
+			properties.getString(PropertyTags.PidTagSenderEmailAddress));
+		if (from != null)
+			header("From", from);
+
+		java.util.ArrayList<String> to = new java.util.ArrayList<String>();
+		java.util.ArrayList<String> cc = new java.util.ArrayList<String>();
+		java.util.ArrayList<String> bcc = new java.util.ArrayList<String>();
+		java.util.Iterator<DirectoryEntry> iter = properties.children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			if (!msg.isRecipient(de))
+				continue;
+
+			Properties recipient = new Properties(de);
+			String address = address(recipient.getString(PropertyTags.PidTagDisplayName),
+				recipient.getString(PropertyTags.PidTagSmtpAddress),
+				recipient.getString(PropertyTags.PidTagEmailAddress));
+			if (address == null)
+				continue;
+
+			int type = recipient.getInt(PropertyTags.PidTagRecipientType, RECIPIENT_TO) & RECIPIENT_TYPE_MASK;
+			if (type == RECIPIENT_CC)
+				cc.add(address);
+			else if (type == RECIPIENT_BCC)
+				bcc.add(address);
+			else
+				to.add(address);
+		}
+		addressHeader("To", to);
+		addressHeader("Cc", cc);
+		addressHeader("Bcc", bcc);
+
+		String subject = properties.getString(PropertyTags.PidTagSubject);
+		if (subject != null)
+			header("Subject", unstructured("Subject", subject));
+
+		String messageId = properties.getString(PropertyTags.PidTagInternetMessageId);
+		if (messageId != null)
+			header("Message-ID", unstructured("Message-ID", messageId));
+
+		String inReplyTo = properties.getString(PropertyTags.PidTagInReplyToId);
+		if (inReplyTo != null)
+			header("In-Reply-To", unstructured("In-Reply-To", inReplyTo));
+
+		String references = properties.getString(PropertyTags.PidTagInternetReferences);
+		if (references != null)
+			header("References", unstructured("References", references));
+
+		header("MIME-Version", "1.0");
+	}
+
+	/** Write the message body, as a single text or HTML part or as multipart/alternative if there are both.
+	*	@param	message		The Root Storage or embedded message entry for the message
+	*	@param	properties	The message properties
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void writeBody(DirectoryEntry message, Properties properties)
+	throws
+		java.io.IOException
+	{
+		DirectoryEntry text = properties.getChild(PropertyTags.PidTagBody);
+		DirectoryEntry html = properties.getChild(PropertyTags.PidTagHtml);
+		if (html == null)
+			html = properties.getChild(PropertyTags.PidTagBodyHtml);
+
+		RTFDeEncapsulator.Format rtfFormat = null;
+		if (html == null || text == null)
+			rtfFormat = rtfFormat(message);
+
+		boolean hasText = text != null || rtfFormat == RTFDeEncapsulator.Format.TEXT;
+		boolean hasHTML = html != null || rtfFormat == RTFDeEncapsulator.Format.HTML;
+
+		if (hasText && hasHTML) {
+			String boundary = nextBoundary();
+			header("Content-Type", "multipart/alternative;" + CRLF + " boundary=\"" + boundary + "\"");
+			write(CRLF);
+			write("--" + boundary + CRLF);
+			writeText(message, properties, text);
+			write("--" + boundary + CRLF);
+			writeHTML(message, properties, html);
+			write("--" + boundary + "--" + CRLF);
+		} else if (hasHTML) {
+			writeHTML(message, properties, html);
+		} else {
+			writeText(message, properties, hasText ? text : null);
+		}
+	}
+
+	/** Write the plain text body part.
+	*	@param	message		The Root Storage or embedded message entry for the message
+	*	@param	properties	The message properties
+	*	@param	text		The PidTagBody substorage, or null to use the text encapsulated in the RTF body, if any
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void writeText(DirectoryEntry message, Properties properties, DirectoryEntry text)
+	throws
+		java.io.IOException
+	{
+		header("Content-Type", "text/plain; charset=utf-8");
+		header("Content-Transfer-Encoding", "base64");
+		write(CRLF);
+
+		java.io.Writer writer = new java.io.OutputStreamWriter(base64Stream(), java.nio.charset.StandardCharsets.UTF_8);
+		if (text != null)
+			copy(stringReader(properties, text), writer);
+		else
+			deEncapsulateRTF(message, writer);
+		writer.close();
+		write(CRLF);
+	}
+
+	/** Write the HTML body part.
+	*	@param	message		The Root Storage or embedded message entry for the message
+	*	@param	properties	The message properties
+	*	@param	html		The PidTagHtml or PidTagBodyHtml substorage, or null to use the HTML encapsulated in the RTF body
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void writeHTML(DirectoryEntry message, Properties properties, DirectoryEntry html)
+	throws
+		java.io.IOException
+	{
+		if (html != null && (html.getPropertyTag() & DataType.PROPERTY_TYPE_MASK) == DataType.BINARY) {
+			// PidTagHtml holds the HTML as it was received, in the message's Internet code page.
+			String contentType = "text/html";
+			int codePage = properties.getInt(PropertyTags.PidTagInternetCodepage, 0);
+			if (codePage != 0)
+				contentType += "; charset=" + RTFDeEncapsulator.codePageCharset(codePage).name().toLowerCase(java.util.Locale.ROOT);
+			header("Content-Type", contentType);
+			header("Content-Transfer-Encoding", "base64");
+			write(CRLF);
+
+			java.io.OutputStream base64 = base64Stream();
+			msg.getInputStream(html).transferTo(base64);
+			base64.close();
+			write(CRLF);
+			return;
+		}
+
+		header("Content-Type", "text/html; charset=utf-8");
+		header("Content-Transfer-Encoding", "base64");
+		write(CRLF);
+
+		java.io.Writer writer = new java.io.OutputStreamWriter(base64Stream(), java.nio.charset.StandardCharsets.UTF_8);
+		if (html != null)
+			copy(stringReader(properties, html), writer);
+		else
+			deEncapsulateRTF(message, writer);
+		writer.close();
+		write(CRLF);
+	}
+
+	/** Write an attachment part.
+	*	@param	attachment	The Attachment entry
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void writeAttachment(DirectoryEntry attachment)
+	throws
+		java.io.IOException
+	{
+		Properties properties = new Properties(attachment);
+		DirectoryEntry data = attachmentData(properties);
+
+		String filename = properties.getString(PropertyTags.PidTagAttachLongFilename);
+		if (filename == null)
+			filename = properties.getString(PropertyTags.PidTagAttachFilename);
+		if (filename == null)
+			filename = properties.getString(PropertyTags.PidTagDisplayName);
+		String contentId = properties.getString(PropertyTags.PidTagAttachContentId);
+		String disposition = contentId == null ? "attachment" : "inline";
+		if (filename != null)
+			disposition += ";" + CRLF + " " + parameter("filename", filename);
+
+		if (properties.getInt(PropertyTags.PidTagAttachMethod, ATTACH_BY_VALUE) == ATTACH_EMBEDDED_MESSAGE) {
+			header("Content-Type", "message/rfc822");
+			header("Content-Disposition", disposition);
+			write(CRLF);
+			writeMessage(data);
+			return;
+		}
+
+		String contentType = properties.getString(PropertyTags.PidTagAttachMimeTag);
+		if (contentType == null || needsEncoding(contentType))
+			contentType = "application/octet-stream";
+		if (filename != null)
+			contentType += ";" + CRLF + " " + parameter("name", filename);
+		header("Content-Type", contentType);
+		header("Content-Transfer-Encoding", "base64");
+		header("Content-Disposition", disposition);
+		if (contentId != null)
+			header("Content-ID", "<" + contentId + ">");
+		write(CRLF);
+
+		java.io.OutputStream base64 = base64Stream();
+		msg.getInputStream(data).transferTo(base64);
+		base64.close();
+		write(CRLF);
+	}
+
+	/** Find the data for an attachment.
+	*	@param	properties	The attachment properties
+	*	@return	The PidTagAttachDataBinary stream for attachments by value, the PidTagAttachDataObject storage for embedded messages,
+	*		or null for other attachment types, which are not converted.
+	*/
+	private static DirectoryEntry attachmentData(Properties properties)
+	{
+		int method = properties.getInt(PropertyTags.PidTagAttachMethod, ATTACH_BY_VALUE);
+		if (method == ATTACH_BY_VALUE)
+			return properties.getChild(PropertyTags.PidTagAttachDataBinary);
+		if (method == ATTACH_EMBEDDED_MESSAGE)
+			return properties.getChild(PropertyTags.PidTagAttachDataObject);
+		return null;
+	}
+
+	/** Find the format of the content encapsulated in the RTF body of a message. Decompression stops as soon as the format is known,
+	*   which is normally within the RTF header.
+	*	@param	message	The Root Storage or embedded message entry for the message
+	*	@return	The format of the RTF body, or null if there is no RTF body or it is not valid compressed RTF
+	*	@throws	java.io.IOException	There was a problem reading the file.
+	*/
+	private RTFDeEncapsulator.Format rtfFormat(DirectoryEntry message)
+	throws
+		java.io.IOException
+	{
+		final RTFDeEncapsulator probe = new RTFDeEncapsulator(java.io.Writer.nullWriter());
+		try {
+			// Only the format is needed here; the body counts as decoded text when it is written
+			boolean hasRTF = msg.decompressRTF(message, new java.io.OutputStream() {
+				@Override
+				public void write(int b)
+				throws
+					java.io.IOException
+				{
+					probe.write(b);
+					if (probe.getFormat() != RTFDeEncapsulator.Format.UNKNOWN)
+						throw new FormatFoundException();
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len)
+				throws
+					java.io.IOException
+				{
+					for (int i = off; i < off + len; ++i)
+						write(b[i]);
+				}
+			}, false);
+			if (!hasRTF)
+				return null;
+		} catch (final FormatFoundException e) {
+			// Expected: the format is known, so there is no need to decompress the rest.
+		} catch (final CompressedRTFException e) {
+			return null;
+		}
+		return probe.getFormat();
+	}
+
+	/** Write the HTML or text encapsulated in the RTF body of a message.
+	*	@param	message	The Root Storage or embedded message entry for the message
+	*	@param	writer	The destination for the HTML or text
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*/
+	private void deEncapsulateRTF(DirectoryEntry message, java.io.Writer writer)
+	throws
+		java.io.IOException
+	{
+		RTFDeEncapsulator deEncapsulator = new RTFDeEncapsulator(writer);
+		try {
+			msg.decompressRTF(message, deEncapsulator);
+		} catch (final CompressedRTFException e) {
+			// The RTF is damaged; keep what was extracted before the problem was found.
+		}
+		deEncapsulator.flush();
+	}
+
+	/** Create a Reader for a string property substorage.
+	*	@param	properties	The properties of the entry holding the string, used to find the code page for PtypString8 values
+	*	@param	de		The string substorage
+	*	@return	A Reader for the string
+	*/
+	private java.io.Reader stringReader(Properties properties, DirectoryEntry de)
+	{
+		java.nio.charset.Charset charset = java.nio.charset.StandardCharsets.UTF_16LE;
+		if ((de.getPropertyTag() & DataType.PROPERTY_TYPE_MASK) != DataType.STRING) {
+			int codePage = properties.getInt(PropertyTags.PidTagMessageCodepage, 0);
+			if (codePage == 0)
+				codePage = properties.getInt(PropertyTags.PidTagInternetCodepage, 0);
+			charset = RTFDeEncapsulator.codePageCharset(codePage);
+		}
+		return msg.getTextReader(de, charset);
+	}
+
+	/** Copy characters, dropping the null characters which terminate strings in MSG files.
+	*	@param	reader	The source of the characters
+	*	@param	writer	The destination for the characters
+	*	@throws	java.io.IOException	There was a problem reading or writing.
+	*/
+	private static void copy(java.io.Reader reader, java.io.Writer writer)
+	throws
+		java.io.IOException
+	{
+		char[] buffer = new char[BUFFER_SIZE / 2];
+		int n;
+		while ((n = reader.read(buffer)) != -1){
+			int length = 0;
+			for (int i = 0; i < n; ++i){
+				if (buffer[i] != '\0')
+					buffer[length++] = buffer[i];
+			}
+			writer.write(buffer, 0, length);
+		}
+	}
+
+	/** Create a stream which base64-encodes data into the output, in lines of 76 characters. Closing the stream writes any
+	*   remaining encoded data but does not close the output.
+	*	@return	The base64 encoding stream
+	*/
+	private java.io.OutputStream base64Stream()
+	{
+		return java.util.Base64.getMimeEncoder().wrap(new java.io.FilterOutputStream(out) {
+			@Override
+			public void write(byte[] b, int off, int len)
+			throws
+				java.io.IOException
+			{
+				out.write(b, off, len);
+			}
+
+			@Override
+			public void close()
+			throws
+				java.io.IOException
+			{
+				flush();
+			}
+		});
+	}
+
+	/** Create a new multipart boundary. The boundary contains "=_", which cannot occur in base64-encoded data, so it does not need to
+	*   be checked against the content of the parts.
+	*	@return	A boundary which has not been used in the output
+	*/
+	private String nextBoundary()
+	{
+		return String.format("----=_Part_%d", ++boundaries);
+	}
+
+	/** Write a header field.
+	*	@param	name	The field name
+	*	@param	value	The field body, which must already be encoded and folded
+	*	@throws	java.io.IOException	There was a problem writing the output.
+	*/
+	private void header(String name, String value)
+	throws
+		java.io.IOException
+	{
+		write(name + ": " + value + CRLF);
+	}
+
+	/** Write an address list header field, if the list is not empty.
+	*	@param	name		The field name
+	*	@param	addresses	The encoded addresses
+	*	@throws	java.io.IOException	There was a problem writing the output.
+	*/
+	private void addressHeader(String name, java.util.ArrayList<String> addresses)
+	throws
+		java.io.IOException
+	{
+		if (addresses.isEmpty())
+			return;
+		header(name, String.join("," + CRLF + " ", addresses));
+	}
+
+	/** Write a string which contains only ASCII characters.
+	*	@param	s	The string to write
+	*	@throws	java.io.IOException	There was a problem writing the output.
+	*/
+	private void write(String s)
+	throws
+		java.io.IOException
+	{
+		out.write(s.getBytes(java.nio.charset.StandardCharsets.US_ASCII));
+	}
+
+	/** Create an address for a header field.
+	*	@param	name		The display name, or null if there is none
+	*	@param	smtpAddress	The SMTP address, or null if there is none
+	*	@param	emailAddress	The address in the sender's or recipient's address type, used if it looks like an SMTP address and
+	*				smtpAddress is null
+	*	@return	The encoded address, or null if there is neither a name nor an address
+	*/
+	private static String address(String name, String smtpAddress, String emailAddress)
+	{
+		String address = smtpAddress;
+		if (address == null && emailAddress != null && emailAddress.indexOf('@') != -1)
+			address = emailAddress;
+		if (address != null && needsEncoding(address))
+			address = null;
+
+		if (address == null) {
+			if (name == null)
+				return null;
+			// A group with no members shows the name without inventing an address.
+			return phrase(name) + ":;";
+		}
+
+		if (name == null || name.equalsIgnoreCase(address))
+			return address;
+		return phrase(name) + " <" + address + ">";
+	}
+
+	/** Encode a display name.
+	*	@param	name	The display name
+	*	@return	The name as an atom sequence, quoted string, or RFC 2047 encoded words
+	*/
+	private static String phrase(String name)
+	{
+		if (needsEncoding(name))
+			return encodedWords(name);
+
+		for (int i = 0; i < name.length(); ++i){
+			char c = name.charAt(i);
+			if (!Character.isLetterOrDigit(c) && ATOM_CHARS.indexOf(c) == -1)
+				return "\"" + name.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+		return name;
+	}
+
+	/** Encode and fold an unstructured header field body.
+	*	@param	name	The field name, used to find the length of the first line
+	*	@param	value	The field body
+	*	@return	The folded field body, using RFC 2047 encoded words if it contains non-ASCII or control characters
+	*/
+	private static String unstructured(String name, String value)
+	{
+		if (needsEncoding(value))
+			return encodedWords(value);
+
+		StringBuilder folded = new StringBuilder(value.length() + 8);
+		int lineLength = name.length() + 2;
+		for (String word: value.split(" ", -1)){
+			if (folded.length() > 0) {
+				if (lineLength + 1 + word.length() > MAX_LINE_LENGTH && lineLength > 1) {
+					folded.append(CRLF);
+					lineLength = 0;
+				}
+				folded.append(' ');
+				++lineLength;
+			}
+			folded.append(word);
+			lineLength += word.length();
+		}
+		return folded.toString();
+	}
+
+	/** Encode text as a sequence of RFC 2047 encoded words, one per folded line.
+	*	@param	text	The text to encode
+	*	@return	The encoded words
+	*/
+	private static String encodedWords(String text)
+	{
+		java.util.Base64.Encoder encoder = java.util.Base64.getEncoder();
+		StringBuilder words = new StringBuilder();
+		int start = 0;
+		while (start < text.length()){
+			int end = start;
+			int bytes = 0;
+			while (end < text.length()){
+				int codePoint = text.codePointAt(end);
+				int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+				if (bytes + length > MAX_ENCODED_WORD_BYTES)
+					break;
+				bytes += length;
+				end += Character.charCount(codePoint);
+			}
+
+			if (words.length() > 0)
+				words.append(CRLF).append(' ');
+			words.append("=?UTF-8?B?");
+			words.append(encoder.encodeToString(text.substring(start, end).getBytes(java.nio.charset.StandardCharsets.UTF_8)));
+			words.append("?=");
+			start = end;
+		}
+		return words.toString();
+	}
+
+	/** Encode a MIME parameter.
+	*	@param	name	The parameter name
+	*	@param	value	The parameter value
+	*	@return	The parameter as a quoted string, or using RFC 2231 encoding if it contains non-ASCII or control characters
+	*/
+	private static String parameter(String name, String value)
+	{
+		if (!needsEncoding(value))
+			return name + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+
+		StringBuilder encoded = new StringBuilder(name).append("*=UTF-8''");
+		for (byte b: value.getBytes(java.nio.charset.StandardCharsets.UTF_8)){
+			char c = (char)(b & 0xff);
+			if (c < 0x80 && (Character.isLetterOrDigit(c) || ATTRIBUTE_CHARS.indexOf(c) != -1))
+				encoded.append(c);
+			else
+				encoded.append(String.format("%%%02X", b & 0xff));
+		}
+		return encoded.toString();
+	}
+
+	/** Does the given header text need to be encoded?
+	*	@param	text	The text to check
+	*	@return	true if the text contains non-ASCII or control characters, or a sequence which could be mistaken for an encoded word
+	*/
+	private static boolean needsEncoding(String text)
+	{
+		for (int i = 0; i < text.length(); ++i){
+			char c = text.charAt(i);
+			if (c < 0x20 || c > 0x7e)
+				return true;
+		}
+		return text.contains("=?");
+	}
+
+	/** Test this class by converting each given file to RFC 5322 / MIME format and writing it to the standard output.
+	*	@param	args	The msg file(s) to convert.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.MIMEConverter msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					convert(msg, System.out);
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
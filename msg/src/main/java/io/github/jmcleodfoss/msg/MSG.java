@@ -2,6 +2,12 @@ package io.github.jmcleodfoss.msg;
 
 /** Consolidated public interface for reading MSG files (this will probably work for other CFB
 *   files but has special handling for some information found only in MSG files).
+*   <p>
+*   An MSG object may also be a view of a message embedded in another message, as returned by {@link #openEmbedded}. A view
+*   shares the memory-mapped file and the parsed allocation tables, directory, and named properties of the MSG object which
+*   opened the file; its message-level methods (such as {@link #getDirectoryTree}, {@link #attachments}, and {@link #matches})
+*   apply to the embedded message, while its file-level methods (such as {@link #headerData} and {@link #analyzeLayout}) still
+*   describe the whole file.
 */
 public class MSG
 {
@@ -32,6 +38,38 @@ public class MSG
 	/** The named properties */
 	private NamedProperties namedProperties;
 
+	/** The resource limits for reading the file */
+	private MsgLimits limits;
+
+	/** The number of characters of text decoded so far
+	*	@see MsgLimits#maxDecodedText
+	*/
+	private long decodedText;
+
+	/** The listener to report events to, or null if events are not being reported */
+	private MsgListener listener;
+
+	/** The MSG object which opened the file; this is the object itself unless it is a view of an embedded message */
+	private MSG container;
+
+	/** The storage for the message: the file's root storage, or the storage holding an embedded message */
+	private DirectoryEntry root;
+
+	/** The attachment entries in the message (including those in any embedded messages it contains) */
+	private java.util.ArrayList<DirectoryEntry> attachmentEntries;
+
+	/** The recipient entries in the message (including those in any embedded messages it contains) */
+	private java.util.ArrayList<DirectoryEntry> recipientEntries;
+
+	/** The cache of decoded properties and substorage values, or null if they are not cached; only the container's is used */
+	private PropertyCache propertyCache;
+
+	/** The message's Properties stream, read the first time a named property is looked up */
+	private byte[] namedPropertyRecords;
+
+	/** The offsets of the named property records in namedPropertyRecords, indexed by property ID, or null if not yet built */
+	private java.util.HashMap<Integer, Integer> namedPropertyOffsets;
+
 	/** Create a FileChannel for the given filename and read in the
 	*	header, DIFAT, etc.
 	*	@param	fn	The name of the file to read.
@@ -45,6 +83,76 @@ public class MSG
 		UnknownStorageTypeException,
 		java.io.IOException
 	{
+		this(fn, null);
+	}
+
+	/** Create a FileChannel for the given filename and read in the
+	*	header, DIFAT, etc., checking the structure of the file as it is read.
+	*	@param	fn		The name of the file to read.
+	*	@param	validator	The validator to check the file structure with, or null to read the file without checking it
+	*	@throws	CorruptFileException	The file structure is invalid or exceeds one of the validator's limits.
+	*	@throws	NotCFBFileException	The input stream does not contain a PST file.
+	*	@throws	UnknownStorageTypeException	The object type is not one of UNKNOWN, STORAGE, STREAM, or ROOT_STORAGE.
+	* 	@throws	java.io.IOException	There was an I/O error reading the input stream.
+	*/
+	public MSG(String fn, Validator validator)
+	throws
+		CorruptFileException,
+		NotCFBFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		this(fn, validator, new MsgLimits());
+	}
+
+	/** Create a FileChannel for the given filename and read in the
+	*	header, DIFAT, etc., checking the structure of the file as it is read and limiting the resources used to read it.
+	*	@param	fn		The name of the file to read.
+	*	@param	validator	The validator to check the file structure with, or null to read the file without checking it
+	*	@param	limits		The resource limits to enforce while opening the file and reading its contents
+	*	@throws	CorruptFileException	The file structure is invalid or exceeds one of the validator's limits.
+	*	@throws	LimitExceededException	Opening the file would exceed one of the resource limits.
+	*	@throws	NotCFBFileException	The input stream does not contain a PST file.
+	*	@throws	UnknownStorageTypeException	The object type is not one of UNKNOWN, STORAGE, STREAM, or ROOT_STORAGE.
+	* 	@throws	java.io.IOException	There was an I/O error reading the input stream.
+	*/
+	public MSG(String fn, Validator validator, MsgLimits limits)
+	throws
+		CorruptFileException,
+		NotCFBFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		this(fn, validator, limits, null);
+	}
+
+	/** Create a FileChannel for the given filename and read in the
+	*	header, DIFAT, etc., checking the structure of the file as it is read, limiting the resources used to read it, and
+	*	reporting the time taken by each stage and the data subsequently read to a listener.
+	*	@param	fn		The name of the file to read.
+	*	@param	validator	The validator to check the file structure with, or null to read the file without checking it
+	*	@param	limits		The resource limits to enforce while opening the file and reading its contents
+	*	@param	listener	The listener to report events to, or null to read the file without reporting events
+	*	@throws	CorruptFileException	The file structure is invalid or exceeds one of the validator's limits.
+	*	@throws	LimitExceededException	Opening the file would exceed one of the resource limits.
+	*	@throws	NotCFBFileException	The input stream does not contain a PST file.
+	*	@throws	UnknownStorageTypeException	The object type is not one of UNKNOWN, STORAGE, STREAM, or ROOT_STORAGE.
+	* 	@throws	java.io.IOException	There was an I/O error reading the input stream.
+	*/
+	public MSG(String fn, Validator validator, MsgLimits limits, MsgListener listener)
+	throws
+		CorruptFileException,
+		NotCFBFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		this.limits = limits;
+		this.listener = listener;
+		container = this;
+		FlightRecorderEvents.Open openEvent = new FlightRecorderEvents.Open();
+		openEvent.begin();
+		final long openStart = listener != null ? System.nanoTime() : 0;
+		long start = openStart;
 		stream = new java.io.FileInputStream(fn);
 		try {
 			fc = stream.getChannel();
@@ -52,12 +160,47 @@ public class MSG
 				mbb = fc.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, fc.size());
 				mbb.order(java.nio.ByteOrder.LITTLE_ENDIAN);
 
+				if (validator != null)
+					validator.checkFileSize(fc.size());
 				header = new Header(mbb, fc.size());
+				boolean[] usedSectors = null;
+				if (validator != null)
+					validator.checkHeader(header);
+				start = stageCompleted(MsgListener.Stage.HEADER, start);
+				if (validator != null)
+					usedSectors = validator.checkDIFAT(mbb, header);
 				difat = new DIFAT(mbb, header);
-				fat = new FAT(mbb, header, difat);
-				directory = new Directory(mbb, header, fat);
-				miniFAT = new MiniFAT(mbb, header, fat, directory);
-				namedProperties = new NamedProperties(mbb, header, fat, directory, miniFAT);
+				start = stageCompleted(MsgListener.Stage.DIFAT, start);
+				fat = new FAT(mbb, header, difat, limits);
+				start = stageCompleted(MsgListener.Stage.FAT, start);
+				if (validator != null)
+					validator.checkDirectory(mbb, header, fat, usedSectors);
+				FlightRecorderEvents.DirectoryBuild directoryEvent = new FlightRecorderEvents.DirectoryBuild();
+				directoryEvent.begin();
+				directory = new Directory(mbb, header, fat, limits);
+				if (directoryEvent.shouldCommit()) {
+					directoryEvent.fileName = fn;
+					directoryEvent.directoryEntries = directory.entries.size();
+					directoryEvent.commit();
+				}
+				start = stageCompleted(MsgListener.Stage.DIRECTORY, start);
+				root = directory.entries.get(0);
+				attachmentEntries = directory.attachmentEntries;
+				recipientEntries = directory.recipientEntries;
+				miniFAT = new MiniFAT(mbb, header, fat, directory, limits);
+				if (validator != null)
+					validator.checkMiniStreams(header, miniFAT, directory);
+				start = stageCompleted(MsgListener.Stage.MINI_FAT, start);
+				namedProperties = new NamedProperties(mbb, header, fat, directory, miniFAT, limits);
+				start = stageCompleted(MsgListener.Stage.NAMED_PROPERTIES, start);
+				if (listener != null)
+					listener.fileOpened(fn, start - openStart);
+				if (openEvent.shouldCommit()) {
+					openEvent.fileName = fn;
+					openEvent.fileSize = header.fileSize();
+					openEvent.directoryEntries = directory.entries.size();
+					openEvent.commit();
+				}
 			} catch (Exception e) {
 				fc.close();
 				throw e;
@@ -68,23 +211,48 @@ public class MSG
 		}
 	}
 
-	/** Get an iterator through all attachments in the msg file
+	/** Create a view of an embedded message which shares everything read from the file with the given MSG object.
+	*	@param	parent	The MSG object the embedded message was found in
+	*	@param	root	The storage holding the embedded message
+	*/
+	private MSG(MSG parent, DirectoryEntry root)
+	{
+		container = parent.container;
+		mbb = parent.mbb;
+		header = parent.header;
+		difat = parent.difat;
+		fat = parent.fat;
+		directory = parent.directory;
+		miniFAT = parent.miniFAT;
+		namedProperties = parent.namedProperties;
+		limits = parent.limits;
+		listener = parent.listener;
+		this.root = root;
+		attachmentEntries = entriesInMessage(directory.attachmentEntries);
+		recipientEntries = entriesInMessage(directory.recipientEntries);
+	}
+
+	/** Get an iterator through all attachments in the message, including those in any embedded messages
 	*	@return	An iterator through the attachments found when reading in the directory
 	*	@see	Directory#attachmentEntries
 	*	@see	DirectoryEntryDataIterator
 	*/
 	public java.util.Iterator<DirectoryEntryData> attachments()
 	{
-		return new DirectoryEntryDataIterator(directory.attachmentEntries.iterator(), directory, namedProperties);
+		return new DirectoryEntryDataIterator(attachmentEntries.iterator(), directory, namedProperties);
 	}
 
-	/** Close the file.
+	/** Close the file. Closing a view of an embedded message does nothing; the file stays open until the MSG object which
+	*   opened it is closed, after which its views may no longer be used.
 	* 	@throws	java.io.IOException	There was a problem closing the file.
 	*/
 	public void close()
 	throws
 		java.io.IOException
 	{
+		if (container != this)
+			return;
+
 		try {
 			fc.close();
 		} finally {
@@ -97,12 +265,270 @@ public class MSG
 	*	@param	ded	The entry to convert the data for.
 	*	@param	data	The file contents
 	*	@return	A string showing the file contents. This will be hex bytes if the field is not text.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
 	*/
 	public String convertFileToString(DirectoryEntryData ded, byte[] data)
 	{
+		countDecodedText(ded.entry.getDataAsTextLength(data));
 		return ded.entry.getDataAsText(data);
 	}
 
+	/** Add text about to be decoded to the total, checking it against the limit. Callers count the largest number of characters
+	*   the text can decode to before decoding it, so text which would take the total over the limit is never decoded.
+	*	@param	characters	The maximum number of characters the text decodes to
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*	@see MsgLimits#maxDecodedText
+	*/
+	void countDecodedText(long characters)
+	{
+		// Text decoded through views of embedded messages counts against the total for the file
+		limits.checkDecodedText(container.decodedText + characters);
+		container.decodedText += characters;
+	}
+
+	/** Get a Reader for a string property substorage, counting the text against the decoded text limit before any of it is
+	*   decoded.
+	*	@param	de	The string substorage
+	*	@param	charset	The character set of the string
+	*	@return	A Reader for the string
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*/
+	java.io.Reader getTextReader(DirectoryEntry de, java.nio.charset.Charset charset)
+	{
+		// No character set decodes to more characters than it has bytes, and UTF-16 has two bytes per character
+		countDecodedText(charset.equals(java.nio.charset.StandardCharsets.UTF_16LE) ? (de.streamSize + 1) / 2 : de.streamSize);
+		return new java.io.InputStreamReader(getInputStream(de), charset);
+	}
+
+	/** Find the entries in a list which are in this message.
+	*	@param	entries	The entries to search, from anywhere in the file
+	*	@return	The entries which are descendants of the message's storage, in the same order
+	*/
+	private java.util.ArrayList<DirectoryEntry> entriesInMessage(java.util.ArrayList<DirectoryEntry> entries)
+	{
+		java.util.ArrayList<DirectoryEntry> inMessage = new java.util.ArrayList<DirectoryEntry>();
+		for (DirectoryEntry de: entries){
+			DirectoryEntry ancestor = directory.parents.get(de);
+			while (ancestor != null && ancestor != root)
+				ancestor = directory.parents.get(ancestor);
+			if (ancestor != null)
+				inMessage.add(de);
+		}
+		return inMessage;
+	}
+
+	/** Report the completion of a stage of opening the file to the listener, if there is one.
+	*	@param	stage	The stage which has been completed
+	*	@param	start	The time the stage started, as returned by System.nanoTime
+	*	@return	The time the stage completed, for use as the start of the next stage, or 0 if there is no listener
+	*/
+	private long stageCompleted(MsgListener.Stage stage, long start)
+	{
+		if (listener == null)
+			return 0;
+		long now = System.nanoTime();
+		listener.stageCompleted(stage, now - start);
+		return now;
+	}
+
+	/** Get the number of sectors or mini sectors occupied by a stream.
+	*	@param	de	The stream to get the number of sectors for
+	*	@return	The number of mini sectors the stream occupies if it is in the mini stream, otherwise the number of sectors
+	*/
+	private int sectorsOccupied(DirectoryEntry de)
+	{
+		long sectorSize = header.isInMiniStream(de.streamSize) ? header.miniSectorSize : header.sectorSize;
+		return (int)((de.streamSize + sectorSize - 1) / sectorSize);
+	}
+
+	/** Report the reading of a stream to the listener, if there is one.
+	*	@param	de	The stream being read
+	*/
+	private void streamRead(DirectoryEntry de)
+	{
+		if (listener != null)
+			listener.streamRead(de.directoryEntryName, de.streamSize, sectorsOccupied(de), header.isInMiniStream(de.streamSize));
+	}
+
+	/** Read the contents of the given entry, reporting the read to the listener and recording it as a JFR event.
+	*	@param	de	The entry to retrieve the contents of.
+	*	@return	The bytes in the entry.
+	*/
+	private byte[] readContent(DirectoryEntry de)
+	{
+		streamRead(de);
+		FlightRecorderEvents.StreamRead event = new FlightRecorderEvents.StreamRead();
+		event.begin();
+		byte[] data = de.getContent(mbb, header, fat, miniFAT);
+		if (event.shouldCommit()) {
+			event.entryName = de.directoryEntryName;
+			event.size = de.streamSize;
+			event.inMiniStream = header.isInMiniStream(de.streamSize);
+			event.sectors = sectorsOccupied(de);
+			event.commit();
+		}
+		return data;
+	}
+
+	/** Report the number of properties decoded from a properties stream to the listener, if there is one, and record the
+	*   decoding as a JFR event.
+	*	@param	event	The JFR event for the decoding, begun before the properties were decoded
+	*	@param	parent	The storage the properties belong to
+	*	@param	data	The properties stream
+	*	@param	count	The number of properties decoded
+	*/
+	private void propertiesDecoded(FlightRecorderEvents.PropertiesDecode event, DirectoryEntry parent, byte[] data, int count)
+	{
+		if (listener != null)
+			listener.propertiesDecoded(count);
+		if (event.shouldCommit()) {
+			event.storageName = parent.directoryEntryName;
+			event.size = data.length;
+			event.properties = count;
+			event.commit();
+		}
+	}
+
+	/** Create and begin a JFR event for decoding a properties stream.
+	*	@return	The begun event
+	*	@see	#propertiesDecoded
+	*/
+	private static FlightRecorderEvents.PropertiesDecode beginPropertiesDecode()
+	{
+		FlightRecorderEvents.PropertiesDecode event = new FlightRecorderEvents.PropertiesDecode();
+		event.begin();
+		return event;
+	}
+
+	/** Decompress the RTF body of the top-level message.
+	*	@param	out	The stream to write the decompressed RTF to
+	*	@return	true if the message has an RTF body, false otherwise
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*	@see	CompressedRTF
+	*/
+	public boolean decompressRTF(java.io.OutputStream out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		return decompressRTF(root, out);
+	}
+
+	/** Decompress the RTF body of the given message.
+	*	@param	ded	The Root Storage or embedded message entry whose RTF body is to be decompressed
+	*	@param	out	The stream to write the decompressed RTF to
+	*	@return	true if the message has an RTF body, false otherwise
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*	@see	CompressedRTF
+	*/
+	public boolean decompressRTF(DirectoryEntryData ded, java.io.OutputStream out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		return decompressRTF(ded.entry, out);
+	}
+
+	/** Decompress the RTF body of the given message, counting the size of the decompressed RTF against the decoded text limit
+	*   before decompressing it.
+	*	@param	de	The Root Storage or embedded message entry whose RTF body is to be decompressed
+	*	@param	out	The stream to write the decompressed RTF to
+	*	@return	true if the message has an RTF body, false otherwise
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*/
+	boolean decompressRTF(DirectoryEntry de, java.io.OutputStream out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		return decompressRTF(de, out, true);
+	}
+
+	/** Decompress the RTF body of the given message.
+	*	@param	de	The Root Storage or embedded message entry whose RTF body is to be decompressed
+	*	@param	out	The stream to write the decompressed RTF to
+	*	@param	countText	Count the decompressed RTF against the decoded text limit? This is false only for callers which
+	*				stop decompressing within the first few bytes.
+	*	@return	true if the message has an RTF body, false otherwise
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*/
+	boolean decompressRTF(DirectoryEntry de, java.io.OutputStream out, boolean countText)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		DirectoryEntry rtf = directory.getChild(de, PropertyTags.PidTagRtfCompressed);
+		if (rtf == null)
+			return false;
+
+		if (countText)
+			countDecodedText(CompressedRTF.rawSize(new EntryInputStream(rtf, mbb, header, fat, miniFAT)));
+		CompressedRTF.decompress(new EntryInputStream(rtf, mbb, header, fat, miniFAT), out);
+		return true;
+	}
+
+	/** Extract the HTML or plain text encapsulated in the RTF body of the top-level message.
+	*	@param	out	The destination for the encapsulated HTML or text
+	*	@return	The type of content written to out, or null if the message has no RTF body
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*	@see	RTFDeEncapsulator
+	*/
+	public RTFDeEncapsulator.Format deEncapsulateRTF(java.io.Writer out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		return deEncapsulateRTF(root, out);
+	}
+
+	/** Extract the HTML or plain text encapsulated in the RTF body of the given message.
+	*	@param	ded	The Root Storage or embedded message entry whose RTF body is to be de-encapsulated
+	*	@param	out	The destination for the encapsulated HTML or text
+	*	@return	The type of content written to out, or null if the message has no RTF body
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*	@see	RTFDeEncapsulator
+	*/
+	public RTFDeEncapsulator.Format deEncapsulateRTF(DirectoryEntryData ded, java.io.Writer out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		return deEncapsulateRTF(ded.entry, out);
+	}
+
+	/** Extract the HTML or plain text encapsulated in the RTF body of the given message.
+	*	@param	de	The Root Storage or embedded message entry whose RTF body is to be de-encapsulated
+	*	@param	out	The destination for the encapsulated HTML or text
+	*	@return	The type of content written to out, or null if the message has no RTF body
+	*	@throws	CompressedRTFException	The PidTagRtfCompressed property does not contain valid compressed RTF.
+	*	@throws	java.io.IOException	There was a problem reading the file or writing the output.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*/
+	private RTFDeEncapsulator.Format deEncapsulateRTF(DirectoryEntry de, java.io.Writer out)
+	throws
+		CompressedRTFException,
+		java.io.IOException
+	{
+		RTFDeEncapsulator deEncapsulator = new RTFDeEncapsulator(out);
+		if (!decompressRTF(de, deEncapsulator))
+			return null;
+
+		deEncapsulator.flush();
+		return deEncapsulator.getFormat();
+	}
+
 	/** Get the data from the DIFAT, as an array of key-value pairs.
 	*	@return	A KVP array of the DIFAT entries, with the DIFAT indexas the key and the corresponding FAT sector as the value
 	*/
@@ -177,7 +603,7 @@ public class MSG
 	*/
 	public DirectoryEntryData getDirectoryTree()
 	{
-		return new DirectoryEntryData(directory.entries.get(0), directory, namedProperties);
+		return new DirectoryEntryData(root, directory, namedProperties);
 	}
 
 	/** Get the property entry for this entry's parent as a HashMap of properties indexed by the property tag.
@@ -206,7 +632,11 @@ public class MSG
 	*/
 	public java.util.HashMap<Integer, Property> parsePropertiesAsHashMap(DirectoryEntryData ded, byte[] data)
 	{
-		return ded.entry.propertiesAsHashMap(data, directory.parents.get(ded.entry), namedProperties);
+		FlightRecorderEvents.PropertiesDecode event = beginPropertiesDecode();
+		DirectoryEntry parent = directory.parents.get(ded.entry);
+		java.util.HashMap<Integer, Property> properties = ded.entry.propertiesAsHashMap(data, parent, namedProperties);
+		propertiesDecoded(event, parent, data, properties.size());
+		return properties;
 	}
 
 	/** Parse the given data for a property entry and return an ArrayList of properties.
@@ -216,7 +646,11 @@ public class MSG
 	*/
 	public java.util.ArrayList<Property> parsePropertiesAsList(DirectoryEntryData ded, byte[] data)
 	{
-		return ded.entry.propertiesAsList(data, directory.parents.get(ded.entry), namedProperties);
+		FlightRecorderEvents.PropertiesDecode event = beginPropertiesDecode();
+		DirectoryEntry parent = directory.parents.get(ded.entry);
+		java.util.ArrayList<Property> properties = ded.entry.propertiesAsList(data, parent, namedProperties);
+		propertiesDecoded(event, parent, data, properties.size());
+		return properties;
 	}
 
 	/** Get the properties for a given Root Storage, Attachment, or Recipient entry as a HashMap indexed by the property tag
@@ -225,16 +659,44 @@ public class MSG
 	*/
 	private java.util.HashMap<Integer, Property> getPropertiesAsHashMap(DirectoryEntry de)
 	{
-		java.util.Iterator<DirectoryEntry> iter = directory.propertyEntries.iterator();
-		while (iter.hasNext())
-		{
-			DirectoryEntry propertiesEntry = iter.next();
-			if (directory.parents.get(propertiesEntry).equals(de)) {
-				byte[] data = propertiesEntry.getContent(mbb, header, fat, miniFAT);
-				return propertiesEntry.propertiesAsHashMap(data, de, namedProperties);
-			}
+		DirectoryEntry propertiesEntry = directory.getPropertiesEntry(de);
+		if (propertiesEntry == null)
+			return new java.util.HashMap<Integer, Property>();
+
+		if (container.propertyCache != null) {
+			java.util.HashMap<Integer, Property> properties = new java.util.HashMap<Integer, Property>();
+			for (Property p: cachedProperties(propertiesEntry, de))
+				properties.put(p.propertyTag, p);
+			return properties;
 		}
-		return new java.util.HashMap<Integer, Property>();
+
+		byte[] data = readContent(propertiesEntry);
+		FlightRecorderEvents.PropertiesDecode event = beginPropertiesDecode();
+		java.util.HashMap<Integer, Property> properties = propertiesEntry.propertiesAsHashMap(data, de, namedProperties);
+		propertiesDecoded(event, de, data, properties.size());
+		return properties;
+	}
+
+	/** Get the properties decoded from a Properties stream from the property cache, decoding and caching them if necessary.
+	*	@param	propertiesEntry	The Properties stream
+	*	@param	parent		The Root Storage, Attachment, Recipient, or embedded message entry the stream belongs to
+	*	@return	The cached properties, which must not be modified
+	*/
+	private java.util.ArrayList<Property> cachedProperties(DirectoryEntry propertiesEntry, DirectoryEntry parent)
+	{
+		PropertyCache cache = container.propertyCache;
+		java.util.ArrayList<Property> properties = cache.getProperties(propertiesEntry);
+		if (listener != null)
+			listener.cacheLookup(PropertyCache.CACHE_NAME, properties != null);
+		if (properties != null)
+			return properties;
+
+		byte[] data = readContent(propertiesEntry);
+		FlightRecorderEvents.PropertiesDecode event = beginPropertiesDecode();
+		properties = propertiesEntry.propertiesAsList(data, parent, namedProperties);
+		propertiesDecoded(event, parent, data, properties.size());
+		cache.putProperties(propertiesEntry, properties);
+		return properties;
 	}
 
 	/** Get the properties for a given Root Storage, Attachment, or Recipient entry as a HashMap indexed by the property tag
@@ -252,21 +714,115 @@ public class MSG
 	*/
 	public java.util.ArrayList<Property> getPropertiesAsList(DirectoryEntryData ded)
 	{
-		java.util.Iterator<DirectoryEntry> iter = directory.propertyEntries.iterator();
-		while (iter.hasNext())
-		{
-			DirectoryEntry propertiesEntry = iter.next();
-			if (directory.parents.get(propertiesEntry).equals(ded.entry)) {
-				byte[] data = propertiesEntry.getContent(mbb, header, fat, miniFAT);
-				return propertiesEntry.propertiesAsList(data, ded.entry, namedProperties);
-			}
-		}
-		return new java.util.ArrayList<Property>();
+		DirectoryEntry propertiesEntry = directory.getPropertiesEntry(ded.entry);
+		if (propertiesEntry == null)
+			return new java.util.ArrayList<Property>();
+
+		if (container.propertyCache != null)
+			return new java.util.ArrayList<Property>(cachedProperties(propertiesEntry, ded.entry));
+
+		byte[] data = readContent(propertiesEntry);
+		FlightRecorderEvents.PropertiesDecode event = beginPropertiesDecode();
+		java.util.ArrayList<Property> properties = propertiesEntry.propertiesAsList(data, ded.entry, namedProperties);
+		propertiesDecoded(event, ded.entry, data, properties.size());
+		return properties;
+	}
+
+	/** Get the raw contents of the Properties entry for a given Root Storage, Attachment, or Recipient entry.
+	*	@param	de	The entry to retrieve the properties stream for.
+	*	@return	The bytes of the entry's Properties stream, or null if the entry has no Properties stream.
+	*/
+	byte[] getPropertiesData(DirectoryEntry de)
+	{
+		DirectoryEntry propertiesEntry = directory.getPropertiesEntry(de);
+		if (propertiesEntry == null)
+			return null;
+		return readContent(propertiesEntry);
+	}
+
+	/** Get the contents of the given entry.
+	*	@param	de	The entry to retrieve the contents of.
+	*	@return	The bytes in the entry.
+	*/
+	byte[] getContent(DirectoryEntry de)
+	{
+		return readContent(de);
+	}
+
+	/** Get an InputStream for the contents of the given entry.
+	*	@param	de	The entry to retrieve the contents of.
+	*	@return	An InputStream for the bytes in the entry.
+	*/
+	java.io.InputStream getInputStream(DirectoryEntry de)
+	{
+		streamRead(de);
+		return new EntryInputStream(de, mbb, header, fat, miniFAT);
+	}
+
+	/** Get a channel for the contents of the given entry.
+	*	@param	de	The entry to retrieve the contents of.
+	*	@return	A channel for the bytes in the entry.
+	*/
+	java.nio.channels.ReadableByteChannel getChannel(DirectoryEntry de)
+	{
+		streamRead(de);
+		return new EntryChannel(de, mbb, header, fat, miniFAT);
+	}
+
+	/** Is the given entry an Attachment object storage?
+	*	@param	de	The entry to check
+	*	@return	true if the entry is an attachment, false otherwise
+	*/
+	boolean isAttachment(DirectoryEntry de)
+	{
+		return directory.attachmentEntries.contains(de);
+	}
+
+	/** Is the given entry a Recipient object storage?
+	*	@param	de	The entry to check
+	*	@return	true if the entry is a recipient, false otherwise
+	*/
+	boolean isRecipient(DirectoryEntry de)
+	{
+		return directory.recipientEntries.contains(de);
+	}
+
+	/** Get the children of the given entry.
+	*	@param	de	The entry to retrieve the children of.
+	*	@return	The (possibly empty) list of children of the entry.
+	*/
+	java.util.ArrayList<DirectoryEntry> getChildren(DirectoryEntry de)
+	{
+		return directory.getChildren(de);
+	}
+
+	/** Get the name of a property from the canonical list of property tags or, for named properties, from the file's named
+	*   property mapping.
+	*	@param	propertyTag	The property tag to look up. String properties stored as PtypString are also found under their
+	*				PtypString8 tag, and vice versa.
+	*	@return	The name of the property, or null if it is not a known property
+	*/
+	String getPropertyName(int propertyTag)
+	{
+		String name = PropertyTags.find(propertyTag);
+		if (name != null)
+			return name;
+
+		int propertyType = propertyTag & DataType.PROPERTY_TYPE_MASK;
+		if (propertyType == DataType.STRING || propertyType == DataType.STRING8)
+			name = PropertyTags.find(propertyTag ^ (DataType.STRING ^ DataType.STRING8));
+		if (name != null)
+			return name;
+
+		if ((propertyTag & 0x80000000) != 0)
+			return namedProperties.getPropertyName((propertyTag >>> 16) & 0x7fff);
+		return null;
 	}
 
 	/** Retrieve the value for a property, as a String
 	*	@param	property	The property to retrieve the value of
 	*	@return	A String showing the property's value.
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
 	*/
 	public String getPropertyValue(Property property)
 	{
@@ -277,13 +833,49 @@ public class MSG
 		while (iter.hasNext()) {
 			DirectoryEntry de = iter.next();
 			if (de.getPropertyTag() == property.propertyTag) {
-				byte[] data = de.getContent(mbb, header, fat, miniFAT);
-				return de.getDataAsText(data);
+				PropertyCache cache = container.propertyCache;
+				if (cache != null) {
+					String value = cache.getValue(de);
+					if (listener != null)
+						listener.cacheLookup(PropertyCache.CACHE_NAME, value != null);
+					if (value != null) {
+						countDecodedText(value.length());
+						return value;
+					}
+				}
+
+				byte[] data = readContent(de);
+				countDecodedText(de.getDataAsTextLength(data));
+				String value = de.getDataAsText(data);
+				if (cache != null)
+					cache.putValue(de, value);
+				return value;
 			}
 		}
 		return null;
 	}
 
+	/** Does the message match the given filter?
+	*	@param	filter	The filter to apply to the message's properties
+	*	@return	true if the top-level message satisfies every clause in the filter, false otherwise
+	*	@see	MessageFilter
+	*/
+	public boolean matches(MessageFilter filter)
+	{
+		return filter.matches(this, root);
+	}
+
+	/** Does the given Root Storage, Attachment, or Recipient entry match the given filter?
+	*	@param	ded	The entry whose properties the filter is applied to
+	*	@param	filter	The filter to apply to the entry's properties
+	*	@return	true if the entry satisfies every clause in the filter, false otherwise
+	*	@see	MessageFilter
+	*/
+	public boolean matches(DirectoryEntryData ded, MessageFilter filter)
+	{
+		return filter.matches(this, ded.entry);
+	}
+
 	/** Is the given directory entry a Root Storage Object?
 	*	@param	ded	The directory entry
 	*	@return	true if this entry is a Root Storage Object, false otherwise.
@@ -339,10 +931,31 @@ public class MSG
 	/** Get the file pointed to by the given directory entry index
 	*	@param	ded	The entry to retrieve the file for
 	*	@return	An array of the bytes in the file.
+	*	@throws	LimitExceededException	The file is larger than the allocation limit.
 	*/
 	public byte[] getFile(DirectoryEntryData ded)
 	{
-		return ded.entry.getContent(mbb, header, fat, miniFAT);
+		return readContent(ded.entry);
+	}
+
+	/** Get an InputStream for the file pointed to by the given directory entry. Unlike {@link #getFile}, the contents are read from
+	*   the file a sector at a time as the stream is read, rather than all at once.
+	*	@param	ded	The entry to retrieve the file for
+	*	@return	An InputStream for the bytes in the file.
+	*/
+	public java.io.InputStream getInputStream(DirectoryEntryData ded)
+	{
+		return getInputStream(ded.entry);
+	}
+
+	/** Get a channel for the file pointed to by the given directory entry. Like {@link #getInputStream}, the contents are read from
+	*   the file as the channel is read, but runs of adjacent sectors are copied in a single transfer.
+	*	@param	ded	The entry to retrieve the file for
+	*	@return	A channel for the bytes in the file.
+	*/
+	public java.nio.channels.ReadableByteChannel getChannel(DirectoryEntryData ded)
+	{
+		return getChannel(ded.entry);
 	}
 
 	/** Get the mini FAT data as a table consisting of the mini FAT sectors in the first column, and the data in the second.
@@ -376,7 +989,16 @@ public class MSG
 	*/
 	public byte[] getRawDirectoryEntry(DirectoryEntryData ded)
 	{
-		mbb.position(ded.entry.directoryEntryPosition);
+		return getRawDirectoryEntry(ded.entry);
+	}
+
+	/** Get the raw bytes for the requested directory entry
+	*	@param	de	The entry to retrieve data for
+	*	@return	An array of the bytes in the directory entry.
+	*/
+	byte[] getRawDirectoryEntry(DirectoryEntry de)
+	{
+		mbb.position(de.directoryEntryPosition);
 		byte[] data = new byte[DirectoryEntry.SIZE];
 		mbb.get(data);
 		return data;
@@ -425,9 +1047,10 @@ public class MSG
 	*/
 	public String[] namedPropertiesGUIDs()
 	{
-		String[] guidStrings = new String[namedProperties.guids.length];
-		for (int i = 0; i < namedProperties.guids.length; ++i)
-			guidStrings[i] = namedProperties.guids[i].toString();
+		GUID[] guids = namedProperties.guids();
+		String[] guidStrings = new String[guids.length];
+		for (int i = 0; i < guids.length; ++i)
+			guidStrings[i] = guids[i].toString();
 		return guidStrings;
 	}
 
@@ -453,13 +1076,82 @@ public class MSG
 	public KVPArray<Integer, String> namedPropertiesStrings()
 	{
 		KVPArray<Integer, String> a = new KVPArray<Integer, String>();
-		for (java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = namedProperties.stringsByOffset.entrySet().iterator(); iter.hasNext(); ){
+		for (java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = namedProperties.stringsByOffset().entrySet().iterator(); iter.hasNext(); ){
 			java.util.Map.Entry<Integer, String> entry = iter.next();
 			a.add(entry.getKey(), entry.getValue());
 		}
 		return a;
 	}
 
+	/** Get a numerical named property of the message, such as PidLidAppointmentStartWhole, without decoding the message's other
+	*   properties. The named property is found through indexes of the file's named property entries and of the message's
+	*   named property records, which are built the first time a named property is looked up.
+	*	@param	propertySet	The property set GUID, either in the form returned by {@link #namedPropertiesGUIDs}, or the name of
+	*				a well-known property set such as "PSETID_APPOINTMENT"
+	*	@param	lid		The LID of the property, such as {@link PropertyLIDs#PidLidAppointmentStartWhole}
+	*	@return	The property, or null if the message does not have it
+	*	@throws	LimitExceededException	Indexing the file's string named properties would exceed the limit on named property strings.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/81159dd0-649e-4491-b216-877008b23f65">MS-OXMSG Section 2.2.3.1.2: Entry Stream</a>
+	*/
+	public Property getNamedProperty(String propertySet, int lid)
+	{
+		return getNamedProperty(namedProperties.findPropertyIndex(propertySet, lid));
+	}
+
+	/** Get a string named property of the message, such as an Internet header, without decoding the message's other properties.
+	*   The named property is found through indexes of the file's named property entries and of the message's named property
+	*   records, which are built the first time a named property is looked up.
+	*	@param	propertySet	The property set GUID, either in the form returned by {@link #namedPropertiesGUIDs}, or the name of
+	*				a well-known property set such as "PS_PUBLIC_STRINGS"
+	*	@param	name		The name of the property, which must match exactly
+	*	@return	The property, or null if the message does not have it
+	*	@throws	LimitExceededException	Indexing the file's string named properties would exceed the limit on named property strings.
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/81159dd0-649e-4491-b216-877008b23f65">MS-OXMSG Section 2.2.3.1.2: Entry Stream</a>
+	*/
+	public Property getNamedProperty(String propertySet, String name)
+	{
+		return getNamedProperty(namedProperties.findPropertyIndex(propertySet, name));
+	}
+
+	/** Get a named property of the message, decoding only its record in the Properties stream.
+	*	@param	propertyIndex	The property index of the named property, or -1
+	*	@return	The property, or null if the message does not have it
+	*/
+	private Property getNamedProperty(int propertyIndex)
+	{
+		if (propertyIndex < 0)
+			return null;
+
+		if (namedPropertyOffsets == null)
+			buildNamedPropertyOffsets();
+
+		Integer offset = namedPropertyOffsets.get(0x8000 | propertyIndex);
+		if (offset == null)
+			return null;
+
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(namedPropertyRecords).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		records.position(offset);
+		return Property.factory(records, namedProperties, root);
+	}
+
+	/** Read the message's Properties stream and index the offsets of its named property records by property ID. If a property
+	*   appears more than once, the first record is used.
+	*/
+	private void buildNamedPropertyOffsets()
+	{
+		namedPropertyOffsets = new java.util.HashMap<Integer, Integer>();
+		namedPropertyRecords = getPropertiesData(root);
+		if (namedPropertyRecords == null)
+			return;
+
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(namedPropertyRecords).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		for (int offset = root.getChildPropertiesHeaderSize(); offset + Property.RECORD_SIZE <= namedPropertyRecords.length; offset += Property.RECORD_SIZE){
+			int propertyId = records.getInt(offset) >>> 16;
+			if ((propertyId & 0x8000) != 0)
+				namedPropertyOffsets.putIfAbsent(propertyId, offset);
+		}
+	}
+
 	/** Get the number of sectors in the file
 	*	@return	The number of sectors in the file
 	*/
@@ -468,13 +1160,96 @@ public class MSG
 		return header.numberOfSectors();
 	}
 
-	/** Get an iterator through all recipients in the msg file
+	/** Analyze the physical layout of the file: the fragmentation of each stream, free space, mini stream use, and slack.
+	*	@return	An analysis of the file's layout
+	*/
+	public LayoutAnalysis analyzeLayout()
+	{
+		return new LayoutAnalysis(CFBWriter.versionOf(this), header, fat, miniFAT, directory);
+	}
+
+	/** Compute a fingerprint of the message's logical content, which is the same for copies of the message which differ only in
+	*   how the content is laid out in the file, such as sector order, free sectors, and the shape of the directory tree. Stream
+	*   content is hashed directly from the file without being decoded.
+	*	@return	The SHA-256 fingerprint of the message, as a string of hexadecimal digits
+	*	@throws	java.io.IOException	A stream's sector chain ended before the end of the stream.
+	*	@see Fingerprint
+	*/
+	public String fingerprint()
+	throws
+		java.io.IOException
+	{
+		return Fingerprint.compute(root, mbb, header, fat, miniFAT, directory);
+	}
+
+	/** Get the fraction of links in the file's sector chains which do not lead to the next sector in the file.
+	*	@return	The fraction of links which are discontiguous, from 0 to 1
+	*	@see FAT#fragmentation
+	*/
+	public double fragmentation()
+	{
+		return fat.fragmentation();
+	}
+
+	/** Get the number of free sectors in the file
+	*	@return	The number of sectors marked as free in the FAT
+	*/
+	public int numberOfFreeSectors()
+	{
+		return fat.numberOfFreeSectors();
+	}
+
+	/** Get the sector size of the file
+	*	@return	The sector size, 512 for version 3 files or 4096 for version 4 files
+	*/
+	int sectorSize()
+	{
+		return header.sectorSize;
+	}
+
+	/** Open a message embedded in this one as an attachment. The returned view shares the file and everything read from it with
+	*   this object, so nothing is copied or parsed again, and named properties are resolved through the file's named property
+	*   mapping. The view must not be used after the MSG object which opened the file is closed.
+	*	@param	ded	The attachment holding the embedded message, or the embedded message storage itself
+	*	@return	A view of the embedded message, or null if the entry does not hold an embedded message
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/b046868c-9fbf-41ae-9ffb-8de2bd4eec82">MS-OXMSG Section 2.4.1.2: Embedded Message Object Storage</a>
+	*/
+	public MSG openEmbedded(DirectoryEntryData ded)
+	{
+		return openEmbedded(ded.entry);
+	}
+
+	/** Open a message embedded in this one as an attachment.
+	*	@param	de	The attachment holding the embedded message, or the embedded message storage itself
+	*	@return	A view of the embedded message, or null if the entry does not hold an embedded message
+	*	@see #openEmbedded(DirectoryEntryData)
+	*/
+	MSG openEmbedded(DirectoryEntry de)
+	{
+		if (isAttachment(de))
+			de = directory.getChild(de, PropertyTags.PidTagAttachDataObject);
+		if (de == null || !de.objectType.isStorage() || de.getPropertyTag() != PropertyTags.PidTagAttachDataObject)
+			return null;
+		return new MSG(this, de);
+	}
+
+	/** Cache decoded property tables and small substorage values, so that reading the properties of the same objects again costs
+	*   nothing. Views of embedded messages opened from this object, or from the MSG object which opened the file, share its cache.
+	*	@param	cache	The cache to use, or null to stop caching
+	*	@see PropertyCache
+	*/
+	public void setPropertyCache(PropertyCache cache)
+	{
+		container.propertyCache = cache;
+	}
+
+	/** Get an iterator through all recipients in the message, including those in any embedded messages
 	*	@return	An iterator through the recipients found when reading in the directory
 	*	@see	Directory#recipientEntries
 	*	@see	DirectoryEntryDataIterator
 	*/
 	public java.util.Iterator<DirectoryEntryData> recipients()
 	{
-		return new DirectoryEntryDataIterator(directory.recipientEntries.iterator(), directory, namedProperties);
+		return new DirectoryEntryDataIterator(recipientEntries.iterator(), directory, namedProperties);
 	}
 }
@@ -0,0 +1,427 @@
+package io.github.jmcleodfoss.msg;
+
+/** Write a copy of a msg file with selected properties removed or replaced and selected attachments removed, e.g. to redact
+*   message bodies or sender addresses. Property transforms apply wherever the property appears: in the message itself, its
+*   recipients and attachments, and any embedded messages. Streams which are not transformed are not decoded; they are copied
+*   from the original file a run of sectors at a time when the new file is written.
+*   <p>
+*   Example:
+*   <pre>
+*	new MSGRewriter(msg)
+*		.removeProperty(PropertyTags.PidTagBody)
+*		.removeProperty(PropertyTags.PidTagRtfCompressed)
+*		.replaceProperty(PropertyTags.PidTagSubjectW, "Redacted".getBytes(StandardCharsets.UTF_16LE))
+*		.removeAttachments(new MessageFilter().stringEndsWith(PropertyTags.PidTagAttachLongFilenameW, ".pdf", true))
+*		.write(outputFile);
+*   </pre>
+*	@see CFBWriter
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/08185828-e9e9-4ef2-bcd2-f6e69c00891b">MS-OXMSG Section 2.1.3: Variable Length Properties</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+*/
+public class MSGRewriter
+{
+	/** A transform applied to the value of a property. */
+	public interface PropertyTransform {
+		/** Transform a property value.
+		*	@param	propertyTag	The tag of the property as stored in the file; for string properties this gives the actual
+		*				string type, which may differ from the tag the transform was registered for.
+		*	@param	value		The property's value: the contents of its stream for variable-length properties, or the 8
+		*				bytes of its record in the Properties stream for fixed-width properties. This is null for
+		*				multiple-valued properties and for properties stored as storages (e.g. embedded messages).
+		*	@return	The new value, or null to remove the property. Values for fixed-width properties must be no longer than 8
+		*		bytes. When the value passed in was null, any non-null return value leaves the property unchanged.
+		*/
+		byte[] transform(int propertyTag, byte[] value);
+	}
+
+	/** Variable-length property stream or storage names, including the per-value streams of multiple-valued properties
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/08185828-e9e9-4ef2-bcd2-f6e69c00891b">MS-OXMSG Section 2.1.3: Variable Length Properties</a>
+	*/
+	private static final java.util.regex.Pattern SUBSTORAGE_PATTERN = java.util.regex.Pattern.compile("__substg1.0_(\\p{XDigit}{8})(-\\p{XDigit}{8})?");
+
+	/** The format for attachment storage names, used to renumber the attachments which are kept
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/8590d60d-4173-4ca8-9cb2-190aae006fbd">MS-OXMSG Section 2.2.2: Attachment Object Storage</a>
+	*/
+	private static final String ATTACHMENT_NAME_FORMAT = "__attach_version1.0_#%08X";
+
+	/** The offset of the next attachment ID in the Properties stream header of a message object
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+	*/
+	private static final int NEXT_ATTACHMENT_ID_OFFSET = 12;
+
+	/** The offset of the attachment count in the Properties stream header of a message object
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+	*/
+	private static final int ATTACHMENT_COUNT_OFFSET = 20;
+
+	/** The smallest Properties stream header, used by message objects, which includes the attachment count */
+	private static final int MESSAGE_PROPERTIES_HEADER_SIZE = 24;
+
+	/** The offset of the size of a variable-length property in its Properties stream record */
+	private static final int SIZE_OFFSET = Property.VALUE_OFFSET;
+
+	/** The decision recorded for a variable-length property which is copied unchanged */
+	private static final byte[] UNCHANGED = new byte[0];
+
+	/** The msg file to rewrite */
+	private final MSG msg;
+
+	/** The transforms to apply, by the property tag they were registered for */
+	private final java.util.LinkedHashMap<Integer, PropertyTransform> transforms = new java.util.LinkedHashMap<Integer, PropertyTransform>();
+
+	/** The filter selecting attachments to remove, or null to keep all attachments */
+	private MessageFilter attachmentFilter;
+
+	/** The compound file version of the new file */
+	private int version;
+
+	/** Create a rewriter for the given msg file. The new file has the same compound file version as the original.
+	*	@param	msg	The msg file to rewrite
+	*/
+	public MSGRewriter(MSG msg)
+	{
+		this.msg = msg;
+		version = CFBWriter.versionOf(msg);
+	}
+
+	/** Set the compound file version of the new file.
+	*	@param	version	3 for 512-byte sectors, or 4 for 4096-byte sectors
+	*	@return	This rewriter, to allow calls to be chained.
+	*/
+	public MSGRewriter version(int version)
+	{
+		if (version != 3 && version != 4)
+			throw new IllegalArgumentException("Unsupported compound file version " + version);
+		this.version = version;
+		return this;
+	}
+
+	/** Apply a transform to a property. String properties are matched regardless of whether they are stored as PtypString or
+	*   PtypString8.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagBody}
+	*	@param	transform	The transform to apply
+	*	@return	This rewriter, to allow calls to be chained.
+	*/
+	public MSGRewriter transformProperty(int propertyTag, PropertyTransform transform)
+	{
+		transforms.put(propertyTag, transform);
+		return this;
+	}
+
+	/** Remove a property.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagBody}
+	*	@return	This rewriter, to allow calls to be chained.
+	*/
+	public MSGRewriter removeProperty(int propertyTag)
+	{
+		return transformProperty(propertyTag, (tag, value) -> null);
+	}
+
+	/** Replace the value of a property.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagSubjectW}
+	*	@param	value		The new value, encoded as it is stored in the file (e.g. UTF-16LE without a terminating null
+	*				character for PtypString properties)
+	*	@return	This rewriter, to allow calls to be chained.
+	*/
+	public MSGRewriter replaceProperty(int propertyTag, byte[] value)
+	{
+		return transformProperty(propertyTag, (tag, oldValue) -> value);
+	}
+
+	/** Remove the attachments matching a filter. The remaining attachments are renumbered, and the attachment counts of the
+	*   messages they belong to are updated.
+	*	@param	filter	The filter selecting the attachments to remove; an empty filter removes all attachments.
+	*	@return	This rewriter, to allow calls to be chained.
+	*/
+	public MSGRewriter removeAttachments(MessageFilter filter)
+	{
+		attachmentFilter = filter;
+		return this;
+	}
+
+	/** Find the transform to apply to a property.
+	*	@param	propertyTag	The property tag as stored in the file
+	*	@return	The transform for the property, or null if the property is copied unchanged
+	*/
+	private PropertyTransform transformFor(int propertyTag)
+	{
+		for (java.util.Map.Entry<Integer, PropertyTransform> entry : transforms.entrySet()){
+			if (MessageFilter.tagMatches(propertyTag, entry.getKey()))
+				return entry.getValue();
+		}
+		return null;
+	}
+
+	/** Get the value for the size field of a variable-length property's record, which includes the terminating null character
+	*   for strings.
+	*	@param	propertyTag	The property tag
+	*	@param	value		The property value
+	*	@return	The size to store in the property's record
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+	*/
+	private static int recordSize(int propertyTag, byte[] value)
+	{
+		switch (propertyTag & DataType.PROPERTY_TYPE_MASK){
+		case DataType.STRING:
+			return value.length + 2;
+		case DataType.STRING8:
+			return value.length + 1;
+		default:
+			return value.length;
+		}
+	}
+
+	/** Is the given property's value stored in its Properties stream record?
+	*	@param	propertyTag	The property tag
+	*	@return	true if the property is a single-valued property of a fixed-width type of 8 bytes or less, false otherwise
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+	*/
+	private static boolean isFixedWidth(int propertyTag)
+	{
+		switch (propertyTag & DataType.PROPERTY_TYPE_MASK){
+		case DataType.INTEGER_16:
+		case DataType.INTEGER_32:
+		case DataType.FLOATING_32:
+		case DataType.FLOATING_64:
+		case DataType.CURRENCY:
+		case DataType.FLOATING_TIME:
+		case DataType.ERROR_CODE:
+		case DataType.BOOLEAN:
+		case DataType.INTEGER_64:
+		case DataType.TIME:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/** Copy the children of a message, attachment, or recipient object, applying the transforms to its properties and the
+	*   attachment filter to its attachments.
+	*	@param	from	The object to copy
+	*	@param	to	The storage to add the copies to
+	*/
+	private void copyObject(DirectoryEntry from, CFBWriter.Storage to)
+	{
+		java.util.HashMap<Integer, byte[]> decisions = new java.util.HashMap<Integer, byte[]>();
+		java.util.TreeMap<String, DirectoryEntry> attachments = new java.util.TreeMap<String, DirectoryEntry>();
+		DirectoryEntry propertiesEntry = null;
+		int removedAttachments = 0;
+
+		for (DirectoryEntry child : msg.getChildren(from)){
+			String name = child.directoryEntryName;
+			java.util.regex.Matcher matcher = SUBSTORAGE_PATTERN.matcher(name);
+			if (DirectoryEntry.PROPERTIES.equals(name)){
+				propertiesEntry = child;
+			} else if (DirectoryEntry.NAMEID.equals(name)){
+				CFBWriter.copyChildren(msg, child, to.addStorage(name).copyMetadata(msg.getRawDirectoryEntry(child)));
+			} else if (msg.isAttachment(child)){
+				if (attachmentFilter != null && attachmentFilter.matches(msg, child))
+					++removedAttachments;
+				else
+					attachments.put(name, child);
+			} else if (matcher.matches()){
+				int propertyTag = (int)Long.parseLong(matcher.group(1), 16);
+				PropertyTransform transform = transformFor(propertyTag);
+				byte[] value = null;
+				if (transform == null){
+					value = UNCHANGED;
+				} else if (decisions.containsKey(propertyTag)){
+					value = decisions.get(propertyTag);
+				} else if (child.objectType.isStream() && matcher.group(2) == null && (propertyTag & DataType.MULTIPLE_VALUED) == 0){
+					value = transform.transform(propertyTag, msg.getContent(child));
+				} else {
+					value = transform.transform(propertyTag, null) == null ? null : UNCHANGED;
+				}
+				decisions.put(propertyTag, value);
+
+				if (value == UNCHANGED){
+					if (child.objectType.isStream())
+						to.addStream(name, child.streamSize, () -> msg.getChannel(child));
+					else
+						copyObject(child, to.addStorage(name).copyMetadata(msg.getRawDirectoryEntry(child)));
+				} else if (value != null){
+					to.addStream(name, value);
+				}
+			} else if (child.objectType.isStream()){
+				to.addStream(name, child.streamSize, () -> msg.getChannel(child));
+			} else {
+				copyObject(child, to.addStorage(name).copyMetadata(msg.getRawDirectoryEntry(child)));
+			}
+		}
+
+		int attachmentNumber = 0;
+		for (DirectoryEntry attachment : attachments.values())
+			copyObject(attachment, to.addStorage(String.format(ATTACHMENT_NAME_FORMAT, attachmentNumber++)).copyMetadata(msg.getRawDirectoryEntry(attachment)));
+
+		if (propertiesEntry != null)
+			to.addStream(DirectoryEntry.PROPERTIES, rewriteProperties(from, msg.getContent(propertiesEntry), decisions, removedAttachments > 0 ? attachmentNumber : -1));
+	}
+
+	/** Rewrite a Properties stream, removing the records of removed properties and updating the records of replaced ones.
+	*	@param	parent	The object the Properties stream belongs to
+	*	@param	data	The contents of the Properties stream
+	*	@param	decisions	The new values of the object's variable-length properties, by property tag
+	*	@param	attachmentCount	The new number of attachments, or -1 if the attachment count is unchanged
+	*	@return	The new contents of the Properties stream
+	*/
+	private byte[] rewriteProperties(DirectoryEntry parent, byte[] data, java.util.HashMap<Integer, byte[]> decisions, int attachmentCount)
+	{
+		int headerSize = parent.getChildPropertiesHeaderSize();
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(data);
+		records.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		java.nio.ByteBuffer out = java.nio.ByteBuffer.allocate(data.length);
+		out.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+
+		out.put(data, 0, Math.min(headerSize, data.length));
+		if (attachmentCount >= 0 && headerSize >= MESSAGE_PROPERTIES_HEADER_SIZE){
+			out.putInt(NEXT_ATTACHMENT_ID_OFFSET, attachmentCount);
+			out.putInt(ATTACHMENT_COUNT_OFFSET, attachmentCount);
+		}
+
+		for (int offset = headerSize; offset + Property.RECORD_SIZE <= data.length; offset += Property.RECORD_SIZE){
+			int propertyTag = records.getInt(offset);
+			int recordStart = out.position();
+			out.put(data, offset, Property.RECORD_SIZE);
+
+			if (decisions.containsKey(propertyTag)){
+				byte[] value = decisions.get(propertyTag);
+				if (value == null)
+					out.position(recordStart);
+				else if (value != UNCHANGED)
+					out.putInt(recordStart + SIZE_OFFSET, recordSize(propertyTag, value));
+				continue;
+			}
+
+			PropertyTransform transform = transformFor(propertyTag);
+			if (transform == null)
+				continue;
+			if (!isFixedWidth(propertyTag)){
+				// A variable-length property with no stream
+				if (transform.transform(propertyTag, null) == null)
+					out.position(recordStart);
+				continue;
+			}
+			byte[] oldValue = java.util.Arrays.copyOfRange(data, offset + Property.VALUE_OFFSET, offset + Property.RECORD_SIZE);
+			byte[] value = transform.transform(propertyTag, oldValue);
+			if (value == null){
+				out.position(recordStart);
+			} else {
+				if (value.length > DataType.SIZEOF_LONG)
+					throw new IllegalArgumentException(String.format("Value for fixed-width property 0x%08x is longer than %d bytes", propertyTag, DataType.SIZEOF_LONG));
+				java.util.Arrays.fill(out.array(), recordStart + Property.VALUE_OFFSET, recordStart + Property.RECORD_SIZE, (byte)0);
+				System.arraycopy(value, 0, out.array(), recordStart + Property.VALUE_OFFSET, value.length);
+			}
+		}
+		return java.util.Arrays.copyOf(out.array(), out.position());
+	}
+
+	/** Build the tree of the new file.
+	*	@return	A writer for the new file
+	*/
+	private CFBWriter build()
+	{
+		CFBWriter writer = new CFBWriter(version);
+		DirectoryEntry root = msg.getDirectoryTree().entry;
+		copyObject(root, writer.root().copyMetadata(msg.getRawDirectoryEntry(root)));
+		return writer;
+	}
+
+	/** Write the new file to a channel. The original msg file must remain open until this returns.
+	*	@param	out	The channel to write to
+	*	@throws	java.io.IOException	The new file could not be written.
+	*/
+	public void write(java.nio.channels.WritableByteChannel out)
+	throws
+		java.io.IOException
+	{
+		build().write(out);
+	}
+
+	/** Write the new file, replacing it if it exists. The original msg file must remain open until this returns.
+	*	@param	fileName	The name of the file to write
+	*	@throws	java.io.IOException	The new file could not be written.
+	*/
+	public void write(String fileName)
+	throws
+		java.io.IOException
+	{
+		build().write(fileName);
+	}
+
+	/** Count the attachments of the top-level message.
+	*	@param	msg	The msg file
+	*	@return	The number of attachments
+	*/
+	private static int countAttachments(MSG msg)
+	{
+		int count = 0;
+		for (DirectoryEntry child : msg.getChildren(msg.getDirectoryTree().entry)){
+			if (msg.isAttachment(child))
+				++count;
+		}
+		return count;
+	}
+
+	/** Test this class by writing a copy of each msg file with the body, HTML body, and compressed RTF removed, the sender's
+	*   email address replaced, and all attachments removed, and reading the copy back.
+	*	@param	args	The msg file or files to rewrite.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.MSGRewriter msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		final String redactedAddress = "redacted@example.com";
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					java.io.File copy = java.io.File.createTempFile("MSGRewriter", ".msg");
+					try {
+						new MSGRewriter(msg)
+							.removeProperty(PropertyTags.PidTagBody)
+							.removeProperty(PropertyTags.PidTagBodyHtml)
+							.removeProperty(PropertyTags.PidTagRtfCompressed)
+							.transformProperty(PropertyTags.PidTagSenderEmailAddress, (tag, value) ->
+								redactedAddress.getBytes((tag & DataType.PROPERTY_TYPE_MASK) == DataType.STRING
+									? java.nio.charset.StandardCharsets.UTF_16LE : java.nio.charset.StandardCharsets.ISO_8859_1))
+							.removeAttachments(new MessageFilter())
+							.write(copy.getPath());
+
+						MSG copyMSG = new MSG(copy.getPath());
+						try {
+							java.util.HashMap<Integer, Property> before = msg.getPropertiesAsHashMap(msg.getDirectoryTree());
+							java.util.HashMap<Integer, Property> after = copyMSG.getPropertiesAsHashMap(copyMSG.getDirectoryTree());
+							System.out.printf("%d bytes, %d properties, %d attachments rewritten to %d bytes, %d properties, %d attachments%n",
+								new java.io.File(a).length(), before.size(), countAttachments(msg),
+								copy.length(), after.size(), countAttachments(copyMSG));
+							for (Property p : after.values()){
+								if (MessageFilter.tagMatches(p.propertyTag, PropertyTags.PidTagSenderEmailAddress))
+									System.out.printf("sender email address %s%n", copyMSG.getPropertyValue(p));
+							}
+						} finally {
+							copyMSG.close();
+						}
+					} finally {
+						if (!copy.delete())
+							copy.deleteOnExit();
+					}
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -0,0 +1,399 @@
+package io.github.jmcleodfoss.msg;
+
+/** A filter on message properties which is evaluated directly against the fixed-width records in the Properties stream, so that
+*   non-matching messages can be rejected without creating {@link Property} objects or decoding every string value. Clauses on
+*   fixed-width values (integers, booleans, and times) are evaluated first, in the order in which they were added; clauses on
+*   string values are evaluated afterwards, and only the substorage entries they refer to are read and decoded. Evaluation stops
+*   at the first clause which fails.
+*   <p>
+*   Example:
+*   <pre>
+*	MessageFilter filter = new MessageFilter()
+*		.timeAfter(PropertyTags.PidTagClientSubmitTime, since)
+*		.booleanEquals(PropertyTags.PidTagHasAttachments, true)
+*		.stringEndsWith(PropertyTags.PidTagSenderEmailAddress, "@example.com", true);
+*	if (msg.matches(filter))
+*		...
+*   </pre>
+*	@see MSG#matches(MessageFilter)
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/20c1125f-043d-42d9-b1dc-cb9b7e5198ef">MS-OXMSG Section 2.4: Property Stream</a>
+*/
+public class MessageFilter
+{
+	/** The clauses on fixed-width property values */
+	private final java.util.ArrayList<FixedWidthClause> fixedWidthClauses;
+
+	/** The clauses on string property values */
+	private final java.util.ArrayList<StringClause> stringClauses;
+
+	/** A test on a fixed-width property value, read directly from the property record. */
+	private abstract static class FixedWidthClause
+	{
+		/** The property tag of the property to test */
+		final int propertyTag;
+
+		/** Create a clause for the given property.
+		*	@param	propertyTag	The property tag of the property to test
+		*/
+		FixedWidthClause(int propertyTag)
+		{
+			this.propertyTag = propertyTag;
+		}
+
+		/** Test the value of the property record at the given offset.
+		*	@param	records	The Properties stream
+		*	@param	offset	The offset of the value of the property record being tested
+		*	@return	true if the value satisfies the clause, false otherwise
+		*/
+		abstract boolean matches(java.nio.ByteBuffer records, int offset);
+	}
+
+	/** A test on a string property value. */
+	private static class StringClause
+	{
+		/** Compare the whole value */
+		static final int EQUALS = 0;
+
+		/** Look for the text anywhere in the value */
+		static final int CONTAINS = 1;
+
+		/** Compare the end of the value */
+		static final int ENDS_WITH = 2;
+
+		/** The property tag of the property to test */
+		final int propertyTag;
+
+		/** The type of comparison */
+		private final int comparison;
+
+		/** The text to compare the value to */
+		private final String text;
+
+		/** Should the comparison ignore case? */
+		private final boolean ignoreCase;
+
+		/** Create a clause for the given property.
+		*	@param	propertyTag	The property tag of the property to test
+		*	@param	comparison	The type of comparison, one of {@link #EQUALS}, {@link #CONTAINS}, or {@link #ENDS_WITH}
+		*	@param	text		The text to compare the property value to
+		*	@param	ignoreCase	Should the comparison ignore case?
+		*/
+		StringClause(int propertyTag, int comparison, String text, boolean ignoreCase)
+		{
+			this.propertyTag = propertyTag;
+			this.comparison = comparison;
+			this.ignoreCase = ignoreCase;
+			this.text = ignoreCase ? text.toLowerCase(java.util.Locale.ROOT) : text;
+		}
+
+		/** Test the given property value.
+		*	@param	value	The property value
+		*	@return	true if the value satisfies the clause, false otherwise
+		*/
+		boolean matches(String value)
+		{
+			if (ignoreCase)
+				value = value.toLowerCase(java.util.Locale.ROOT);
+
+			switch (comparison) {
+			case EQUALS:
+				return value.equals(text);
+			case CONTAINS:
+				return value.contains(text);
+			default:
+				return value.endsWith(text);
+			}
+		}
+	}
+
+	/** Create an empty filter, which matches every message. */
+	public MessageFilter()
+	{
+		fixedWidthClauses = new java.util.ArrayList<FixedWidthClause>();
+		stringClauses = new java.util.ArrayList<StringClause>();
+	}
+
+	/** Require a Boolean property to have the given value.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagHasAttachments}
+	*	@param	value		The required value
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter booleanEquals(int propertyTag, final boolean value)
+	{
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return (records.get(offset) != 0) == value;
+			}
+		});
+		return this;
+	}
+
+	/** Require the given property to be present.
+	*	@param	propertyTag	The property tag
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter exists(int propertyTag)
+	{
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return true;
+			}
+		});
+		return this;
+	}
+
+	/** Require a 32-bit integer property to have the given value.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagImportance}
+	*	@param	value		The required value
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter integerEquals(int propertyTag, final int value)
+	{
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return records.getInt(offset) == value;
+			}
+		});
+		return this;
+	}
+
+	/** Require all of the given bits to be set in a 32-bit integer property.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagMessageFlags}
+	*	@param	mask		The bits which must be set
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter integerHasBits(int propertyTag, final int mask)
+	{
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return (records.getInt(offset) & mask) == mask;
+			}
+		});
+		return this;
+	}
+
+	/** Require a time property to be later than the given date.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagClientSubmitTime}
+	*	@param	date		The date the property value must follow
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter timeAfter(int propertyTag, java.util.Date date)
+	{
+		final long msTime = DataType.Time.toMSTime(date);
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return records.getLong(offset) > msTime;
+			}
+		});
+		return this;
+	}
+
+	/** Require a time property to be earlier than the given date.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagClientSubmitTime}
+	*	@param	date		The date the property value must precede
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter timeBefore(int propertyTag, java.util.Date date)
+	{
+		final long msTime = DataType.Time.toMSTime(date);
+		fixedWidthClauses.add(new FixedWidthClause(propertyTag) {
+			@Override
+			boolean matches(java.nio.ByteBuffer records, int offset)
+			{
+				return records.getLong(offset) < msTime;
+			}
+		});
+		return this;
+	}
+
+	/** Require a string property to contain the given text.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagSubject}
+	*	@param	text		The text to look for
+	*	@param	ignoreCase	Should the comparison ignore case?
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter stringContains(int propertyTag, String text, boolean ignoreCase)
+	{
+		stringClauses.add(new StringClause(propertyTag, StringClause.CONTAINS, text, ignoreCase));
+		return this;
+	}
+
+	/** Require a string property to end with the given text.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagSenderEmailAddress}
+	*	@param	text		The text the value must end with
+	*	@param	ignoreCase	Should the comparison ignore case?
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter stringEndsWith(int propertyTag, String text, boolean ignoreCase)
+	{
+		stringClauses.add(new StringClause(propertyTag, StringClause.ENDS_WITH, text, ignoreCase));
+		return this;
+	}
+
+	/** Require a string property to have the given value.
+	*	@param	propertyTag	The property tag, e.g. {@link PropertyTags#PidTagMessageClass}
+	*	@param	text		The required value
+	*	@param	ignoreCase	Should the comparison ignore case?
+	*	@return	This filter, to allow clauses to be chained.
+	*/
+	public MessageFilter stringEquals(int propertyTag, String text, boolean ignoreCase)
+	{
+		stringClauses.add(new StringClause(propertyTag, StringClause.EQUALS, text, ignoreCase));
+		return this;
+	}
+
+	/** Is the given property type a string type?
+	*	@param	propertyTag	The property tag to check the type of
+	*	@return	true if the property type is PtypString or PtypString8, false otherwise
+	*/
+	private static boolean isString(int propertyTag)
+	{
+		int propertyType = propertyTag & DataType.PROPERTY_TYPE_MASK;
+		return propertyType == DataType.STRING || propertyType == DataType.STRING8;
+	}
+
+	/** Does the tag in a property record or substorage name match the tag being searched for? String properties match regardless
+	*   of whether they are stored as PtypString or PtypString8, since {@link PropertyTags} lists many string properties by their
+	*   8-bit tag while most files store them as Unicode.
+	*	@param	tag		The tag found in the file
+	*	@param	propertyTag	The tag being searched for
+	*	@return	true if the tags refer to the same property, false otherwise
+	*/
+	static boolean tagMatches(int tag, int propertyTag)
+	{
+		if (tag == propertyTag)
+			return true;
+		return (tag >>> 16) == (propertyTag >>> 16) && isString(tag) && isString(propertyTag);
+	}
+
+	/** Find the value of the record for the given property in the Properties stream.
+	*	@param	records		The Properties stream
+	*	@param	headerSize	The size of the Properties stream header
+	*	@param	propertyTag	The property tag to search for
+	*	@return	The offset of the property value, or -1 if the property was not found
+	*/
+	static int findValue(java.nio.ByteBuffer records, int headerSize, int propertyTag)
+	{
+		for (int offset = headerSize; offset + Property.RECORD_SIZE <= records.limit(); offset += Property.RECORD_SIZE){
+			if (tagMatches(records.getInt(offset), propertyTag))
+				return offset + Property.VALUE_OFFSET;
+		}
+		return -1;
+	}
+
+	/** Read and decode the value of a string property from the given entry's substorages.
+	*	@param	msg		The file being filtered
+	*	@param	children	The children of the entry being filtered
+	*	@param	propertyTag	The property tag to read
+	*	@return	The property value, or null if there was no substorage for the property
+	*	@throws	LimitExceededException	The total amount of text decoded would exceed the limit.
+	*/
+	static String readString(MSG msg, java.util.ArrayList<DirectoryEntry> children, int propertyTag)
+	{
+		java.util.Iterator<DirectoryEntry> iter = children.iterator();
+		while (iter.hasNext()){
+			DirectoryEntry de = iter.next();
+			int tag = de.getPropertyTag();
+			if (!tagMatches(tag, propertyTag))
+				continue;
+
+			boolean isUnicode = (tag & DataType.PROPERTY_TYPE_MASK) == DataType.STRING;
+			msg.countDecodedText(isUnicode ? (de.streamSize + 1) / 2 : de.streamSize);
+			byte[] data = msg.getContent(de);
+			String value = isUnicode
+				? DataType.createString(data)
+				: new String(data, java.nio.charset.StandardCharsets.ISO_8859_1);
+
+			int end = value.length();
+			while (end > 0 && value.charAt(end-1) == '\0')
+				--end;
+			return value.substring(0, end);
+		}
+		return null;
+	}
+
+	/** Apply the filter to the properties of the given entry.
+	*	@param	msg	The file containing the entry
+	*	@param	parent	The Root Storage, Attachment, or Recipient entry to apply the filter to
+	*	@return	true if the entry satisfies every clause in the filter, false otherwise
+	*/
+	boolean matches(MSG msg, DirectoryEntry parent)
+	{
+		if (fixedWidthClauses.isEmpty() && stringClauses.isEmpty())
+			return true;
+
+		byte[] data = msg.getPropertiesData(parent);
+		if (data == null)
+			return false;
+
+		java.nio.ByteBuffer records = java.nio.ByteBuffer.wrap(data);
+		records.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		int headerSize = parent.getChildPropertiesHeaderSize();
+
+		java.util.Iterator<FixedWidthClause> fixedWidthIterator = fixedWidthClauses.iterator();
+		while (fixedWidthIterator.hasNext()){
+			FixedWidthClause clause = fixedWidthIterator.next();
+			int offset = findValue(records, headerSize, clause.propertyTag);
+			if (offset == -1 || !clause.matches(records, offset))
+				return false;
+		}
+
+		java.util.ArrayList<DirectoryEntry> children = null;
+		java.util.Iterator<StringClause> stringIterator = stringClauses.iterator();
+		while (stringIterator.hasNext()){
+			StringClause clause = stringIterator.next();
+			if (findValue(records, headerSize, clause.propertyTag) == -1)
+				return false;
+
+			if (children == null)
+				children = msg.getChildren(parent);
+			String value = readString(msg, children, clause.propertyTag);
+			if (value == null || !clause.matches(value))
+				return false;
+		}
+
+		return true;
+	}
+
+	/** Test this class by listing which of the given files have attachments.
+	*	@param	args	The msg file(s) to check.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.MessageFilter msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		MessageFilter filter = new MessageFilter().booleanEquals(PropertyTags.PidTagHasAttachments, true);
+		for (String a: args) {
+			try {
+				MSG msg = new MSG(a);
+				try {
+					System.out.printf("%s: %s%n", a, msg.matches(filter) ? "has attachments" : "no attachments");
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
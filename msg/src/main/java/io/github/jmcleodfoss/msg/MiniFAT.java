@@ -8,7 +8,7 @@ class MiniFAT {
 	/** The number of bytes in a mini sector. This can be calculated using the Mini Sector Shift value in the header, but it's always the same.
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/05060311-bfce-4b12-874d-71fd4ce63aea">MS-CFB Section 2.2: Compound File Header</a>
 	*/
-	private static final int MINI_SECTOR_SIZE = 64;
+	static final int MINI_SECTOR_SIZE = 64;
 
 	/** The sector size (from the file header)
 	*	@see Header#sectorSize
@@ -29,6 +29,9 @@ class MiniFAT {
 	/** The mini stream sectors. */
 	private java.util.ArrayList<Integer> miniSectors = new java.util.ArrayList<Integer>();
 
+	/** The resource limits for reading the file */
+	private final MsgLimits limits;
+
 	/** Iterator for Mini FAT index entry chains. This returns the offset of the next mini sector to read. */
 	private class ChainIterator implements java.util.Iterator<Integer> {
 
@@ -72,6 +75,19 @@ class MiniFAT {
 	*/
 	MiniFAT(java.nio.MappedByteBuffer mbb, Header header, FAT fat, Directory directory)
 	{
+		this(mbb, header, fat, directory, new MsgLimits());
+	}
+
+	/** Read the Mini FAT
+	* 	@param	mbb	The data stream
+	* 	@param	header	The CFB header structure
+	* 	@param	fat	The file allocation table structure
+	* 	@param	directory	The directory for this file
+	*	@param	limits	The resource limits for reading the file
+	*/
+	MiniFAT(java.nio.MappedByteBuffer mbb, Header header, FAT fat, Directory directory, MsgLimits limits)
+	{
+		this.limits = limits;
 		sectorSize = header.sectorSize;
 		miniSectorsPerFullSector = sectorSize / MINI_SECTOR_SIZE;
 		numEntries = header.numberOfMiniFATEntries();
@@ -105,6 +121,23 @@ class MiniFAT {
 		return sectorFileOffset + miniSectorOffsetIntoThisSector;
 	}
 
+	/** Get the number of entries in the Mini FAT
+	*	@return	The number of mini sectors the Mini FAT can describe
+	*/
+	int numberOfEntries()
+	{
+		return numEntries;
+	}
+
+	/** Get the Mini FAT entry for a mini sector: the next mini sector in its chain, or one of the special values in {@link Sector}.
+	*	@param	miniSector	The mini sector to look up, which must be less than {@link #numberOfEntries}
+	*	@return	The Mini FAT entry for the mini sector
+	*/
+	int next(int miniSector)
+	{
+		return miniFATSectors[miniSector];
+	}
+
 	/** Get all the mini sector chains
 	*	@return	An ArrayList of ArrayLists containing the mini sector chains
 	*/
@@ -181,11 +214,12 @@ class MiniFAT {
 	*/
 	byte[] read(int startingSector, long size, java.nio.MappedByteBuffer mbb)
 	{
+		limits.checkAllocation(size);
 		int nRemaining = (int)size;
 		byte[] data = new byte[nRemaining];
 		java.util.Iterator<Integer> iter = getChainIterator(startingSector);
 		int destOffset = 0;
-		while (iter.hasNext()){
+		while (nRemaining > 0 && iter.hasNext()){
 			int miniFATSector = iter.next();
 			mbb.position(fileOffset(miniFATSector));
 			int nToRead = Math.min(nRemaining, MINI_SECTOR_SIZE);
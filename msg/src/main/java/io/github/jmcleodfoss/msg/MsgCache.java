@@ -0,0 +1,449 @@
+package io.github.jmcleodfoss.msg;
+
+/** A cache of opened MSG objects, so that a file which is opened repeatedly is only mapped and parsed once. Files are identified by
+*   their real path, and a cached object is only reused if the file's size and modification time have not changed since it was
+*   opened. The least recently used objects are evicted when the cache holds more than the maximum number of files or the maximum
+*   total file size.
+*   <p>
+*   Each call to {@link #open} returns a {@link Handle} which must be closed when the caller has finished with the file. MSG objects
+*   are not thread-safe, so no two open handles ever share one: a handle gets an MSG object which no other open handle is using,
+*   and the file is opened again if every MSG object already opened for it is in use. When a handle is closed its MSG object is
+*   kept for the next caller, unless the file has been evicted, in which case it is closed. The MSG object itself must not be
+*   closed by the caller.
+*   <p>
+*   Example:
+*   <pre>
+*	MsgCache cache = new MsgCache().maxEntries(100).maxBytes(256L * 1024 * 1024);
+*	try (MsgCache.Handle handle = cache.open(fileName)) {
+*		MSG msg = handle.msg();
+*		...
+*	}
+*   </pre>
+*/
+public class MsgCache
+{
+	/** The cache name reported to listeners */
+	public static final String CACHE_NAME = "MsgCache";
+
+	/** The MSG objects opened for a file and the identity of the file they were opened from. */
+	private static class Entry
+	{
+		/** The MSG objects for the file which no open handle is using */
+		final java.util.ArrayDeque<MSG> idle = new java.util.ArrayDeque<MSG>();
+
+		/** The real path of the file */
+		final java.nio.file.Path path;
+
+		/** The size of the file when it was opened */
+		final long size;
+
+		/** The modification time of the file when it was opened */
+		final java.nio.file.attribute.FileTime modified;
+
+		/** Has the entry been removed from the cache? */
+		boolean evicted;
+
+		/** Create a cache entry.
+		*	@param	path		The real path of the file
+		*	@param	size		The size of the file
+		*	@param	modified	The modification time of the file
+		*/
+		Entry(java.nio.file.Path path, long size, java.nio.file.attribute.FileTime modified)
+		{
+			this.path = path;
+			this.size = size;
+			this.modified = modified;
+		}
+
+		/** Is this entry for the given version of the file?
+		*	@param	size		The current size of the file
+		*	@param	modified	The current modification time of the file
+		*	@return	true if the file has not changed since the entry was created, false otherwise
+		*/
+		boolean isCurrent(long size, java.nio.file.attribute.FileTime modified)
+		{
+			return this.size == size && this.modified.equals(modified);
+		}
+	}
+
+	/** A reference to a cached MSG object which no other open handle uses, and which must be closed when it is no longer needed. */
+	public class Handle implements java.io.Closeable
+	{
+		/** The cache entry */
+		private final Entry entry;
+
+		/** The MSG object for this handle */
+		private final MSG msg;
+
+		/** Has the handle been closed? */
+		private boolean closed;
+
+		/** Create a handle for a cache entry.
+		*	@param	entry	The cache entry
+		*	@param	msg	The MSG object for the handle, which no other open handle uses
+		*/
+		private Handle(Entry entry, MSG msg)
+		{
+			this.entry = entry;
+			this.msg = msg;
+		}
+
+		/** Get the opened file.
+		*	@return	The MSG object for the file, which must not be closed by the caller or used after the handle is closed
+		*/
+		public MSG msg()
+		{
+			return msg;
+		}
+
+		/** Release the handle. Its MSG object is kept for the next caller, or closed if the file has been evicted from the cache.
+		*	@throws	java.io.IOException	There was a problem closing the file.
+		*/
+		@Override
+		public void close()
+		throws
+			java.io.IOException
+		{
+			synchronized (MsgCache.this) {
+				if (closed)
+					return;
+				closed = true;
+				if (!entry.evicted) {
+					entry.idle.push(msg);
+					return;
+				}
+			}
+			msg.close();
+		}
+	}
+
+	/** The cached entries, in order from least to most recently used */
+	private final java.util.LinkedHashMap<java.nio.file.Path, Entry> entries = new java.util.LinkedHashMap<java.nio.file.Path, Entry>(16, 0.75f, true);
+
+	/** The maximum number of files to hold */
+	private int maxEntries = Integer.MAX_VALUE;
+
+	/** The maximum total size of the files to hold */
+	private long maxBytes = Long.MAX_VALUE;
+
+	/** The validator to open files with, or null */
+	private Validator validator;
+
+	/** The resource limits to open files with */
+	private MsgLimits limits = new MsgLimits();
+
+	/** The listener to open files with and report cache lookups to, or null */
+	private MsgListener listener;
+
+	/** The total size of the files held */
+	private long bytesHeld;
+
+	/** The number of lookups which found an unused MSG object for a current cached file */
+	private long hits;
+
+	/** The number of lookups which had to open the file */
+	private long misses;
+
+	/** The number of files evicted */
+	private long evictions;
+
+	/** Create an empty cache with no limit on the number of files or their total size, which opens files without a validator,
+	*   with the default limits, and without a listener.
+	*/
+	public MsgCache()
+	{
+	}
+
+	/** Set the maximum number of files to hold. The default is unlimited.
+	*	@param	maxEntries	The maximum number of files to hold
+	*	@return	This cache
+	*/
+	public MsgCache maxEntries(int maxEntries)
+	{
+		this.maxEntries = maxEntries;
+		return this;
+	}
+
+	/** Set the maximum total size of the files to hold. The default is unlimited.
+	*	@param	maxBytes	The maximum total size in bytes of the files to hold
+	*	@return	This cache
+	*/
+	public MsgCache maxBytes(long maxBytes)
+	{
+		this.maxBytes = maxBytes;
+		return this;
+	}
+
+	/** Set the validator to check files with when they are opened. The default is not to validate files.
+	*	@param	validator	The validator, or null to not validate files
+	*	@return	This cache
+	*	@see MSG#MSG(String, Validator, MsgLimits, MsgListener)
+	*/
+	public MsgCache validator(Validator validator)
+	{
+		this.validator = validator;
+		return this;
+	}
+
+	/** Set the resource limits to open files with. The default is no limits.
+	*	@param	limits	The resource limits
+	*	@return	This cache
+	*	@see MSG#MSG(String, Validator, MsgLimits, MsgListener)
+	*/
+	public MsgCache limits(MsgLimits limits)
+	{
+		this.limits = limits;
+		return this;
+	}
+
+	/** Set the listener to open files with. Cache lookups are also reported to the listener.
+	*	@param	listener	The listener, or null to not report events
+	*	@return	This cache
+	*	@see MsgListener#cacheLookup
+	*/
+	public MsgCache listener(MsgListener listener)
+	{
+		this.listener = listener;
+		return this;
+	}
+
+	/** Get a handle for the given file, opening it if it is not in the cache, has changed since it was cached, or if every MSG
+	*   object opened for it is in use by another handle.
+	*	@param	fileName	The name of the file to open
+	*	@return	A handle for the opened file, which must be closed when the caller has finished with the file
+	*	@throws	CorruptFileException	The file structure is invalid or exceeds one of the validator's limits.
+	*	@throws	LimitExceededException	Opening the file would exceed one of the resource limits.
+	*	@throws	NotCFBFileException	The file is not a CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an unknown storage type.
+	*	@throws	java.io.IOException	There was a problem reading the file.
+	*/
+	public Handle open(String fileName)
+	throws
+		CorruptFileException,
+		NotCFBFileException,
+		UnknownStorageTypeException,
+		java.io.IOException
+	{
+		java.nio.file.Path path = java.nio.file.Paths.get(fileName).toRealPath();
+		java.nio.file.attribute.BasicFileAttributes attributes = java.nio.file.Files.readAttributes(path, java.nio.file.attribute.BasicFileAttributes.class);
+		long size = attributes.size();
+		java.nio.file.attribute.FileTime modified = attributes.lastModifiedTime();
+
+		synchronized (this) {
+			Entry entry = entries.get(path);
+			if (entry != null && entry.isCurrent(size, modified) && !entry.idle.isEmpty()) {
+				++hits;
+				if (listener != null)
+					listener.cacheLookup(CACHE_NAME, true);
+				return new Handle(entry, entry.idle.pop());
+			}
+			++misses;
+			if (listener != null)
+				listener.cacheLookup(CACHE_NAME, false);
+		}
+
+		// Open the file without holding the lock, so other files can be looked up meanwhile
+		MSG msg = new MSG(path.toString(), validator, limits, listener);
+		java.util.ArrayList<MSG> unused = new java.util.ArrayList<MSG>();
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(path);
+			if (entry == null || !entry.isCurrent(size, modified)) {
+				if (entry != null)
+					evict(entry, unused);
+				entry = new Entry(path, size, modified);
+				entries.put(path, entry);
+				bytesHeld += size;
+				java.util.Iterator<Entry> iter = entries.values().iterator();
+				while ((entries.size() > maxEntries || bytesHeld > maxBytes) && iter.hasNext()) {
+					Entry eldest = iter.next();
+					if (eldest == entry)
+						break;
+					iter.remove();
+					markEvicted(eldest, unused);
+				}
+			}
+		}
+		closeAll(unused);
+		return new Handle(entry, msg);
+	}
+
+	/** Remove an entry from the cache.
+	*	@param	entry	The entry to remove
+	*	@param	unused	The list to add the entry's unused MSG objects to, so they can be closed
+	*/
+	private void evict(Entry entry, java.util.ArrayList<MSG> unused)
+	{
+		entries.remove(entry.path);
+		markEvicted(entry, unused);
+	}
+
+	/** Mark an entry which has been removed from the cache as evicted. The MSG objects in use by open handles are closed when
+	*   the handles are closed.
+	*	@param	entry	The entry which has been removed
+	*	@param	unused	The list to add the entry's unused MSG objects to, so they can be closed
+	*/
+	private void markEvicted(Entry entry, java.util.ArrayList<MSG> unused)
+	{
+		entry.evicted = true;
+		bytesHeld -= entry.size;
+		++evictions;
+		unused.addAll(entry.idle);
+		entry.idle.clear();
+	}
+
+	/** Close MSG objects which are no longer needed.
+	*	@param	unused	The MSG objects to close
+	*	@throws	java.io.IOException	There was a problem closing one of the files.
+	*/
+	private static void closeAll(java.util.ArrayList<MSG> unused)
+	throws
+		java.io.IOException
+	{
+		java.io.IOException exception = null;
+		for (MSG msg: unused){
+			try {
+				msg.close();
+			} catch (final java.io.IOException e) {
+				if (exception == null)
+					exception = e;
+			}
+		}
+		if (exception != null)
+			throw exception;
+	}
+
+	/** Evict every file from the cache. Files with open handles are closed when their last handle is closed.
+	*	@throws	java.io.IOException	There was a problem closing one of the files.
+	*/
+	public void clear()
+	throws
+		java.io.IOException
+	{
+		java.util.ArrayList<MSG> unused = new java.util.ArrayList<MSG>();
+		synchronized (this) {
+			java.util.Iterator<Entry> iter = entries.values().iterator();
+			while (iter.hasNext()){
+				Entry entry = iter.next();
+				iter.remove();
+				markEvicted(entry, unused);
+			}
+		}
+		closeAll(unused);
+	}
+
+	/** Get the number of files held.
+	*	@return	The number of files in the cache
+	*/
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	/** Get the total size of the files held.
+	*	@return	The total size in bytes of the files in the cache
+	*/
+	public synchronized long bytesHeld()
+	{
+		return bytesHeld;
+	}
+
+	/** Get the number of lookups which found an unused MSG object for a current cached file.
+	*	@return	The number of cache hits
+	*/
+	public synchronized long hits()
+	{
+		return hits;
+	}
+
+	/** Get the number of lookups which had to open the file.
+	*	@return	The number of cache misses
+	*/
+	public synchronized long misses()
+	{
+		return misses;
+	}
+
+	/** Get the number of files evicted, including files replaced because they had changed.
+	*	@return	The number of evictions
+	*/
+	public synchronized long evictions()
+	{
+		return evictions;
+	}
+
+	/** Get the fraction of lookups which found an unused MSG object for a current cached file.
+	*	@return	The hit rate, from 0 to 1
+	*/
+	public synchronized double hitRate()
+	{
+		return hits + misses == 0 ? 0.0 : (double)hits / (hits + misses);
+	}
+
+	/** Return a String describing the cache statistics.
+	*	@return	The number and size of the files held, and the hits, misses, and evictions
+	*/
+	@Override
+	public synchronized String toString()
+	{
+		return String.format("%d files (%d bytes), %d hits, %d misses (hit rate %.1f%%), %d evictions",
+			entries.size(), bytesHeld, hits, misses, 100 * hitRate(), evictions);
+	}
+
+	/** Test this class by opening each msg file twice in turn through a cache which holds one file, displaying the statistics after
+	*   each, and then opening it twice at once, checking that the two handles do not share an MSG object.
+	*	@param	args	The msg file or files to open.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.MsgCache msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		MsgCache cache = new MsgCache().maxEntries(1);
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				for (int i = 0; i < 2; ++i) {
+					Handle handle = cache.open(a);
+					try {
+						System.out.printf("%d properties; %s%n", handle.msg().getPropertiesAsList(handle.msg().getDirectoryTree()).size(), cache);
+					} finally {
+						handle.close();
+					}
+				}
+
+				Handle first = cache.open(a);
+				try {
+					Handle second = cache.open(a);
+					try {
+						if (first.msg() == second.msg())
+							System.out.println("Two open handles share an MSG object");
+						System.out.printf("two handles open at once; %s%n", cache);
+					} finally {
+						second.close();
+					}
+				} finally {
+					first.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+
+		try {
+			cache.clear();
+		} catch (final java.io.IOException e) {
+			System.out.println("There was a problem closing the cached files");
+		}
+		System.out.println(cache);
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.jmcleodfoss.msg;
+
+/** Resource limits for reading a msg file, to stop a single malicious or corrupt file from exhausting the heap or CPU of a
+*   process reading many files. The limits are given when the file is opened, and are enforced both while it is opened and as its
+*   contents are read; exceeding one throws a {@link LimitExceededException}. By default there are no limits.
+*   <p>
+*   A MsgLimits object is only read once it has been passed to {@link MSG#MSG(String, Validator, MsgLimits)}, so one instance may
+*   be shared by several threads opening different files as long as it is not changed.
+*	@see Validator
+*/
+public class MsgLimits
+{
+	/** The maximum number of bytes allocated for a single stream */
+	private long maxAllocation = Integer.MAX_VALUE;
+
+	/** The maximum number of directory entries */
+	private int maxDirectoryEntries = Integer.MAX_VALUE;
+
+	/** The maximum number of strings in the named property string stream */
+	private int maxNamedPropertyStrings = Integer.MAX_VALUE;
+
+	/** The maximum depth of embedded messages, where the top-level message is at depth 0 */
+	private int maxEmbeddedDepth = Integer.MAX_VALUE;
+
+	/** The maximum number of characters of text decoded from string properties over the lifetime of the MSG object */
+	private long maxDecodedText = Long.MAX_VALUE;
+
+	/** Create a set of limits with every limit disabled; use the setters to enable the limits required. */
+	public MsgLimits()
+	{
+	}
+
+	/** Set the maximum number of bytes allocated to read a single stream, as done by {@link MSG#getFile} and when reading property
+	*   and named property streams.
+	*	@param	maxAllocation	The maximum number of bytes
+	*	@return	This MsgLimits object, to allow calls to be chained
+	*/
+	public MsgLimits maxAllocation(long maxAllocation)
+	{
+		this.maxAllocation = maxAllocation;
+		return this;
+	}
+
+	/** Set the maximum number of entries, including unused entries, in the file's directory.
+	*	@param	maxDirectoryEntries	The maximum number of directory entries
+	*	@return	This MsgLimits object, to allow calls to be chained
+	*/
+	public MsgLimits maxDirectoryEntries(int maxDirectoryEntries)
+	{
+		this.maxDirectoryEntries = maxDirectoryEntries;
+		return this;
+	}
+
+	/** Set the maximum number of strings in the named property string stream.
+	*	@param	maxNamedPropertyStrings	The maximum number of named property strings
+	*	@return	This MsgLimits object, to allow calls to be chained
+	*/
+	public MsgLimits maxNamedPropertyStrings(int maxNamedPropertyStrings)
+	{
+		this.maxNamedPropertyStrings = maxNamedPropertyStrings;
+		return this;
+	}
+
+	/** Set the maximum depth of embedded messages.
+	*	@param	maxEmbeddedDepth	The maximum depth, where the top-level message is at depth 0 and a message attached to it is at
+	*				depth 1
+	*	@return	This MsgLimits object, to allow calls to be chained
+	*/
+	public MsgLimits maxEmbeddedDepth(int maxEmbeddedDepth)
+	{
+		this.maxEmbeddedDepth = maxEmbeddedDepth;
+		return this;
+	}
+
+	/** Set the maximum total number of characters decoded by {@link MSG#getPropertyValue}, {@link MSG#convertFileToString}, the RTF
+	*   decompression methods, {@link JSONExporter}, and {@link MIMEConverter} over the lifetime of an MSG object. Each string is
+	*   checked against the limit before it is decoded, using the largest number of characters its stream can decode to.
+	*	@param	maxDecodedText	The maximum number of characters
+	*	@return	This MsgLimits object, to allow calls to be chained
+	*/
+	public MsgLimits maxDecodedText(long maxDecodedText)
+	{
+		this.maxDecodedText = maxDecodedText;
+		return this;
+	}
+
+	/** Check the size of a buffer to be allocated for a stream.
+	*	@param	size	The number of bytes to allocate
+	*	@throws	LimitExceededException	The size is larger than the limit.
+	*/
+	void checkAllocation(long size)
+	{
+		if (size > maxAllocation)
+			throw new LimitExceededException("Stream size", size, maxAllocation);
+	}
+
+	/** Check the number of directory entries read.
+	*	@param	entries	The number of directory entries
+	*	@throws	LimitExceededException	The number of entries is larger than the limit.
+	*/
+	void checkDirectoryEntries(int entries)
+	{
+		if (entries > maxDirectoryEntries)
+			throw new LimitExceededException("Number of directory entries", entries, maxDirectoryEntries);
+	}
+
+	/** Check the number of named property strings read.
+	*	@param	strings	The number of strings
+	*	@throws	LimitExceededException	The number of strings is larger than the limit.
+	*/
+	void checkNamedPropertyStrings(int strings)
+	{
+		if (strings > maxNamedPropertyStrings)
+			throw new LimitExceededException("Number of named property strings", strings, maxNamedPropertyStrings);
+	}
+
+	/** Check the depth of an embedded message.
+	*	@param	depth	The depth of the embedded message
+	*	@throws	LimitExceededException	The depth is larger than the limit.
+	*/
+	void checkEmbeddedDepth(int depth)
+	{
+		if (depth > maxEmbeddedDepth)
+			throw new LimitExceededException("Embedded message depth", depth, maxEmbeddedDepth);
+	}
+
+	/** Check the total amount of text decoded.
+	*	@param	characters	The total number of characters decoded
+	*	@throws	LimitExceededException	The number of characters is larger than the limit.
+	*/
+	void checkDecodedText(long characters)
+	{
+		if (characters > maxDecodedText)
+			throw new LimitExceededException("Decoded text length", characters, maxDecodedText);
+	}
+}
@@ -0,0 +1,77 @@
+package io.github.jmcleodfoss.msg;
+
+/** A listener for events while a msg file is opened and read, for collecting metrics such as the time spent in each stage of
+*   opening the file and the amount of data read. A listener is passed to {@link MSG#MSG(String, Validator, MsgLimits, MsgListener)};
+*   when none is given, no timings are taken and no events are created. Every method has an empty default implementation, so a
+*   listener need only implement the events it is interested in.
+*   <p>
+*   Listeners are called on the thread using the MSG object. A listener shared by several MSG objects used on different threads
+*   must be thread-safe.
+*	@see MsgStatistics
+*/
+public interface MsgListener
+{
+	/** The stages of opening a msg file, in the order they are done. */
+	enum Stage {
+		/** Reading the file header */
+		HEADER,
+
+		/** Reading the Double-Indirect File Allocation Table */
+		DIFAT,
+
+		/** Reading the File Allocation Table */
+		FAT,
+
+		/** Reading the directory and building the directory tree */
+		DIRECTORY,
+
+		/** Reading the Mini FAT */
+		MINI_FAT,
+
+		/** Reading the named property mappings */
+		NAMED_PROPERTIES
+	}
+
+	/** Called when a stage of opening the file is complete. If the file is opened with a {@link Validator}, the time includes
+	*   the validation done for that stage.
+	*	@param	stage	The stage completed
+	*	@param	nanos	The time the stage took, in nanoseconds
+	*/
+	default void stageCompleted(Stage stage, long nanos)
+	{
+	}
+
+	/** Called when the file has been opened.
+	*	@param	fileName	The name of the file
+	*	@param	nanos		The time taken to open the file, in nanoseconds
+	*/
+	default void fileOpened(String fileName, long nanos)
+	{
+	}
+
+	/** Called when the contents of a stream are read. Streams read through an InputStream or channel are reported when the
+	*   InputStream or channel is created, with the full size of the stream.
+	*	@param	name		The name of the stream's directory entry
+	*	@param	bytes		The number of bytes read
+	*	@param	sectors		The number of sectors, or mini sectors, holding the bytes read
+	*	@param	inMiniStream	Is the stream stored in the mini stream?
+	*/
+	default void streamRead(String name, long bytes, int sectors, boolean inMiniStream)
+	{
+	}
+
+	/** Called when the properties in a properties stream have been decoded.
+	*	@param	count	The number of properties decoded
+	*/
+	default void propertiesDecoded(int count)
+	{
+	}
+
+	/** Called when a cache of data read from the file is consulted.
+	*	@param	cache	The name of the cache
+	*	@param	hit	true if the cache held the data requested, false if it had to be read from the file
+	*/
+	default void cacheLookup(String cache, boolean hit)
+	{
+	}
+}
@@ -0,0 +1,302 @@
+package io.github.jmcleodfoss.msg;
+
+/** A thread-safe {@link MsgListener} which accumulates totals over all the files it is used with, and which can be registered as a
+*   JMX MBean so the totals can be monitored.
+<pre>
+	MsgStatistics statistics = new MsgStatistics();
+	statistics.register("reader");
+	MSG msg = new MSG(fileName, null, new MsgLimits(), statistics);
+</pre>
+*	@see MsgStatisticsMBean
+*/
+public class MsgStatistics implements MsgListener, MsgStatisticsMBean
+{
+	/** The JMX domain used for the ObjectNames of registered statistics */
+	public static final String JMX_DOMAIN = "io.github.jmcleodfoss.msg";
+
+	/** The number of files opened */
+	private final java.util.concurrent.atomic.LongAdder filesOpened = new java.util.concurrent.atomic.LongAdder();
+
+	/** The total time spent opening files */
+	private final java.util.concurrent.atomic.LongAdder openNanos = new java.util.concurrent.atomic.LongAdder();
+
+	/** The total time spent in each stage of opening files, indexed by the stage's ordinal */
+	private final java.util.concurrent.atomic.LongAdder[] stageNanos = new java.util.concurrent.atomic.LongAdder[MsgListener.Stage.values().length];
+
+	/** The number of regular streams read */
+	private final java.util.concurrent.atomic.LongAdder streamReads = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of streams read from the mini stream */
+	private final java.util.concurrent.atomic.LongAdder miniStreamReads = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of bytes read from streams */
+	private final java.util.concurrent.atomic.LongAdder bytesRead = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of sectors read for regular streams */
+	private final java.util.concurrent.atomic.LongAdder sectorsRead = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of mini sectors read for streams in the mini stream */
+	private final java.util.concurrent.atomic.LongAdder miniSectorsRead = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of properties decoded */
+	private final java.util.concurrent.atomic.LongAdder propertiesDecoded = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of cache hits */
+	private final java.util.concurrent.atomic.LongAdder cacheHits = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of cache misses */
+	private final java.util.concurrent.atomic.LongAdder cacheMisses = new java.util.concurrent.atomic.LongAdder();
+
+	/** Create a set of statistics with all totals zero. */
+	public MsgStatistics()
+	{
+		for (int i = 0; i < stageNanos.length; ++i)
+			stageNanos[i] = new java.util.concurrent.atomic.LongAdder();
+	}
+
+	/** Register these statistics with the platform MBean server. The library's dependency on the java.management module is
+	*   optional, so this is the only method which needs it to be present at run time.
+	*	@param	name	The name to register the statistics under, distinguishing them from other registered MsgStatistics objects
+	*	@return	The ObjectName the statistics were registered under, which can be used to unregister them
+	*	@throws	javax.management.JMException	The statistics could not be registered, for example because the name is already in use.
+	*/
+	public javax.management.ObjectName register(String name)
+	throws
+		javax.management.JMException
+	{
+		javax.management.ObjectName objectName = new javax.management.ObjectName(JMX_DOMAIN, new java.util.Hashtable<String, String>(java.util.Map.of("type", "MsgStatistics", "name", javax.management.ObjectName.quote(name))));
+		java.lang.management.ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+		return objectName;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void stageCompleted(MsgListener.Stage stage, long nanos)
+	{
+		stageNanos[stage.ordinal()].add(nanos);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void fileOpened(String fileName, long nanos)
+	{
+		filesOpened.increment();
+		openNanos.add(nanos);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void streamRead(String name, long bytes, int sectors, boolean inMiniStream)
+	{
+		bytesRead.add(bytes);
+		if (inMiniStream) {
+			miniStreamReads.increment();
+			miniSectorsRead.add(sectors);
+		} else {
+			streamReads.increment();
+			sectorsRead.add(sectors);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void propertiesDecoded(int count)
+	{
+		propertiesDecoded.add(count);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void cacheLookup(String cache, boolean hit)
+	{
+		if (hit)
+			cacheHits.increment();
+		else
+			cacheMisses.increment();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getFilesOpened()
+	{
+		return filesOpened.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getOpenNanos()
+	{
+		return openNanos.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getHeaderNanos()
+	{
+		return stageNanos[MsgListener.Stage.HEADER.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getDIFATNanos()
+	{
+		return stageNanos[MsgListener.Stage.DIFAT.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getFATNanos()
+	{
+		return stageNanos[MsgListener.Stage.FAT.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getDirectoryNanos()
+	{
+		return stageNanos[MsgListener.Stage.DIRECTORY.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getMiniFATNanos()
+	{
+		return stageNanos[MsgListener.Stage.MINI_FAT.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getNamedPropertiesNanos()
+	{
+		return stageNanos[MsgListener.Stage.NAMED_PROPERTIES.ordinal()].sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getStreamReads()
+	{
+		return streamReads.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getMiniStreamReads()
+	{
+		return miniStreamReads.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getBytesRead()
+	{
+		return bytesRead.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getSectorsRead()
+	{
+		return sectorsRead.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getMiniSectorsRead()
+	{
+		return miniSectorsRead.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getPropertiesDecoded()
+	{
+		return propertiesDecoded.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getCacheHits()
+	{
+		return cacheHits.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public long getCacheMisses()
+	{
+		return cacheMisses.sum();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void reset()
+	{
+		filesOpened.reset();
+		openNanos.reset();
+		for (java.util.concurrent.atomic.LongAdder adder: stageNanos)
+			adder.reset();
+		streamReads.reset();
+		miniStreamReads.reset();
+		bytesRead.reset();
+		sectorsRead.reset();
+		miniSectorsRead.reset();
+		propertiesDecoded.reset();
+		cacheHits.reset();
+		cacheMisses.reset();
+	}
+
+	/** Return a String describing the statistics.
+	*	@return	A summary of the statistics
+	*/
+	@Override
+	public String toString()
+	{
+		return String.format("%d files opened in %.3f ms (header %.3f, DIFAT %.3f, FAT %.3f, directory %.3f, mini FAT %.3f, named properties %.3f); %d streams and %d mini streams read, %d bytes in %d sectors and %d mini sectors; %d properties decoded; %d cache hits, %d misses",
+			getFilesOpened(), getOpenNanos() / 1e6, getHeaderNanos() / 1e6, getDIFATNanos() / 1e6, getFATNanos() / 1e6, getDirectoryNanos() / 1e6, getMiniFATNanos() / 1e6, getNamedPropertiesNanos() / 1e6,
+			getStreamReads(), getMiniStreamReads(), getBytesRead(), getSectorsRead(), getMiniSectorsRead(), getPropertiesDecoded(), getCacheHits(), getCacheMisses());
+	}
+
+	/** Test this class by opening each msg file, reading all its properties, and displaying the statistics.
+	*	@param	args	The msg file or files to read.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.MsgStatistics msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		MsgStatistics statistics = new MsgStatistics();
+		try {
+			statistics.register("MsgStatistics test");
+		} catch (final javax.management.JMException e) {
+			e.printStackTrace(System.out);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a, null, new MsgLimits(), statistics);
+				try {
+					msg.getPropertiesAsList(msg.getDirectoryTree());
+					for (java.util.Iterator<DirectoryEntryData> iter = msg.attachments(); iter.hasNext(); )
+						msg.getPropertiesAsList(iter.next());
+					for (java.util.Iterator<DirectoryEntryData> iter = msg.recipients(); iter.hasNext(); )
+						msg.getPropertiesAsList(iter.next());
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+			System.out.println(statistics);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package io.github.jmcleodfoss.msg;
+
+/** The JMX management interface for {@link MsgStatistics}. Times are totals in nanoseconds over all files opened since the
+*   statistics were created or last reset.
+*	@see MsgStatistics
+*/
+public interface MsgStatisticsMBean
+{
+	/** Get the number of files opened.
+	*	@return	The number of files opened
+	*/
+	long getFilesOpened();
+
+	/** Get the total time spent opening files.
+	*	@return	The total time spent opening files, in nanoseconds
+	*/
+	long getOpenNanos();
+
+	/** Get the total time spent reading file headers.
+	*	@return	The total time spent in the {@link MsgListener.Stage#HEADER} stage, in nanoseconds
+	*/
+	long getHeaderNanos();
+
+	/** Get the total time spent reading DIFATs.
+	*	@return	The total time spent in the {@link MsgListener.Stage#DIFAT} stage, in nanoseconds
+	*/
+	long getDIFATNanos();
+
+	/** Get the total time spent reading FATs.
+	*	@return	The total time spent in the {@link MsgListener.Stage#FAT} stage, in nanoseconds
+	*/
+	long getFATNanos();
+
+	/** Get the total time spent reading directories.
+	*	@return	The total time spent in the {@link MsgListener.Stage#DIRECTORY} stage, in nanoseconds
+	*/
+	long getDirectoryNanos();
+
+	/** Get the total time spent reading Mini FATs.
+	*	@return	The total time spent in the {@link MsgListener.Stage#MINI_FAT} stage, in nanoseconds
+	*/
+	long getMiniFATNanos();
+
+	/** Get the total time spent reading named property mappings.
+	*	@return	The total time spent in the {@link MsgListener.Stage#NAMED_PROPERTIES} stage, in nanoseconds
+	*/
+	long getNamedPropertiesNanos();
+
+	/** Get the number of regular streams read.
+	*	@return	The number of streams read which are not in the mini stream
+	*/
+	long getStreamReads();
+
+	/** Get the number of streams read from the mini stream.
+	*	@return	The number of streams read which are in the mini stream
+	*/
+	long getMiniStreamReads();
+
+	/** Get the number of bytes read from streams.
+	*	@return	The total number of bytes read
+	*/
+	long getBytesRead();
+
+	/** Get the number of sectors read for regular streams.
+	*	@return	The total number of sectors read
+	*/
+	long getSectorsRead();
+
+	/** Get the number of mini sectors read for streams in the mini stream.
+	*	@return	The total number of mini sectors read
+	*/
+	long getMiniSectorsRead();
+
+	/** Get the number of properties decoded.
+	*	@return	The total number of properties decoded from properties streams
+	*/
+	long getPropertiesDecoded();
+
+	/** Get the number of cache lookups which found the data requested.
+	*	@return	The number of cache hits
+	*/
+	long getCacheHits();
+
+	/** Get the number of cache lookups which did not find the data requested.
+	*	@return	The number of cache misses
+	*/
+	long getCacheMisses();
+
+	/** Reset all the statistics to zero. */
+	void reset();
+}
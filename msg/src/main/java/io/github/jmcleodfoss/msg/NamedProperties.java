@@ -20,25 +20,120 @@ class NamedProperties
 	*/
 	private static final String STRING_STREAM_NAME = "__substg1.0_00040102";
 
-	/** The list of GUIDs */
-	GUID[] guids;
+	/** The key for looking up a named property by property set and LID or name. */
+	private static final class IndexKey
+	{
+		/** The GUID index of the property set */
+		private final int guidIndex;
+
+		/** The LID of a numerical named property, or 0 for a string named property */
+		private final int lid;
+
+		/** The name of a string named property, or null for a numerical named property */
+		private final String name;
+
+		/** Create a key.
+		*	@param	guidIndex	The GUID index of the property set
+		*	@param	lid		The LID of a numerical named property, or 0
+		*	@param	name		The name of a string named property, or null
+		*/
+		private IndexKey(int guidIndex, int lid, String name)
+		{
+			this.guidIndex = guidIndex;
+			this.lid = lid;
+			this.name = name;
+		}
+
+		/** Is this key the same as another object?
+		*	@param	o	The object to compare this key to
+		*	@return	true if o is a key for the same property set and LID or name, false otherwise
+		*/
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof IndexKey))
+				return false;
+			IndexKey other = (IndexKey)o;
+			return guidIndex == other.guidIndex && lid == other.lid && java.util.Objects.equals(name, other.name);
+		}
+
+		/** Get a hash code for this key.
+		*	@return	A hash code combining the property set and LID or name
+		*/
+		@Override
+		public int hashCode()
+		{
+			return (guidIndex * 31 + lid) * 31 + (name == null ? 0 : name.hashCode());
+		}
+	}
+
+	/** The file, as a memory-mapped byte file. */
+	private final java.nio.MappedByteBuffer mbb;
+
+	/** The file header */
+	private final Header header;
+
+	/** The file's FAT */
+	private final FAT fat;
+
+	/** The file's Mini FAT */
+	private final MiniFAT miniFAT;
+
+	/** The resource limits for reading the file */
+	private final MsgLimits limits;
+
+	/** The GUID stream, or null if there is none */
+	private DirectoryEntry guidStream;
 
-	/** The list of entries from the Entry Stream */
-	private EntryStreamEntry[] entries;
+	/** The entry stream, or null if there is none */
+	private DirectoryEntry entryStream;
+
+	/** The string stream, or null if there is none */
+	private DirectoryEntry stringStream;
+
+	/** The property name to property ID mapping streams */
+	private final java.util.ArrayList<DirectoryEntry> mappingStreams = new java.util.ArrayList<DirectoryEntry>();
+
+	/** The number of entries in the entry stream */
+	private final int numEntries;
+
+	/** The contents of the GUID stream, read when first needed */
+	private java.nio.ByteBuffer guidStreamData;
+
+	/** The contents of the entry stream, read when first needed */
+	private java.nio.ByteBuffer entryStreamData;
+
+	/** The contents of the string stream, read when first needed */
+	private java.nio.ByteBuffer stringStreamData;
+
+	/** The list of GUIDs, each created when first needed */
+	private GUID[] guids;
+
+	/** The names of the named properties, by property index, each decoded when first needed */
+	private String[] names;
 
 	/** The number of numeric named property entries */
 	private int numNumericalNamedProperties;
 
-	/** The list of strings in the string stream, stored by stream offset */
-	java.util.HashMap<Integer, String> stringsByOffset;
+	/** The list of strings in the string stream, stored by stream offset, decoded when first needed */
+	private java.util.HashMap<Integer, String> stringsByOffset;
+
+	/** The strings decoded from the string stream so far, by stream offset. Each is counted once against the limit. */
+	private final java.util.HashMap<Integer, String> decodedStrings = new java.util.HashMap<Integer, String>();
+
+	/** The list of strings in the string stream, in order found, decoded when first needed */
+	private java.util.ArrayList<String> strings;
 
-	/** The list of strings in the string stream, in order found. */
-	java.util.ArrayList<String> strings;
+	/** The property indices of the named properties, built when first needed */
+	private java.util.HashMap<IndexKey, Integer> index;
 
-	/** The property ID to name mapping array */
+	/** The GUID indices of the property sets, by canonical GUID string and well-known name in lower case, built with the index */
+	private java.util.HashMap<String, Integer> guidIndices;
+
+	/** The property ID to name mapping array, decoded when first needed */
 	private EntryStreamEntry[] propertyNameMappings;
 
-	/** Read in the named properties information
+	/** Find the named properties information
 	*	@param	mbb	The CFB file to read from
 	*	@param	header	The CFB header information
 	*	@param	fat	The file allocation table
@@ -47,37 +142,72 @@ class NamedProperties
 	*/
 	NamedProperties(java.nio.MappedByteBuffer mbb, Header header, FAT fat, Directory directory, MiniFAT miniFAT)
 	{
-		java.util.ArrayList<DirectoryEntry> children = directory.getChildren(directory.namedPropertiesMappingEntry);
-		java.util.Iterator<DirectoryEntry> iter = children.iterator();
+		this(mbb, header, fat, directory, miniFAT, new MsgLimits());
+	}
+
+	/** Find the named properties information. The streams are not read until a named property is looked up, and then only the
+	*   entries needed are decoded.
+	*	@param	mbb	The CFB file to read from
+	*	@param	header	The CFB header information
+	*	@param	fat	The file allocation table
+	*	@param	directory	The directory
+	*	@param	miniFAT	The mini sector file allocation table.
+	*	@param	limits	The resource limits for reading the file
+	*/
+	NamedProperties(java.nio.MappedByteBuffer mbb, Header header, FAT fat, Directory directory, MiniFAT miniFAT, MsgLimits limits)
+	{
+		this.mbb = mbb;
+		this.header = header;
+		this.fat = fat;
+		this.miniFAT = miniFAT;
+		this.limits = limits;
 
 		// After accounting for the GUID, Entry, and String streams, the
 		// remaining entries are for the property name / property ID mappings.
-		int numPropertyNameMappings = children.size() - 3;
-		propertyNameMappings = new EntryStreamEntry[numPropertyNameMappings];
-		int pnmIndex = 0;
-
-		while(iter.hasNext()){
-			DirectoryEntry de = iter.next();
-
-			// Read in all the data at once. This is overkill for the simple
-			// case where all the data fits into one mini sector, but makes
-			// it much easier to deal with an Entry stream which spans multiple
-			// mini and non-mini sectors.
-			byte[] data = (byte[])de.getContent(mbb, header, fat, miniFAT);
-
-			if (GUID_STREAM_NAME.equals(de.directoryEntryName)){
-				setGUIDS(de, data);
-			} else if (ENTRY_STREAM_NAME.equals(de.directoryEntryName)){
-				setEntries(de, data);
-			} else if (STRING_STREAM_NAME.equals(de.directoryEntryName)){
-				setStrings(de, data);
-			} else {
-				propertyNameMappings[pnmIndex] = new EntryStreamEntry(data);
-				if (propertyNameMappings[pnmIndex].propertyType == EntryStreamEntry.PropertyType.NUMERICAL_NAMED_PROPERTY)
-					++numNumericalNamedProperties;
-				++pnmIndex;
-			}
+		for (DirectoryEntry de: directory.getChildren(directory.namedPropertiesMappingEntry)){
+			if (GUID_STREAM_NAME.equals(de.directoryEntryName))
+				guidStream = de;
+			else if (ENTRY_STREAM_NAME.equals(de.directoryEntryName))
+				entryStream = de;
+			else if (STRING_STREAM_NAME.equals(de.directoryEntryName))
+				stringStream = de;
+			else
+				mappingStreams.add(de);
 		}
+		numEntries = entryStream == null ? 0 : (int)(entryStream.streamSize / DataType.SIZEOF_LONG);
+	}
+
+	/** Get the contents of a stream. A stream held in adjacent sectors is read in place from the file; other streams are copied.
+	*	@param	de	The stream to read, which may be null
+	*	@return	The contents of the stream in little-endian order, or an empty buffer if there is no stream
+	*/
+	private java.nio.ByteBuffer read(DirectoryEntry de)
+	{
+		if (de == null)
+			return java.nio.ByteBuffer.allocate(0);
+
+		java.nio.ByteBuffer data = null;
+		try {
+			java.nio.ByteBuffer run = new EntryChannel(de, mbb, header, fat, miniFAT).nextRunView();
+			if (run != null && run.remaining() == de.streamSize)
+				data = run.slice();
+		} catch (final java.io.IOException e) {
+			// The sector chain is broken; read what there is
+		}
+		if (data == null)
+			data = java.nio.ByteBuffer.wrap(de.getContent(mbb, header, fat, miniFAT));
+		return data.order(java.nio.ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/** Get an entry from the entry stream.
+	*	@param	index	The 0-based index of the entry
+	*	@return	The entry
+	*/
+	private EntryStreamEntry entry(int index)
+	{
+		if (entryStreamData == null)
+			entryStreamData = read(entryStream);
+		return new EntryStreamEntry(entryStreamData, index * DataType.SIZEOF_LONG);
 	}
 
 	/** Get the numerical or string entry contents of the Entry Stream
@@ -87,7 +217,8 @@ class NamedProperties
 	java.util.ArrayList<EntryStreamEntryData> getEntryStreamEntries(EntryStreamEntry.PropertyType propertyType)
 	{
 		java.util.ArrayList<EntryStreamEntryData> npEntries = new java.util.ArrayList<EntryStreamEntryData>();
-		for (EntryStreamEntry entry: entries){
+		for (int i = 0; i < numEntries; ++i){
+			EntryStreamEntry entry = entry(i);
 			if (entry.propertyType != propertyType)
 				continue;
 			npEntries.add(new EntryStreamEntryData(entry));
@@ -99,23 +230,155 @@ class NamedProperties
 	*	@param	propertyIndex	The 0-based property index
 	*	@return	The name of the property if it has a string name,
 	*		otherwise a string representation of the GUID
+	*	@throws	LimitExceededException	Decoding the name would take the number of strings decoded past the limit.
 	*/
 	String getPropertyName(int propertyIndex)
 	{
-		if (propertyIndex >= entries.length)
-			return String.format("Out of bounds error (%d >= %d", propertyIndex, entries.length);
+		if (propertyIndex >= numEntries)
+			return String.format("Out of bounds error (%d >= %d", propertyIndex, numEntries);
+
+		if (names == null)
+			names = new String[numEntries];
+		if (names[propertyIndex] == null)
+			names[propertyIndex] = decodePropertyName(entry(propertyIndex));
+		return names[propertyIndex];
+	}
 
-		if (entries[propertyIndex].propertyType == EntryStreamEntry.PropertyType.STRING_NAMED_PROPERTY)
-			return stringsByOffset.get(entries[propertyIndex].nameIdentifierOrStringOffset);
+	/** Decode the name of a named property, using the names already resolved for other files where possible.
+	*	@param	entry	The entry stream entry for the property
+	*	@return	The name of the property if it has a string name,
+	*		otherwise a string representation of the GUID
+	*	@throws	LimitExceededException	Decoding the name would take the number of strings decoded past the limit.
+	*	@see	NamedPropertyNameCache
+	*/
+	private String decodePropertyName(EntryStreamEntry entry)
+	{
+		if (entry.propertyType == EntryStreamEntry.PropertyType.STRING_NAMED_PROPERTY) {
+			GUID guid = entry.guidIndex >= 1 && entry.guidIndex - 3 < numGUIDs() ? indexToGUID(entry.guidIndex) : null;
+			return decodeString(guid, entry.nameIdentifierOrStringOffset);
+		}
 
-		if (PropertyLIDs.lids.keySet().contains(entries[propertyIndex].nameIdentifierOrStringOffset)) {
-			GUID guid = PropertyLIDs.guids.get(entries[propertyIndex].nameIdentifierOrStringOffset);
-			if (guid != null && guid.equals(guids[propertyIndex])) {
-				return PropertyLIDs.lids.get(entries[propertyIndex].nameIdentifierOrStringOffset);
-			}
+		GUID guid = indexToGUID(entry.guidIndex);
+		String name = NamedPropertyNameCache.get(guid, entry.nameIdentifierOrStringOffset);
+		if (name != null)
+			return name;
+
+		name = PropertyLIDs.find(entry.nameIdentifierOrStringOffset, guid);
+		if (name == null)
+			name = String.format("Not found: 0x%04x (%s)", entry.nameIdentifierOrStringOffset, guid);
+		return NamedPropertyNameCache.put(guid, entry.nameIdentifierOrStringOffset, name);
+	}
+
+	/** Decode the string at the given offset in the string stream, unless it has already been decoded.
+	*	@param	guid	The property set of the string named property, or null if the name should not be cached
+	*	@param	offset	The offset of the string's length in the string stream
+	*	@return	The string, or null if there is no valid string at the given offset
+	*	@throws	LimitExceededException	Decoding the string would take the number of strings decoded past the limit.
+	*/
+	private String decodeString(GUID guid, int offset)
+	{
+		if (stringStreamData == null)
+			stringStreamData = read(stringStream);
+
+		if (offset < 0 || offset > stringStreamData.limit() - DataType.SIZEOF_INT)
+			return null;
+		int stringLen = stringStreamData.getInt(offset);
+		if (stringLen < 0 || stringLen > stringStreamData.limit() - offset - DataType.SIZEOF_INT)
+			return null;
+
+		String name = decodedStrings.get(offset);
+		if (name != null)
+			return name;
+		limits.checkNamedPropertyStrings(decodedStrings.size() + 1);
+
+		int start = offset + DataType.SIZEOF_INT;
+		if (guid != null)
+			name = NamedPropertyNameCache.get(guid, stringStreamData, start, stringLen);
+		if (name == null) {
+			byte[] data = new byte[stringLen];
+			java.nio.ByteBuffer view = stringStreamData.duplicate();
+			view.position(start);
+			view.get(data);
+			name = DataType.createString(data);
+			if (guid != null)
+				name = NamedPropertyNameCache.put(guid, stringStreamData, start, stringLen, name);
+		}
+		decodedStrings.put(offset, name);
+		return name;
+	}
+
+	/** Find the property index of a numerical named property.
+	*	@param	propertySet	The property set GUID, as a canonical GUID string or the name of a well-known property set
+	*	@param	lid		The LID of the property
+	*	@return	The property index of the named property, or -1 if the file does not define it
+	*	@throws	LimitExceededException	Building the index would take the number of strings decoded past the limit.
+	*/
+	int findPropertyIndex(String propertySet, int lid)
+	{
+		return findPropertyIndex(propertySet, lid, null);
+	}
+
+	/** Find the property index of a string named property.
+	*	@param	propertySet	The property set GUID, as a canonical GUID string or the name of a well-known property set
+	*	@param	name		The name of the property
+	*	@return	The property index of the named property, or -1 if the file does not define it
+	*	@throws	LimitExceededException	Building the index would take the number of strings decoded past the limit.
+	*/
+	int findPropertyIndex(String propertySet, String name)
+	{
+		return findPropertyIndex(propertySet, 0, name);
+	}
+
+	/** Find the property index of a named property, building the index if necessary.
+	*	@param	propertySet	The property set GUID, as a canonical GUID string or the name of a well-known property set
+	*	@param	lid		The LID of a numerical named property, or 0
+	*	@param	name		The name of a string named property, or null
+	*	@return	The property index of the named property, or -1 if the file does not define it
+	*	@throws	LimitExceededException	Building the index would take the number of strings decoded past the limit.
+	*/
+	private int findPropertyIndex(String propertySet, int lid, String name)
+	{
+		if (index == null)
+			buildIndex();
+
+		Integer guidIndex = guidIndices.get(propertySet.toLowerCase(java.util.Locale.ROOT));
+		if (guidIndex == null)
+			return -1;
+		Integer propertyIndex = index.get(new IndexKey(guidIndex, lid, name));
+		return propertyIndex == null ? -1 : propertyIndex;
+	}
+
+	/** Build the index of named properties by property set and LID or name from the entry stream. The names of string named
+	*   properties are decoded through {@link #getPropertyName}, so they count against the limit on named property strings.
+	*	@throws	LimitExceededException	Decoding the names would take the number of strings decoded past the limit.
+	*/
+	private void buildIndex()
+	{
+		guidIndices = new java.util.HashMap<String, Integer>();
+		addGUIDIndex(GUID.PS_MAPI, 1);
+		addGUIDIndex(GUID.PS_PUBLIC_STRINGS, 2);
+		for (int i = 0; i < numGUIDs(); ++i)
+			addGUIDIndex(guid(i), i + 3);
+
+		java.util.HashMap<IndexKey, Integer> index = new java.util.HashMap<IndexKey, Integer>();
+		for (int i = 0; i < numEntries; ++i){
+			EntryStreamEntry entry = entry(i);
+			if (entry.propertyType == EntryStreamEntry.PropertyType.STRING_NAMED_PROPERTY)
+				index.putIfAbsent(new IndexKey(entry.guidIndex, 0, getPropertyName(i)), i);
+			else
+				index.putIfAbsent(new IndexKey(entry.guidIndex, entry.nameIdentifierOrStringOffset, null), i);
 		}
+		this.index = index;
+	}
 
-		return String.format("Not found: 0x%04x (%s)", entries[propertyIndex].nameIdentifierOrStringOffset, indexToGUID(entries[propertyIndex].guidIndex));
+	/** Add a property set to the GUID indices under its canonical GUID string and its well-known name, if any.
+	*	@param	guid		The property set GUID
+	*	@param	guidIndex	The GUID index of the property set
+	*/
+	private void addGUIDIndex(GUID guid, int guidIndex)
+	{
+		guidIndices.putIfAbsent(guid.toString(), guidIndex);
+		guidIndices.putIfAbsent(GUID.name(guid).toLowerCase(java.util.Locale.ROOT), guidIndex);
 	}
 
 	/** Get the Property ID to Property Name Mapping entry for the given index
@@ -124,6 +387,8 @@ class NamedProperties
 	*/
 	KVPArray<String, String> getPropertyIdToPropertyNameMapping(int mappingIndex)
 	{
+		EntryStreamEntry[] propertyNameMappings = propertyNameMappings();
+
 		KVPArray<String, String> mapping = new KVPArray<String, String>();
 		if (mappingIndex < 0 || mappingIndex > propertyNameMappings.length) {
 			return mapping;
@@ -140,10 +405,48 @@ class NamedProperties
 		mapping.add("GUID", indexToGUID(propertyNameMappings[mappingIndex].guidIndex).toString());
 
 		if (propertyNameMappings[mappingIndex].propertyType == EntryStreamEntry.PropertyType.STRING_NAMED_PROPERTY)
-			mapping.add("PropertyName", strings.get(propertyNameMappings[mappingIndex].propertyIndex - numNumericalNamedProperties));
+			mapping.add("PropertyName", strings().get(propertyNameMappings[mappingIndex].propertyIndex - numNumericalNamedProperties));
 		return mapping;
 	}
 
+	/** Get the list of GUIDs from the GUID stream.
+	*	@return	The GUIDs in the GUID stream
+	*/
+	GUID[] guids()
+	{
+		for (int i = 0; i < numGUIDs(); ++i)
+			guid(i);
+		return guids != null ? guids : new GUID[0];
+	}
+
+	/** Get the number of GUIDs in the GUID stream.
+	*	@return	The number of GUIDs in the GUID stream
+	*/
+	private int numGUIDs()
+	{
+		return guidStream == null ? 0 : (int)(guidStream.streamSize / GUID.SIZE);
+	}
+
+	/** Get a GUID from the GUID stream.
+	*	@param	index	The 0-based index of the GUID in the GUID stream
+	*	@return	The GUID
+	*/
+	private GUID guid(int index)
+	{
+		if (guids == null) {
+			guidStreamData = read(guidStream);
+			guids = new GUID[numGUIDs()];
+		}
+		if (guids[index] == null) {
+			byte[] data = new byte[GUID.SIZE];
+			java.nio.ByteBuffer view = guidStreamData.duplicate();
+			view.position(index * GUID.SIZE);
+			view.get(data);
+			guids[index] = new GUID(data);
+		}
+		return guids[index];
+	}
+
 	/** Get the GUID from the GUID index
 	*	@param	index	The GUID index
 	*	@return	The GUID corresponding to the GUID index
@@ -154,60 +457,82 @@ class NamedProperties
 			return GUID.PS_MAPI;
 		if (index == 2)
 			return GUID.PS_PUBLIC_STRINGS;
-		return guids[index-3];
+		return guid(index-3);
+	}
+
+	/** Get the property name to property ID mapping entries, decoding them if necessary.
+	*	@return	The first entry of each property name to property ID mapping stream
+	*/
+	private EntryStreamEntry[] propertyNameMappings()
+	{
+		if (propertyNameMappings == null) {
+			EntryStreamEntry[] mappings = new EntryStreamEntry[mappingStreams.size()];
+			for (int i = 0; i < mappings.length; ++i){
+				mappings[i] = new EntryStreamEntry(read(mappingStreams.get(i)), 0);
+				if (mappings[i].propertyType == EntryStreamEntry.PropertyType.NUMERICAL_NAMED_PROPERTY)
+					++numNumericalNamedProperties;
+			}
+			propertyNameMappings = mappings;
+		}
+		return propertyNameMappings;
 	}
 
-	/** Set the entries from the entry stream.
-	*	@param	de	The String Stream containing the entries
-	*	@param	data	The data for this entrym
+	/** Get the strings in the string stream, by offset, decoding them if necessary.
+	*	@return	The strings in the string stream, indexed by their offset in the stream
+	*	@throws	LimitExceededException	The stream holds more strings than allowed.
 	*/
-	private void setEntries(DirectoryEntry de, byte[] data)
+	java.util.HashMap<Integer, String> stringsByOffset()
 	{
-		int numEntries = (int)de.streamSize / DataType.SIZEOF_LONG;
-		entries = new EntryStreamEntry[numEntries];
-		for (int i = 0; i < numEntries; ++i)
-			entries[i] = new EntryStreamEntry(java.util.Arrays.copyOfRange(data, i*DataType.SIZEOF_LONG, (i+1)*DataType.SIZEOF_LONG));
+		if (stringsByOffset == null)
+			setStrings();
+		return stringsByOffset;
 	}
 
-	/** Set the GUIDs from the GUID stream
-	*	@param	de	The String Stream containing the GUIDs.
-	*	@param	data	The data for this entrym
+	/** Get the strings in the string stream, in the order found, decoding them if necessary.
+	*	@return	The strings in the string stream
+	*	@throws	LimitExceededException	The stream holds more strings than allowed.
 	*/
-	private void setGUIDS(DirectoryEntry de, byte[] data)
+	private java.util.ArrayList<String> strings()
 	{
-		int numGUIDS = (int)de.streamSize / GUID.SIZE;
-		guids = new GUID[numGUIDS];
-		for (int i = 0; i < numGUIDS; ++i)
-			guids[i] = new GUID(java.util.Arrays.copyOfRange(data, i*GUID.SIZE, (i+1)*GUID.SIZE));
+		if (strings == null)
+			setStrings();
+		return strings;
 	}
 
 	/** Set the strings from the string stream.
-	*	@param	de	The String Stream containing the entries
-	*	@param	data	The data for this entry
+	*	@throws	LimitExceededException	The stream holds more strings than allowed.
 	*/
-	private void setStrings(DirectoryEntry de, byte[] data)
+	private void setStrings()
 	{
-		java.nio.ByteBuffer thisStream = java.nio.ByteBuffer.wrap(data);
-		thisStream.order(java.nio.ByteOrder.LITTLE_ENDIAN);
-		stringsByOffset = new java.util.HashMap<Integer, String>();
-		strings = new java.util.ArrayList<String>();
-		int nRemaining = (int)de.streamSize;
+		if (stringStreamData == null)
+			stringStreamData = read(stringStream);
+		java.nio.ByteBuffer thisStream = stringStreamData.duplicate().order(java.nio.ByteOrder.LITTLE_ENDIAN);
+		java.util.HashMap<Integer, String> byOffset = new java.util.HashMap<Integer, String>();
+		java.util.ArrayList<String> inOrder = new java.util.ArrayList<String>();
+		int nRemaining = thisStream.remaining();
 		while (nRemaining > 0) {
 			// Retrieving UTF-16 characters
 			int position = thisStream.position();
+			if (nRemaining < DataType.SIZEOF_INT)
+				break;
 			int stringLen = thisStream.getInt();
 			nRemaining -= 4;
-			byte[] stringData = new byte[stringLen];
-			thisStream.get(stringData);
+
+			// A length running past the end of the stream is corrupt; stop rather than allocate it
+			if (stringLen < 0 || stringLen > nRemaining)
+				break;
+			String propertyName = decodeString(null, position);
+			thisStream.position(thisStream.position() + stringLen);
 			nRemaining -= stringLen;
-			String propertyName = DataType.createString(stringData);
-			strings.add(propertyName);
-			stringsByOffset.put(position, propertyName);
+			inOrder.add(propertyName);
+			byOffset.put(position, propertyName);
 			for (int i = 0; i < stringLen % 4 && nRemaining > 0; ++i){
 				thisStream.get();
 				--nRemaining;
 			}
 		}
+		stringsByOffset = byOffset;
+		strings = inOrder;
 	}
 
 	/**	Test this class by printing out the GUID, entries, and strings.
@@ -239,32 +564,45 @@ class NamedProperties
 					NamedProperties namedPropertiesMapping = new NamedProperties(mbb, header, fat, directory, miniFAT);
 
 					System.out.println("GUID stream");
-					for (int i = 0; i < namedPropertiesMapping.guids.length; ++i)
-						System.out.println(namedPropertiesMapping.guids[i]);
+					for (GUID guid: namedPropertiesMapping.guids())
+						System.out.println(guid);
 
 					System.out.println();
 					System.out.println("Entry stream");
-					for (int i = 0; i < namedPropertiesMapping.entries.length; ++i)
-						System.out.println(namedPropertiesMapping.entries[i]);
+					for (int i = 0; i < namedPropertiesMapping.numEntries; ++i)
+						System.out.println(namedPropertiesMapping.entry(i));
 
 					System.out.println();
 					System.out.println("String stream");
-					java.util.Iterator<String> iter_s = namedPropertiesMapping.strings.iterator();
+					java.util.Iterator<String> iter_s = namedPropertiesMapping.strings().iterator();
 					while (iter_s.hasNext())
 						System.out.println(iter_s.next());
 					System.out.println();
-					java.util.Iterator<Integer> iter_i = namedPropertiesMapping.stringsByOffset.keySet().iterator();
+					java.util.Iterator<Integer> iter_i = namedPropertiesMapping.stringsByOffset().keySet().iterator();
 					while (iter_i.hasNext()){
 						int key = iter_i.next();
-						System.out.printf("0x%04x: %s%n", key, namedPropertiesMapping.stringsByOffset.get(key));
+						System.out.printf("0x%04x: %s%n", key, namedPropertiesMapping.stringsByOffset().get(key));
+					}
+
+					System.out.println();
+					int found = 0;
+					for (int i = 0; i < namedPropertiesMapping.numEntries; ++i){
+						EntryStreamEntry entry = namedPropertiesMapping.entry(i);
+						String propertySet = namedPropertiesMapping.indexToGUID(entry.guidIndex).toString();
+						int propertyIndex = entry.propertyType == EntryStreamEntry.PropertyType.STRING_NAMED_PROPERTY
+							? namedPropertiesMapping.findPropertyIndex(propertySet, namedPropertiesMapping.getPropertyName(i))
+							: namedPropertiesMapping.findPropertyIndex(propertySet, entry.nameIdentifierOrStringOffset);
+						if (propertyIndex == i)
+							++found;
 					}
+					System.out.printf("Reverse lookup found %d of %d entries%n", found, namedPropertiesMapping.numEntries);
 
 					System.out.println();
 					System.out.println("Entries");
-					for (int i = 0; i < namedPropertiesMapping.propertyNameMappings.length; ++i)
+					for (EntryStreamEntry mapping: namedPropertiesMapping.propertyNameMappings())
 						System.out.printf("%s GUID %s%n",
-							namedPropertiesMapping.propertyNameMappings[i],
-							namedPropertiesMapping.indexToGUID(namedPropertiesMapping.propertyNameMappings[i].guidIndex)
+							mapping,
+							namedPropertiesMapping.indexToGUID(mapping.guidIndex)
 							);
 				} catch (final java.io.IOException e) {
 					System.out.printf("There was a problem reading from file %s%n", a);
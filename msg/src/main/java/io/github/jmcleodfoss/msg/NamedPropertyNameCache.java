@@ -0,0 +1,272 @@
+package io.github.jmcleodfoss.msg;
+
+/** A process-wide cache of resolved named property names, shared by all MSG objects. Most msg files use the same few hundred named
+*   properties, so the names resolved for one file can be reused for the next: numerical named properties skip the LID lookup, and
+*   string named properties are compared against the cached name in place rather than being decoded from UTF-16. Files which use
+*   the same named property share a single String for its name.
+*   <p>
+*   Names are keyed by property set GUID, kind, and either the LID or a hash of the UTF-16 name. The cache is safe for concurrent
+*   use, and holds at most {@link #maxEntries} names; once it is full, further names are resolved as usual but not added.
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/81159dd0-649e-4491-b216-877008b23f65">MS-OXMSG Section 2.2.3.1.2: Entry Stream</a>
+*/
+public final class NamedPropertyNameCache
+{
+	/** The default maximum number of names held */
+	public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+	/** The key for a named property name. */
+	private static final class Key
+	{
+		/** The property set the named property belongs to */
+		private final GUID guid;
+
+		/** Is this a string named property, rather than a numerical named property? */
+		private final boolean isString;
+
+		/** The LID for numerical named properties, or the hash of the name for string named properties */
+		private final int id;
+
+		/** Create a key.
+		*	@param	guid		The property set the named property belongs to
+		*	@param	isString	Is this a string named property?
+		*	@param	id		The LID or name hash
+		*/
+		private Key(GUID guid, boolean isString, int id)
+		{
+			this.guid = guid;
+			this.isString = isString;
+			this.id = id;
+		}
+
+		/** Is this key the same as another object?
+		*	@param	o	The object to compare this key to
+		*	@return	true if o is a key for the same property set, kind, and LID or name hash, false otherwise
+		*/
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof Key))
+				return false;
+			Key other = (Key)o;
+			return isString == other.isString && id == other.id && guid.equals(other.guid);
+		}
+
+		/** Get a hash code for this key.
+		*	@return	A hash code combining the property set, kind, and LID or name hash
+		*/
+		@Override
+		public int hashCode()
+		{
+			return (guid.hashCode() * 31 + id) * 2 + (isString ? 1 : 0);
+		}
+	}
+
+	/** The names held */
+	private static final java.util.concurrent.ConcurrentHashMap<Key, String> names = new java.util.concurrent.ConcurrentHashMap<Key, String>();
+
+	/** The maximum number of names held */
+	private static volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+
+	/** The number of lookups which found a name */
+	private static final java.util.concurrent.atomic.LongAdder hits = new java.util.concurrent.atomic.LongAdder();
+
+	/** The number of lookups which did not find a name */
+	private static final java.util.concurrent.atomic.LongAdder misses = new java.util.concurrent.atomic.LongAdder();
+
+	/** This class has only static members. */
+	private NamedPropertyNameCache()
+	{
+	}
+
+	/** Set the maximum number of names held. Reducing the maximum does not remove names already held; use {@link #clear} to do
+	*   that.
+	*	@param	maxEntries	The maximum number of names to hold, or 0 to stop adding names
+	*/
+	public static void maxEntries(int maxEntries)
+	{
+		NamedPropertyNameCache.maxEntries = maxEntries;
+	}
+
+	/** Look up the name of a numerical named property.
+	*	@param	guid	The property set the property belongs to
+	*	@param	lid	The property's LID
+	*	@return	The name of the property, or null if it is not held
+	*/
+	static String get(GUID guid, int lid)
+	{
+		return count(names.get(new Key(guid, false, lid)));
+	}
+
+	/** Add the name of a numerical named property.
+	*	@param	guid	The property set the property belongs to
+	*	@param	lid	The property's LID
+	*	@param	name	The name of the property
+	*	@return	The name held for the property, which is name unless another thread added it first
+	*/
+	static String put(GUID guid, int lid, String name)
+	{
+		return put(new Key(guid, false, lid), name);
+	}
+
+	/** Look up the name of a string named property from its UTF-16LE encoding, without decoding it.
+	*	@param	guid	The property set the property belongs to
+	*	@param	data	The buffer holding the name
+	*	@param	offset	The offset of the name in the buffer
+	*	@param	length	The length of the name in bytes
+	*	@return	The name of the property, or null if it is not held
+	*/
+	static String get(GUID guid, java.nio.ByteBuffer data, int offset, int length)
+	{
+		String name = names.get(new Key(guid, true, hash(data, offset, length)));
+		if (name != null && !matches(name, data, offset, length))
+			name = null;
+		return count(name);
+	}
+
+	/** Add the name of a string named property.
+	*	@param	guid	The property set the property belongs to
+	*	@param	data	The buffer holding the name's UTF-16LE encoding
+	*	@param	offset	The offset of the name in the buffer
+	*	@param	length	The length of the name in bytes
+	*	@param	name	The decoded name
+	*	@return	The name held for the property, which is name unless another thread added it first
+	*/
+	static String put(GUID guid, java.nio.ByteBuffer data, int offset, int length, String name)
+	{
+		String held = put(new Key(guid, true, hash(data, offset, length)), name);
+		return held.equals(name) ? held : name;
+	}
+
+	/** Add a name, if there is room.
+	*	@param	key	The key for the name
+	*	@param	name	The name
+	*	@return	The name held for the key, or name if the cache is full
+	*/
+	private static String put(Key key, String name)
+	{
+		if (names.size() >= maxEntries)
+			return name;
+		String held = names.putIfAbsent(key, name);
+		return held != null ? held : name;
+	}
+
+	/** Count a lookup as a hit or a miss.
+	*	@param	name	The name found, or null
+	*	@return	The name found, or null
+	*/
+	private static String count(String name)
+	{
+		if (name != null)
+			hits.increment();
+		else
+			misses.increment();
+		return name;
+	}
+
+	/** Compute the hash of a UTF-16LE name.
+	*	@param	data	The buffer holding the name
+	*	@param	offset	The offset of the name in the buffer
+	*	@param	length	The length of the name in bytes
+	*	@return	A hash of the bytes of the name
+	*/
+	private static int hash(java.nio.ByteBuffer data, int offset, int length)
+	{
+		int hash = length;
+		for (int i = 0; i < length; ++i)
+			hash = hash * 31 + data.get(offset + i);
+		return hash;
+	}
+
+	/** Is a name the same as the given UTF-16LE encoding?
+	*	@param	name	The name to compare
+	*	@param	data	The buffer holding the encoded name
+	*	@param	offset	The offset of the encoded name in the buffer
+	*	@param	length	The length of the encoded name in bytes
+	*	@return	true if the encoded name is the same as name, false otherwise
+	*/
+	private static boolean matches(String name, java.nio.ByteBuffer data, int offset, int length)
+	{
+		if (name.length() * 2 != length)
+			return false;
+		for (int i = 0; i < name.length(); ++i){
+			char c = (char)((data.get(offset + 2*i) & 0xff) | (data.get(offset + 2*i + 1) & 0xff) << 8);
+			if (c != name.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+	/** Remove all names from the cache. */
+	public static void clear()
+	{
+		names.clear();
+	}
+
+	/** Get the number of names held.
+	*	@return	The number of names in the cache
+	*/
+	public static int size()
+	{
+		return names.size();
+	}
+
+	/** Get the number of lookups which found a name.
+	*	@return	The number of cache hits
+	*/
+	public static long hits()
+	{
+		return hits.sum();
+	}
+
+	/** Get the number of lookups which did not find a name.
+	*	@return	The number of cache misses
+	*/
+	public static long misses()
+	{
+		return misses.sum();
+	}
+
+	/** Return a String describing the cache statistics.
+	*	@return	The number of names held, and the hits and misses
+	*/
+	public static String statistics()
+	{
+		return String.format("%d names, %d hits, %d misses", names.size(), hits.sum(), misses.sum());
+	}
+
+	/** Test this class by reading the properties of each msg file, displaying the cache statistics after each one.
+	*	@param	args	The msg file or files to read.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.NamedPropertyNameCache msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			try {
+				MSG msg = new MSG(a);
+				try {
+					msg.getPropertiesAsList(msg.getDirectoryTree());
+					for (java.util.Iterator<DirectoryEntryData> iter = msg.attachments(); iter.hasNext(); )
+						msg.getPropertiesAsList(iter.next());
+					for (java.util.Iterator<DirectoryEntryData> iter = msg.recipients(); iter.hasNext(); )
+						msg.getPropertiesAsList(iter.next());
+					System.out.printf("%s: %s%n", a, statistics());
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -14,5 +14,13 @@ public class NotCFBFileException extends Exception {
 	{
 		super();
 	}
+
+	/**	Create a NotCFBFileException with a description of the problem.
+	*	@param	message	A description of why the file is not a valid CFB file
+	*/
+	NotCFBFileException(String message)
+	{
+		super(message);
+	}
 }
 
@@ -25,7 +25,7 @@ enum ObjectType {
 	ROOT_STORAGE(0x05, "Root Storage Object");
 
 	/** The actual object type. */
-	private final byte type;
+	final byte type;
 
 	/** The name of the object type. */
 	private final String name;
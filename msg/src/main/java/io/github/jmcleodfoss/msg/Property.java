@@ -7,6 +7,14 @@ package io.github.jmcleodfoss.msg;
 */
 public abstract class Property
 {
+	/** The size of each property record in a Properties stream
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/3be0f1c8-6dec-46ea-ad81-1ad30b0ac816">MS-OXMSG Section 2.4.2.1: Fixed Length Property Entry</a>
+	*/
+	static final int RECORD_SIZE = 16;
+
+	/** The offset of the value within a property record, after the property tag and the flags */
+	static final int VALUE_OFFSET = 8;
+
 	/** The property tag, consisting of a 2-byte property ID and a 2-byte data type as (Property ID) &lt;&lt; 16 | (Data Type)
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxprops/6f258f9a-5727-4a8e-b9d8-9bb729487ff8">MS-OXPROPS Section 2: Structures</a>
 	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxcdata/0c77892e-288e-435a-9c49-be1c20c7afdb">MS-OXCDATA Section 2.11.1: Property Data Types</a>
@@ -243,14 +251,14 @@ public abstract class Property
 		int propertyTag = bb.getInt();
 		int propertyId = propertyTag >>> 16;
 
-		String propertyName;
-		if (PropertyTags.tags.keySet().contains(propertyTag)) {
-			propertyName = PropertyTags.tags.get(propertyTag);
-		} else if ((propertyId & 0x8000) != 0) {
-			int propertyIndex = propertyId & 0x7fff;
-			propertyName = namedProperties.getPropertyName(propertyIndex);
-		} else {
-			propertyName = String.format("Not found: 0x%04x", propertyId);
+		String propertyName = PropertyTags.find(propertyTag);
+		if (propertyName == null) {
+			if ((propertyId & 0x8000) != 0) {
+				int propertyIndex = propertyId & 0x7fff;
+				propertyName = namedProperties.getPropertyName(propertyIndex);
+			} else {
+				propertyName = String.format("Not found: 0x%04x", propertyId);
+			}
 		}
 		int flags = bb.getInt();
 
@@ -0,0 +1,244 @@
+package io.github.jmcleodfoss.msg;
+
+/** An opt-in cache of decoded property tables and small substorage values, so that repeatedly displaying the properties of the same
+*   objects, as interactive viewers do, only decodes them once. The cache is bounded by the total size of the streams the cached
+*   values were decoded from, evicting the least recently used values first. A cache is attached to an MSG object with
+*   {@link MSG#setPropertyCache}; it may be shared by several MSG objects to bound their total memory use.
+*   <p>
+*   Example:
+*   <pre>
+*	msg.setPropertyCache(new PropertyCache(4 * 1024 * 1024));
+*   </pre>
+*	@see MSG#getPropertiesAsHashMap(DirectoryEntryData)
+*	@see MSG#getPropertiesAsList(DirectoryEntryData)
+*	@see MSG#getPropertyValue(Property)
+*/
+public class PropertyCache
+{
+	/** The cache name reported to listeners */
+	public static final String CACHE_NAME = "PropertyCache";
+
+	/** The default size of the largest substorage whose value is cached */
+	public static final int DEFAULT_MAX_VALUE_SIZE = 4096;
+
+	/** A cached value and the size of the stream it was decoded from. */
+	private static class Value
+	{
+		/** The cached value: an ArrayList of Property objects for a Properties stream, or a String for a substorage */
+		final Object value;
+
+		/** The size of the stream the value was decoded from */
+		final long size;
+
+		/** Create a cached value.
+		*	@param	value	The decoded value
+		*	@param	size	The size of the stream the value was decoded from
+		*/
+		Value(Object value, long size)
+		{
+			this.value = value;
+			this.size = size;
+		}
+	}
+
+	/** The cached values, indexed by the entry they were decoded from, in order from least to most recently used */
+	private final java.util.LinkedHashMap<DirectoryEntry, Value> values = new java.util.LinkedHashMap<DirectoryEntry, Value>(16, 0.75f, true);
+
+	/** The maximum total size of the streams the cached values were decoded from */
+	private final long maxBytes;
+
+	/** The size of the largest substorage whose value is cached */
+	private int maxValueSize = DEFAULT_MAX_VALUE_SIZE;
+
+	/** The total size of the streams the cached values were decoded from */
+	private long bytesHeld;
+
+	/** The number of lookups which found a cached value */
+	private long hits;
+
+	/** The number of lookups which did not find a cached value */
+	private long misses;
+
+	/** Create a cache.
+	*	@param	maxBytes	The maximum total size of the streams the cached values were decoded from
+	*/
+	public PropertyCache(long maxBytes)
+	{
+		this.maxBytes = maxBytes;
+	}
+
+	/** Set the size of the largest substorage whose value is cached. The default is {@link #DEFAULT_MAX_VALUE_SIZE}.
+	*	@param	maxValueSize	The size in bytes of the largest substorage whose value is cached
+	*	@return	This cache
+	*/
+	public PropertyCache maxValueSize(int maxValueSize)
+	{
+		this.maxValueSize = maxValueSize;
+		return this;
+	}
+
+	/** Get the cached properties decoded from a Properties stream.
+	*	@param	propertiesEntry	The Properties stream
+	*	@return	The cached properties, which must not be modified, or null if they are not cached
+	*/
+	@SuppressWarnings("unchecked")
+	synchronized java.util.ArrayList<Property> getProperties(DirectoryEntry propertiesEntry)
+	{
+		return (java.util.ArrayList<Property>)lookup(propertiesEntry);
+	}
+
+	/** Get the cached value of a substorage.
+	*	@param	de	The substorage
+	*	@return	The cached value, or null if it is not cached
+	*/
+	synchronized String getValue(DirectoryEntry de)
+	{
+		return (String)lookup(de);
+	}
+
+	/** Look up a cached value, counting the hit or miss.
+	*	@param	de	The entry the value was decoded from
+	*	@return	The cached value, or null if it is not cached
+	*/
+	private Object lookup(DirectoryEntry de)
+	{
+		Value value = values.get(de);
+		if (value == null) {
+			++misses;
+			return null;
+		}
+		++hits;
+		return value.value;
+	}
+
+	/** Cache the properties decoded from a Properties stream.
+	*	@param	propertiesEntry	The Properties stream
+	*	@param	properties	The properties decoded from the stream, which must not be modified afterwards
+	*/
+	synchronized void putProperties(DirectoryEntry propertiesEntry, java.util.ArrayList<Property> properties)
+	{
+		put(propertiesEntry, properties);
+	}
+
+	/** Cache the value of a substorage, if it is small enough.
+	*	@param	de	The substorage
+	*	@param	value	The value decoded from the substorage
+	*/
+	synchronized void putValue(DirectoryEntry de, String value)
+	{
+		if (de.streamSize <= maxValueSize)
+			put(de, value);
+	}
+
+	/** Cache a value, evicting the least recently used values if the cache is full.
+	*	@param	de	The entry the value was decoded from
+	*	@param	value	The decoded value
+	*/
+	private void put(DirectoryEntry de, Object value)
+	{
+		if (de.streamSize > maxBytes)
+			return;
+
+		Value previous = values.put(de, new Value(value, de.streamSize));
+		if (previous != null)
+			bytesHeld -= previous.size;
+		bytesHeld += de.streamSize;
+
+		java.util.Iterator<Value> iter = values.values().iterator();
+		while (bytesHeld > maxBytes && iter.hasNext()){
+			bytesHeld -= iter.next().size;
+			iter.remove();
+		}
+	}
+
+	/** Remove all values from the cache. */
+	public synchronized void clear()
+	{
+		values.clear();
+		bytesHeld = 0;
+	}
+
+	/** Get the number of values held.
+	*	@return	The number of property tables and substorage values in the cache
+	*/
+	public synchronized int size()
+	{
+		return values.size();
+	}
+
+	/** Get the total size of the streams the cached values were decoded from.
+	*	@return	The total size in bytes of the streams the cached values were decoded from
+	*/
+	public synchronized long bytesHeld()
+	{
+		return bytesHeld;
+	}
+
+	/** Get the number of lookups which found a cached value.
+	*	@return	The number of cache hits
+	*/
+	public synchronized long hits()
+	{
+		return hits;
+	}
+
+	/** Get the number of lookups which did not find a cached value.
+	*	@return	The number of cache misses
+	*/
+	public synchronized long misses()
+	{
+		return misses;
+	}
+
+	/** Return a String describing the cache statistics.
+	*	@return	The number and size of the values held, and the hits and misses
+	*/
+	@Override
+	public synchronized String toString()
+	{
+		return String.format("%d values (%d bytes), %d hits, %d misses", values.size(), bytesHeld, hits, misses);
+	}
+
+	/** Test this class by reading all the properties and property values of each msg file twice, displaying the cache statistics
+	*   after each pass.
+	*	@param	args	The msg file or files to read.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.PropertyCache msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					PropertyCache cache = new PropertyCache(1024 * 1024);
+					msg.setPropertyCache(cache);
+					for (int i = 0; i < 2; ++i) {
+						for (Property property: msg.getPropertiesAsHashMap(msg.getDirectoryTree()).values())
+							msg.getPropertyValue(property);
+						for (java.util.Iterator<DirectoryEntryData> iter = msg.attachments(); iter.hasNext(); )
+							msg.getPropertiesAsList(iter.next());
+						for (java.util.Iterator<DirectoryEntryData> iter = msg.recipients(); iter.hasNext(); )
+							msg.getPropertiesAsList(iter.next());
+						System.out.println(cache);
+					}
+				} finally {
+					msg.close();
+				}
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 // DO NOT EDIT THIS FILE
-// Automatically generated on Sun, Oct 25, 2020 11:02:41 AM by msgreader/extras/getpropertylids.sh
+// Automatically generated on Mon, Oct 19, 2026 10:14:08 AM by msgreader/extras/getpropertylids.sh
 // Any changes must be made to that file.
 package io.github.jmcleodfoss.msg;
 
@@ -416,831 +416,1257 @@ public class PropertyLIDs
 		public static final int PidLidNoteY = 0x00008b05;
 		public static final int PidLidCategories = 0x00009000;
 
-	static final java.util.HashMap<Integer, String> lids = new java.util.HashMap<Integer, String>();
-	static final java.util.HashMap<Integer, GUID> guids = new java.util.HashMap<Integer, GUID>();
-	static {
+	/** The known LIDs, in increasing order */
+	private static final int[] LIDS = {
+		PidLidAttendeeCriticalChange,
+		PidLidWhere,
+		PidLidGlobalObjectId,
+		PidLidIsSilent,
+		PidLidIsRecurring,
+		PidLidRequiredAttendees,
+		PidLidOptionalAttendees,
+		PidLidResourceAttendees,
+		PidLidDelegateMail,
+		PidLidIsException,
+		PidLidSingleInvite,
+		PidLidTimeZone,
+		PidLidStartRecurrenceDate,
+		PidLidStartRecurrenceTime,
+		PidLidEndRecurrenceDate,
+		PidLidEndRecurrenceTime,
+		PidLidDayInterval,
+		PidLidWeekInterval,
+		PidLidMonthInterval,
+		PidLidYearInterval,
+		PidLidClientIntent,
+		PidLidMonthOfYearMask,
+		PidLidOldRecurrenceType,
+		PidLidOwnerCriticalChange,
+		PidLidCalendarType,
+		PidLidAllAttendeesList,
+		PidLidCleanGlobalObjectId,
+		PidLidAppointmentMessageClass,
+		PidLidMeetingType,
+		PidLidOldLocation,
+		PidLidOldWhenStartWhole,
+		PidLidOldWhenEndWhole,
+		PidLidDayOfMonth,
+		PidLidICalendarDayOfWeekMask,
+		PidLidOccurrences,
+		PidLidMonthOfYear,
+		PidLidNoEndDateFlag,
+		PidLidRecurrenceDuration,
+		PidLidFileUnder,
+		PidLidFileUnderId,
+		PidLidAddressBookHomeMessageDatabase,
+		PidLidContactItemData,
+		PidLidAddressBookHomeMessageTransferAgent,
+		PidLidTcvConstLongOne,
+		PidLidAddressBookMember,
+		PidLidContactItemData2,
+		PidLidReferredBy,
+		PidLidDepartment,
+		PidLidHasPicture,
+		PidLidHomeAddress,
+		PidLidWorkAddress,
+		PidLidOtherAddress,
+		PidLidPostalAddressId,
+		PidLidContactCharacterSet,
+		PidLidAutoLog,
+		PidLidFileUnderList,
+		PidLidEmailList,
+		PidLidAddressBookProviderEmailList,
+		PidLidAddressBookProviderArrayType,
+		PidLidHtml,
+		PidLidYomiFirstName,
+		PidLidYomiLastName,
+		PidLidYomiCompanyName,
+		PidLidBusinessCardDisplayDefinition,
+		PidLidBusinessCardCardPicture,
+		PidLidPromptSendUpdate,
+		PidLidWorkAddressStreet,
+		PidLidWorkAddressCity,
+		PidLidWorkAddressState,
+		PidLidWorkAddressPostalCode,
+		PidLidWorkAddressCountry,
+		PidLidWorkAddressPostOfficeBox,
+		PidLidDistributionListChecksum,
+		PidLidBirthdayEventEntryId,
+		PidLidAnniversaryEventEntryId,
+		PidLidContactUserField1,
+		PidLidContactUserField2,
+		PidLidContactUserField3,
+		PidLidContactUserField4,
+		PidLidDistributionListName,
+		PidLidDistributionListOneOffMembers,
+		PidLidDistributionListMembers,
+		PidLidInstantMessagingAddress,
+		PidLidDistributionListStream,
+		PidLidEmail1DisplayName,
+		PidLidEmail1EntryId,
+		PidLidEmail1AddressType,
+		PidLidEmail1EmailAddress,
+		PidLidEmail1OriginalDisplayName,
+		PidLidEmail1OriginalEntryId,
+		PidLidEmail1RichTextFormat,
+		PidLidEmail1EmailType,
+		PidLidEmail2DisplayName,
+		PidLidEmail2EntryId,
+		PidLidEmail2AddressType,
+		PidLidEmail2EmailAddress,
+		PidLidEmail2OriginalDisplayName,
+		PidLidEmail2OriginalEntryId,
+		PidLidEmail2RichTextFormat,
+		PidLidEmail2EmailType,
+		PidLidEmail3DisplayName,
+		PidLidEmail3EntryId,
+		PidLidEmail3AddressType,
+		PidLidEmail3EmailAddress,
+		PidLidEmail3OriginalDisplayName,
+		PidLidEmail3OriginalEntryId,
+		PidLidEmail3RichTextFormat,
+		PidLidEmail3RichtextFormat,
+		PidLidEmail3EmailType,
+		PidLidFax1DisplayName,
+		PidLidFax1EntryId,
+		PidLidFax1AddressType,
+		PidLidFax1EmailAddress,
+		PidLidFax1OriginalDisplayName,
+		PidLidFax1OriginalEntryId,
+		PidLidFax1RichTextFormat,
+		PidLidFax1EmailType,
+		PidLidFax2DisplayName,
+		PidLidFax2EntryId,
+		PidLidFax2AddressType,
+		PidLidFax2EmailAddress,
+		PidLidFax2OriginalDisplayName,
+		PidLidFax2OriginalEntryId,
+		PidLidFax2RichTextFormat,
+		PidLidFax2EmailType,
+		PidLidFax3DisplayName,
+		PidLidFax3EntryId,
+		PidLidFax3AddressType,
+		PidLidFax3EmailAddress,
+		PidLidFax3OriginalDisplayName,
+		PidLidFax3OriginalEntryId,
+		PidLidFax3RichTextFormat,
+		PidLidFax3EmailType,
+		PidLidFreeBusyLocation,
+		PidLidUserX509Certificate,
+		PidLidHomeAddressCountryCode,
+		PidLidWorkAddressCountryCode,
+		PidLidOtherAddressCountryCode,
+		PidLidAddressCountryCode,
+		PidLidBirthdayLocal,
+		PidLidWeddingAnniversaryLocal,
+		PidLidIsContactLinked,
+		PidLidContactLinkedGlobalAddressListEntryId,
+		PidLidContactLinkSMTPAddressCache,
+		PidLidContactLinkLinkRejectHistory,
+		PidLidContactLinkGlobalAddressListLinkState,
+		PidLidContactLinkGlobalAddressListLinkId,
+		PidLidTaskStatus,
+		PidLidPercentComplete,
+		PidLidTeamTask,
+		PidLidTaskStartDate,
+		PidLidTaskDueDate,
+		PidLidTaskResetReminder,
+		PidLidTaskAccepted,
+		PidLidTaskDeadOccurrence,
+		PidLidTaskDateCompleted,
+		PidLidTaskActualEffort,
+		PidLidTaskEstimatedEffort,
+		PidLidTaskVersion,
+		PidLidTaskState,
+		PidLidTaskLastUpdate,
+		PidLidTaskRecurrence,
+		PidLidTaskAssigners,
+		PidLidTaskStatusOnComplete,
+		PidLidTaskHistory,
+		PidLidTaskUpdates,
+		PidLidTaskComplete,
+		PidLidTaskFCreator,
+		PidLidTaskOwner,
+		PidLidTaskMultipleRecipients,
+		PidLidTaskAssigner,
+		PidLidTaskLastUser,
+		PidLidTaskOrdinal,
+		PidLidTaskNoCompute,
+		PidLidTaskLastDelegate,
+		PidLidTaskFRecurring,
+		PidLidTaskRole,
+		PidLidTaskOwnership,
+		PidLidTaskAcceptanceState,
+		PidLidTaskFFixOffline,
+		PidLidTaskCustomFlags,
+		PidLidSendMeetingAsIcal,
+		PidLidAppointmentSequence,
+		PidLidAppointmentSequenceTime,
+		PidLidAppointmentLastSequence,
+		PidLidChangeHighlight,
+		PidLidBusyStatus,
+		PidLidFExceptionalBody,
+		PidLidAppointmentAuxiliaryFlags,
+		PidLidLocation,
+		PidLidMeetingWorkspaceUrl,
+		PidLidForwardInstance,
+		PidLidLinkedTaskItems,
+		PidLidAppointmentStartWhole,
+		PidLidAppointmentEndWhole,
+		PidLidAppointmentStartTime,
+		PidLidAppointmentEndTime,
+		PidLidAppointmentEndDate,
+		PidLidAppointmentStartDate,
+		PidLidAppointmentDuration,
+		PidLidAppointmentColor,
+		PidLidAppointmentSubType,
+		PidLidAppointmentRecur,
+		PidLidAppointmentStateFlags,
+		PidLidResponseStatus,
+		PidLidAppointmentReplyTime,
+		PidLidRecurring,
+		PidLidIntendedBusyStatus,
+		PidLidAppointmentUpdateTime,
+		PidLidExceptionReplaceTime,
+		PidLidFInvited,
+		PidLidFExceptionalAttendees,
+		PidLidOwnerName,
+		PidLidFOthersAppointment,
+		PidLidAppointmentReplyName,
+		PidLidRecurrenceType,
+		PidLidRecurrencePatternW,
+		PidLidRecurrencePattern,
+		PidLidTimeZoneStruct,
+		PidLidTimeZoneDescription,
+		PidLidClipStart,
+		PidLidClipEnd,
+		PidLidOriginalStoreEntryId,
+		PidLidAllAttendeesString,
+		PidLidAutoFillLocation,
+		PidLidToAttendeesString,
+		PidLidCcAttendeesString,
+		PidLidTrustRecipientHighlights,
+		PidLidConferencingCheck,
+		PidLidConferencingType,
+		PidLidDirectory,
+		PidLidOrganizerAlias,
+		PidLidAutoStartCheck,
+		PidLidAutoStartWhen,
+		PidLidAllowExternalCheck,
+		PidLidCollaborateDoc,
+		PidLidNetShowUrl,
+		PidLidOnlinePassword,
+		PidLidAppointmentProposedStartWhole,
+		PidLidAppointmentProposedEndWhole,
+		PidLidAppointmentProposedDuration,
+		PidLidAppointmentCounterProposal,
+		PidLidAppointmentProposalNumber,
+		PidLidAppointmentNotAllowPropose,
+		PidLidAppointmentUnsendableRecipients,
+		PidLidAppointmentTimeZoneDefinitionStartDisplay,
+		PidLidAppointmentTimeZoneDefinitionEndDisplay,
+		PidLidAppointmentTimeZoneDefinitionRecur,
+		PidLidForwardNotificationRecipients,
+		PidLidInboundICalStream,
+		PidLidSingleBodyICal,
+		PidLidReminderDelta,
+		PidLidReminderTime,
+		PidLidReminderSet,
+		PidLidReminderTimeTime,
+		PidLidReminderTimeDate,
+		PidLidPrivate,
+		PidLidAgingDontAgeMe,
+		PidLidSideEffects,
+		PidLidRemoteStatus,
+		PidLidSmartNoAttach,
+		PidLidCommonStart,
+		PidLidCommonEnd,
+		PidLidTaskMode,
+		PidLidTaskGlobalId,
+		PidLidAutoProcessState,
+		PidLidReminderOverride,
+		PidLidReminderType,
+		PidLidReminderPlaySound,
+		PidLidReminderFileParameter,
+		PidLidVerbStream,
+		PidLidVerbResponse,
+		PidLidFlagRequest,
+		PidLidBilling,
+		PidLidNonSendableTo,
+		PidLidNonSendableCc,
+		PidLidNonSendableBcc,
+		PidLidCompanies,
+		PidLidContacts,
+		PidLidNonSendToTrackStatus,
+		PidLidNonSendCcTrackStatus,
+		PidLidNonSendBccTrackStatus,
+		PidLidCurrentVersion,
+		PidLidCurrentVersionName,
+		PidLidReminderSignalTime,
+		PidLidInternetAccountName,
+		PidLidInternetAccountStamp,
+		PidLidUseTnef,
+		PidLidContactLinkSearchKey,
+		PidLidContactLinkEntry,
+		PidLidContactLinkName,
+		PidLidSharingWebUrl,
+		PidLidSpamOriginalFolder,
+		PidLidToDoOrdinalDate,
+		PidLidToDoSubOrdinal,
+		PidLidToDoTitle,
+		PidLidInfoPathFormName,
+		PidLidClassified,
+		PidLidClassification,
+		PidLidClassificationDescription,
+		PidLidClassificationGuid,
+		PidLidClassificationKeep,
+		PidLidReferenceEntryId,
+		PidLidValidFlagStringProof,
+		PidLidFlagString,
+		PidLidConversationActionMoveFolderEid,
+		PidLidConversationActionMoveStoreEid,
+		PidLidConversationActionMaxDeliveryTime,
+		PidLidConversationProcessed,
+		PidLidConversationActionLastAppliedTime,
+		PidLidConversationActionVersion,
+		PidLidServerProcessed,
+		PidLidServerProcessingActions,
+		PidLidPendingStateForSiteMailboxDocument,
+		PidLidPendingStateForTeamMailboxDocument,
+		PidLidLogType,
+		PidLidLogStart,
+		PidLidLogDuration,
+		PidLidLogEnd,
+		PidLidLogFlags,
+		PidLidLogDocumentPrinted,
+		PidLidLogDocumentSaved,
+		PidLidLogDocumentRouted,
+		PidLidLogDocumentPosted,
+		PidLidLogTypeDesc,
+		PidLidPostRssChannelLink,
+		PidLidPostRssItemLink,
+		PidLidPostRssItemHash,
+		PidLidPostRssItemGuid,
+		PidLidPostRssChannel,
+		PidLidPostRssItemXml,
+		PidLidPostRssSubscription,
+		PidLidSharingStatus,
+		PidLidSharingProviderGuid,
+		PidLidSharingProviderName,
+		PidLidSharingProviderUrl,
+		PidLidSharingRemotePath,
+		PidLidSharingRemoteName,
+		PidLidSharingRemoteUid,
+		PidLidSharingInitiatorName,
+		PidLidSharingInitiatorSmtp,
+		PidLidSharingInitiatorEntryId,
+		PidLidSharingFlags,
+		PidLidSharingProviderExtension,
+		PidLidSharingRemoteUser,
+		PidLidSharingRemotePass,
+		PidLidSharingLocalPath,
+		PidLidSharingLocalName,
+		PidLidSharingLocalUid,
+		PidLidSharingFilter,
+		PidLidSharingLocalType,
+		PidLidSharingFolderEntryId,
+		PidLidSharingCapabilities,
+		PidLidSharingFlavor,
+		PidLidSharingAnonymity,
+		PidLidSharingReciprocation,
+		PidLidSharingPermissions,
+		PidLidSharingInstanceGuid,
+		PidLidSharingRemoteType,
+		PidLidSharingParticipants,
+		PidLidSharingLastSyncTime,
+		PidLidSharingExtensionXml,
+		PidLidSharingRemoteLastModificationTime,
+		PidLidSharingLocalLastModificationTime,
+		PidLidSharingConfigurationUrl,
+		PidLidSharingStart,
+		PidLidSharingStop,
+		PidLidSharingResponseType,
+		PidLidSharingResponseTime,
+		PidLidSharingOriginalMessageEntryId,
+		PidLidSharingSyncInterval,
+		PidLidSharingDetail,
+		PidLidSharingTimeToLive,
+		PidLidSharingBindingEntryId,
+		PidLidSharingIndexEntryId,
+		PidLidSharingRemoteComment,
+		PidLidSharingWorkingHoursStart,
+		PidLidSharingWorkingHoursEnd,
+		PidLidSharingWorkingHoursDays,
+		PidLidSharingWorkingHoursTimeZone,
+		PidLidSharingDataRangeStart,
+		PidLidSharingDataRangeEnd,
+		PidLidSharingRangeStart,
+		PidLidSharingRangeEnd,
+		PidLidSharingRemoteStoreUid,
+		PidLidSharingLocalStoreUid,
+		PidLidSharingRemoteByteSize,
+		PidLidSharingRemoteCrc,
+		PidLidSharingLocalComment,
+		PidLidSharingRoamLog,
+		PidLidSharingRemoteMessageCount,
+		PidLidSharingBrowseUrl,
+		PidLidSharingLastAutoSyncTime,
+		PidLidSharingTimeToLiveAuto,
+		PidLidSharingRemoteVersion,
+		PidLidSharingParentBindingEntryId,
+		PidLidSharingSyncFlags,
+		PidLidNoteColor,
+		PidLidNoteWidth,
+		PidLidNoteHeight,
+		PidLidNoteX,
+		PidLidNoteY,
+		PidLidCategories,
+	};
 
-		lids.put(PidLidAttendeeCriticalChange, "PidLidAttendeeCriticalChange");
-		guids.put(PidLidAttendeeCriticalChange, GUID.PSETID_MEETING);
-		lids.put(PidLidWhere, "PidLidWhere");
-		guids.put(PidLidWhere, GUID.PSETID_MEETING);
-		lids.put(PidLidGlobalObjectId, "PidLidGlobalObjectId");
-		guids.put(PidLidGlobalObjectId, GUID.PSETID_MEETING);
-		lids.put(PidLidIsSilent, "PidLidIsSilent");
-		guids.put(PidLidIsSilent, GUID.PSETID_MEETING);
-		lids.put(PidLidIsRecurring, "PidLidIsRecurring");
-		guids.put(PidLidIsRecurring, GUID.PSETID_MEETING);
-		lids.put(PidLidRequiredAttendees, "PidLidRequiredAttendees");
-		guids.put(PidLidRequiredAttendees, GUID.PSETID_MEETING);
-		lids.put(PidLidOptionalAttendees, "PidLidOptionalAttendees");
-		guids.put(PidLidOptionalAttendees, GUID.PSETID_MEETING);
-		lids.put(PidLidResourceAttendees, "PidLidResourceAttendees");
-		guids.put(PidLidResourceAttendees, GUID.PSETID_MEETING);
-		lids.put(PidLidDelegateMail, "PidLidDelegateMail");
-		guids.put(PidLidDelegateMail, GUID.PSETID_MEETING);
-		lids.put(PidLidIsException, "PidLidIsException");
-		guids.put(PidLidIsException, GUID.PSETID_MEETING);
-		lids.put(PidLidSingleInvite, "PidLidSingleInvite");
-		guids.put(PidLidSingleInvite, GUID.PSETID_MEETING);
-		lids.put(PidLidTimeZone, "PidLidTimeZone");
-		guids.put(PidLidTimeZone, GUID.PSETID_MEETING);
-		lids.put(PidLidStartRecurrenceDate, "PidLidStartRecurrenceDate");
-		guids.put(PidLidStartRecurrenceDate, GUID.PSETID_MEETING);
-		lids.put(PidLidStartRecurrenceTime, "PidLidStartRecurrenceTime");
-		guids.put(PidLidStartRecurrenceTime, GUID.PSETID_MEETING);
-		lids.put(PidLidEndRecurrenceDate, "PidLidEndRecurrenceDate");
-		guids.put(PidLidEndRecurrenceDate, GUID.PSETID_MEETING);
-		lids.put(PidLidEndRecurrenceTime, "PidLidEndRecurrenceTime");
-		guids.put(PidLidEndRecurrenceTime, GUID.PSETID_MEETING);
-		lids.put(PidLidDayInterval, "PidLidDayInterval");
-		guids.put(PidLidDayInterval, GUID.PSETID_MEETING);
-		lids.put(PidLidWeekInterval, "PidLidWeekInterval");
-		guids.put(PidLidWeekInterval, GUID.PSETID_MEETING);
-		lids.put(PidLidMonthInterval, "PidLidMonthInterval");
-		guids.put(PidLidMonthInterval, GUID.PSETID_MEETING);
-		lids.put(PidLidYearInterval, "PidLidYearInterval");
-		guids.put(PidLidYearInterval, GUID.PSETID_MEETING);
-		lids.put(PidLidClientIntent, "PidLidClientIntent");
-		guids.put(PidLidClientIntent, GUID.PSETID_CALENDAR_ASSISTANT);
-		lids.put(PidLidMonthOfYearMask, "PidLidMonthOfYearMask");
-		guids.put(PidLidMonthOfYearMask, GUID.PSETID_MEETING);
-		lids.put(PidLidOldRecurrenceType, "PidLidOldRecurrenceType");
-		guids.put(PidLidOldRecurrenceType, GUID.PSETID_MEETING);
-		lids.put(PidLidOwnerCriticalChange, "PidLidOwnerCriticalChange");
-		guids.put(PidLidOwnerCriticalChange, GUID.PSETID_MEETING);
-		lids.put(PidLidCalendarType, "PidLidCalendarType");
-		guids.put(PidLidCalendarType, GUID.PSETID_MEETING);
-		lids.put(PidLidAllAttendeesList, "PidLidAllAttendeesList");
-		guids.put(PidLidAllAttendeesList, GUID.PSETID_MEETING);
-		lids.put(PidLidCleanGlobalObjectId, "PidLidCleanGlobalObjectId");
-		guids.put(PidLidCleanGlobalObjectId, GUID.PSETID_MEETING);
-		lids.put(PidLidAppointmentMessageClass, "PidLidAppointmentMessageClass");
-		guids.put(PidLidAppointmentMessageClass, GUID.PSETID_MEETING);
-		lids.put(PidLidMeetingType, "PidLidMeetingType");
-		guids.put(PidLidMeetingType, GUID.PSETID_MEETING);
-		lids.put(PidLidOldLocation, "PidLidOldLocation");
-		guids.put(PidLidOldLocation, GUID.PSETID_MEETING);
-		lids.put(PidLidOldWhenStartWhole, "PidLidOldWhenStartWhole");
-		guids.put(PidLidOldWhenStartWhole, GUID.PSETID_MEETING);
-		lids.put(PidLidOldWhenEndWhole, "PidLidOldWhenEndWhole");
-		guids.put(PidLidOldWhenEndWhole, GUID.PSETID_MEETING);
-		lids.put(PidLidDayOfMonth, "PidLidDayOfMonth");
-		guids.put(PidLidDayOfMonth, GUID.PSETID_COMMON);
-		lids.put(PidLidICalendarDayOfWeekMask, "PidLidICalendarDayOfWeekMask");
-		guids.put(PidLidICalendarDayOfWeekMask, GUID.PSETID_COMMON);
-		lids.put(PidLidOccurrences, "PidLidOccurrences");
-		guids.put(PidLidOccurrences, GUID.PSETID_COMMON);
-		lids.put(PidLidMonthOfYear, "PidLidMonthOfYear");
-		guids.put(PidLidMonthOfYear, GUID.PSETID_COMMON);
-		lids.put(PidLidNoEndDateFlag, "PidLidNoEndDateFlag");
-		guids.put(PidLidNoEndDateFlag, GUID.PSETID_COMMON);
-		lids.put(PidLidRecurrenceDuration, "PidLidRecurrenceDuration");
-		guids.put(PidLidRecurrenceDuration, GUID.PSETID_COMMON);
-		lids.put(PidLidFileUnder, "PidLidFileUnder");
-		guids.put(PidLidFileUnder, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFileUnderId, "PidLidFileUnderId");
-		guids.put(PidLidFileUnderId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAddressBookHomeMessageDatabase, "PidLidAddressBookHomeMessageDatabase");
-		guids.put(PidLidAddressBookHomeMessageDatabase, GUID.PS_INTERNAL);
-		lids.put(PidLidContactItemData, "PidLidContactItemData");
-		guids.put(PidLidContactItemData, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAddressBookHomeMessageTransferAgent, "PidLidAddressBookHomeMessageTransferAgent");
-		guids.put(PidLidAddressBookHomeMessageTransferAgent, GUID.PS_INTERNAL);
-		lids.put(PidLidTcvConstLongOne, "PidLidTcvConstLongOne");
-		guids.put(PidLidTcvConstLongOne, GUID.PS_INTERNAL);
-		lids.put(PidLidAddressBookMember, "PidLidAddressBookMember");
-		guids.put(PidLidAddressBookMember, GUID.PS_INTERNAL);
-		lids.put(PidLidContactItemData2, "PidLidContactItemData2");
-		guids.put(PidLidContactItemData2, GUID.PSETID_ADDRESS);
-		lids.put(PidLidReferredBy, "PidLidReferredBy");
-		guids.put(PidLidReferredBy, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDepartment, "PidLidDepartment");
-		guids.put(PidLidDepartment, GUID.PSETID_ADDRESS);
-		lids.put(PidLidHasPicture, "PidLidHasPicture");
-		guids.put(PidLidHasPicture, GUID.PSETID_ADDRESS);
-		lids.put(PidLidHomeAddress, "PidLidHomeAddress");
-		guids.put(PidLidHomeAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddress, "PidLidWorkAddress");
-		guids.put(PidLidWorkAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidOtherAddress, "PidLidOtherAddress");
-		guids.put(PidLidOtherAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidPostalAddressId, "PidLidPostalAddressId");
-		guids.put(PidLidPostalAddressId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactCharacterSet, "PidLidContactCharacterSet");
-		guids.put(PidLidContactCharacterSet, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAutoLog, "PidLidAutoLog");
-		guids.put(PidLidAutoLog, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFileUnderList, "PidLidFileUnderList");
-		guids.put(PidLidFileUnderList, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmailList, "PidLidEmailList");
-		guids.put(PidLidEmailList, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAddressBookProviderEmailList, "PidLidAddressBookProviderEmailList");
-		guids.put(PidLidAddressBookProviderEmailList, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAddressBookProviderArrayType, "PidLidAddressBookProviderArrayType");
-		guids.put(PidLidAddressBookProviderArrayType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidHtml, "PidLidHtml");
-		guids.put(PidLidHtml, GUID.PSETID_ADDRESS);
-		lids.put(PidLidYomiFirstName, "PidLidYomiFirstName");
-		guids.put(PidLidYomiFirstName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidYomiLastName, "PidLidYomiLastName");
-		guids.put(PidLidYomiLastName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidYomiCompanyName, "PidLidYomiCompanyName");
-		guids.put(PidLidYomiCompanyName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidBusinessCardDisplayDefinition, "PidLidBusinessCardDisplayDefinition");
-		guids.put(PidLidBusinessCardDisplayDefinition, GUID.PSETID_ADDRESS);
-		lids.put(PidLidBusinessCardCardPicture, "PidLidBusinessCardCardPicture");
-		guids.put(PidLidBusinessCardCardPicture, GUID.PSETID_ADDRESS);
-		lids.put(PidLidPromptSendUpdate, "PidLidPromptSendUpdate");
-		guids.put(PidLidPromptSendUpdate, GUID.PSETID_COMMON);
-		lids.put(PidLidWorkAddressStreet, "PidLidWorkAddressStreet");
-		guids.put(PidLidWorkAddressStreet, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressCity, "PidLidWorkAddressCity");
-		guids.put(PidLidWorkAddressCity, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressState, "PidLidWorkAddressState");
-		guids.put(PidLidWorkAddressState, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressPostalCode, "PidLidWorkAddressPostalCode");
-		guids.put(PidLidWorkAddressPostalCode, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressCountry, "PidLidWorkAddressCountry");
-		guids.put(PidLidWorkAddressCountry, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressPostOfficeBox, "PidLidWorkAddressPostOfficeBox");
-		guids.put(PidLidWorkAddressPostOfficeBox, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDistributionListChecksum, "PidLidDistributionListChecksum");
-		guids.put(PidLidDistributionListChecksum, GUID.PSETID_ADDRESS);
-		lids.put(PidLidBirthdayEventEntryId, "PidLidBirthdayEventEntryId");
-		guids.put(PidLidBirthdayEventEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAnniversaryEventEntryId, "PidLidAnniversaryEventEntryId");
-		guids.put(PidLidAnniversaryEventEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactUserField1, "PidLidContactUserField1");
-		guids.put(PidLidContactUserField1, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactUserField2, "PidLidContactUserField2");
-		guids.put(PidLidContactUserField2, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactUserField3, "PidLidContactUserField3");
-		guids.put(PidLidContactUserField3, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactUserField4, "PidLidContactUserField4");
-		guids.put(PidLidContactUserField4, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDistributionListName, "PidLidDistributionListName");
-		guids.put(PidLidDistributionListName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDistributionListOneOffMembers, "PidLidDistributionListOneOffMembers");
-		guids.put(PidLidDistributionListOneOffMembers, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDistributionListMembers, "PidLidDistributionListMembers");
-		guids.put(PidLidDistributionListMembers, GUID.PSETID_ADDRESS);
-		lids.put(PidLidInstantMessagingAddress, "PidLidInstantMessagingAddress");
-		guids.put(PidLidInstantMessagingAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidDistributionListStream, "PidLidDistributionListStream");
-		guids.put(PidLidDistributionListStream, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1DisplayName, "PidLidEmail1DisplayName");
-		guids.put(PidLidEmail1DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1EntryId, "PidLidEmail1EntryId");
-		guids.put(PidLidEmail1EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1AddressType, "PidLidEmail1AddressType");
-		guids.put(PidLidEmail1AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1EmailAddress, "PidLidEmail1EmailAddress");
-		guids.put(PidLidEmail1EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1OriginalDisplayName, "PidLidEmail1OriginalDisplayName");
-		guids.put(PidLidEmail1OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1OriginalEntryId, "PidLidEmail1OriginalEntryId");
-		guids.put(PidLidEmail1OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1RichTextFormat, "PidLidEmail1RichTextFormat");
-		guids.put(PidLidEmail1RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail1EmailType, "PidLidEmail1EmailType");
-		guids.put(PidLidEmail1EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2DisplayName, "PidLidEmail2DisplayName");
-		guids.put(PidLidEmail2DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2EntryId, "PidLidEmail2EntryId");
-		guids.put(PidLidEmail2EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2AddressType, "PidLidEmail2AddressType");
-		guids.put(PidLidEmail2AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2EmailAddress, "PidLidEmail2EmailAddress");
-		guids.put(PidLidEmail2EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2OriginalDisplayName, "PidLidEmail2OriginalDisplayName");
-		guids.put(PidLidEmail2OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2OriginalEntryId, "PidLidEmail2OriginalEntryId");
-		guids.put(PidLidEmail2OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2RichTextFormat, "PidLidEmail2RichTextFormat");
-		guids.put(PidLidEmail2RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail2EmailType, "PidLidEmail2EmailType");
-		guids.put(PidLidEmail2EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3DisplayName, "PidLidEmail3DisplayName");
-		guids.put(PidLidEmail3DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3EntryId, "PidLidEmail3EntryId");
-		guids.put(PidLidEmail3EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3AddressType, "PidLidEmail3AddressType");
-		guids.put(PidLidEmail3AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3EmailAddress, "PidLidEmail3EmailAddress");
-		guids.put(PidLidEmail3EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3OriginalDisplayName, "PidLidEmail3OriginalDisplayName");
-		guids.put(PidLidEmail3OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3OriginalEntryId, "PidLidEmail3OriginalEntryId");
-		guids.put(PidLidEmail3OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3RichTextFormat, "PidLidEmail3RichTextFormat");
-		guids.put(PidLidEmail3RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3RichtextFormat, "PidLidEmail3RichtextFormat");
-		guids.put(PidLidEmail3RichtextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidEmail3EmailType, "PidLidEmail3EmailType");
-		guids.put(PidLidEmail3EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1DisplayName, "PidLidFax1DisplayName");
-		guids.put(PidLidFax1DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1EntryId, "PidLidFax1EntryId");
-		guids.put(PidLidFax1EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1AddressType, "PidLidFax1AddressType");
-		guids.put(PidLidFax1AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1EmailAddress, "PidLidFax1EmailAddress");
-		guids.put(PidLidFax1EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1OriginalDisplayName, "PidLidFax1OriginalDisplayName");
-		guids.put(PidLidFax1OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1OriginalEntryId, "PidLidFax1OriginalEntryId");
-		guids.put(PidLidFax1OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1RichTextFormat, "PidLidFax1RichTextFormat");
-		guids.put(PidLidFax1RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax1EmailType, "PidLidFax1EmailType");
-		guids.put(PidLidFax1EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2DisplayName, "PidLidFax2DisplayName");
-		guids.put(PidLidFax2DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2EntryId, "PidLidFax2EntryId");
-		guids.put(PidLidFax2EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2AddressType, "PidLidFax2AddressType");
-		guids.put(PidLidFax2AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2EmailAddress, "PidLidFax2EmailAddress");
-		guids.put(PidLidFax2EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2OriginalDisplayName, "PidLidFax2OriginalDisplayName");
-		guids.put(PidLidFax2OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2OriginalEntryId, "PidLidFax2OriginalEntryId");
-		guids.put(PidLidFax2OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2RichTextFormat, "PidLidFax2RichTextFormat");
-		guids.put(PidLidFax2RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax2EmailType, "PidLidFax2EmailType");
-		guids.put(PidLidFax2EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3DisplayName, "PidLidFax3DisplayName");
-		guids.put(PidLidFax3DisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3EntryId, "PidLidFax3EntryId");
-		guids.put(PidLidFax3EntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3AddressType, "PidLidFax3AddressType");
-		guids.put(PidLidFax3AddressType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3EmailAddress, "PidLidFax3EmailAddress");
-		guids.put(PidLidFax3EmailAddress, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3OriginalDisplayName, "PidLidFax3OriginalDisplayName");
-		guids.put(PidLidFax3OriginalDisplayName, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3OriginalEntryId, "PidLidFax3OriginalEntryId");
-		guids.put(PidLidFax3OriginalEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3RichTextFormat, "PidLidFax3RichTextFormat");
-		guids.put(PidLidFax3RichTextFormat, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFax3EmailType, "PidLidFax3EmailType");
-		guids.put(PidLidFax3EmailType, GUID.PSETID_ADDRESS);
-		lids.put(PidLidFreeBusyLocation, "PidLidFreeBusyLocation");
-		guids.put(PidLidFreeBusyLocation, GUID.PSETID_ADDRESS);
-		lids.put(PidLidUserX509Certificate, "PidLidUserX509Certificate");
-		guids.put(PidLidUserX509Certificate, GUID.PSETID_ADDRESS);
-		lids.put(PidLidHomeAddressCountryCode, "PidLidHomeAddressCountryCode");
-		guids.put(PidLidHomeAddressCountryCode, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWorkAddressCountryCode, "PidLidWorkAddressCountryCode");
-		guids.put(PidLidWorkAddressCountryCode, GUID.PSETID_ADDRESS);
-		lids.put(PidLidOtherAddressCountryCode, "PidLidOtherAddressCountryCode");
-		guids.put(PidLidOtherAddressCountryCode, GUID.PSETID_ADDRESS);
-		lids.put(PidLidAddressCountryCode, "PidLidAddressCountryCode");
-		guids.put(PidLidAddressCountryCode, GUID.PSETID_ADDRESS);
-		lids.put(PidLidBirthdayLocal, "PidLidBirthdayLocal");
-		guids.put(PidLidBirthdayLocal, GUID.PSETID_ADDRESS);
-		lids.put(PidLidWeddingAnniversaryLocal, "PidLidWeddingAnniversaryLocal");
-		guids.put(PidLidWeddingAnniversaryLocal, GUID.PSETID_ADDRESS);
-		lids.put(PidLidIsContactLinked, "PidLidIsContactLinked");
-		guids.put(PidLidIsContactLinked, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactLinkedGlobalAddressListEntryId, "PidLidContactLinkedGlobalAddressListEntryId");
-		guids.put(PidLidContactLinkedGlobalAddressListEntryId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactLinkSMTPAddressCache, "PidLidContactLinkSMTPAddressCache");
-		guids.put(PidLidContactLinkSMTPAddressCache, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactLinkLinkRejectHistory, "PidLidContactLinkLinkRejectHistory");
-		guids.put(PidLidContactLinkLinkRejectHistory, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactLinkGlobalAddressListLinkState, "PidLidContactLinkGlobalAddressListLinkState");
-		guids.put(PidLidContactLinkGlobalAddressListLinkState, GUID.PSETID_ADDRESS);
-		lids.put(PidLidContactLinkGlobalAddressListLinkId, "PidLidContactLinkGlobalAddressListLinkId");
-		guids.put(PidLidContactLinkGlobalAddressListLinkId, GUID.PSETID_ADDRESS);
-		lids.put(PidLidTaskStatus, "PidLidTaskStatus");
-		guids.put(PidLidTaskStatus, GUID.PSETID_TASK);
-		lids.put(PidLidPercentComplete, "PidLidPercentComplete");
-		guids.put(PidLidPercentComplete, GUID.PSETID_TASK);
-		lids.put(PidLidTeamTask, "PidLidTeamTask");
-		guids.put(PidLidTeamTask, GUID.PSETID_TASK);
-		lids.put(PidLidTaskStartDate, "PidLidTaskStartDate");
-		guids.put(PidLidTaskStartDate, GUID.PSETID_TASK);
-		lids.put(PidLidTaskDueDate, "PidLidTaskDueDate");
-		guids.put(PidLidTaskDueDate, GUID.PSETID_TASK);
-		lids.put(PidLidTaskResetReminder, "PidLidTaskResetReminder");
-		guids.put(PidLidTaskResetReminder, GUID.PSETID_TASK);
-		lids.put(PidLidTaskAccepted, "PidLidTaskAccepted");
-		guids.put(PidLidTaskAccepted, GUID.PSETID_TASK);
-		lids.put(PidLidTaskDeadOccurrence, "PidLidTaskDeadOccurrence");
-		guids.put(PidLidTaskDeadOccurrence, GUID.PSETID_TASK);
-		lids.put(PidLidTaskDateCompleted, "PidLidTaskDateCompleted");
-		guids.put(PidLidTaskDateCompleted, GUID.PSETID_TASK);
-		lids.put(PidLidTaskActualEffort, "PidLidTaskActualEffort");
-		guids.put(PidLidTaskActualEffort, GUID.PSETID_TASK);
-		lids.put(PidLidTaskEstimatedEffort, "PidLidTaskEstimatedEffort");
-		guids.put(PidLidTaskEstimatedEffort, GUID.PSETID_TASK);
-		lids.put(PidLidTaskVersion, "PidLidTaskVersion");
-		guids.put(PidLidTaskVersion, GUID.PSETID_TASK);
-		lids.put(PidLidTaskState, "PidLidTaskState");
-		guids.put(PidLidTaskState, GUID.PSETID_TASK);
-		lids.put(PidLidTaskLastUpdate, "PidLidTaskLastUpdate");
-		guids.put(PidLidTaskLastUpdate, GUID.PSETID_TASK);
-		lids.put(PidLidTaskRecurrence, "PidLidTaskRecurrence");
-		guids.put(PidLidTaskRecurrence, GUID.PSETID_TASK);
-		lids.put(PidLidTaskAssigners, "PidLidTaskAssigners");
-		guids.put(PidLidTaskAssigners, GUID.PSETID_TASK);
-		lids.put(PidLidTaskStatusOnComplete, "PidLidTaskStatusOnComplete");
-		guids.put(PidLidTaskStatusOnComplete, GUID.PSETID_TASK);
-		lids.put(PidLidTaskHistory, "PidLidTaskHistory");
-		guids.put(PidLidTaskHistory, GUID.PSETID_TASK);
-		lids.put(PidLidTaskUpdates, "PidLidTaskUpdates");
-		guids.put(PidLidTaskUpdates, GUID.PSETID_TASK);
-		lids.put(PidLidTaskComplete, "PidLidTaskComplete");
-		guids.put(PidLidTaskComplete, GUID.PSETID_TASK);
-		lids.put(PidLidTaskFCreator, "PidLidTaskFCreator");
-		guids.put(PidLidTaskFCreator, GUID.PSETID_TASK);
-		lids.put(PidLidTaskOwner, "PidLidTaskOwner");
-		guids.put(PidLidTaskOwner, GUID.PSETID_TASK);
-		lids.put(PidLidTaskMultipleRecipients, "PidLidTaskMultipleRecipients");
-		guids.put(PidLidTaskMultipleRecipients, GUID.PSETID_TASK);
-		lids.put(PidLidTaskAssigner, "PidLidTaskAssigner");
-		guids.put(PidLidTaskAssigner, GUID.PSETID_TASK);
-		lids.put(PidLidTaskLastUser, "PidLidTaskLastUser");
-		guids.put(PidLidTaskLastUser, GUID.PSETID_TASK);
-		lids.put(PidLidTaskOrdinal, "PidLidTaskOrdinal");
-		guids.put(PidLidTaskOrdinal, GUID.PSETID_TASK);
-		lids.put(PidLidTaskNoCompute, "PidLidTaskNoCompute");
-		guids.put(PidLidTaskNoCompute, GUID.PSETID_TASK);
-		lids.put(PidLidTaskLastDelegate, "PidLidTaskLastDelegate");
-		guids.put(PidLidTaskLastDelegate, GUID.PSETID_TASK);
-		lids.put(PidLidTaskFRecurring, "PidLidTaskFRecurring");
-		guids.put(PidLidTaskFRecurring, GUID.PSETID_TASK);
-		lids.put(PidLidTaskRole, "PidLidTaskRole");
-		guids.put(PidLidTaskRole, GUID.PSETID_TASK);
-		lids.put(PidLidTaskOwnership, "PidLidTaskOwnership");
-		guids.put(PidLidTaskOwnership, GUID.PSETID_TASK);
-		lids.put(PidLidTaskAcceptanceState, "PidLidTaskAcceptanceState");
-		guids.put(PidLidTaskAcceptanceState, GUID.PSETID_TASK);
-		lids.put(PidLidTaskFFixOffline, "PidLidTaskFFixOffline");
-		guids.put(PidLidTaskFFixOffline, GUID.PSETID_TASK);
-		lids.put(PidLidTaskCustomFlags, "PidLidTaskCustomFlags");
-		guids.put(PidLidTaskCustomFlags, GUID.PSETID_TASK);
-		lids.put(PidLidSendMeetingAsIcal, "PidLidSendMeetingAsIcal");
-		guids.put(PidLidSendMeetingAsIcal, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentSequence, "PidLidAppointmentSequence");
-		guids.put(PidLidAppointmentSequence, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentSequenceTime, "PidLidAppointmentSequenceTime");
-		guids.put(PidLidAppointmentSequenceTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentLastSequence, "PidLidAppointmentLastSequence");
-		guids.put(PidLidAppointmentLastSequence, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidChangeHighlight, "PidLidChangeHighlight");
-		guids.put(PidLidChangeHighlight, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidBusyStatus, "PidLidBusyStatus");
-		guids.put(PidLidBusyStatus, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidFExceptionalBody, "PidLidFExceptionalBody");
-		guids.put(PidLidFExceptionalBody, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentAuxiliaryFlags, "PidLidAppointmentAuxiliaryFlags");
-		guids.put(PidLidAppointmentAuxiliaryFlags, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidLocation, "PidLidLocation");
-		guids.put(PidLidLocation, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidMeetingWorkspaceUrl, "PidLidMeetingWorkspaceUrl");
-		guids.put(PidLidMeetingWorkspaceUrl, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidForwardInstance, "PidLidForwardInstance");
-		guids.put(PidLidForwardInstance, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidLinkedTaskItems, "PidLidLinkedTaskItems");
-		guids.put(PidLidLinkedTaskItems, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentStartWhole, "PidLidAppointmentStartWhole");
-		guids.put(PidLidAppointmentStartWhole, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentEndWhole, "PidLidAppointmentEndWhole");
-		guids.put(PidLidAppointmentEndWhole, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentStartTime, "PidLidAppointmentStartTime");
-		guids.put(PidLidAppointmentStartTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentEndTime, "PidLidAppointmentEndTime");
-		guids.put(PidLidAppointmentEndTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentEndDate, "PidLidAppointmentEndDate");
-		guids.put(PidLidAppointmentEndDate, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentStartDate, "PidLidAppointmentStartDate");
-		guids.put(PidLidAppointmentStartDate, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentDuration, "PidLidAppointmentDuration");
-		guids.put(PidLidAppointmentDuration, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentColor, "PidLidAppointmentColor");
-		guids.put(PidLidAppointmentColor, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentSubType, "PidLidAppointmentSubType");
-		guids.put(PidLidAppointmentSubType, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentRecur, "PidLidAppointmentRecur");
-		guids.put(PidLidAppointmentRecur, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentStateFlags, "PidLidAppointmentStateFlags");
-		guids.put(PidLidAppointmentStateFlags, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidResponseStatus, "PidLidResponseStatus");
-		guids.put(PidLidResponseStatus, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentReplyTime, "PidLidAppointmentReplyTime");
-		guids.put(PidLidAppointmentReplyTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidRecurring, "PidLidRecurring");
-		guids.put(PidLidRecurring, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidIntendedBusyStatus, "PidLidIntendedBusyStatus");
-		guids.put(PidLidIntendedBusyStatus, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentUpdateTime, "PidLidAppointmentUpdateTime");
-		guids.put(PidLidAppointmentUpdateTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidExceptionReplaceTime, "PidLidExceptionReplaceTime");
-		guids.put(PidLidExceptionReplaceTime, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidFInvited, "PidLidFInvited");
-		guids.put(PidLidFInvited, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidFExceptionalAttendees, "PidLidFExceptionalAttendees");
-		guids.put(PidLidFExceptionalAttendees, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidOwnerName, "PidLidOwnerName");
-		guids.put(PidLidOwnerName, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidFOthersAppointment, "PidLidFOthersAppointment");
-		guids.put(PidLidFOthersAppointment, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentReplyName, "PidLidAppointmentReplyName");
-		guids.put(PidLidAppointmentReplyName, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidRecurrenceType, "PidLidRecurrenceType");
-		guids.put(PidLidRecurrenceType, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidRecurrencePatternW, "PidLidRecurrencePatternW");
-		guids.put(PidLidRecurrencePatternW, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidRecurrencePattern, "PidLidRecurrencePattern");
-		guids.put(PidLidRecurrencePattern, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidTimeZoneStruct, "PidLidTimeZoneStruct");
-		guids.put(PidLidTimeZoneStruct, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidTimeZoneDescription, "PidLidTimeZoneDescription");
-		guids.put(PidLidTimeZoneDescription, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidClipStart, "PidLidClipStart");
-		guids.put(PidLidClipStart, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidClipEnd, "PidLidClipEnd");
-		guids.put(PidLidClipEnd, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidOriginalStoreEntryId, "PidLidOriginalStoreEntryId");
-		guids.put(PidLidOriginalStoreEntryId, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAllAttendeesString, "PidLidAllAttendeesString");
-		guids.put(PidLidAllAttendeesString, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAutoFillLocation, "PidLidAutoFillLocation");
-		guids.put(PidLidAutoFillLocation, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidToAttendeesString, "PidLidToAttendeesString");
-		guids.put(PidLidToAttendeesString, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidCcAttendeesString, "PidLidCcAttendeesString");
-		guids.put(PidLidCcAttendeesString, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidTrustRecipientHighlights, "PidLidTrustRecipientHighlights");
-		guids.put(PidLidTrustRecipientHighlights, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidConferencingCheck, "PidLidConferencingCheck");
-		guids.put(PidLidConferencingCheck, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidConferencingType, "PidLidConferencingType");
-		guids.put(PidLidConferencingType, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidDirectory, "PidLidDirectory");
-		guids.put(PidLidDirectory, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidOrganizerAlias, "PidLidOrganizerAlias");
-		guids.put(PidLidOrganizerAlias, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAutoStartCheck, "PidLidAutoStartCheck");
-		guids.put(PidLidAutoStartCheck, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAutoStartWhen, "PidLidAutoStartWhen");
-		guids.put(PidLidAutoStartWhen, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAllowExternalCheck, "PidLidAllowExternalCheck");
-		guids.put(PidLidAllowExternalCheck, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidCollaborateDoc, "PidLidCollaborateDoc");
-		guids.put(PidLidCollaborateDoc, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidNetShowUrl, "PidLidNetShowUrl");
-		guids.put(PidLidNetShowUrl, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidOnlinePassword, "PidLidOnlinePassword");
-		guids.put(PidLidOnlinePassword, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentProposedStartWhole, "PidLidAppointmentProposedStartWhole");
-		guids.put(PidLidAppointmentProposedStartWhole, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentProposedEndWhole, "PidLidAppointmentProposedEndWhole");
-		guids.put(PidLidAppointmentProposedEndWhole, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentProposedDuration, "PidLidAppointmentProposedDuration");
-		guids.put(PidLidAppointmentProposedDuration, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentCounterProposal, "PidLidAppointmentCounterProposal");
-		guids.put(PidLidAppointmentCounterProposal, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentProposalNumber, "PidLidAppointmentProposalNumber");
-		guids.put(PidLidAppointmentProposalNumber, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentNotAllowPropose, "PidLidAppointmentNotAllowPropose");
-		guids.put(PidLidAppointmentNotAllowPropose, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentUnsendableRecipients, "PidLidAppointmentUnsendableRecipients");
-		guids.put(PidLidAppointmentUnsendableRecipients, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentTimeZoneDefinitionStartDisplay, "PidLidAppointmentTimeZoneDefinitionStartDisplay");
-		guids.put(PidLidAppointmentTimeZoneDefinitionStartDisplay, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentTimeZoneDefinitionEndDisplay, "PidLidAppointmentTimeZoneDefinitionEndDisplay");
-		guids.put(PidLidAppointmentTimeZoneDefinitionEndDisplay, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidAppointmentTimeZoneDefinitionRecur, "PidLidAppointmentTimeZoneDefinitionRecur");
-		guids.put(PidLidAppointmentTimeZoneDefinitionRecur, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidForwardNotificationRecipients, "PidLidForwardNotificationRecipients");
-		guids.put(PidLidForwardNotificationRecipients, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidInboundICalStream, "PidLidInboundICalStream");
-		guids.put(PidLidInboundICalStream, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidSingleBodyICal, "PidLidSingleBodyICal");
-		guids.put(PidLidSingleBodyICal, GUID.PSETID_APPOINTMENT);
-		lids.put(PidLidReminderDelta, "PidLidReminderDelta");
-		guids.put(PidLidReminderDelta, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderTime, "PidLidReminderTime");
-		guids.put(PidLidReminderTime, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderSet, "PidLidReminderSet");
-		guids.put(PidLidReminderSet, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderTimeTime, "PidLidReminderTimeTime");
-		guids.put(PidLidReminderTimeTime, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderTimeDate, "PidLidReminderTimeDate");
-		guids.put(PidLidReminderTimeDate, GUID.PSETID_COMMON);
-		lids.put(PidLidPrivate, "PidLidPrivate");
-		guids.put(PidLidPrivate, GUID.PSETID_COMMON);
-		lids.put(PidLidAgingDontAgeMe, "PidLidAgingDontAgeMe");
-		guids.put(PidLidAgingDontAgeMe, GUID.PSETID_COMMON);
-		lids.put(PidLidSideEffects, "PidLidSideEffects");
-		guids.put(PidLidSideEffects, GUID.PSETID_COMMON);
-		lids.put(PidLidRemoteStatus, "PidLidRemoteStatus");
-		guids.put(PidLidRemoteStatus, GUID.PSETID_COMMON);
-		lids.put(PidLidSmartNoAttach, "PidLidSmartNoAttach");
-		guids.put(PidLidSmartNoAttach, GUID.PSETID_COMMON);
-		lids.put(PidLidCommonStart, "PidLidCommonStart");
-		guids.put(PidLidCommonStart, GUID.PSETID_COMMON);
-		lids.put(PidLidCommonEnd, "PidLidCommonEnd");
-		guids.put(PidLidCommonEnd, GUID.PSETID_COMMON);
-		lids.put(PidLidTaskMode, "PidLidTaskMode");
-		guids.put(PidLidTaskMode, GUID.PSETID_COMMON);
-		lids.put(PidLidTaskGlobalId, "PidLidTaskGlobalId");
-		guids.put(PidLidTaskGlobalId, GUID.PSETID_COMMON);
-		lids.put(PidLidAutoProcessState, "PidLidAutoProcessState");
-		guids.put(PidLidAutoProcessState, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderOverride, "PidLidReminderOverride");
-		guids.put(PidLidReminderOverride, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderType, "PidLidReminderType");
-		guids.put(PidLidReminderType, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderPlaySound, "PidLidReminderPlaySound");
-		guids.put(PidLidReminderPlaySound, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderFileParameter, "PidLidReminderFileParameter");
-		guids.put(PidLidReminderFileParameter, GUID.PSETID_COMMON);
-		lids.put(PidLidVerbStream, "PidLidVerbStream");
-		guids.put(PidLidVerbStream, GUID.PSETID_COMMON);
-		lids.put(PidLidVerbResponse, "PidLidVerbResponse");
-		guids.put(PidLidVerbResponse, GUID.PSETID_COMMON);
-		lids.put(PidLidFlagRequest, "PidLidFlagRequest");
-		guids.put(PidLidFlagRequest, GUID.PSETID_COMMON);
-		lids.put(PidLidBilling, "PidLidBilling");
-		guids.put(PidLidBilling, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendableTo, "PidLidNonSendableTo");
-		guids.put(PidLidNonSendableTo, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendableCc, "PidLidNonSendableCc");
-		guids.put(PidLidNonSendableCc, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendableBcc, "PidLidNonSendableBcc");
-		guids.put(PidLidNonSendableBcc, GUID.PSETID_COMMON);
-		lids.put(PidLidCompanies, "PidLidCompanies");
-		guids.put(PidLidCompanies, GUID.PSETID_COMMON);
-		lids.put(PidLidContacts, "PidLidContacts");
-		guids.put(PidLidContacts, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendToTrackStatus, "PidLidNonSendToTrackStatus");
-		guids.put(PidLidNonSendToTrackStatus, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendCcTrackStatus, "PidLidNonSendCcTrackStatus");
-		guids.put(PidLidNonSendCcTrackStatus, GUID.PSETID_COMMON);
-		lids.put(PidLidNonSendBccTrackStatus, "PidLidNonSendBccTrackStatus");
-		guids.put(PidLidNonSendBccTrackStatus, GUID.PSETID_COMMON);
-		lids.put(PidLidCurrentVersion, "PidLidCurrentVersion");
-		guids.put(PidLidCurrentVersion, GUID.PSETID_COMMON);
-		lids.put(PidLidCurrentVersionName, "PidLidCurrentVersionName");
-		guids.put(PidLidCurrentVersionName, GUID.PSETID_COMMON);
-		lids.put(PidLidReminderSignalTime, "PidLidReminderSignalTime");
-		guids.put(PidLidReminderSignalTime, GUID.PSETID_COMMON);
-		lids.put(PidLidInternetAccountName, "PidLidInternetAccountName");
-		guids.put(PidLidInternetAccountName, GUID.PSETID_COMMON);
-		lids.put(PidLidInternetAccountStamp, "PidLidInternetAccountStamp");
-		guids.put(PidLidInternetAccountStamp, GUID.PSETID_COMMON);
-		lids.put(PidLidUseTnef, "PidLidUseTnef");
-		guids.put(PidLidUseTnef, GUID.PSETID_COMMON);
-		lids.put(PidLidContactLinkSearchKey, "PidLidContactLinkSearchKey");
-		guids.put(PidLidContactLinkSearchKey, GUID.PSETID_COMMON);
-		lids.put(PidLidContactLinkEntry, "PidLidContactLinkEntry");
-		guids.put(PidLidContactLinkEntry, GUID.PSETID_COMMON);
-		lids.put(PidLidContactLinkName, "PidLidContactLinkName");
-		guids.put(PidLidContactLinkName, GUID.PSETID_COMMON);
-		lids.put(PidLidSharingWebUrl, "PidLidSharingWebUrl");
-		guids.put(PidLidSharingWebUrl, GUID.PSETID_COMMON);
-		lids.put(PidLidSpamOriginalFolder, "PidLidSpamOriginalFolder");
-		guids.put(PidLidSpamOriginalFolder, GUID.PSETID_COMMON);
-		lids.put(PidLidToDoOrdinalDate, "PidLidToDoOrdinalDate");
-		guids.put(PidLidToDoOrdinalDate, GUID.PSETID_COMMON);
-		lids.put(PidLidToDoSubOrdinal, "PidLidToDoSubOrdinal");
-		guids.put(PidLidToDoSubOrdinal, GUID.PSETID_COMMON);
-		lids.put(PidLidToDoTitle, "PidLidToDoTitle");
-		guids.put(PidLidToDoTitle, GUID.PSETID_COMMON);
-		lids.put(PidLidInfoPathFormName, "PidLidInfoPathFormName");
-		guids.put(PidLidInfoPathFormName, GUID.PSETID_COMMON);
-		lids.put(PidLidClassified, "PidLidClassified");
-		guids.put(PidLidClassified, GUID.PSETID_COMMON);
-		lids.put(PidLidClassification, "PidLidClassification");
-		guids.put(PidLidClassification, GUID.PSETID_COMMON);
-		lids.put(PidLidClassificationDescription, "PidLidClassificationDescription");
-		guids.put(PidLidClassificationDescription, GUID.PSETID_COMMON);
-		lids.put(PidLidClassificationGuid, "PidLidClassificationGuid");
-		guids.put(PidLidClassificationGuid, GUID.PSETID_COMMON);
-		lids.put(PidLidClassificationKeep, "PidLidClassificationKeep");
-		guids.put(PidLidClassificationKeep, GUID.PSETID_COMMON);
-		lids.put(PidLidReferenceEntryId, "PidLidReferenceEntryId");
-		guids.put(PidLidReferenceEntryId, GUID.PSETID_COMMON);
-		lids.put(PidLidValidFlagStringProof, "PidLidValidFlagStringProof");
-		guids.put(PidLidValidFlagStringProof, GUID.PSETID_COMMON);
-		lids.put(PidLidFlagString, "PidLidFlagString");
-		guids.put(PidLidFlagString, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationActionMoveFolderEid, "PidLidConversationActionMoveFolderEid");
-		guids.put(PidLidConversationActionMoveFolderEid, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationActionMoveStoreEid, "PidLidConversationActionMoveStoreEid");
-		guids.put(PidLidConversationActionMoveStoreEid, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationActionMaxDeliveryTime, "PidLidConversationActionMaxDeliveryTime");
-		guids.put(PidLidConversationActionMaxDeliveryTime, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationProcessed, "PidLidConversationProcessed");
-		guids.put(PidLidConversationProcessed, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationActionLastAppliedTime, "PidLidConversationActionLastAppliedTime");
-		guids.put(PidLidConversationActionLastAppliedTime, GUID.PSETID_COMMON);
-		lids.put(PidLidConversationActionVersion, "PidLidConversationActionVersion");
-		guids.put(PidLidConversationActionVersion, GUID.PSETID_COMMON);
-		lids.put(PidLidServerProcessed, "PidLidServerProcessed");
-		guids.put(PidLidServerProcessed, GUID.PSETID_CALENDAR_ASSISTANT);
-		lids.put(PidLidServerProcessingActions, "PidLidServerProcessingActions");
-		guids.put(PidLidServerProcessingActions, GUID.PSETID_CALENDAR_ASSISTANT);
-		lids.put(PidLidPendingStateForSiteMailboxDocument, "PidLidPendingStateForSiteMailboxDocument");
-		guids.put(PidLidPendingStateForSiteMailboxDocument, GUID.PSETID_COMMON);
-		lids.put(PidLidPendingStateForTeamMailboxDocument, "PidLidPendingStateForTeamMailboxDocument");
-		guids.put(PidLidPendingStateForTeamMailboxDocument, GUID.PSETID_COMMON);
-		lids.put(PidLidLogType, "PidLidLogType");
-		guids.put(PidLidLogType, GUID.PSETID_LOG);
-		lids.put(PidLidLogStart, "PidLidLogStart");
-		guids.put(PidLidLogStart, GUID.PSETID_LOG);
-		lids.put(PidLidLogDuration, "PidLidLogDuration");
-		guids.put(PidLidLogDuration, GUID.PSETID_LOG);
-		lids.put(PidLidLogEnd, "PidLidLogEnd");
-		guids.put(PidLidLogEnd, GUID.PSETID_LOG);
-		lids.put(PidLidLogFlags, "PidLidLogFlags");
-		guids.put(PidLidLogFlags, GUID.PSETID_LOG);
-		lids.put(PidLidLogDocumentPrinted, "PidLidLogDocumentPrinted");
-		guids.put(PidLidLogDocumentPrinted, GUID.PSETID_LOG);
-		lids.put(PidLidLogDocumentSaved, "PidLidLogDocumentSaved");
-		guids.put(PidLidLogDocumentSaved, GUID.PSETID_LOG);
-		lids.put(PidLidLogDocumentRouted, "PidLidLogDocumentRouted");
-		guids.put(PidLidLogDocumentRouted, GUID.PSETID_LOG);
-		lids.put(PidLidLogDocumentPosted, "PidLidLogDocumentPosted");
-		guids.put(PidLidLogDocumentPosted, GUID.PSETID_LOG);
-		lids.put(PidLidLogTypeDesc, "PidLidLogTypeDesc");
-		guids.put(PidLidLogTypeDesc, GUID.PSETID_LOG);
-		lids.put(PidLidPostRssChannelLink, "PidLidPostRssChannelLink");
-		guids.put(PidLidPostRssChannelLink, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssItemLink, "PidLidPostRssItemLink");
-		guids.put(PidLidPostRssItemLink, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssItemHash, "PidLidPostRssItemHash");
-		guids.put(PidLidPostRssItemHash, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssItemGuid, "PidLidPostRssItemGuid");
-		guids.put(PidLidPostRssItemGuid, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssChannel, "PidLidPostRssChannel");
-		guids.put(PidLidPostRssChannel, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssItemXml, "PidLidPostRssItemXml");
-		guids.put(PidLidPostRssItemXml, GUID.PSETID_POST_RSS);
-		lids.put(PidLidPostRssSubscription, "PidLidPostRssSubscription");
-		guids.put(PidLidPostRssSubscription, GUID.PSETID_POST_RSS);
-		lids.put(PidLidSharingStatus, "PidLidSharingStatus");
-		guids.put(PidLidSharingStatus, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingProviderGuid, "PidLidSharingProviderGuid");
-		guids.put(PidLidSharingProviderGuid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingProviderName, "PidLidSharingProviderName");
-		guids.put(PidLidSharingProviderName, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingProviderUrl, "PidLidSharingProviderUrl");
-		guids.put(PidLidSharingProviderUrl, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemotePath, "PidLidSharingRemotePath");
-		guids.put(PidLidSharingRemotePath, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteName, "PidLidSharingRemoteName");
-		guids.put(PidLidSharingRemoteName, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteUid, "PidLidSharingRemoteUid");
-		guids.put(PidLidSharingRemoteUid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingInitiatorName, "PidLidSharingInitiatorName");
-		guids.put(PidLidSharingInitiatorName, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingInitiatorSmtp, "PidLidSharingInitiatorSmtp");
-		guids.put(PidLidSharingInitiatorSmtp, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingInitiatorEntryId, "PidLidSharingInitiatorEntryId");
-		guids.put(PidLidSharingInitiatorEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingFlags, "PidLidSharingFlags");
-		guids.put(PidLidSharingFlags, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingProviderExtension, "PidLidSharingProviderExtension");
-		guids.put(PidLidSharingProviderExtension, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteUser, "PidLidSharingRemoteUser");
-		guids.put(PidLidSharingRemoteUser, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemotePass, "PidLidSharingRemotePass");
-		guids.put(PidLidSharingRemotePass, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalPath, "PidLidSharingLocalPath");
-		guids.put(PidLidSharingLocalPath, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalName, "PidLidSharingLocalName");
-		guids.put(PidLidSharingLocalName, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalUid, "PidLidSharingLocalUid");
-		guids.put(PidLidSharingLocalUid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingFilter, "PidLidSharingFilter");
-		guids.put(PidLidSharingFilter, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalType, "PidLidSharingLocalType");
-		guids.put(PidLidSharingLocalType, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingFolderEntryId, "PidLidSharingFolderEntryId");
-		guids.put(PidLidSharingFolderEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingCapabilities, "PidLidSharingCapabilities");
-		guids.put(PidLidSharingCapabilities, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingFlavor, "PidLidSharingFlavor");
-		guids.put(PidLidSharingFlavor, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingAnonymity, "PidLidSharingAnonymity");
-		guids.put(PidLidSharingAnonymity, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingReciprocation, "PidLidSharingReciprocation");
-		guids.put(PidLidSharingReciprocation, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingPermissions, "PidLidSharingPermissions");
-		guids.put(PidLidSharingPermissions, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingInstanceGuid, "PidLidSharingInstanceGuid");
-		guids.put(PidLidSharingInstanceGuid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteType, "PidLidSharingRemoteType");
-		guids.put(PidLidSharingRemoteType, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingParticipants, "PidLidSharingParticipants");
-		guids.put(PidLidSharingParticipants, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLastSyncTime, "PidLidSharingLastSyncTime");
-		guids.put(PidLidSharingLastSyncTime, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingExtensionXml, "PidLidSharingExtensionXml");
-		guids.put(PidLidSharingExtensionXml, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteLastModificationTime, "PidLidSharingRemoteLastModificationTime");
-		guids.put(PidLidSharingRemoteLastModificationTime, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalLastModificationTime, "PidLidSharingLocalLastModificationTime");
-		guids.put(PidLidSharingLocalLastModificationTime, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingConfigurationUrl, "PidLidSharingConfigurationUrl");
-		guids.put(PidLidSharingConfigurationUrl, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingStart, "PidLidSharingStart");
-		guids.put(PidLidSharingStart, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingStop, "PidLidSharingStop");
-		guids.put(PidLidSharingStop, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingResponseType, "PidLidSharingResponseType");
-		guids.put(PidLidSharingResponseType, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingResponseTime, "PidLidSharingResponseTime");
-		guids.put(PidLidSharingResponseTime, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingOriginalMessageEntryId, "PidLidSharingOriginalMessageEntryId");
-		guids.put(PidLidSharingOriginalMessageEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingSyncInterval, "PidLidSharingSyncInterval");
-		guids.put(PidLidSharingSyncInterval, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingDetail, "PidLidSharingDetail");
-		guids.put(PidLidSharingDetail, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingTimeToLive, "PidLidSharingTimeToLive");
-		guids.put(PidLidSharingTimeToLive, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingBindingEntryId, "PidLidSharingBindingEntryId");
-		guids.put(PidLidSharingBindingEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingIndexEntryId, "PidLidSharingIndexEntryId");
-		guids.put(PidLidSharingIndexEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteComment, "PidLidSharingRemoteComment");
-		guids.put(PidLidSharingRemoteComment, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingWorkingHoursStart, "PidLidSharingWorkingHoursStart");
-		guids.put(PidLidSharingWorkingHoursStart, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingWorkingHoursEnd, "PidLidSharingWorkingHoursEnd");
-		guids.put(PidLidSharingWorkingHoursEnd, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingWorkingHoursDays, "PidLidSharingWorkingHoursDays");
-		guids.put(PidLidSharingWorkingHoursDays, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingWorkingHoursTimeZone, "PidLidSharingWorkingHoursTimeZone");
-		guids.put(PidLidSharingWorkingHoursTimeZone, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingDataRangeStart, "PidLidSharingDataRangeStart");
-		guids.put(PidLidSharingDataRangeStart, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingDataRangeEnd, "PidLidSharingDataRangeEnd");
-		guids.put(PidLidSharingDataRangeEnd, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRangeStart, "PidLidSharingRangeStart");
-		guids.put(PidLidSharingRangeStart, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRangeEnd, "PidLidSharingRangeEnd");
-		guids.put(PidLidSharingRangeEnd, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteStoreUid, "PidLidSharingRemoteStoreUid");
-		guids.put(PidLidSharingRemoteStoreUid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalStoreUid, "PidLidSharingLocalStoreUid");
-		guids.put(PidLidSharingLocalStoreUid, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteByteSize, "PidLidSharingRemoteByteSize");
-		guids.put(PidLidSharingRemoteByteSize, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteCrc, "PidLidSharingRemoteCrc");
-		guids.put(PidLidSharingRemoteCrc, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLocalComment, "PidLidSharingLocalComment");
-		guids.put(PidLidSharingLocalComment, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRoamLog, "PidLidSharingRoamLog");
-		guids.put(PidLidSharingRoamLog, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteMessageCount, "PidLidSharingRemoteMessageCount");
-		guids.put(PidLidSharingRemoteMessageCount, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingBrowseUrl, "PidLidSharingBrowseUrl");
-		guids.put(PidLidSharingBrowseUrl, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingLastAutoSyncTime, "PidLidSharingLastAutoSyncTime");
-		guids.put(PidLidSharingLastAutoSyncTime, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingTimeToLiveAuto, "PidLidSharingTimeToLiveAuto");
-		guids.put(PidLidSharingTimeToLiveAuto, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingRemoteVersion, "PidLidSharingRemoteVersion");
-		guids.put(PidLidSharingRemoteVersion, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingParentBindingEntryId, "PidLidSharingParentBindingEntryId");
-		guids.put(PidLidSharingParentBindingEntryId, GUID.PSETID_SHARING);
-		lids.put(PidLidSharingSyncFlags, "PidLidSharingSyncFlags");
-		guids.put(PidLidSharingSyncFlags, GUID.PSETID_SHARING);
-		lids.put(PidLidNoteColor, "PidLidNoteColor");
-		guids.put(PidLidNoteColor, GUID.PSETID_NOTE);
-		lids.put(PidLidNoteWidth, "PidLidNoteWidth");
-		guids.put(PidLidNoteWidth, GUID.PSETID_NOTE);
-		lids.put(PidLidNoteHeight, "PidLidNoteHeight");
-		guids.put(PidLidNoteHeight, GUID.PSETID_NOTE);
-		lids.put(PidLidNoteX, "PidLidNoteX");
-		guids.put(PidLidNoteX, GUID.PSETID_NOTE);
-		lids.put(PidLidNoteY, "PidLidNoteY");
-		guids.put(PidLidNoteY, GUID.PSETID_NOTE);
-		lids.put(PidLidCategories, "PidLidCategories");
-		guids.put(PidLidCategories, GUID.PS_PUBLIC_STRINGS);
+	/** The names of the LIDs in LIDS */
+	private static final String[] NAMES = {
+		"PidLidAttendeeCriticalChange",
+		"PidLidWhere",
+		"PidLidGlobalObjectId",
+		"PidLidIsSilent",
+		"PidLidIsRecurring",
+		"PidLidRequiredAttendees",
+		"PidLidOptionalAttendees",
+		"PidLidResourceAttendees",
+		"PidLidDelegateMail",
+		"PidLidIsException",
+		"PidLidSingleInvite",
+		"PidLidTimeZone",
+		"PidLidStartRecurrenceDate",
+		"PidLidStartRecurrenceTime",
+		"PidLidEndRecurrenceDate",
+		"PidLidEndRecurrenceTime",
+		"PidLidDayInterval",
+		"PidLidWeekInterval",
+		"PidLidMonthInterval",
+		"PidLidYearInterval",
+		"PidLidClientIntent",
+		"PidLidMonthOfYearMask",
+		"PidLidOldRecurrenceType",
+		"PidLidOwnerCriticalChange",
+		"PidLidCalendarType",
+		"PidLidAllAttendeesList",
+		"PidLidCleanGlobalObjectId",
+		"PidLidAppointmentMessageClass",
+		"PidLidMeetingType",
+		"PidLidOldLocation",
+		"PidLidOldWhenStartWhole",
+		"PidLidOldWhenEndWhole",
+		"PidLidDayOfMonth",
+		"PidLidICalendarDayOfWeekMask",
+		"PidLidOccurrences",
+		"PidLidMonthOfYear",
+		"PidLidNoEndDateFlag",
+		"PidLidRecurrenceDuration",
+		"PidLidFileUnder",
+		"PidLidFileUnderId",
+		"PidLidAddressBookHomeMessageDatabase",
+		"PidLidContactItemData",
+		"PidLidAddressBookHomeMessageTransferAgent",
+		"PidLidTcvConstLongOne",
+		"PidLidAddressBookMember",
+		"PidLidContactItemData2",
+		"PidLidReferredBy",
+		"PidLidDepartment",
+		"PidLidHasPicture",
+		"PidLidHomeAddress",
+		"PidLidWorkAddress",
+		"PidLidOtherAddress",
+		"PidLidPostalAddressId",
+		"PidLidContactCharacterSet",
+		"PidLidAutoLog",
+		"PidLidFileUnderList",
+		"PidLidEmailList",
+		"PidLidAddressBookProviderEmailList",
+		"PidLidAddressBookProviderArrayType",
+		"PidLidHtml",
+		"PidLidYomiFirstName",
+		"PidLidYomiLastName",
+		"PidLidYomiCompanyName",
+		"PidLidBusinessCardDisplayDefinition",
+		"PidLidBusinessCardCardPicture",
+		"PidLidPromptSendUpdate",
+		"PidLidWorkAddressStreet",
+		"PidLidWorkAddressCity",
+		"PidLidWorkAddressState",
+		"PidLidWorkAddressPostalCode",
+		"PidLidWorkAddressCountry",
+		"PidLidWorkAddressPostOfficeBox",
+		"PidLidDistributionListChecksum",
+		"PidLidBirthdayEventEntryId",
+		"PidLidAnniversaryEventEntryId",
+		"PidLidContactUserField1",
+		"PidLidContactUserField2",
+		"PidLidContactUserField3",
+		"PidLidContactUserField4",
+		"PidLidDistributionListName",
+		"PidLidDistributionListOneOffMembers",
+		"PidLidDistributionListMembers",
+		"PidLidInstantMessagingAddress",
+		"PidLidDistributionListStream",
+		"PidLidEmail1DisplayName",
+		"PidLidEmail1EntryId",
+		"PidLidEmail1AddressType",
+		"PidLidEmail1EmailAddress",
+		"PidLidEmail1OriginalDisplayName",
+		"PidLidEmail1OriginalEntryId",
+		"PidLidEmail1RichTextFormat",
+		"PidLidEmail1EmailType",
+		"PidLidEmail2DisplayName",
+		"PidLidEmail2EntryId",
+		"PidLidEmail2AddressType",
+		"PidLidEmail2EmailAddress",
+		"PidLidEmail2OriginalDisplayName",
+		"PidLidEmail2OriginalEntryId",
+		"PidLidEmail2RichTextFormat",
+		"PidLidEmail2EmailType",
+		"PidLidEmail3DisplayName",
+		"PidLidEmail3EntryId",
+		"PidLidEmail3AddressType",
+		"PidLidEmail3EmailAddress",
+		"PidLidEmail3OriginalDisplayName",
+		"PidLidEmail3OriginalEntryId",
+		"PidLidEmail3RichTextFormat",
+		"PidLidEmail3RichtextFormat",
+		"PidLidEmail3EmailType",
+		"PidLidFax1DisplayName",
+		"PidLidFax1EntryId",
+		"PidLidFax1AddressType",
+		"PidLidFax1EmailAddress",
+		"PidLidFax1OriginalDisplayName",
+		"PidLidFax1OriginalEntryId",
+		"PidLidFax1RichTextFormat",
+		"PidLidFax1EmailType",
+		"PidLidFax2DisplayName",
+		"PidLidFax2EntryId",
+		"PidLidFax2AddressType",
+		"PidLidFax2EmailAddress",
+		"PidLidFax2OriginalDisplayName",
+		"PidLidFax2OriginalEntryId",
+		"PidLidFax2RichTextFormat",
+		"PidLidFax2EmailType",
+		"PidLidFax3DisplayName",
+		"PidLidFax3EntryId",
+		"PidLidFax3AddressType",
+		"PidLidFax3EmailAddress",
+		"PidLidFax3OriginalDisplayName",
+		"PidLidFax3OriginalEntryId",
+		"PidLidFax3RichTextFormat",
+		"PidLidFax3EmailType",
+		"PidLidFreeBusyLocation",
+		"PidLidUserX509Certificate",
+		"PidLidHomeAddressCountryCode",
+		"PidLidWorkAddressCountryCode",
+		"PidLidOtherAddressCountryCode",
+		"PidLidAddressCountryCode",
+		"PidLidBirthdayLocal",
+		"PidLidWeddingAnniversaryLocal",
+		"PidLidIsContactLinked",
+		"PidLidContactLinkedGlobalAddressListEntryId",
+		"PidLidContactLinkSMTPAddressCache",
+		"PidLidContactLinkLinkRejectHistory",
+		"PidLidContactLinkGlobalAddressListLinkState",
+		"PidLidContactLinkGlobalAddressListLinkId",
+		"PidLidTaskStatus",
+		"PidLidPercentComplete",
+		"PidLidTeamTask",
+		"PidLidTaskStartDate",
+		"PidLidTaskDueDate",
+		"PidLidTaskResetReminder",
+		"PidLidTaskAccepted",
+		"PidLidTaskDeadOccurrence",
+		"PidLidTaskDateCompleted",
+		"PidLidTaskActualEffort",
+		"PidLidTaskEstimatedEffort",
+		"PidLidTaskVersion",
+		"PidLidTaskState",
+		"PidLidTaskLastUpdate",
+		"PidLidTaskRecurrence",
+		"PidLidTaskAssigners",
+		"PidLidTaskStatusOnComplete",
+		"PidLidTaskHistory",
+		"PidLidTaskUpdates",
+		"PidLidTaskComplete",
+		"PidLidTaskFCreator",
+		"PidLidTaskOwner",
+		"PidLidTaskMultipleRecipients",
+		"PidLidTaskAssigner",
+		"PidLidTaskLastUser",
+		"PidLidTaskOrdinal",
+		"PidLidTaskNoCompute",
+		"PidLidTaskLastDelegate",
+		"PidLidTaskFRecurring",
+		"PidLidTaskRole",
+		"PidLidTaskOwnership",
+		"PidLidTaskAcceptanceState",
+		"PidLidTaskFFixOffline",
+		"PidLidTaskCustomFlags",
+		"PidLidSendMeetingAsIcal",
+		"PidLidAppointmentSequence",
+		"PidLidAppointmentSequenceTime",
+		"PidLidAppointmentLastSequence",
+		"PidLidChangeHighlight",
+		"PidLidBusyStatus",
+		"PidLidFExceptionalBody",
+		"PidLidAppointmentAuxiliaryFlags",
+		"PidLidLocation",
+		"PidLidMeetingWorkspaceUrl",
+		"PidLidForwardInstance",
+		"PidLidLinkedTaskItems",
+		"PidLidAppointmentStartWhole",
+		"PidLidAppointmentEndWhole",
+		"PidLidAppointmentStartTime",
+		"PidLidAppointmentEndTime",
+		"PidLidAppointmentEndDate",
+		"PidLidAppointmentStartDate",
+		"PidLidAppointmentDuration",
+		"PidLidAppointmentColor",
+		"PidLidAppointmentSubType",
+		"PidLidAppointmentRecur",
+		"PidLidAppointmentStateFlags",
+		"PidLidResponseStatus",
+		"PidLidAppointmentReplyTime",
+		"PidLidRecurring",
+		"PidLidIntendedBusyStatus",
+		"PidLidAppointmentUpdateTime",
+		"PidLidExceptionReplaceTime",
+		"PidLidFInvited",
+		"PidLidFExceptionalAttendees",
+		"PidLidOwnerName",
+		"PidLidFOthersAppointment",
+		"PidLidAppointmentReplyName",
+		"PidLidRecurrenceType",
+		"PidLidRecurrencePatternW",
+		"PidLidRecurrencePattern",
+		"PidLidTimeZoneStruct",
+		"PidLidTimeZoneDescription",
+		"PidLidClipStart",
+		"PidLidClipEnd",
+		"PidLidOriginalStoreEntryId",
+		"PidLidAllAttendeesString",
+		"PidLidAutoFillLocation",
+		"PidLidToAttendeesString",
+		"PidLidCcAttendeesString",
+		"PidLidTrustRecipientHighlights",
+		"PidLidConferencingCheck",
+		"PidLidConferencingType",
+		"PidLidDirectory",
+		"PidLidOrganizerAlias",
+		"PidLidAutoStartCheck",
+		"PidLidAutoStartWhen",
+		"PidLidAllowExternalCheck",
+		"PidLidCollaborateDoc",
+		"PidLidNetShowUrl",
+		"PidLidOnlinePassword",
+		"PidLidAppointmentProposedStartWhole",
+		"PidLidAppointmentProposedEndWhole",
+		"PidLidAppointmentProposedDuration",
+		"PidLidAppointmentCounterProposal",
+		"PidLidAppointmentProposalNumber",
+		"PidLidAppointmentNotAllowPropose",
+		"PidLidAppointmentUnsendableRecipients",
+		"PidLidAppointmentTimeZoneDefinitionStartDisplay",
+		"PidLidAppointmentTimeZoneDefinitionEndDisplay",
+		"PidLidAppointmentTimeZoneDefinitionRecur",
+		"PidLidForwardNotificationRecipients",
+		"PidLidInboundICalStream",
+		"PidLidSingleBodyICal",
+		"PidLidReminderDelta",
+		"PidLidReminderTime",
+		"PidLidReminderSet",
+		"PidLidReminderTimeTime",
+		"PidLidReminderTimeDate",
+		"PidLidPrivate",
+		"PidLidAgingDontAgeMe",
+		"PidLidSideEffects",
+		"PidLidRemoteStatus",
+		"PidLidSmartNoAttach",
+		"PidLidCommonStart",
+		"PidLidCommonEnd",
+		"PidLidTaskMode",
+		"PidLidTaskGlobalId",
+		"PidLidAutoProcessState",
+		"PidLidReminderOverride",
+		"PidLidReminderType",
+		"PidLidReminderPlaySound",
+		"PidLidReminderFileParameter",
+		"PidLidVerbStream",
+		"PidLidVerbResponse",
+		"PidLidFlagRequest",
+		"PidLidBilling",
+		"PidLidNonSendableTo",
+		"PidLidNonSendableCc",
+		"PidLidNonSendableBcc",
+		"PidLidCompanies",
+		"PidLidContacts",
+		"PidLidNonSendToTrackStatus",
+		"PidLidNonSendCcTrackStatus",
+		"PidLidNonSendBccTrackStatus",
+		"PidLidCurrentVersion",
+		"PidLidCurrentVersionName",
+		"PidLidReminderSignalTime",
+		"PidLidInternetAccountName",
+		"PidLidInternetAccountStamp",
+		"PidLidUseTnef",
+		"PidLidContactLinkSearchKey",
+		"PidLidContactLinkEntry",
+		"PidLidContactLinkName",
+		"PidLidSharingWebUrl",
+		"PidLidSpamOriginalFolder",
+		"PidLidToDoOrdinalDate",
+		"PidLidToDoSubOrdinal",
+		"PidLidToDoTitle",
+		"PidLidInfoPathFormName",
+		"PidLidClassified",
+		"PidLidClassification",
+		"PidLidClassificationDescription",
+		"PidLidClassificationGuid",
+		"PidLidClassificationKeep",
+		"PidLidReferenceEntryId",
+		"PidLidValidFlagStringProof",
+		"PidLidFlagString",
+		"PidLidConversationActionMoveFolderEid",
+		"PidLidConversationActionMoveStoreEid",
+		"PidLidConversationActionMaxDeliveryTime",
+		"PidLidConversationProcessed",
+		"PidLidConversationActionLastAppliedTime",
+		"PidLidConversationActionVersion",
+		"PidLidServerProcessed",
+		"PidLidServerProcessingActions",
+		"PidLidPendingStateForSiteMailboxDocument",
+		"PidLidPendingStateForTeamMailboxDocument",
+		"PidLidLogType",
+		"PidLidLogStart",
+		"PidLidLogDuration",
+		"PidLidLogEnd",
+		"PidLidLogFlags",
+		"PidLidLogDocumentPrinted",
+		"PidLidLogDocumentSaved",
+		"PidLidLogDocumentRouted",
+		"PidLidLogDocumentPosted",
+		"PidLidLogTypeDesc",
+		"PidLidPostRssChannelLink",
+		"PidLidPostRssItemLink",
+		"PidLidPostRssItemHash",
+		"PidLidPostRssItemGuid",
+		"PidLidPostRssChannel",
+		"PidLidPostRssItemXml",
+		"PidLidPostRssSubscription",
+		"PidLidSharingStatus",
+		"PidLidSharingProviderGuid",
+		"PidLidSharingProviderName",
+		"PidLidSharingProviderUrl",
+		"PidLidSharingRemotePath",
+		"PidLidSharingRemoteName",
+		"PidLidSharingRemoteUid",
+		"PidLidSharingInitiatorName",
+		"PidLidSharingInitiatorSmtp",
+		"PidLidSharingInitiatorEntryId",
+		"PidLidSharingFlags",
+		"PidLidSharingProviderExtension",
+		"PidLidSharingRemoteUser",
+		"PidLidSharingRemotePass",
+		"PidLidSharingLocalPath",
+		"PidLidSharingLocalName",
+		"PidLidSharingLocalUid",
+		"PidLidSharingFilter",
+		"PidLidSharingLocalType",
+		"PidLidSharingFolderEntryId",
+		"PidLidSharingCapabilities",
+		"PidLidSharingFlavor",
+		"PidLidSharingAnonymity",
+		"PidLidSharingReciprocation",
+		"PidLidSharingPermissions",
+		"PidLidSharingInstanceGuid",
+		"PidLidSharingRemoteType",
+		"PidLidSharingParticipants",
+		"PidLidSharingLastSyncTime",
+		"PidLidSharingExtensionXml",
+		"PidLidSharingRemoteLastModificationTime",
+		"PidLidSharingLocalLastModificationTime",
+		"PidLidSharingConfigurationUrl",
+		"PidLidSharingStart",
+		"PidLidSharingStop",
+		"PidLidSharingResponseType",
+		"PidLidSharingResponseTime",
+		"PidLidSharingOriginalMessageEntryId",
+		"PidLidSharingSyncInterval",
+		"PidLidSharingDetail",
+		"PidLidSharingTimeToLive",
+		"PidLidSharingBindingEntryId",
+		"PidLidSharingIndexEntryId",
+		"PidLidSharingRemoteComment",
+		"PidLidSharingWorkingHoursStart",
+		"PidLidSharingWorkingHoursEnd",
+		"PidLidSharingWorkingHoursDays",
+		"PidLidSharingWorkingHoursTimeZone",
+		"PidLidSharingDataRangeStart",
+		"PidLidSharingDataRangeEnd",
+		"PidLidSharingRangeStart",
+		"PidLidSharingRangeEnd",
+		"PidLidSharingRemoteStoreUid",
+		"PidLidSharingLocalStoreUid",
+		"PidLidSharingRemoteByteSize",
+		"PidLidSharingRemoteCrc",
+		"PidLidSharingLocalComment",
+		"PidLidSharingRoamLog",
+		"PidLidSharingRemoteMessageCount",
+		"PidLidSharingBrowseUrl",
+		"PidLidSharingLastAutoSyncTime",
+		"PidLidSharingTimeToLiveAuto",
+		"PidLidSharingRemoteVersion",
+		"PidLidSharingParentBindingEntryId",
+		"PidLidSharingSyncFlags",
+		"PidLidNoteColor",
+		"PidLidNoteWidth",
+		"PidLidNoteHeight",
+		"PidLidNoteX",
+		"PidLidNoteY",
+		"PidLidCategories",
+	};
+
+	/** The property sets of the LIDs in LIDS */
+	private static final GUID[] GUIDS = {
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_CALENDAR_ASSISTANT,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_MEETING,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PS_INTERNAL,
+		GUID.PSETID_ADDRESS,
+		GUID.PS_INTERNAL,
+		GUID.PS_INTERNAL,
+		GUID.PS_INTERNAL,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_ADDRESS,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_TASK,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_APPOINTMENT,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_CALENDAR_ASSISTANT,
+		GUID.PSETID_CALENDAR_ASSISTANT,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_COMMON,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_LOG,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_POST_RSS,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_SHARING,
+		GUID.PSETID_NOTE,
+		GUID.PSETID_NOTE,
+		GUID.PSETID_NOTE,
+		GUID.PSETID_NOTE,
+		GUID.PSETID_NOTE,
+		GUID.PS_PUBLIC_STRINGS,
+	};
+
+	/** Find the name of a known LID. Where the same LID is listed more than once in a property set, the last name listed is used.
+	*	@param	lid	The LID to look up
+	*	@param	guid	The property set the LID belongs to
+	*	@return	The name of the LID, or null if it is not a known LID in the given property set
+	*/
+	static String find(int lid, GUID guid)
+	{
+		int index = java.util.Arrays.binarySearch(LIDS, lid);
+		if (index < 0)
+			return null;
+		while (index + 1 < LIDS.length && LIDS[index + 1] == lid)
+			++index;
+		for (; index >= 0 && LIDS[index] == lid; --index) {
+			if (GUIDS[index].equals(guid))
+				return NAMES[index];
+		}
+		return null;
 	}
 
 	static String name(int lid, GUID guid)
 	{
-		if (lids.containsKey(lid) && guids.containsKey(lid) && guid.equals(guids.get(lid)))
-			return PropertyLIDs.lids.get(lid);
+		String name = find(lid, guid);
+		if (name != null)
+			return name;
 		return String.format("LID-%08x (%s)", lid, GUID.name(guid));
 	}
 
 	public static void main(String[] args)
 	{
-		java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = PropertyLIDs.lids.entrySet().iterator();
-		while (iter.hasNext()) {
-			java.util.Map.Entry<Integer, String> e = iter.next();
-			System.out.printf("0x%08x: %s%n", e.getKey(), e.getValue());
-		}
+		for (int i = 0; i < LIDS.length; ++i)
+			System.out.printf("0x%08x: %s (%s)%n", LIDS[i], NAMES[i], GUID.name(GUIDS[i]));
 	}
 }
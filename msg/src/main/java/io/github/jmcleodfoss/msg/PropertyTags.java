@@ -1,5 +1,5 @@
 // DO NOT EDIT THIS FILE
-// Automatically generated on Sun, Oct 25, 2020 11:02:45 AM by msgreader/extras/getpropertytags.sh
+// Automatically generated on Mon, Oct 19, 2026 10:14:07 AM by msgreader/extras/getpropertytags.sh
 // Any changes must be made to that file.
 package io.github.jmcleodfoss.msg;
 
@@ -815,819 +815,1581 @@ public class PropertyTags
 	static final public int PidTagAddressBookParentEntryId = 0xfffc0102;
 	static final public int PidTagAddressBookContainerId = 0xfffd0003;
 
-	static final java.util.HashMap<Integer, String> tags = new java.util.HashMap<Integer, String>();
-	static {
+	/** The known property tags, in increasing order */
+	private static final int[] TAGS = {
+		PidTagAddressBookFolderPathname,
+		PidTagAddressBookManager,
+		PidTagAddressBookManagerDistinguishedName,
+		PidTagAddressBookHomeMessageDatabase,
+		PidTagTcvConstLongOne,
+		PidTagAddressBookIsMemberOfDistributionList,
+		PidTagAddressBookIsMemberOfDistributionListNspi,
+		PidTagAddressBookMember,
+		PidTagAddressBookOwner,
+		PidTagAddressBookReports,
+		PidTagAddressBookProxyAddresses,
+		PidTagAddressBookTargetAddress,
+		PidTagAddressBookPublicDelegates,
+		PidTagAddressBookOwnerBackLink,
+		PidTagAddressBookExtensionAttribute1,
+		PidTagAddressBookExtensionAttribute2,
+		PidTagAddressBookExtensionAttribute3,
+		PidTagAddressBookExtensionAttribute4,
+		PidTagAddressBookExtensionAttribute5,
+		PidTagAddressBookExtensionAttribute6,
+		PidTagAddressBookExtensionAttribute7,
+		PidTagAddressBookExtensionAttribute8,
+		PidTagAddressBookExtensionAttribute9,
+		PidTagAddressBookExtensionAttribute10,
+		PidTagAddressBookObjectDistinguishedName,
+		PidTagAddressBookDeliveryContentLength,
+		PidTagAddressBookDistributionListMemberSubmitAccepted,
+		PidTagEmailAddress1,
+		PidTagAddressBookNetworkAddress,
+		PidTagAddressBookExtensionAttribute11,
+		PidTagAddressBookExtensionAttribute12,
+		PidTagAddressBookExtensionAttribute13,
+		PidTagAddressBookExtensionAttribute14,
+		PidTagAddressBookExtensionAttribute15,
+		PidTagAddressBookX509Certificate,
+		PidTagAddressBookObjectGuid,
+		PidTagAddressBookPhoneticGivenName,
+		PidTagAddressBookPhoneticSurname,
+		PidTagAddressBookPhoneticDepartmentName,
+		PidTagAddressBookPhoneticCompanyName,
+		PidTagAddressBookPhoneticDisplayName,
+		PidTagAddressBookDisplayTypeExtended,
+		PidTagAddressBookHierarchicalShowInDepartments,
+		PidTagAddressBookRoomContainers,
+		PidTagAddressBookHierarchicalDepartmentMembers,
+		PidTagAddressBookHierarchicalRootDepartment,
+		PidTagAddressBookHierarchicalParentDepartment,
+		PidTagAddressBookHierarchicalChildDepartments,
+		PidTagThumbnailPhoto,
+		PidTagAddressBookSeniorityIndex,
+		PidTagAddressBookOrganizationalUnitRootDistinguishedName,
+		PidTagAddressBookSenderHintTranslations,
+		PidTagAddressBookModerationEnabled,
+		PidTagSpokenName,
+		PidTagAddressBookAuthorizedSenders,
+		PidTagAddressBookUnauthorizedSenders,
+		PidTagAddressBookDistributionListMemberSubmitRejected,
+		PidTagAddressBookDistributionListRejectMessagesFromDLMembers,
+		PidTagAddressBookHierarchicalIsHierarchicalGroup,
+		PidTagAddressBookDistributionListMemberCount,
+		PidTagAddressBookDistributionListExternalMemberCount,
+		PidTagAddressBookIsMaster,
+		PidTagAddressBookParentEntryId,
+		PidTagAddressBookContainerId,
+		PidTagCurrentDraftEntryId,
+		PidTagTemplateData,
+		PidTagAlternateRecipientAllowed,
+		PidTagAutoForwardComment,
+		PidTagScriptData,
+		PidTagAutoForwarded,
+		PidTagRequiredAttendees,
+		PidTagOptionalAttendees,
+		PidTagResourceAttendees,
+		PidTagDelegateMail,
+		PidTagIsException,
+		PidTagConversationKey,
+		PidTagTimeZone,
+		PidTagStartRecurrenceDate,
+		PidTagStartRecurrenceTime,
+		PidTagDeferredDeliveryTime,
+		PidTagEndRecurrenceTime,
+		PidTagDeliverTime,
+		PidTagDayInterval,
+		PidTagWeekInterval,
+		PidTagMonthInterval,
+		PidTagYearInterval,
+		PidTagExpiryTime,
+		PidTagImportance,
+		PidTagOldRecurrenceType,
+		PidTagMessageClass,
+		PidTagMessageClassW,
+		PidTagCalendarType,
+		PidTagOriginatorDeliveryReportRequested,
+		PidTagParentKey,
+		PidTagPriority,
+		PidTagOldLocation,
+		PidTagReadReceiptRequested,
+		PidTagConvertHtmlSecurity,
+		PidTagReceiptTime,
+		PidTagRecipientReassignmentProhibited,
+		PidTagOriginalSensitivity,
+		PidTagReplyTime,
+		PidTagReportTag,
+		PidTagReportTime,
+		PidTagSensitivity,
+		PidTagSubject,
+		PidTagSubjectW,
+		PidTagClientSubmitTime,
+		PidTagReportName,
+		PidTagSentRepresentingSearchKey,
+		PidTagSubjectPrefix,
+		PidTagReceivedByEntryId,
+		PidTagReceivedByName,
+		PidTagReceivedByNameW,
+		PidTagSentRepresentingEntryId,
+		PidTagSentRepresentingName,
+		PidTagSentRepresentingNameW,
+		PidTagReceivedRepresentingEntryId,
+		PidTagReceivedRepresentingName,
+		PidTagReportEntryId,
+		PidTagReadReceiptEntryId,
+		PidTagMessageSubmissionId,
+		PidTagProviderSubmitTime,
+		PidTagOriginalSubject,
+		PidTagOriginalMessageClass,
+		PidTagOriginalAuthorEntryId,
+		PidTagOriginalAuthorName,
+		PidTagOriginalSubmitTime,
+		PidTagReplyRecipientEntries,
+		PidTagReplyRecipientNames,
+		PidTagReplyRecipientNamesW,
+		PidTagReceivedBySearchKey,
+		PidTagReceivedRepresentingSearchKey,
+		PidTagReadReceiptSearchKey,
+		PidTagReportSearchKey,
+		PidTagOriginalDeliveryTime,
+		PidTagMessageToMe,
+		PidTagMessageCcMe,
+		PidTagMessageRecipientMe,
+		PidTagOriginalSenderName,
+		PidTagOriginalSenderEntryId,
+		PidTagOriginalSenderSearchKey,
+		PidTagOriginalSentRepresentingName,
+		PidTagOriginalSentRepresentingEntryId,
+		PidTagOriginalSentRepresentingSearchKey,
+		PidTagStartDate,
+		PidTagEndDate,
+		PidTagOwnerApppointmentId,
+		PidTagResponseRequested,
+		PidTagSentRepresentingAddressType,
+		PidTagSentRepresentingAddressTypeW,
+		PidTagSentRepresentingEmailAddress,
+		PidTagSentRepresentingEmailAddressW,
+		PidTagOriginalSenderAddressType,
+		PidTagOriginalSenderEmailAddress,
+		PidTagOriginalSentRepresentingAddressType,
+		PidTagOriginalSentRepresentingEmailAddress,
+		PidTagConversationTopic,
+		PidTagConversationTopicW,
+		PidTagConversationIndex,
+		PidTagOriginalDisplayBcc,
+		PidTagOriginalDisplayCc,
+		PidTagOriginalDisplayTo,
+		PidTagReceivedByAddressType,
+		PidTagReceivedByAddressTypeW,
+		PidTagReceivedByEmailAddress,
+		PidTagReceivedByEmailAddressW,
+		PidTagReceivedRepresentingAddressType,
+		PidTagRemoteHeaderLoc,
+		PidTagTransportMessageHeaders,
+		PidTagTransportMessageHeadersW,
+		PidTagDelegation,
+		PidTagTnefCorrelationKey,
+		PidTagReportDisposition,
+		PidTagReportDispositionW,
+		PidTagReportDispositionMode,
+		PidTagReportDispositionModeW,
+		PidTagReportOriginalSender,
+		PidTagReportDispositionToNames,
+		PidTagReportDispositionToEmailAddresses,
+		PidTagAddressBookRoomCapacity,
+		PidTagAddressBookRoomDescription,
+		PidTagNonDeliveryReportReasonCode,
+		PidTagNonDeliveryReportDiagCode,
+		PidTagNonReceiptNotificationRequested,
+		PidTagOriginatorNonDeliveryReportRequested,
+		PidTagRecipientType,
+		PidTagReplyRequested,
+		PidTagSenderEntryId,
+		PidTagSenderName,
+		PidTagSenderNameW,
+		PidTagSupplementaryInfo,
+		PidTagSenderSearchKey,
+		PidTagSenderAddressType,
+		PidTagSenderAddressTypeW,
+		PidTagSenderEmailAddress,
+		PidTagSenderEmailAddressW,
+		PidTagNonDeliveryReportStatusCode,
+		PidTagRemoteMessageTransferAgent,
+		PidTagDeleteAfterSubmit,
+		PidTagDisplayBcc,
+		PidTagDisplayBccW,
+		PidTagDisplayCc,
+		PidTagDisplayCcW,
+		PidTagDisplayTo,
+		PidTagDisplayToW,
+		PidTagParentDisplayW,
+		PidTagMessageDeliveryTime,
+		PidTagMessageFlags,
+		PidTagMessageSize,
+		PidTagMessageSizeExtended,
+		PidTagParentEntryId,
+		PidTagSentMailEntryId,
+		PidTagCorrelateMtsid,
+		PidTagResponsibility,
+		PidTagMessageRecipients,
+		PidTagMessageAttachments,
+		PidTagSubmitFlags,
+		PidTagMessageStatus,
+		PidTagCreationVersion,
+		PidTagHasAttachments,
+		PidTagNormalizedSubject,
+		PidTagRtfInSync,
+		PidTagAttachSize,
+		PidTagAttachNumber,
+		PidTagInternetArticleNumber,
+		PidTagSecurityDescriptor,
+		PidTagPrimarySendAccount,
+		PidTagPrimarySendAccountW,
+		PidTagNextSendAcct,
+		PidTagNextSendAcctW,
+		PidTagToDoItemFlags,
+		PidTagSwappedToDoStore,
+		PidTagSwappedToDoData,
+		PidTagUrlCompNameSet,
+		PidTagRead,
+		PidTagSecurityDescriptorAsXml,
+		PidTagTrustSender,
+		PidTagExchangeNTSecurityDescriptor,
+		PidTagExtendedRuleMessageActions,
+		PidTagExtendedRuleMessageCondition,
+		PidTagExtendedRuleSizeLimit,
+		PidTagAccess,
+		PidTagRowType,
+		PidTagInstanceKey,
+		PidTagAccessLevel,
+		PidTagMappingSignature,
+		PidTagRecordKey,
+		PidTagStoreEntryId,
+		PidTagObjectType,
+		PidTagEntryId,
+		PidTagBody,
+		PidTagBodyW,
+		PidTagReportText,
+		PidTagRtfSyncBodyCrc,
+		PidTagRtfSyncBodyCount,
+		PidTagRtfSyncBodyTag,
+		PidTagRtfSyncBodyTagW,
+		PidTagRtfCompressed,
+		PidTagRtfSyncPrefixCount,
+		PidTagRtfSyncTrailingCount,
+		PidTagBodyHtml,
+		PidTagBodyHtmlW,
+		PidTagHtml,
+		PidTagBodyContentLocation,
+		PidTagBodyContentId,
+		PidTagNativeBody,
+		PidTagInternetLines,
+		PidTagInternetMessageId,
+		PidTagInternetMessageIdW,
+		PidTagInternetOrganization,
+		PidTagInternetReferences,
+		PidTagInReplyToId,
+		PidTagInReplyToIdW,
+		PidTagListHelp,
+		PidTagListSubscribe,
+		PidTagListUnsubscribe,
+		PidTagOriginalMessageId,
+		PidTagInternetReturnPath,
+		PidTagIconIndex,
+		PidTagLastVerbExecuted,
+		PidTagLastVerbExecutionTime,
+		PidTagFlagStatus,
+		PidTagFlagCompleteTime,
+		PidTagFollowupIcon,
+		PidTagBlockStatus,
+		PidTagItemTemporaryFlags,
+		PidTagConflictItems,
+		PidTagICalendarStartTime,
+		PidTagICalendarEndTime,
+		PidTagCdoRecurrenceid,
+		PidTagICalendarReminderNextTime,
+		PidTagImapCachedMsgsize,
+		PidTagUrlCompName,
+		PidTagAttributeHidden,
+		PidTagAttributeSystem,
+		PidTagAttributeReadOnly,
+		PidTagRowid,
+		PidTagDisplayName,
+		PidTagDisplayNameW,
+		PidTagAddressType,
+		PidTagEmailAddress,
+		PidTagEmailAddressW,
+		PidTagComment,
+		PidTagCommentW,
+		PidTagDepth,
+		PidTagCreationTime,
+		PidTagLastModificationTime,
+		PidTagSearchKey,
+		PidTagOriginalMessageEntryId,
+		PidTagTargetEntryId,
+		PidTagConversationId,
+		PidTagConversationIndexTracking,
+		PidTagArchiveTag,
+		PidTagPolicyTag,
+		PidTagRetentionPeriod,
+		PidTagStartDateEtc,
+		PidTagRetentionDate,
+		PidTagRetentionFlags,
+		PidTagArchivePeriod,
+		PidTagArchiveDate,
+		PidTagStoreSupportMask,
+		PidTagStoreState,
+		PidTagValidFolderMask,
+		PidTagIpmSubTreeEntryId,
+		PidTagIpmOutboxEntryId,
+		PidTagIpmWasteBasketEntryId,
+		PidTagIpmSentMailEntryId,
+		PidTagViewsEntryId,
+		PidTagCommonViewsEntryId,
+		PidTagFinderEntryId,
+		PidTagContainerFlags,
+		PidTagFolderType,
+		PidTagContentCount,
+		PidTagContentUnreadCount,
+		PidTagCreateTemplates,
+		PidTagSelectable,
+		PidTagSubfolders,
+		PidTagStatus,
+		PidTagAnr,
+		PidTagContainerHierarchy,
+		PidTagContainerContents,
+		PidTagFolderAssociatedContents,
+		PidTagContainerClass,
+		PidTagContainerClassW,
+		PidTagIpmAppointmentEntryId,
+		PidTagIpmContactEntryId,
+		PidTagIpmJournalEntryId,
+		PidTagIpmNoteEntryId,
+		PidTagIpmTaskEntryId,
+		PidTagRemindersOnlineEntryId,
+		PidTagIpmDraftsEntryId,
+		PidTagAdditionalRenEntryIds,
+		PidTagAdditionalRenEntryIdsEx,
+		PidTagExtendedFolderFlags,
+		PidTagOrdinalMost,
+		PidTagFreeBusyEntryIds,
+		PidTagDefaultPostMessageClass,
+		PidTagAttachDataObject,
+		PidTagAttachDataBinary,
+		PidTagAttachEncoding,
+		PidTagAttachExtension,
+		PidTagAttachExtensionW,
+		PidTagAttachFilename,
+		PidTagAttachFilenameW,
+		PidTagAttachMethod,
+		PidTagAttachLongFilename,
+		PidTagAttachLongFilenameW,
+		PidTagAttachPathname,
+		PidTagAttachPathnameW,
+		PidTagAttachRendering,
+		PidTagAttachTag,
+		PidTagRenderingPosition,
+		PidTagAttachTransportName,
+		PidTagAttachLongPathname,
+		PidTagAttachLongPathnameW,
+		PidTagAttachMimeTag,
+		PidTagAttachMimeTagW,
+		PidTagAttachAdditionalInformation,
+		PidTagAttachMimeSequence,
+		PidTagAttachContentBase,
+		PidTagAttachContentId,
+		PidTagAttachContentLocation,
+		PidTagAttachFlags,
+		PidTagAttachPayloadProviderGuidString,
+		PidTagAttachPayloadClass,
+		PidTagTextAttachmentCharset,
+		PidTagDisplayType,
+		PidTagTemplateid,
+		PidTagDisplayTypeEx,
+		PidTagPrimarySmtpAddress,
+		PidTag_7BitDisplayName,
+		PidTagAccount,
+		PidTagCallbackTelephoneNumber,
+		PidTagGeneration,
+		PidTagGivenName,
+		PidTagGivenNameW,
+		PidTagGovernmentIdNumber,
+		PidTagBusinessTelephoneNumber,
+		PidTagBusinessTelephoneNumberW,
+		PidTagHomeTelephoneNumber,
+		PidTagHomeTelephoneNumberW,
+		PidTagInitials,
+		PidTagKeyword,
+		PidTagLanguage,
+		PidTagLocation,
+		PidTagMessageHandlingSystemCommonName,
+		PidTagOrganizationalIdNumber,
+		PidTagSurname,
+		PidTagSurnameW,
+		PidTagOriginalEntryId,
+		PidTagOriginalDisplayName,
+		PidTagOriginalSearchKey,
+		PidTagPostalAddress,
+		PidTagPostalAddressW,
+		PidTagCompanyName,
+		PidTagCompanyNameW,
+		PidTagTitle,
+		PidTagDepartmentName,
+		PidTagOfficeLocation,
+		PidTagPrimaryTelephoneNumber,
+		PidTagBusiness2TelephoneNumber,
+		PidTagBusiness2TelephoneNumberW,
+		PidTagBusiness2TelephoneNumbers,
+		PidTagMobileTelephoneNumber,
+		PidTagMobileTelephoneNumberW,
+		PidTagRadioTelephoneNumber,
+		PidTagRadioTelephoneNumberW,
+		PidTagCarTelephoneNumber,
+		PidTagCarTelephoneNumberW,
+		PidTagOtherTelephoneNumber,
+		PidTagOtherTelephoneNumberW,
+		PidTagTransmittableDisplayName,
+		PidTagPagerTelephoneNumber,
+		PidTagPagerTelephoneNumberW,
+		PidTagUserCertificate,
+		PidTagPrimaryFaxNumber,
+		PidTagBusinessFaxNumber,
+		PidTagBusinessFaxNumberW,
+		PidTagHomeFaxNumber,
+		PidTagHomeFaxNumberW,
+		PidTagCountry,
+		PidTagLocality,
+		PidTagStateOrProvince,
+		PidTagStreetAddress,
+		PidTagPostalCode,
+		PidTagPostOfficeBox,
+		PidTagTelexNumber,
+		PidTagTelexNumberW,
+		PidTagTelexNumberNspi,
+		PidTagIsdnNumber,
+		PidTagIsdnNumberW,
+		PidTagAssistantTelephoneNumber,
+		PidTagAssistantTelephoneNumberW,
+		PidTagHome2TelephoneNumber,
+		PidTagHome2TelephoneNumberW,
+		PidTagHome2TelephoneNumbers,
+		PidTagAssistant,
+		PidTagSendRichInfo,
+		PidTagWeddingAnniversary,
+		PidTagBirthday,
+		PidTagHobbies,
+		PidTagMiddleName,
+		PidTagMiddleNameW,
+		PidTagDisplayNamePrefix,
+		PidTagProfession,
+		PidTagPreferredByName,
+		PidTagSpouseName,
+		PidTagComputerNetworkName,
+		PidTagCustomerId,
+		PidTagTelecommunicationsDeviceForDeafTelephoneNumber,
+		PidTagTtyTddPhoneNumber,
+		PidTagFtpSite,
+		PidTagGender,
+		PidTagManagerName,
+		PidTagNickname,
+		PidTagPersonalHomePage,
+		PidTagBusinessHomePage,
+		PidTagCompanyMainTelephoneNumber,
+		PidTagCompanyMainTelephoneNumberW,
+		PidTagChildrensNames,
+		PidTagHomeAddressCity,
+		PidTagHomeAddressCountry,
+		PidTagHomeAddressPostalCode,
+		PidTagHomeAddressStateOrProvince,
+		PidTagHomeAddressStreet,
+		PidTagHomeAddressPostOfficeBox,
+		PidTagOtherAddressCity,
+		PidTagOtherAddressCountry,
+		PidTagOtherAddressPostalCode,
+		PidTagOtherAddressStateOrProvince,
+		PidTagOtherAddressStreet,
+		PidTagOtherAddressPostOfficeBox,
+		PidTagUserX509Certificate,
+		PidTagSendInternetEncoding,
+		PidTagInitialDetailsPane,
+		PidTagTemporaryDefaultDocument,
+		PidTagInternetCodepage,
+		PidTagAutoResponseSuppress,
+		PidTagAccessControlListData,
+		PidTagDelegatedByRule,
+		PidTagResolveMethod,
+		PidTagHasDeferredActionMessages,
+		PidTagDeferredSendNumber,
+		PidTagDeferredSendUnits,
+		PidTagExpiryNumber,
+		PidTagExpiryUnits,
+		PidTagDeferredSendTime,
+		PidTagConflictEntryId,
+		PidTagMessageLocaleId,
+		PidTagCreatorName,
+		PidTagCreatorEntryId,
+		PidTagLastModifierName,
+		PidTagLastModifierEntryId,
+		PidTagMessageCodepage,
+		PidTagNewAttach,
+		PidTagStartEmbed,
+		PidTagEndEmbed,
+		PidTagStartRecip,
+		PidTagEndToRecip,
+		PidTagStartTopFld,
+		PidTagStartSubFld,
+		PidTagEndFolder,
+		PidTagStartMessage,
+		PidTagEndMessage,
+		PidTagEndAttach,
+		PidTagEcWarning,
+		PidTagStartFAIMsg,
+		PidTagNewFXFolder,
+		PidTagIncrSyncChg,
+		PidTagIncrSyncDel,
+		PidTagIncrSyncEnd,
+		PidTagIncrSyncMessage,
+		PidTagFXDelProp,
+		PidTagIdsetGiven,
+		PidTagFXErrorInfo,
+		PidTagSenderFlags,
+		PidTagSentRepresentingFlags,
+		PidTagReceivedByFlags,
+		PidTagReceivedRepresentingFlags,
+		PidTagIdsetSoftDeleted,
+		PidTagCreatorAddressType,
+		PidTagCreatorEmailAddress,
+		PidTagReadReceiptAddressType,
+		PidTagReadReceiptEmailAddress,
+		PidTagReadReceiptName,
+		PidTagIdsetRead,
+		PidTagIdsetUnread,
+		PidTagIncrSyncRead,
+		PidTagSenderSimpleDisplayName,
+		PidTagSentRepresentingSimpleDisplayName,
+		PidTagReceivedRepresentingSimpleDisplayName,
+		PidTagCreatorSimpleDisplayName,
+		PidTagLastModifierSimpleDisplayName,
+		PidTagIncrSyncStateBegin,
+		PidTagIncrSyncStateEnd,
+		PidTagIncrSyncProgressMode,
+		PidTagIncrSyncProgressPerMsg,
+		PidTagContentFilterSpamConfidenceLevel,
+		PidTagSenderIdStatus,
+		PidTagIncrementalSyncMessagePartial,
+		PidTagIncrSyncGroupInfo,
+		PidTagIncrSyncGroupId,
+		PidTagIncrSyncChgPartial,
+		PidTagHierRev,
+		PidTagPurportedSenderDomain,
+		PidTagContentFilterPhishingConfidenceLevel,
+		PidTagInternetMailOverrideFormat,
+		PidTagMessageEditorFormat,
+		PidTagSenderSmtpAddress,
+		PidTagSentRepresentingSmtpAddress,
+		PidTagReadReceiptSmtpAddress,
+		PidTagReceivedBySmtpAddress,
+		PidTagReceivedRepresentingSmtpAddress,
+		PidTagRecipientResourceState,
+		PidTagRecipientOrder,
+		PidTagRecipientProposed,
+		PidTagRecipientProposedStartTime,
+		PidTagRecipientProposedEndTime,
+		PidTagSessionInitiationProtocolUri,
+		PidTagRecipientDisplayName,
+		PidTagRecipientEntryId,
+		PidTagRecipientTrackStatusTime,
+		PidTagRecipientFlags,
+		PidTagRecipientTrackStatus,
+		PidTagJunkIncludeContacts,
+		PidTagJunkThreshold,
+		PidTagJunkPermanentlyDelete,
+		PidTagJunkAddRecipientsToSafeSendersList,
+		PidTagJunkPhishingEnableLinks,
+		PidTagJunkPostmarkOutgoingMail,
+		PidTagMimeSkeleton,
+		PidTagReplyTemplateId,
+		PidTagSecureSubmitFlags,
+		PidTagSourceKey,
+		PidTagParentSourceKey,
+		PidTagChangeKey,
+		PidTagPredecessorChangeList,
+		PidTagRuleMsgState,
+		PidTagRuleMsgUserFlags,
+		PidTagRuleMsgProvider,
+		PidTagRuleMsgName,
+		PidTagRuleMsgLevel,
+		PidTagRuleMsgProviderData,
+		PidTagRuleMsgActions,
+		PidTagRuleMsgCondition,
+		PidTagRuleMsgSequence,
+		PidTagPstBodyPrefix,
+		PidTagUserEntryId,
+		PidTagMailboxOwnerEntryId,
+		PidTagMailboxOwnerName,
+		PidTagOutOfOfficeState,
+		PidTagSchedulePlusFreeBusyEntryId,
+		PidTagPstLrNoRestrictions,
+		PidTagPstHiddenCount,
+		PidTagPstHiddenUnread,
+		PidTagChangeNotificationGuid,
+		PidTagSerializedReplidGuidMap,
+		PidTagRights,
+		PidTagHasRules,
+		PidTagAddressBookEntryId,
+		PidTagHierarchyChangeNumber,
+		PidTagDeletedMessageCount,
+		PidTagDeletedAssociatedMessageCount,
+		PidTagClientActions,
+		PidTagDamOriginalEntryId,
+		PidTagDamBackPatched,
+		PidTagRuleError,
+		PidTagRuleActionType,
+		PidTagHasNamedProperties,
+		PidTagRuleActionNumber,
+		PidTagRuleFolderEntryId,
+		PidTagProhibitReceiveQuota,
+		PidTagInConflict,
+		PidTagMaximumSubmitMessageSize,
+		PidTagProhibitSendQuota,
+		PidTagMemberId,
+		PidTagMemberName,
+		PidTagMemberRights,
+		PidTagRuleId,
+		PidTagRuleIds,
+		PidTagRuleSequence,
+		PidTagRuleState,
+		PidTagRuleUserFlags,
+		PidTagRuleCondition,
+		PidTagRuleActions,
+		PidTagRuleProvider,
+		PidTagRuleName,
+		PidTagRuleLevel,
+		PidTagRuleProviderData,
+		PidTagDeletedOn,
+		PidTagDeletedMessageSizeExtended,
+		PidTagDeletedNormalMessageSizeExtended,
+		PidTagDeletedAssociatedMessageSizeExtended,
+		PidTagLocaleId,
+		PidTagFolderFlags,
+		PidTagNormalMessageSize,
+		PidTagCodePageId,
+		PidTagAddressBookManageDistributionList,
+		PidTagSortLocaleId,
+		PidTagUrlName,
+		PidTagSubfolder,
+		PidTagLocalCommitTime,
+		PidTagLocalCommitTimeMax,
+		PidTagDeletedCountTotal,
+		PidTagFlatUrlName,
+		PidTagPublicFolderAdministrativeDescription,
+		PidTagPublicFolderProxy,
+		PidTagSentMailSvrEID,
+		PidTagDeferredActionMessageOriginalEntryId,
+		PidTagFolderId32,
+		PidTagFolderId,
+		PidTagParentFolderId,
+		PidTagMid,
+		PidTagInstID,
+		PidTagInstanceNum,
+		PidTagAddressBookMessageId,
+		PidTagMsgFolderTemplateRes13,
+		PidTagIdsetExpired,
+		PidTagCnsetSeen,
+		PidTagChangeNumber,
+		PidTagAssociated,
+		PidTagCnsetRead,
+		PidTagCnsetSeenFAI,
+		PidTagIdsetDeleted,
+		PidTagLtpParentNid,
+		PidTagLtpRowId,
+		PidTagLtpRowVer,
+		PidTagLtpPstPassword,
+		PidTagOfflineAddressBookName,
+		PidTagVoiceMessageDuration,
+		PidTagOfflineAddressBookContainerGuid,
+		PidTagSenderTelephoneNumber,
+		PidTagRwRulesStream,
+		PidTagOfflineAddressBookMessageClass,
+		PidTagSendOutlookRecallReport,
+		PidTagVoiceMessageSenderName,
+		PidTagFaxNumberOfPages,
+		PidTagOfflineAddressBookDistinguishedName,
+		PidTagVoiceMessageAttachmentOrder,
+		PidTagOfflineAddressBookTruncatedProperties,
+		PidTagCallId,
+		PidTagOfflineAddressBookShaHash,
+		PidTagOfflineAddressBookLanguageId,
+		PidTagOfflineAddressBookFileType,
+		PidTagOfflineAddressBookCompressedSize,
+		PidTagOfflineAddressBookFileSize,
+		PidTagReportingMessageTransferAgent,
+		PidTagMapiFormComposeCommand,
+		PidTagSearchFolderLastUsed,
+		PidTagSearchFolderExpiration,
+		PidTagSearchFolderTemplateId,
+		PidTagScheduleInfoDelegatorWantsCopy,
+		PidTagWlinkGroupHeaderID,
+		PidTagScheduleInfoDontMailDelegates,
+		PidTagSearchFolderRecreateInfo,
+		PidTagScheduleInfoDelegateNames,
+		PidTagSearchFolderDefinition,
+		PidTagScheduleInfoDelegateEntryIds,
+		PidTagSearchFolderStorageType,
+		PidTagGatewayNeedsToRefresh,
+		PidTagWlinkSaveStamp,
+		PidTagSearchFolderEfpFlags,
+		PidTagWlinkType,
+		PidTagFreeBusyMessageEmailAddress,
+		PidTagWlinkFlags,
+		PidTagScheduleInfoDelegateNamesW,
+		PidTagScheduleInfoDelegatorWantsInfo,
+		PidTagWlinkOrdinal,
+		PidTagWlinkEntryId,
+		PidTagWlinkRecordKey,
+		PidTagWlinkStoreEntryId,
+		PidTagWlinkFolderType,
+		PidTagScheduleInfoMonthsMerged,
+		PidTagWlinkGroupClsid,
+		PidTagScheduleInfoFreeBusyMerged,
+		PidTagWlinkGroupName,
+		PidTagScheduleInfoMonthsTentative,
+		PidTagWlinkSection,
+		PidTagScheduleInfoFreeBusyTentative,
+		PidTagWlinkCalendarColor,
+		PidTagScheduleInfoMonthsBusy,
+		PidTagWlinkAddressBookEID,
+		PidTagScheduleInfoFreeBusyBusy,
+		PidTagScheduleInfoMonthsAway,
+		PidTagScheduleInfoFreeBusyAway,
+		PidTagFreeBusyRangeTimestamp,
+		PidTagFreeBusyCountMonths,
+		PidTagScheduleInfoAppointmentTombstone,
+		PidTagDelegateFlags,
+		PidTagScheduleInfoFreeBusy,
+		PidTagScheduleInfoAutoAcceptAppointments,
+		PidTagScheduleInfoDisallowRecurringAppts,
+		PidTagScheduleInfoDisallowOverlappingAppts,
+		PidTagWlinkClientID,
+		PidTagWlinkAddressBookStoreEID,
+		PidTagWlinkROGroupType,
+		PidTagViewDescriptorBinary,
+		PidTagViewDescriptorStrings,
+		PidTagViewDescriptorFlags,
+		PidTagViewDescriptorLinkTo,
+		PidTagViewDescriptorViewFolder,
+		PidTagViewDescriptorName,
+		PidTagViewDescriptorVersion,
+		PidTagRoamingDatatypes,
+		PidTagRoamingDictionary,
+		PidTagRoamingXmlStream,
+		PidTagOscSyncEnabled,
+		PidTagStoreUserEntryId,
+		PidTagProcessed,
+		PidTagExceptionReplaceTime,
+		PidTagAttachmentLinkId,
+		PidTagExceptionStartTime,
+		PidTagExceptionEndTime,
+		PidTagAttachmentFlags,
+		PidTagAttachmentHidden,
+		PidTagAttachmentContactPhoto,
+	};
 
-		tags.put(PidTagCurrentDraftEntryId, "PidTagCurrentDraftEntryId");
-		tags.put(PidTagTemplateData, "PidTagTemplateData");
-		tags.put(PidTagAlternateRecipientAllowed, "PidTagAlternateRecipientAllowed");
-		tags.put(PidTagScriptData, "PidTagScriptData");
-		tags.put(PidTagAutoForwardComment, "PidTagAutoForwardComment");
-		tags.put(PidTagAutoForwarded, "PidTagAutoForwarded");
-		tags.put(PidTagRequiredAttendees, "PidTagRequiredAttendees");
-		tags.put(PidTagOptionalAttendees, "PidTagOptionalAttendees");
-		tags.put(PidTagResourceAttendees, "PidTagResourceAttendees");
-		tags.put(PidTagDelegateMail, "PidTagDelegateMail");
-		tags.put(PidTagIsException, "PidTagIsException");
-		tags.put(PidTagConversationKey, "PidTagConversationKey");
-		tags.put(PidTagTimeZone, "PidTagTimeZone");
-		tags.put(PidTagStartRecurrenceDate, "PidTagStartRecurrenceDate");
-		tags.put(PidTagStartRecurrenceTime, "PidTagStartRecurrenceTime");
-		tags.put(PidTagDeferredDeliveryTime, "PidTagDeferredDeliveryTime");
-		tags.put(PidTagEndRecurrenceTime, "PidTagEndRecurrenceTime");
-		tags.put(PidTagDeliverTime, "PidTagDeliverTime");
-		tags.put(PidTagDayInterval, "PidTagDayInterval");
-		tags.put(PidTagWeekInterval, "PidTagWeekInterval");
-		tags.put(PidTagMonthInterval, "PidTagMonthInterval");
-		tags.put(PidTagYearInterval, "PidTagYearInterval");
-		tags.put(PidTagExpiryTime, "PidTagExpiryTime");
-		tags.put(PidTagImportance, "PidTagImportance");
-		tags.put(PidTagOldRecurrenceType, "PidTagOldRecurrenceType");
-		tags.put(PidTagMessageClassW, "PidTagMessageClassW");
-		tags.put(PidTagMessageClass, "PidTagMessageClass");
-		tags.put(PidTagCalendarType, "PidTagCalendarType");
-		tags.put(PidTagOriginatorDeliveryReportRequested, "PidTagOriginatorDeliveryReportRequested");
-		tags.put(PidTagParentKey, "PidTagParentKey");
-		tags.put(PidTagPriority, "PidTagPriority");
-		tags.put(PidTagOldLocation, "PidTagOldLocation");
-		tags.put(PidTagReadReceiptRequested, "PidTagReadReceiptRequested");
-		tags.put(PidTagConvertHtmlSecurity, "PidTagConvertHtmlSecurity");
-		tags.put(PidTagReceiptTime, "PidTagReceiptTime");
-		tags.put(PidTagRecipientReassignmentProhibited, "PidTagRecipientReassignmentProhibited");
-		tags.put(PidTagOriginalSensitivity, "PidTagOriginalSensitivity");
-		tags.put(PidTagReplyTime, "PidTagReplyTime");
-		tags.put(PidTagReportTag, "PidTagReportTag");
-		tags.put(PidTagReportTime, "PidTagReportTime");
-		tags.put(PidTagSensitivity, "PidTagSensitivity");
-		tags.put(PidTagSubjectW, "PidTagSubjectW");
-		tags.put(PidTagSubject, "PidTagSubject");
-		tags.put(PidTagClientSubmitTime, "PidTagClientSubmitTime");
-		tags.put(PidTagReportName, "PidTagReportName");
-		tags.put(PidTagSentRepresentingSearchKey, "PidTagSentRepresentingSearchKey");
-		tags.put(PidTagSubjectPrefix, "PidTagSubjectPrefix");
-		tags.put(PidTagReceivedByEntryId, "PidTagReceivedByEntryId");
-		tags.put(PidTagReceivedByNameW, "PidTagReceivedByNameW");
-		tags.put(PidTagReceivedByName, "PidTagReceivedByName");
-		tags.put(PidTagSentRepresentingEntryId, "PidTagSentRepresentingEntryId");
-		tags.put(PidTagSentRepresentingNameW, "PidTagSentRepresentingNameW");
-		tags.put(PidTagSentRepresentingName, "PidTagSentRepresentingName");
-		tags.put(PidTagReceivedRepresentingEntryId, "PidTagReceivedRepresentingEntryId");
-		tags.put(PidTagReceivedRepresentingName, "PidTagReceivedRepresentingName");
-		tags.put(PidTagReportEntryId, "PidTagReportEntryId");
-		tags.put(PidTagReadReceiptEntryId, "PidTagReadReceiptEntryId");
-		tags.put(PidTagMessageSubmissionId, "PidTagMessageSubmissionId");
-		tags.put(PidTagProviderSubmitTime, "PidTagProviderSubmitTime");
-		tags.put(PidTagOriginalSubject, "PidTagOriginalSubject");
-		tags.put(PidTagOriginalMessageClass, "PidTagOriginalMessageClass");
-		tags.put(PidTagOriginalAuthorEntryId, "PidTagOriginalAuthorEntryId");
-		tags.put(PidTagOriginalAuthorName, "PidTagOriginalAuthorName");
-		tags.put(PidTagOriginalSubmitTime, "PidTagOriginalSubmitTime");
-		tags.put(PidTagReplyRecipientEntries, "PidTagReplyRecipientEntries");
-		tags.put(PidTagReplyRecipientNamesW, "PidTagReplyRecipientNamesW");
-		tags.put(PidTagReplyRecipientNames, "PidTagReplyRecipientNames");
-		tags.put(PidTagReceivedBySearchKey, "PidTagReceivedBySearchKey");
-		tags.put(PidTagReceivedRepresentingSearchKey, "PidTagReceivedRepresentingSearchKey");
-		tags.put(PidTagReadReceiptSearchKey, "PidTagReadReceiptSearchKey");
-		tags.put(PidTagReportSearchKey, "PidTagReportSearchKey");
-		tags.put(PidTagOriginalDeliveryTime, "PidTagOriginalDeliveryTime");
-		tags.put(PidTagMessageToMe, "PidTagMessageToMe");
-		tags.put(PidTagMessageCcMe, "PidTagMessageCcMe");
-		tags.put(PidTagMessageRecipientMe, "PidTagMessageRecipientMe");
-		tags.put(PidTagOriginalSenderName, "PidTagOriginalSenderName");
-		tags.put(PidTagOriginalSenderEntryId, "PidTagOriginalSenderEntryId");
-		tags.put(PidTagOriginalSenderSearchKey, "PidTagOriginalSenderSearchKey");
-		tags.put(PidTagOriginalSentRepresentingName, "PidTagOriginalSentRepresentingName");
-		tags.put(PidTagOriginalSentRepresentingEntryId, "PidTagOriginalSentRepresentingEntryId");
-		tags.put(PidTagOriginalSentRepresentingSearchKey, "PidTagOriginalSentRepresentingSearchKey");
-		tags.put(PidTagStartDate, "PidTagStartDate");
-		tags.put(PidTagEndDate, "PidTagEndDate");
-		tags.put(PidTagOwnerAppointmentId, "PidTagOwnerAppointmentId");
-		tags.put(PidTagOwnerApppointmentId, "PidTagOwnerApppointmentId");
-		tags.put(PidTagResponseRequested, "PidTagResponseRequested");
-		tags.put(PidTagSentRepresentingAddressTypeW, "PidTagSentRepresentingAddressTypeW");
-		tags.put(PidTagSentRepresentingAddressType, "PidTagSentRepresentingAddressType");
-		tags.put(PidTagSentRepresentingEmailAddressW, "PidTagSentRepresentingEmailAddressW");
-		tags.put(PidTagSentRepresentingEmailAddress, "PidTagSentRepresentingEmailAddress");
-		tags.put(PidTagOriginalSenderAddressType, "PidTagOriginalSenderAddressType");
-		tags.put(PidTagOriginalSenderEmailAddress, "PidTagOriginalSenderEmailAddress");
-		tags.put(PidTagOriginalSentRepresentingAddressType, "PidTagOriginalSentRepresentingAddressType");
-		tags.put(PidTagOriginalSentRepresentingEmailAddress, "PidTagOriginalSentRepresentingEmailAddress");
-		tags.put(PidTagConversationTopicW, "PidTagConversationTopicW");
-		tags.put(PidTagConversationTopic, "PidTagConversationTopic");
-		tags.put(PidTagConversationIndex, "PidTagConversationIndex");
-		tags.put(PidTagOriginalDisplayBcc, "PidTagOriginalDisplayBcc");
-		tags.put(PidTagOriginalDisplayCc, "PidTagOriginalDisplayCc");
-		tags.put(PidTagOriginalDisplayTo, "PidTagOriginalDisplayTo");
-		tags.put(PidTagReceivedByAddressTypeW, "PidTagReceivedByAddressTypeW");
-		tags.put(PidTagReceivedByAddressType, "PidTagReceivedByAddressType");
-		tags.put(PidTagReceivedByEmailAddressW, "PidTagReceivedByEmailAddressW");
-		tags.put(PidTagReceivedByEmailAddress, "PidTagReceivedByEmailAddress");
-		tags.put(PidTagReceivedRepresentingAddressType, "PidTagReceivedRepresentingAddressType");
-		tags.put(PidTagReceivedRepresentingEmailAddress, "PidTagReceivedRepresentingEmailAddress");
-		tags.put(PidTagRemoteHeaderLoc, "PidTagRemoteHeaderLoc");
-		tags.put(PidTagTransportMessageHeadersW, "PidTagTransportMessageHeadersW");
-		tags.put(PidTagTransportMessageHeaders, "PidTagTransportMessageHeaders");
-		tags.put(PidTagDelegation, "PidTagDelegation");
-		tags.put(PidTagTnefCorrelationKey, "PidTagTnefCorrelationKey");
-		tags.put(PidTagReportDispositionW, "PidTagReportDispositionW");
-		tags.put(PidTagReportDisposition, "PidTagReportDisposition");
-		tags.put(PidTagReportDispositionModeW, "PidTagReportDispositionModeW");
-		tags.put(PidTagReportDispositionMode, "PidTagReportDispositionMode");
-		tags.put(PidTagReportOriginalSender, "PidTagReportOriginalSender");
-		tags.put(PidTagReportDispositionToNames, "PidTagReportDispositionToNames");
-		tags.put(PidTagReportDispositionToEmailAddresses, "PidTagReportDispositionToEmailAddresses");
-		tags.put(PidTagAddressBookRoomCapacity, "PidTagAddressBookRoomCapacity");
-		tags.put(PidTagAddressBookRoomDescription, "PidTagAddressBookRoomDescription");
-		tags.put(PidTagNonDeliveryReportReasonCode, "PidTagNonDeliveryReportReasonCode");
-		tags.put(PidTagNonDeliveryReportDiagCode, "PidTagNonDeliveryReportDiagCode");
-		tags.put(PidTagNonReceiptNotificationRequested, "PidTagNonReceiptNotificationRequested");
-		tags.put(PidTagOriginatorNonDeliveryReportRequested, "PidTagOriginatorNonDeliveryReportRequested");
-		tags.put(PidTagRecipientType, "PidTagRecipientType");
-		tags.put(PidTagReplyRequested, "PidTagReplyRequested");
-		tags.put(PidTagSenderEntryId, "PidTagSenderEntryId");
-		tags.put(PidTagSenderNameW, "PidTagSenderNameW");
-		tags.put(PidTagSenderName, "PidTagSenderName");
-		tags.put(PidTagSupplementaryInfo, "PidTagSupplementaryInfo");
-		tags.put(PidTagSenderSearchKey, "PidTagSenderSearchKey");
-		tags.put(PidTagSenderAddressTypeW, "PidTagSenderAddressTypeW");
-		tags.put(PidTagSenderAddressType, "PidTagSenderAddressType");
-		tags.put(PidTagSenderEmailAddressW, "PidTagSenderEmailAddressW");
-		tags.put(PidTagSenderEmailAddress, "PidTagSenderEmailAddress");
-		tags.put(PidTagNonDeliveryReportStatusCode, "PidTagNonDeliveryReportStatusCode");
-		tags.put(PidTagRemoteMessageTransferAgent, "PidTagRemoteMessageTransferAgent");
-		tags.put(PidTagDeleteAfterSubmit, "PidTagDeleteAfterSubmit");
-		tags.put(PidTagDisplayBccW, "PidTagDisplayBccW");
-		tags.put(PidTagDisplayBcc, "PidTagDisplayBcc");
-		tags.put(PidTagDisplayCcW, "PidTagDisplayCcW");
-		tags.put(PidTagDisplayCc, "PidTagDisplayCc");
-		tags.put(PidTagDisplayToW, "PidTagDisplayToW");
-		tags.put(PidTagDisplayTo, "PidTagDisplayTo");
-		tags.put(PidTagParentDisplayW, "PidTagParentDisplayW");
-		tags.put(PidTagMessageDeliveryTime, "PidTagMessageDeliveryTime");
-		tags.put(PidTagMessageFlags, "PidTagMessageFlags");
-		tags.put(PidTagMessageSize, "PidTagMessageSize");
-		tags.put(PidTagMessageSizeExtended, "PidTagMessageSizeExtended");
-		tags.put(PidTagParentEntryId, "PidTagParentEntryId");
-		tags.put(PidTagSentMailEntryId, "PidTagSentMailEntryId");
-		tags.put(PidTagCorrelateMtsid, "PidTagCorrelateMtsid");
-		tags.put(PidTagResponsibility, "PidTagResponsibility");
-		tags.put(PidTagMessageRecipients, "PidTagMessageRecipients");
-		tags.put(PidTagMessageAttachments, "PidTagMessageAttachments");
-		tags.put(PidTagSubmitFlags, "PidTagSubmitFlags");
-		tags.put(PidTagMessageStatus, "PidTagMessageStatus");
-		tags.put(PidTagCreationVersion, "PidTagCreationVersion");
-		tags.put(PidTagHasAttachments, "PidTagHasAttachments");
-		tags.put(PidTagNormalizedSubject, "PidTagNormalizedSubject");
-		tags.put(PidTagRtfInSync, "PidTagRtfInSync");
-		tags.put(PidTagAttachSize, "PidTagAttachSize");
-		tags.put(PidTagAttachNumber, "PidTagAttachNumber");
-		tags.put(PidTagInternetArticleNumber, "PidTagInternetArticleNumber");
-		tags.put(PidTagSecurityDescriptor, "PidTagSecurityDescriptor");
-		tags.put(PidTagPrimarySendAccountW, "PidTagPrimarySendAccountW");
-		tags.put(PidTagPrimarySendAccount, "PidTagPrimarySendAccount");
-		tags.put(PidTagNextSendAcctW, "PidTagNextSendAcctW");
-		tags.put(PidTagNextSendAcct, "PidTagNextSendAcct");
-		tags.put(PidTagToDoItemFlags, "PidTagToDoItemFlags");
-		tags.put(PidTagSwappedToDoStore, "PidTagSwappedToDoStore");
-		tags.put(PidTagSwappedToDoData, "PidTagSwappedToDoData");
-		tags.put(PidTagUrlCompNameSet, "PidTagUrlCompNameSet");
-		tags.put(PidTagRead, "PidTagRead");
-		tags.put(PidTagSecurityDescriptorAsXml, "PidTagSecurityDescriptorAsXml");
-		tags.put(PidTagTrustSender, "PidTagTrustSender");
-		tags.put(PidTagExchangeNTSecurityDescriptor, "PidTagExchangeNTSecurityDescriptor");
-		tags.put(PidTagExtendedRuleMessageActions, "PidTagExtendedRuleMessageActions");
-		tags.put(PidTagExtendedRuleMessageCondition, "PidTagExtendedRuleMessageCondition");
-		tags.put(PidTagExtendedRuleSizeLimit, "PidTagExtendedRuleSizeLimit");
-		tags.put(PidTagAccess, "PidTagAccess");
-		tags.put(PidTagRowType, "PidTagRowType");
-		tags.put(PidTagInstanceKey, "PidTagInstanceKey");
-		tags.put(PidTagAccessLevel, "PidTagAccessLevel");
-		tags.put(PidTagMappingSignature, "PidTagMappingSignature");
-		tags.put(PidTagRecordKey, "PidTagRecordKey");
-		tags.put(PidTagStoreEntryId, "PidTagStoreEntryId");
-		tags.put(PidTagObjectType, "PidTagObjectType");
-		tags.put(PidTagEntryId, "PidTagEntryId");
-		tags.put(PidTagBodyW, "PidTagBodyW");
-		tags.put(PidTagBody, "PidTagBody");
-		tags.put(PidTagReportText, "PidTagReportText");
-		tags.put(PidTagRtfSyncBodyCrc, "PidTagRtfSyncBodyCrc");
-		tags.put(PidTagRtfSyncBodyCount, "PidTagRtfSyncBodyCount");
-		tags.put(PidTagRtfSyncBodyTagW, "PidTagRtfSyncBodyTagW");
-		tags.put(PidTagRtfSyncBodyTag, "PidTagRtfSyncBodyTag");
-		tags.put(PidTagRtfCompressed, "PidTagRtfCompressed");
-		tags.put(PidTagRtfSyncPrefixCount, "PidTagRtfSyncPrefixCount");
-		tags.put(PidTagRtfSyncTrailingCount, "PidTagRtfSyncTrailingCount");
-		tags.put(PidTagHtml, "PidTagHtml");
-		tags.put(PidTagBodyHtmlW, "PidTagBodyHtmlW");
-		tags.put(PidTagBodyHtml, "PidTagBodyHtml");
-		tags.put(PidTagBodyContentLocation, "PidTagBodyContentLocation");
-		tags.put(PidTagBodyContentId, "PidTagBodyContentId");
-		tags.put(PidTagNativeBody, "PidTagNativeBody");
-		tags.put(PidTagInternetLines, "PidTagInternetLines");
-		tags.put(PidTagInternetMessageIdW, "PidTagInternetMessageIdW");
-		tags.put(PidTagInternetMessageId, "PidTagInternetMessageId");
-		tags.put(PidTagInternetOrganization, "PidTagInternetOrganization");
-		tags.put(PidTagInternetReferences, "PidTagInternetReferences");
-		tags.put(PidTagInReplyToIdW, "PidTagInReplyToIdW");
-		tags.put(PidTagInReplyToId, "PidTagInReplyToId");
-		tags.put(PidTagListHelp, "PidTagListHelp");
-		tags.put(PidTagListSubscribe, "PidTagListSubscribe");
-		tags.put(PidTagListUnsubscribe, "PidTagListUnsubscribe");
-		tags.put(PidTagOriginalMessageIdW, "PidTagOriginalMessageIdW");
-		tags.put(PidTagInternetReturnPath, "PidTagInternetReturnPath");
-		tags.put(PidTagOriginalMessageId, "PidTagOriginalMessageId");
-		tags.put(PidTagIconIndex, "PidTagIconIndex");
-		tags.put(PidTagLastVerbExecuted, "PidTagLastVerbExecuted");
-		tags.put(PidTagLastVerbExecutionTime, "PidTagLastVerbExecutionTime");
-		tags.put(PidTagFlagStatus, "PidTagFlagStatus");
-		tags.put(PidTagFlagCompleteTime, "PidTagFlagCompleteTime");
-		tags.put(PidTagFollowupIcon, "PidTagFollowupIcon");
-		tags.put(PidTagBlockStatus, "PidTagBlockStatus");
-		tags.put(PidTagItemTemporaryflags, "PidTagItemTemporaryflags");
-		tags.put(PidTagItemTemporaryFlags, "PidTagItemTemporaryFlags");
-		tags.put(PidTagConflictItems, "PidTagConflictItems");
-		tags.put(PidTagICalendarStartTime, "PidTagICalendarStartTime");
-		tags.put(PidTagICalendarEndTime, "PidTagICalendarEndTime");
-		tags.put(PidTagCdoRecurrenceid, "PidTagCdoRecurrenceid");
-		tags.put(PidTagICalendarReminderNextTime, "PidTagICalendarReminderNextTime");
-		tags.put(PidTagImapCachedMsgsize, "PidTagImapCachedMsgsize");
-		tags.put(PidTagUrlCompName, "PidTagUrlCompName");
-		tags.put(PidTagAttributeHidden, "PidTagAttributeHidden");
-		tags.put(PidTagAttributeSystem, "PidTagAttributeSystem");
-		tags.put(PidTagAttributeReadOnly, "PidTagAttributeReadOnly");
-		tags.put(PidTagRowid, "PidTagRowid");
-		tags.put(PidTagDisplayNameW, "PidTagDisplayNameW");
-		tags.put(PidTagDisplayName, "PidTagDisplayName");
-		tags.put(PidTagAddressType, "PidTagAddressType");
-		tags.put(PidTagEmailAddressW, "PidTagEmailAddressW");
-		tags.put(PidTagEmailAddress, "PidTagEmailAddress");
-		tags.put(PidTagCommentW, "PidTagCommentW");
-		tags.put(PidTagComment, "PidTagComment");
-		tags.put(PidTagDepth, "PidTagDepth");
-		tags.put(PidTagCreationTime, "PidTagCreationTime");
-		tags.put(PidTagLastModificationTime, "PidTagLastModificationTime");
-		tags.put(PidTagSearchKey, "PidTagSearchKey");
-		tags.put(PidTagOriginalMessageEntryId, "PidTagOriginalMessageEntryId");
-		tags.put(PidTagTargetEntryId, "PidTagTargetEntryId");
-		tags.put(PidTagConversationId, "PidTagConversationId");
-		tags.put(PidTagConversationIndexTracking, "PidTagConversationIndexTracking");
-		tags.put(PidTagArchiveTag, "PidTagArchiveTag");
-		tags.put(PidTagPolicyTag, "PidTagPolicyTag");
-		tags.put(PidTagRetentionPeriod, "PidTagRetentionPeriod");
-		tags.put(PidTagStartDateEtc, "PidTagStartDateEtc");
-		tags.put(PidTagRetentionDate, "PidTagRetentionDate");
-		tags.put(PidTagRetentionFlags, "PidTagRetentionFlags");
-		tags.put(PidTagArchivePeriod, "PidTagArchivePeriod");
-		tags.put(PidTagArchiveDate, "PidTagArchiveDate");
-		tags.put(PidTagStoreSupportMask, "PidTagStoreSupportMask");
-		tags.put(PidTagStoreState, "PidTagStoreState");
-		tags.put(PidTagValidFolderMask, "PidTagValidFolderMask");
-		tags.put(PidTagIpmSubTreeEntryId, "PidTagIpmSubTreeEntryId");
-		tags.put(PidTagIpmOutboxEntryId, "PidTagIpmOutboxEntryId");
-		tags.put(PidTagIpmWasteBasketEntryId, "PidTagIpmWasteBasketEntryId");
-		tags.put(PidTagIpmSentMailEntryId, "PidTagIpmSentMailEntryId");
-		tags.put(PidTagViewsEntryId, "PidTagViewsEntryId");
-		tags.put(PidTagCommonViewsEntryId, "PidTagCommonViewsEntryId");
-		tags.put(PidTagFinderEntryId, "PidTagFinderEntryId");
-		tags.put(PidTagContainerFlags, "PidTagContainerFlags");
-		tags.put(PidTagFolderType, "PidTagFolderType");
-		tags.put(PidTagContentCount, "PidTagContentCount");
-		tags.put(PidTagContentUnreadCount, "PidTagContentUnreadCount");
-		tags.put(PidTagCreateTemplates, "PidTagCreateTemplates");
-		tags.put(PidTagSelectable, "PidTagSelectable");
-		tags.put(PidTagSubfolders, "PidTagSubfolders");
-		tags.put(PidTagStatus, "PidTagStatus");
-		tags.put(PidTagAnr, "PidTagAnr");
-		tags.put(PidTagContainerHierarchy, "PidTagContainerHierarchy");
-		tags.put(PidTagContainerContents, "PidTagContainerContents");
-		tags.put(PidTagFolderAssociatedContents, "PidTagFolderAssociatedContents");
-		tags.put(PidTagContainerClassW, "PidTagContainerClassW");
-		tags.put(PidTagContainerClass, "PidTagContainerClass");
-		tags.put(PidTagIpmAppointmentEntryId, "PidTagIpmAppointmentEntryId");
-		tags.put(PidTagIpmContactEntryId, "PidTagIpmContactEntryId");
-		tags.put(PidTagIpmJournalEntryId, "PidTagIpmJournalEntryId");
-		tags.put(PidTagIpmNoteEntryId, "PidTagIpmNoteEntryId");
-		tags.put(PidTagIpmTaskEntryId, "PidTagIpmTaskEntryId");
-		tags.put(PidTagRemindersOnlineEntryId, "PidTagRemindersOnlineEntryId");
-		tags.put(PidTagIpmDraftsEntryId, "PidTagIpmDraftsEntryId");
-		tags.put(PidTagAdditionalRenEntryIds, "PidTagAdditionalRenEntryIds");
-		tags.put(PidTagAdditionalRenEntryIdsEx, "PidTagAdditionalRenEntryIdsEx");
-		tags.put(PidTagExtendedFolderFlags, "PidTagExtendedFolderFlags");
-		tags.put(PidTagOrdinalMost, "PidTagOrdinalMost");
-		tags.put(PidTagFreeBusyEntryIds, "PidTagFreeBusyEntryIds");
-		tags.put(PidTagDefaultPostMessageClass, "PidTagDefaultPostMessageClass");
-		tags.put(PidTagAttachDataBinary, "PidTagAttachDataBinary");
-		tags.put(PidTagAttachDataObject, "PidTagAttachDataObject");
-		tags.put(PidTagAttachEncoding, "PidTagAttachEncoding");
-		tags.put(PidTagAttachExtensionW, "PidTagAttachExtensionW");
-		tags.put(PidTagAttachExtension, "PidTagAttachExtension");
-		tags.put(PidTagAttachFilenameW, "PidTagAttachFilenameW");
-		tags.put(PidTagAttachFilename, "PidTagAttachFilename");
-		tags.put(PidTagAttachMethod, "PidTagAttachMethod");
-		tags.put(PidTagAttachLongFilenameW, "PidTagAttachLongFilenameW");
-		tags.put(PidTagAttachLongFilename, "PidTagAttachLongFilename");
-		tags.put(PidTagAttachPathnameW, "PidTagAttachPathnameW");
-		tags.put(PidTagAttachPathname, "PidTagAttachPathname");
-		tags.put(PidTagAttachRendering, "PidTagAttachRendering");
-		tags.put(PidTagAttachTag, "PidTagAttachTag");
-		tags.put(PidTagRenderingPosition, "PidTagRenderingPosition");
-		tags.put(PidTagAttachTransportName, "PidTagAttachTransportName");
-		tags.put(PidTagAttachLongPathnameW, "PidTagAttachLongPathnameW");
-		tags.put(PidTagAttachLongPathname, "PidTagAttachLongPathname");
-		tags.put(PidTagAttachMimeTagW, "PidTagAttachMimeTagW");
-		tags.put(PidTagAttachMimeTag, "PidTagAttachMimeTag");
-		tags.put(PidTagAttachAdditionalInformation, "PidTagAttachAdditionalInformation");
-		tags.put(PidTagAttachMimeSequence, "PidTagAttachMimeSequence");
-		tags.put(PidTagAttachContentBase, "PidTagAttachContentBase");
-		tags.put(PidTagAttachContentId, "PidTagAttachContentId");
-		tags.put(PidTagAttachContentLocation, "PidTagAttachContentLocation");
-		tags.put(PidTagAttachFlags, "PidTagAttachFlags");
-		tags.put(PidTagAttachPayloadProviderGuidString, "PidTagAttachPayloadProviderGuidString");
-		tags.put(PidTagAttachPayloadClass, "PidTagAttachPayloadClass");
-		tags.put(PidTagTextAttachmentCharset, "PidTagTextAttachmentCharset");
-		tags.put(PidTagDisplayType, "PidTagDisplayType");
-		tags.put(PidTagTemplateid, "PidTagTemplateid");
-		tags.put(PidTagDisplayTypeEx, "PidTagDisplayTypeEx");
-		tags.put(PidTagSmtpAddress, "PidTagSmtpAddress");
-		tags.put(PidTagPrimarySmtpAddress, "PidTagPrimarySmtpAddress");
-		tags.put(PidTagAddressBookDisplayNamePrintable, "PidTagAddressBookDisplayNamePrintable");
-		tags.put(PidTag_7BitDisplayName, "PidTag_7BitDisplayName");
-		tags.put(PidTagAccount, "PidTagAccount");
-		tags.put(PidTagCallbackTelephoneNumber, "PidTagCallbackTelephoneNumber");
-		tags.put(PidTagGeneration, "PidTagGeneration");
-		tags.put(PidTagGivenNameW, "PidTagGivenNameW");
-		tags.put(PidTagGivenName, "PidTagGivenName");
-		tags.put(PidTagGovernmentIdNumber, "PidTagGovernmentIdNumber");
-		tags.put(PidTagBusinessTelephoneNumberW, "PidTagBusinessTelephoneNumberW");
-		tags.put(PidTagBusinessTelephoneNumber, "PidTagBusinessTelephoneNumber");
-		tags.put(PidTagHomeTelephoneNumberW, "PidTagHomeTelephoneNumberW");
-		tags.put(PidTagHomeTelephoneNumber, "PidTagHomeTelephoneNumber");
-		tags.put(PidTagInitials, "PidTagInitials");
-		tags.put(PidTagKeyword, "PidTagKeyword");
-		tags.put(PidTagLanguage, "PidTagLanguage");
-		tags.put(PidTagLocation, "PidTagLocation");
-		tags.put(PidTagMessageHandlingSystemCommonName, "PidTagMessageHandlingSystemCommonName");
-		tags.put(PidTagOrganizationalIdNumber, "PidTagOrganizationalIdNumber");
-		tags.put(PidTagSurnameW, "PidTagSurnameW");
-		tags.put(PidTagSurname, "PidTagSurname");
-		tags.put(PidTagOriginalEntryId, "PidTagOriginalEntryId");
-		tags.put(PidTagOriginalDisplayName, "PidTagOriginalDisplayName");
-		tags.put(PidTagOriginalSearchKey, "PidTagOriginalSearchKey");
-		tags.put(PidTagPostalAddressW, "PidTagPostalAddressW");
-		tags.put(PidTagPostalAddress, "PidTagPostalAddress");
-		tags.put(PidTagCompanyNameW, "PidTagCompanyNameW");
-		tags.put(PidTagCompanyName, "PidTagCompanyName");
-		tags.put(PidTagTitle, "PidTagTitle");
-		tags.put(PidTagDepartmentName, "PidTagDepartmentName");
-		tags.put(PidTagOfficeLocation, "PidTagOfficeLocation");
-		tags.put(PidTagPrimaryTelephoneNumber, "PidTagPrimaryTelephoneNumber");
-		tags.put(PidTagBusiness2TelephoneNumbers, "PidTagBusiness2TelephoneNumbers");
-		tags.put(PidTagBusiness2TelephoneNumberW, "PidTagBusiness2TelephoneNumberW");
-		tags.put(PidTagBusiness2TelephoneNumber, "PidTagBusiness2TelephoneNumber");
-		tags.put(PidTagMobileTelephoneNumberW, "PidTagMobileTelephoneNumberW");
-		tags.put(PidTagMobileTelephoneNumber, "PidTagMobileTelephoneNumber");
-		tags.put(PidTagRadioTelephoneNumberW, "PidTagRadioTelephoneNumberW");
-		tags.put(PidTagRadioTelephoneNumber, "PidTagRadioTelephoneNumber");
-		tags.put(PidTagCarTelephoneNumberW, "PidTagCarTelephoneNumberW");
-		tags.put(PidTagCarTelephoneNumber, "PidTagCarTelephoneNumber");
-		tags.put(PidTagOtherTelephoneNumberW, "PidTagOtherTelephoneNumberW");
-		tags.put(PidTagOtherTelephoneNumber, "PidTagOtherTelephoneNumber");
-		tags.put(PidTagTransmittableDisplayName, "PidTagTransmittableDisplayName");
-		tags.put(PidTagPagerTelephoneNumberW, "PidTagPagerTelephoneNumberW");
-		tags.put(PidTagPagerTelephoneNumber, "PidTagPagerTelephoneNumber");
-		tags.put(PidTagUserCertificate, "PidTagUserCertificate");
-		tags.put(PidTagPrimaryFaxNumber, "PidTagPrimaryFaxNumber");
-		tags.put(PidTagBusinessFaxNumberW, "PidTagBusinessFaxNumberW");
-		tags.put(PidTagBusinessFaxNumber, "PidTagBusinessFaxNumber");
-		tags.put(PidTagHomeFaxNumberW, "PidTagHomeFaxNumberW");
-		tags.put(PidTagHomeFaxNumber, "PidTagHomeFaxNumber");
-		tags.put(PidTagCountry, "PidTagCountry");
-		tags.put(PidTagLocality, "PidTagLocality");
-		tags.put(PidTagStateOrProvince, "PidTagStateOrProvince");
-		tags.put(PidTagStreetAddress, "PidTagStreetAddress");
-		tags.put(PidTagPostalCode, "PidTagPostalCode");
-		tags.put(PidTagPostOfficeBox, "PidTagPostOfficeBox");
-		tags.put(PidTagTelexNumberNspi, "PidTagTelexNumberNspi");
-		tags.put(PidTagTelexNumberW, "PidTagTelexNumberW");
-		tags.put(PidTagTelexNumber, "PidTagTelexNumber");
-		tags.put(PidTagIsdnNumberW, "PidTagIsdnNumberW");
-		tags.put(PidTagIsdnNumber, "PidTagIsdnNumber");
-		tags.put(PidTagAssistantTelephoneNumberW, "PidTagAssistantTelephoneNumberW");
-		tags.put(PidTagAssistantTelephoneNumber, "PidTagAssistantTelephoneNumber");
-		tags.put(PidTagHome2TelephoneNumbers, "PidTagHome2TelephoneNumbers");
-		tags.put(PidTagHome2TelephoneNumberW, "PidTagHome2TelephoneNumberW");
-		tags.put(PidTagHome2TelephoneNumber, "PidTagHome2TelephoneNumber");
-		tags.put(PidTagAssistant, "PidTagAssistant");
-		tags.put(PidTagSendRichInfo, "PidTagSendRichInfo");
-		tags.put(PidTagWeddingAnniversary, "PidTagWeddingAnniversary");
-		tags.put(PidTagBirthday, "PidTagBirthday");
-		tags.put(PidTagHobbies, "PidTagHobbies");
-		tags.put(PidTagMiddleNameW, "PidTagMiddleNameW");
-		tags.put(PidTagMiddleName, "PidTagMiddleName");
-		tags.put(PidTagDisplayNamePrefix, "PidTagDisplayNamePrefix");
-		tags.put(PidTagProfession, "PidTagProfession");
-		tags.put(PidTagReferredByName, "PidTagReferredByName");
-		tags.put(PidTagPreferredByName, "PidTagPreferredByName");
-		tags.put(PidTagSpouseName, "PidTagSpouseName");
-		tags.put(PidTagComputerNetworkName, "PidTagComputerNetworkName");
-		tags.put(PidTagCustomerId, "PidTagCustomerId");
-		tags.put(PidTagTelecommunicationsDeviceForDeafTelephoneNumberW, "PidTagTelecommunicationsDeviceForDeafTelephoneNumberW");
-		tags.put(PidTagTtyTddPhoneNumber, "PidTagTtyTddPhoneNumber");
-		tags.put(PidTagTelecommunicationsDeviceForDeafTelephoneNumber, "PidTagTelecommunicationsDeviceForDeafTelephoneNumber");
-		tags.put(PidTagFtpSite, "PidTagFtpSite");
-		tags.put(PidTagGender, "PidTagGender");
-		tags.put(PidTagManagerName, "PidTagManagerName");
-		tags.put(PidTagNickname, "PidTagNickname");
-		tags.put(PidTagPersonalHomePage, "PidTagPersonalHomePage");
-		tags.put(PidTagBusinessHomePage, "PidTagBusinessHomePage");
-		tags.put(PidTagCompanyMainTelephoneNumberW, "PidTagCompanyMainTelephoneNumberW");
-		tags.put(PidTagCompanyMainTelephoneNumber, "PidTagCompanyMainTelephoneNumber");
-		tags.put(PidTagChildrensNames, "PidTagChildrensNames");
-		tags.put(PidTagHomeAddressCity, "PidTagHomeAddressCity");
-		tags.put(PidTagHomeAddressCountry, "PidTagHomeAddressCountry");
-		tags.put(PidTagHomeAddressPostalCode, "PidTagHomeAddressPostalCode");
-		tags.put(PidTagHomeAddressStateOrProvince, "PidTagHomeAddressStateOrProvince");
-		tags.put(PidTagHomeAddressStreet, "PidTagHomeAddressStreet");
-		tags.put(PidTagHomeAddressPostOfficeBox, "PidTagHomeAddressPostOfficeBox");
-		tags.put(PidTagOtherAddressCity, "PidTagOtherAddressCity");
-		tags.put(PidTagOtherAddressCountry, "PidTagOtherAddressCountry");
-		tags.put(PidTagOtherAddressPostalCode, "PidTagOtherAddressPostalCode");
-		tags.put(PidTagOtherAddressStateOrProvince, "PidTagOtherAddressStateOrProvince");
-		tags.put(PidTagOtherAddressStreet, "PidTagOtherAddressStreet");
-		tags.put(PidTagOtherAddressPostOfficeBox, "PidTagOtherAddressPostOfficeBox");
-		tags.put(PidTagUserX509Certificate, "PidTagUserX509Certificate");
-		tags.put(PidTagSendInternetEncoding, "PidTagSendInternetEncoding");
-		tags.put(PidTagInitialDetailsPane, "PidTagInitialDetailsPane");
-		tags.put(PidTagTemporaryDefaultDocument, "PidTagTemporaryDefaultDocument");
-		tags.put(PidTagInternetCodepage, "PidTagInternetCodepage");
-		tags.put(PidTagAutoResponseSuppress, "PidTagAutoResponseSuppress");
-		tags.put(PidTagAccessControlListData, "PidTagAccessControlListData");
-		tags.put(PidTagDelegatedByRule, "PidTagDelegatedByRule");
-		tags.put(PidTagResolveMethod, "PidTagResolveMethod");
-		tags.put(PidTagHasDeferredActionMessages, "PidTagHasDeferredActionMessages");
-		tags.put(PidTagDeferredSendNumber, "PidTagDeferredSendNumber");
-		tags.put(PidTagDeferredSendUnits, "PidTagDeferredSendUnits");
-		tags.put(PidTagExpiryNumber, "PidTagExpiryNumber");
-		tags.put(PidTagExpiryUnits, "PidTagExpiryUnits");
-		tags.put(PidTagDeferredSendTime, "PidTagDeferredSendTime");
-		tags.put(PidTagConflictEntryId, "PidTagConflictEntryId");
-		tags.put(PidTagMessageLocaleId, "PidTagMessageLocaleId");
-		tags.put(PidTagCreatorName, "PidTagCreatorName");
-		tags.put(PidTagCreatorEntryId, "PidTagCreatorEntryId");
-		tags.put(PidTagLastModifierName, "PidTagLastModifierName");
-		tags.put(PidTagLastModifierEntryId, "PidTagLastModifierEntryId");
-		tags.put(PidTagMessageCodepage, "PidTagMessageCodepage");
-		tags.put(PidTagNewAttach, "PidTagNewAttach");
-		tags.put(PidTagStartEmbed, "PidTagStartEmbed");
-		tags.put(PidTagEndEmbed, "PidTagEndEmbed");
-		tags.put(PidTagStartRecip, "PidTagStartRecip");
-		tags.put(PidTagEndToRecip, "PidTagEndToRecip");
-		tags.put(PidTagStartTopFld, "PidTagStartTopFld");
-		tags.put(PidTagStartSubFld, "PidTagStartSubFld");
-		tags.put(PidTagEndFolder, "PidTagEndFolder");
-		tags.put(PidTagStartMessage, "PidTagStartMessage");
-		tags.put(PidTagEndMessage, "PidTagEndMessage");
-		tags.put(PidTagEndAttach, "PidTagEndAttach");
-		tags.put(PidTagEcWarning, "PidTagEcWarning");
-		tags.put(PidTagStartFAIMsg, "PidTagStartFAIMsg");
-		tags.put(PidTagNewFXFolder, "PidTagNewFXFolder");
-		tags.put(PidTagIncrSyncChg, "PidTagIncrSyncChg");
-		tags.put(PidTagIncrSyncDel, "PidTagIncrSyncDel");
-		tags.put(PidTagIncrSyncEnd, "PidTagIncrSyncEnd");
-		tags.put(PidTagIncrSyncMessage, "PidTagIncrSyncMessage");
-		tags.put(PidTagFXDelProp, "PidTagFXDelProp");
-		tags.put(PidTagIdsetGiven, "PidTagIdsetGiven");
-		tags.put(PidTagFXErrorInfo, "PidTagFXErrorInfo");
-		tags.put(PidTagSenderFlags, "PidTagSenderFlags");
-		tags.put(PidTagSentRepresentingFlags, "PidTagSentRepresentingFlags");
-		tags.put(PidTagReceivedByFlags, "PidTagReceivedByFlags");
-		tags.put(PidTagReceivedRepresentingFlags, "PidTagReceivedRepresentingFlags");
-		tags.put(PidTagIdsetNoLongerInScope, "PidTagIdsetNoLongerInScope");
-		tags.put(PidTagIdsetSoftDeleted, "PidTagIdsetSoftDeleted");
-		tags.put(PidTagCreatorAddressType, "PidTagCreatorAddressType");
-		tags.put(PidTagCreatorEmailAddress, "PidTagCreatorEmailAddress");
-		tags.put(PidTagReadReceiptAddressType, "PidTagReadReceiptAddressType");
-		tags.put(PidTagReadReceiptEmailAddress, "PidTagReadReceiptEmailAddress");
-		tags.put(PidTagReadReceiptName, "PidTagReadReceiptName");
-		tags.put(PidTagIdsetRead, "PidTagIdsetRead");
-		tags.put(PidTagIdsetUnread, "PidTagIdsetUnread");
-		tags.put(PidTagIncrSyncRead, "PidTagIncrSyncRead");
-		tags.put(PidTagSenderSimpleDisplayName, "PidTagSenderSimpleDisplayName");
-		tags.put(PidTagSentRepresentingSimpleDisplayName, "PidTagSentRepresentingSimpleDisplayName");
-		tags.put(PidTagReceivedRepresentingSimpleDisplayName, "PidTagReceivedRepresentingSimpleDisplayName");
-		tags.put(PidTagCreatorSimpleDisplayName, "PidTagCreatorSimpleDisplayName");
-		tags.put(PidTagLastModifierSimpleDisplayName, "PidTagLastModifierSimpleDisplayName");
-		tags.put(PidTagIncrSyncStateBegin, "PidTagIncrSyncStateBegin");
-		tags.put(PidTagIncrSyncStateEnd, "PidTagIncrSyncStateEnd");
-		tags.put(PidTagIncrSyncProgressMode, "PidTagIncrSyncProgressMode");
-		tags.put(PidTagIncrSyncProgressPerMsg, "PidTagIncrSyncProgressPerMsg");
-		tags.put(PidTagContentFilterSpamConfidenceLeve, "PidTagContentFilterSpamConfidenceLeve");
-		tags.put(PidTagContentFilterSpamConfidenceLevel, "PidTagContentFilterSpamConfidenceLevel");
-		tags.put(PidTagSenderIdStatus, "PidTagSenderIdStatus");
-		tags.put(PidTagIncrementalSyncMessagePartial, "PidTagIncrementalSyncMessagePartial");
-		tags.put(PidTagIncrSyncGroupInfo, "PidTagIncrSyncGroupInfo");
-		tags.put(PidTagIncrSyncGroupId, "PidTagIncrSyncGroupId");
-		tags.put(PidTagIncrSyncChgPartial, "PidTagIncrSyncChgPartial");
-		tags.put(PidTagHierRev, "PidTagHierRev");
-		tags.put(PidTagPurportedSenderDomain, "PidTagPurportedSenderDomain");
-		tags.put(PidTagContentFilterPhishingConfidenceLevel, "PidTagContentFilterPhishingConfidenceLevel");
-		tags.put(PidTagInternetMailOverrideFormat, "PidTagInternetMailOverrideFormat");
-		tags.put(PidTagMessageEditorFormat, "PidTagMessageEditorFormat");
-		tags.put(PidTagSenderSmtpAddress, "PidTagSenderSmtpAddress");
-		tags.put(PidTagSentRepresentingSmtpAddress, "PidTagSentRepresentingSmtpAddress");
-		tags.put(PidTagReadReceiptSmtpAddress, "PidTagReadReceiptSmtpAddress");
-		tags.put(PidTagReceivedBySmtpAddress, "PidTagReceivedBySmtpAddress");
-		tags.put(PidTagReceivedRepresentingSmtpAddress, "PidTagReceivedRepresentingSmtpAddress");
-		tags.put(PidTagRecipientResourceState, "PidTagRecipientResourceState");
-		tags.put(PidTagRecipientOrder, "PidTagRecipientOrder");
-		tags.put(PidTagRecipientProposed, "PidTagRecipientProposed");
-		tags.put(PidTagRecipientProposedStartTime, "PidTagRecipientProposedStartTime");
-		tags.put(PidTagRecipientProposedEndTime, "PidTagRecipientProposedEndTime");
-		tags.put(PidTagSessionInitiationProtocolUri, "PidTagSessionInitiationProtocolUri");
-		tags.put(PidTagRecipientDisplayName, "PidTagRecipientDisplayName");
-		tags.put(PidTagRecipientEntryId, "PidTagRecipientEntryId");
-		tags.put(PidTagRecipientTrackStatusTime, "PidTagRecipientTrackStatusTime");
-		tags.put(PidTagRecipientFlags, "PidTagRecipientFlags");
-		tags.put(PidTagRecipientTrackStatus, "PidTagRecipientTrackStatus");
-		tags.put(PidTagJunkIncludeContacts, "PidTagJunkIncludeContacts");
-		tags.put(PidTagJunkThreshold, "PidTagJunkThreshold");
-		tags.put(PidTagJunkPermanentlyDelete, "PidTagJunkPermanentlyDelete");
-		tags.put(PidTagJunkAddRecipientsToSafeSendersList, "PidTagJunkAddRecipientsToSafeSendersList");
-		tags.put(PidTagJunkPhishingEnableLinks, "PidTagJunkPhishingEnableLinks");
-		tags.put(PidTagJunkPostmarkOutgoingMail, "PidTagJunkPostmarkOutgoingMail");
-		tags.put(PidTagMimeSkeleton, "PidTagMimeSkeleton");
-		tags.put(PidTagReplyTemplateId, "PidTagReplyTemplateId");
-		tags.put(PidTagSecureSubmitFlags, "PidTagSecureSubmitFlags");
-		tags.put(PidTagSourceKey, "PidTagSourceKey");
-		tags.put(PidTagParentSourceKey, "PidTagParentSourceKey");
-		tags.put(PidTagChangeKey, "PidTagChangeKey");
-		tags.put(PidTagPredecessorChangeList, "PidTagPredecessorChangeList");
-		tags.put(PidTagRuleMessageState, "PidTagRuleMessageState");
-		tags.put(PidTagRuleMsgState, "PidTagRuleMsgState");
-		tags.put(PidTagRuleMessageUserFlags, "PidTagRuleMessageUserFlags");
-		tags.put(PidTagRuleMsgUserFlags, "PidTagRuleMsgUserFlags");
-		tags.put(PidTagRuleMessageProvider, "PidTagRuleMessageProvider");
-		tags.put(PidTagRuleMsgProvider, "PidTagRuleMsgProvider");
-		tags.put(PidTagRuleMessageName, "PidTagRuleMessageName");
-		tags.put(PidTagRuleMsgName, "PidTagRuleMsgName");
-		tags.put(PidTagRuleMessageLevel, "PidTagRuleMessageLevel");
-		tags.put(PidTagRuleMsgLevel, "PidTagRuleMsgLevel");
-		tags.put(PidTagRuleMessageProviderData, "PidTagRuleMessageProviderData");
-		tags.put(PidTagRuleMsgProviderData, "PidTagRuleMsgProviderData");
-		tags.put(PidTagRuleMsgActions, "PidTagRuleMsgActions");
-		tags.put(PidTagRuleMsgCondition, "PidTagRuleMsgCondition");
-		tags.put(PidTagRuleMessageSequence, "PidTagRuleMessageSequence");
-		tags.put(PidTagRuleMsgSequence, "PidTagRuleMsgSequence");
-		tags.put(PidTagUserEntryId, "PidTagUserEntryId");
-		tags.put(PidTagPstBodyPrefix, "PidTagPstBodyPrefix");
-		tags.put(PidTagMailboxOwnerEntryId, "PidTagMailboxOwnerEntryId");
-		tags.put(PidTagMailboxOwnerName, "PidTagMailboxOwnerName");
-		tags.put(PidTagOutOfOfficeState, "PidTagOutOfOfficeState");
-		tags.put(PidTagSchedulePlusFreeBusyEntryId, "PidTagSchedulePlusFreeBusyEntryId");
-		tags.put(PidTagPstLrNoRestrictions, "PidTagPstLrNoRestrictions");
-		tags.put(PidTagPstHiddenCount, "PidTagPstHiddenCount");
-		tags.put(PidTagPstHiddenUnread, "PidTagPstHiddenUnread");
-		tags.put(PidTagChangeNotificationGuid, "PidTagChangeNotificationGuid");
-		tags.put(PidTagSerializedReplidGuidMap, "PidTagSerializedReplidGuidMap");
-		tags.put(PidTagRights, "PidTagRights");
-		tags.put(PidTagHasRules, "PidTagHasRules");
-		tags.put(PidTagAddressBookEntryId, "PidTagAddressBookEntryId");
-		tags.put(PidTagHierarchyChangeNumber, "PidTagHierarchyChangeNumber");
-		tags.put(PidTagDeletedMessageCount, "PidTagDeletedMessageCount");
-		tags.put(PidTagDeletedAssociatedMessageCount, "PidTagDeletedAssociatedMessageCount");
-		tags.put(PidTagClientActions, "PidTagClientActions");
-		tags.put(PidTagDamOriginalEntryId, "PidTagDamOriginalEntryId");
-		tags.put(PidTagDamBackPatched, "PidTagDamBackPatched");
-		tags.put(PidTagRuleError, "PidTagRuleError");
-		tags.put(PidTagRuleActionType, "PidTagRuleActionType");
-		tags.put(PidTagHasNamedProperties, "PidTagHasNamedProperties");
-		tags.put(PidTagRuleActionNumber, "PidTagRuleActionNumber");
-		tags.put(PidTagRuleFolderEntryId, "PidTagRuleFolderEntryId");
-		tags.put(PidTagProhibitReceiveQuota, "PidTagProhibitReceiveQuota");
-		tags.put(PidTagInConflict, "PidTagInConflict");
-		tags.put(PidTagMaximumSubmitMessageSize, "PidTagMaximumSubmitMessageSize");
-		tags.put(PidTagProhibitSendQuota, "PidTagProhibitSendQuota");
-		tags.put(PidTagMemberId, "PidTagMemberId");
-		tags.put(PidTagMemberName, "PidTagMemberName");
-		tags.put(PidTagMemberRights, "PidTagMemberRights");
-		tags.put(PidTagRuleId, "PidTagRuleId");
-		tags.put(PidTagRuleIds, "PidTagRuleIds");
-		tags.put(PidTagRuleSequence, "PidTagRuleSequence");
-		tags.put(PidTagRuleState, "PidTagRuleState");
-		tags.put(PidTagRuleUserFlags, "PidTagRuleUserFlags");
-		tags.put(PidTagRuleCondition, "PidTagRuleCondition");
-		tags.put(PidTagRuleActions, "PidTagRuleActions");
-		tags.put(PidTagRuleProvider, "PidTagRuleProvider");
-		tags.put(PidTagRuleName, "PidTagRuleName");
-		tags.put(PidTagRuleLevel, "PidTagRuleLevel");
-		tags.put(PidTagRuleProviderData, "PidTagRuleProviderData");
-		tags.put(PidTagDeletedOn, "PidTagDeletedOn");
-		tags.put(PidTagDeletedMessageSizeExtended, "PidTagDeletedMessageSizeExtended");
-		tags.put(PidTagDeletedNormalMessageSizeExtended, "PidTagDeletedNormalMessageSizeExtended");
-		tags.put(PidTagDeletedAssociatedMessageSizeExtended, "PidTagDeletedAssociatedMessageSizeExtended");
-		tags.put(PidTagLocaleId, "PidTagLocaleId");
-		tags.put(PidTagFolderFlags, "PidTagFolderFlags");
-		tags.put(PidTagNormalMessageSize, "PidTagNormalMessageSize");
-		tags.put(PidTagCodePageId, "PidTagCodePageId");
-		tags.put(PidTagAddressBookManageDistributionList, "PidTagAddressBookManageDistributionList");
-		tags.put(PidTagSortLocaleId, "PidTagSortLocaleId");
-		tags.put(PidTagUrlName, "PidTagUrlName");
-		tags.put(PidTagSubfolder, "PidTagSubfolder");
-		tags.put(PidTagLocalCommitTime, "PidTagLocalCommitTime");
-		tags.put(PidTagLocalCommitTimeMax, "PidTagLocalCommitTimeMax");
-		tags.put(PidTagDeletedCountTotal, "PidTagDeletedCountTotal");
-		tags.put(PidTagFlatUrlName, "PidTagFlatUrlName");
-		tags.put(PidTagPublicFolderAdministrativeDescription, "PidTagPublicFolderAdministrativeDescription");
-		tags.put(PidTagPublicFolderProxy, "PidTagPublicFolderProxy");
-		tags.put(PidTagSentMailSvrEID, "PidTagSentMailSvrEID");
-		tags.put(PidTagDeferredActionMessageOriginalEntryId, "PidTagDeferredActionMessageOriginalEntryId");
-		tags.put(PidTagFolderId32, "PidTagFolderId32");
-		tags.put(PidTagFolderId, "PidTagFolderId");
-		tags.put(PidTagParentFolderId, "PidTagParentFolderId");
-		tags.put(PidTagMid, "PidTagMid");
-		tags.put(PidTagInstID, "PidTagInstID");
-		tags.put(PidTagInstanceNum, "PidTagInstanceNum");
-		tags.put(PidTagAddressBookMessageId, "PidTagAddressBookMessageId");
-		tags.put(PidTagMsgFolderTemplateRes13, "PidTagMsgFolderTemplateRes13");
-		tags.put(PidTagIdsetExpired, "PidTagIdsetExpired");
-		tags.put(PidTagCnsetSeen, "PidTagCnsetSeen");
-		tags.put(PidTagChangeNumber, "PidTagChangeNumber");
-		tags.put(PidTagAssociated, "PidTagAssociated");
-		tags.put(PidTagCnsetRead, "PidTagCnsetRead");
-		tags.put(PidTagCnsetSeenFAI, "PidTagCnsetSeenFAI");
-		tags.put(PidTagIdsetDeleted, "PidTagIdsetDeleted");
-		tags.put(PidTagLtpParentNid, "PidTagLtpParentNid");
-		tags.put(PidTagLtpRowId, "PidTagLtpRowId");
-		tags.put(PidTagLtpRowVer, "PidTagLtpRowVer");
-		tags.put(PidTagLtpPstPassword, "PidTagLtpPstPassword");
-		tags.put(PidTagOfflineAddressBookName, "PidTagOfflineAddressBookName");
-		tags.put(PidTagOfflineAddressBookSequence, "PidTagOfflineAddressBookSequence");
-		tags.put(PidTagVoiceMessageDuration, "PidTagVoiceMessageDuration");
-		tags.put(PidTagRwRulesStream, "PidTagRwRulesStream");
-		tags.put(PidTagSenderTelephoneNumber, "PidTagSenderTelephoneNumber");
-		tags.put(PidTagOfflineAddressBookContainerGuid, "PidTagOfflineAddressBookContainerGuid");
-		tags.put(PidTagSendOutlookRecallReport, "PidTagSendOutlookRecallReport");
-		tags.put(PidTagOfflineAddressBookMessageClass, "PidTagOfflineAddressBookMessageClass");
-		tags.put(PidTagVoiceMessageSenderName, "PidTagVoiceMessageSenderName");
-		tags.put(PidTagFaxNumberOfPages, "PidTagFaxNumberOfPages");
-		tags.put(PidTagOfflineAddressBookDistinguishedName, "PidTagOfflineAddressBookDistinguishedName");
-		tags.put(PidTagOfflineAddressBookTruncatedProperties, "PidTagOfflineAddressBookTruncatedProperties");
-		tags.put(PidTagVoiceMessageAttachmentOrder, "PidTagVoiceMessageAttachmentOrder");
-		tags.put(PidTagOfflineAddressBookShaHash, "PidTagOfflineAddressBookShaHash");
-		tags.put(PidTagCallId, "PidTagCallId");
-		tags.put(PidTagOfflineAddressBookLanguageid, "PidTagOfflineAddressBookLanguageid");
-		tags.put(PidTagOfflineAddressBookLanguageId, "PidTagOfflineAddressBookLanguageId");
-		tags.put(PidTagOfflineAddressBookFileType, "PidTagOfflineAddressBookFileType");
-		tags.put(PidTagOfflineAddressBookCompressedSize, "PidTagOfflineAddressBookCompressedSize");
-		tags.put(PidTagOfflineAddressBookFileSize, "PidTagOfflineAddressBookFileSize");
-		tags.put(PidTagReportingMessageTransferAgent, "PidTagReportingMessageTransferAgent");
-		tags.put(PidTagMapiFormComposeCommand, "PidTagMapiFormComposeCommand");
-		tags.put(PidTagSearchFolderLastUsed, "PidTagSearchFolderLastUsed");
-		tags.put(PidTagSearchFolderExpiration, "PidTagSearchFolderExpiration");
-		tags.put(PidTagScheduleInfoResourceType, "PidTagScheduleInfoResourceType");
-		tags.put(PidTagSearchFolderTemplateId, "PidTagSearchFolderTemplateId");
-		tags.put(PidTagSearchFolderId, "PidTagSearchFolderId");
-		tags.put(PidTagWlinkGroupHeaderID, "PidTagWlinkGroupHeaderID");
-		tags.put(PidTagScheduleInfoDelegatorWantsCopy, "PidTagScheduleInfoDelegatorWantsCopy");
-		tags.put(PidTagScheduleInfoDontMailDelegates, "PidTagScheduleInfoDontMailDelegates");
-		tags.put(PidTagSearchFolderRecreateInfo, "PidTagSearchFolderRecreateInfo");
-		tags.put(PidTagScheduleInfoDelegateNames, "PidTagScheduleInfoDelegateNames");
-		tags.put(PidTagSearchFolderDefinition, "PidTagSearchFolderDefinition");
-		tags.put(PidTagSearchFolderDefinitions, "PidTagSearchFolderDefinitions");
-		tags.put(PidTagScheduleInfoDelegateEntryIds, "PidTagScheduleInfoDelegateEntryIds");
-		tags.put(PidTagGatewayNeedsToRefresh, "PidTagGatewayNeedsToRefresh");
-		tags.put(PidTagSearchFolderStorageType, "PidTagSearchFolderStorageType");
-		tags.put(PidTagFreeBusyPublishStart, "PidTagFreeBusyPublishStart");
-		tags.put(PidTagSearchFolderTag, "PidTagSearchFolderTag");
-		tags.put(PidTagWlinkSaveStamp, "PidTagWlinkSaveStamp");
-		tags.put(PidTagFreeBusyPublishEnd, "PidTagFreeBusyPublishEnd");
-		tags.put(PidTagSearchFolderEfpFlags, "PidTagSearchFolderEfpFlags");
-		tags.put(PidTagWlinkType, "PidTagWlinkType");
-		tags.put(PidTagFreeBusyMessageEmailAddress, "PidTagFreeBusyMessageEmailAddress");
-		tags.put(PidTagWlinkFlags, "PidTagWlinkFlags");
-		tags.put(PidTagScheduleInfoDelegateNamesW, "PidTagScheduleInfoDelegateNamesW");
-		tags.put(PidTagWlinkOrdinal, "PidTagWlinkOrdinal");
-		tags.put(PidTagScheduleInfoDelegatorWantsInfo, "PidTagScheduleInfoDelegatorWantsInfo");
-		tags.put(PidTagWlinkEntryId, "PidTagWlinkEntryId");
-		tags.put(PidTagWlinkRecordKey, "PidTagWlinkRecordKey");
-		tags.put(PidTagWlinkStoreEntryId, "PidTagWlinkStoreEntryId");
-		tags.put(PidTagWlinkFolderType, "PidTagWlinkFolderType");
-		tags.put(PidTagScheduleInfoMonthsMerged, "PidTagScheduleInfoMonthsMerged");
-		tags.put(PidTagWlinkGroupClsid, "PidTagWlinkGroupClsid");
-		tags.put(PidTagScheduleInfoFreeBusyMerged, "PidTagScheduleInfoFreeBusyMerged");
-		tags.put(PidTagScheduleInfoMonthsTentative, "PidTagScheduleInfoMonthsTentative");
-		tags.put(PidTagWlinkGroupName, "PidTagWlinkGroupName");
-		tags.put(PidTagWlinkSection, "PidTagWlinkSection");
-		tags.put(PidTagScheduleInfoFreeBusyTentative, "PidTagScheduleInfoFreeBusyTentative");
-		tags.put(PidTagWlinkCalendarColor, "PidTagWlinkCalendarColor");
-		tags.put(PidTagScheduleInfoMonthsBusy, "PidTagScheduleInfoMonthsBusy");
-		tags.put(PidTagWlinkAddressBookEID, "PidTagWlinkAddressBookEID");
-		tags.put(PidTagScheduleInfoFreeBusyBusy, "PidTagScheduleInfoFreeBusyBusy");
-		tags.put(PidTagScheduleInfoMonthsAway, "PidTagScheduleInfoMonthsAway");
-		tags.put(PidTagScheduleInfoFreeBusyAway, "PidTagScheduleInfoFreeBusyAway");
-		tags.put(PidTagFreeBusyRangeTimestamp, "PidTagFreeBusyRangeTimestamp");
-		tags.put(PidTagFreeBusyCountMonths, "PidTagFreeBusyCountMonths");
-		tags.put(PidTagScheduleInfoAppointmentTombstone, "PidTagScheduleInfoAppointmentTombstone");
-		tags.put(PidTagDelegateFlags, "PidTagDelegateFlags");
-		tags.put(PidTagScheduleInfoFreeBusy, "PidTagScheduleInfoFreeBusy");
-		tags.put(PidTagScheduleInfoAutoAcceptAppointments, "PidTagScheduleInfoAutoAcceptAppointments");
-		tags.put(PidTagScheduleInfoDisallowRecurringAppts, "PidTagScheduleInfoDisallowRecurringAppts");
-		tags.put(PidTagScheduleInfoDisallowOverlappingAppts, "PidTagScheduleInfoDisallowOverlappingAppts");
-		tags.put(PidTagWlinkClientID, "PidTagWlinkClientID");
-		tags.put(PidTagWlinkAddressBookStoreEID, "PidTagWlinkAddressBookStoreEID");
-		tags.put(PidTagWlinkROGroupType, "PidTagWlinkROGroupType");
-		tags.put(PidTagViewDescriptorBinary, "PidTagViewDescriptorBinary");
-		tags.put(PidTagViewDescriptorStrings, "PidTagViewDescriptorStrings");
-		tags.put(PidTagViewDescriptorFlags, "PidTagViewDescriptorFlags");
-		tags.put(PidTagViewDescriptorLinkTo, "PidTagViewDescriptorLinkTo");
-		tags.put(PidTagViewDescriptorViewFolder, "PidTagViewDescriptorViewFolder");
-		tags.put(PidTagViewDescriptorName, "PidTagViewDescriptorName");
-		tags.put(PidTagViewDescriptorVersion, "PidTagViewDescriptorVersion");
-		tags.put(PidTagRoamingDatatypes, "PidTagRoamingDatatypes");
-		tags.put(PidTagRoamingDictionary, "PidTagRoamingDictionary");
-		tags.put(PidTagRoamingXmlStream, "PidTagRoamingXmlStream");
-		tags.put(PidTagOscSyncEnabled, "PidTagOscSyncEnabled");
-		tags.put(PidTagStoreUserEntryId, "PidTagStoreUserEntryId");
-		tags.put(PidTagProcessed, "PidTagProcessed");
-		tags.put(PidTagExceptionReplaceTime, "PidTagExceptionReplaceTime");
-		tags.put(PidTagAttachmentLinkId, "PidTagAttachmentLinkId");
-		tags.put(PidTagExceptionStartTime, "PidTagExceptionStartTime");
-		tags.put(PidTagExceptionEndTime, "PidTagExceptionEndTime");
-		tags.put(PidTagAttachmentFlags, "PidTagAttachmentFlags");
-		tags.put(PidTagAttachmentHidden, "PidTagAttachmentHidden");
-		tags.put(PidTagAttachmentContactPhoto, "PidTagAttachmentContactPhoto");
-		tags.put(PidTagAddressBookFolderPathname, "PidTagAddressBookFolderPathname");
-		tags.put(PidTagAddressBookManager, "PidTagAddressBookManager");
-		tags.put(PidTagAddressBookManagerDistinguishedName, "PidTagAddressBookManagerDistinguishedName");
-		tags.put(PidTagAddressBookHomeMessageDatabase, "PidTagAddressBookHomeMessageDatabase");
-		tags.put(PidTagTcvConstLongOne, "PidTagTcvConstLongOne");
-		tags.put(PidTagAddressBookIsMemberOfDistributionListNspi, "PidTagAddressBookIsMemberOfDistributionListNspi");
-		tags.put(PidTagAddressBookIsMemberOfDistributionList, "PidTagAddressBookIsMemberOfDistributionList");
-		tags.put(PidTagAddressBookMember, "PidTagAddressBookMember");
-		tags.put(PidTagAddressBookOwner, "PidTagAddressBookOwner");
-		tags.put(PidTagAddressBookReports, "PidTagAddressBookReports");
-		tags.put(PidTagAddressBookProxyAddresses, "PidTagAddressBookProxyAddresses");
-		tags.put(PidTagAddressBookTargetAddress, "PidTagAddressBookTargetAddress");
-		tags.put(PidTagAddressBookPublicDelegates, "PidTagAddressBookPublicDelegates");
-		tags.put(PidTagAddressBookOwnerBackLink, "PidTagAddressBookOwnerBackLink");
-		tags.put(PidTagAddressBookExtensionAttribute1, "PidTagAddressBookExtensionAttribute1");
-		tags.put(PidTagAddressBookExtensionAttribute2, "PidTagAddressBookExtensionAttribute2");
-		tags.put(PidTagAddressBookExtensionAttribute3, "PidTagAddressBookExtensionAttribute3");
-		tags.put(PidTagAddressBookExtensionAttribute4, "PidTagAddressBookExtensionAttribute4");
-		tags.put(PidTagAddressBookExtensionAttribute5, "PidTagAddressBookExtensionAttribute5");
-		tags.put(PidTagAddressBookExtensionAttribute6, "PidTagAddressBookExtensionAttribute6");
-		tags.put(PidTagAddressBookExtensionAttribute7, "PidTagAddressBookExtensionAttribute7");
-		tags.put(PidTagAddressBookExtensionAttribute8, "PidTagAddressBookExtensionAttribute8");
-		tags.put(PidTagAddressBookExtensionAttribute9, "PidTagAddressBookExtensionAttribute9");
-		tags.put(PidTagAddressBookExtensionAttribute10, "PidTagAddressBookExtensionAttribute10");
-		tags.put(PidTagAddressBookObjectDistinguishedName, "PidTagAddressBookObjectDistinguishedName");
-		tags.put(PidTagAddressBookDeliveryContentLength, "PidTagAddressBookDeliveryContentLength");
-		tags.put(PidTagAddressBookDistributionListMemberSubmitAccepted, "PidTagAddressBookDistributionListMemberSubmitAccepted");
-		tags.put(PidTagEmailAddress1, "PidTagEmailAddress1");
-		tags.put(PidTagAddressBookNetworkAddress, "PidTagAddressBookNetworkAddress");
-		tags.put(PidTagAddressBookExtensionAttribute11, "PidTagAddressBookExtensionAttribute11");
-		tags.put(PidTagAddressBookExtensionAttribute12, "PidTagAddressBookExtensionAttribute12");
-		tags.put(PidTagAddressBookExtensionAttribute13, "PidTagAddressBookExtensionAttribute13");
-		tags.put(PidTagAddressBookExtensionAttribute14, "PidTagAddressBookExtensionAttribute14");
-		tags.put(PidTagAddressBookExtensionAttribute15, "PidTagAddressBookExtensionAttribute15");
-		tags.put(PidTagAddressBookX509Certificate, "PidTagAddressBookX509Certificate");
-		tags.put(PidTagAddressBookObjectGuid, "PidTagAddressBookObjectGuid");
-		tags.put(PidTagAddressBookPhoneticGivenName, "PidTagAddressBookPhoneticGivenName");
-		tags.put(PidTagAddressBookPhoneticSurname, "PidTagAddressBookPhoneticSurname");
-		tags.put(PidTagAddressBookPhoneticDepartmentName, "PidTagAddressBookPhoneticDepartmentName");
-		tags.put(PidTagAddressBookPhoneticCompanyName, "PidTagAddressBookPhoneticCompanyName");
-		tags.put(PidTagAddressBookPhoneticDisplayName, "PidTagAddressBookPhoneticDisplayName");
-		tags.put(PidTagAddressBookDisplayTypeExtended, "PidTagAddressBookDisplayTypeExtended");
-		tags.put(PidTagAddressBookHierarchicalShowInDepartments, "PidTagAddressBookHierarchicalShowInDepartments");
-		tags.put(PidTagAddressBookRoomContainers, "PidTagAddressBookRoomContainers");
-		tags.put(PidTagAddressBookHierarchicalDepartmentMembers, "PidTagAddressBookHierarchicalDepartmentMembers");
-		tags.put(PidTagAddressBookHierarchicalRootDepartment, "PidTagAddressBookHierarchicalRootDepartment");
-		tags.put(PidTagAddressBookHierarchicalParentDepartment, "PidTagAddressBookHierarchicalParentDepartment");
-		tags.put(PidTagAddressBookHierarchicalChildDepartments, "PidTagAddressBookHierarchicalChildDepartments");
-		tags.put(PidTagThumbnailPhoto, "PidTagThumbnailPhoto");
-		tags.put(PidTagAddressBookSeniorityIndex, "PidTagAddressBookSeniorityIndex");
-		tags.put(PidTagAddressBookOrganizationalUnitRootDistinguishedName, "PidTagAddressBookOrganizationalUnitRootDistinguishedName");
-		tags.put(PidTagAddressBookSenderHintTranslations, "PidTagAddressBookSenderHintTranslations");
-		tags.put(PidTagAddressBookModerationEnabled, "PidTagAddressBookModerationEnabled");
-		tags.put(PidTagSpokenName, "PidTagSpokenName");
-		tags.put(PidTagAddressBookAuthorizedSenders, "PidTagAddressBookAuthorizedSenders");
-		tags.put(PidTagAddressBookUnauthorizedSenders, "PidTagAddressBookUnauthorizedSenders");
-		tags.put(PidTagAddressBookDistributionListMemberSubmitRejected, "PidTagAddressBookDistributionListMemberSubmitRejected");
-		tags.put(PidTagAddressBookDistributionListRejectMessagesFromDLMembers, "PidTagAddressBookDistributionListRejectMessagesFromDLMembers");
-		tags.put(PidTagAddressBookHierarchicalIsHierarchicalGroup, "PidTagAddressBookHierarchicalIsHierarchicalGroup");
-		tags.put(PidTagAddressBookDistributionListMemberCount, "PidTagAddressBookDistributionListMemberCount");
-		tags.put(PidTagAddressBookDistributionListExternalMemberCount, "PidTagAddressBookDistributionListExternalMemberCount");
-		tags.put(PidTagAddressBookIsMaster, "PidTagAddressBookIsMaster");
-		tags.put(PidTagAddressBookParentEntryId, "PidTagAddressBookParentEntryId");
-		tags.put(PidTagAddressBookContainerId, "PidTagAddressBookContainerId");
+	/** The names of the property tags in TAGS */
+	private static final String[] NAMES = {
+		"PidTagAddressBookFolderPathname",
+		"PidTagAddressBookManager",
+		"PidTagAddressBookManagerDistinguishedName",
+		"PidTagAddressBookHomeMessageDatabase",
+		"PidTagTcvConstLongOne",
+		"PidTagAddressBookIsMemberOfDistributionList",
+		"PidTagAddressBookIsMemberOfDistributionListNspi",
+		"PidTagAddressBookMember",
+		"PidTagAddressBookOwner",
+		"PidTagAddressBookReports",
+		"PidTagAddressBookProxyAddresses",
+		"PidTagAddressBookTargetAddress",
+		"PidTagAddressBookPublicDelegates",
+		"PidTagAddressBookOwnerBackLink",
+		"PidTagAddressBookExtensionAttribute1",
+		"PidTagAddressBookExtensionAttribute2",
+		"PidTagAddressBookExtensionAttribute3",
+		"PidTagAddressBookExtensionAttribute4",
+		"PidTagAddressBookExtensionAttribute5",
+		"PidTagAddressBookExtensionAttribute6",
+		"PidTagAddressBookExtensionAttribute7",
+		"PidTagAddressBookExtensionAttribute8",
+		"PidTagAddressBookExtensionAttribute9",
+		"PidTagAddressBookExtensionAttribute10",
+		"PidTagAddressBookObjectDistinguishedName",
+		"PidTagAddressBookDeliveryContentLength",
+		"PidTagAddressBookDistributionListMemberSubmitAccepted",
+		"PidTagEmailAddress1",
+		"PidTagAddressBookNetworkAddress",
+		"PidTagAddressBookExtensionAttribute11",
+		"PidTagAddressBookExtensionAttribute12",
+		"PidTagAddressBookExtensionAttribute13",
+		"PidTagAddressBookExtensionAttribute14",
+		"PidTagAddressBookExtensionAttribute15",
+		"PidTagAddressBookX509Certificate",
+		"PidTagAddressBookObjectGuid",
+		"PidTagAddressBookPhoneticGivenName",
+		"PidTagAddressBookPhoneticSurname",
+		"PidTagAddressBookPhoneticDepartmentName",
+		"PidTagAddressBookPhoneticCompanyName",
+		"PidTagAddressBookPhoneticDisplayName",
+		"PidTagAddressBookDisplayTypeExtended",
+		"PidTagAddressBookHierarchicalShowInDepartments",
+		"PidTagAddressBookRoomContainers",
+		"PidTagAddressBookHierarchicalDepartmentMembers",
+		"PidTagAddressBookHierarchicalRootDepartment",
+		"PidTagAddressBookHierarchicalParentDepartment",
+		"PidTagAddressBookHierarchicalChildDepartments",
+		"PidTagThumbnailPhoto",
+		"PidTagAddressBookSeniorityIndex",
+		"PidTagAddressBookOrganizationalUnitRootDistinguishedName",
+		"PidTagAddressBookSenderHintTranslations",
+		"PidTagAddressBookModerationEnabled",
+		"PidTagSpokenName",
+		"PidTagAddressBookAuthorizedSenders",
+		"PidTagAddressBookUnauthorizedSenders",
+		"PidTagAddressBookDistributionListMemberSubmitRejected",
+		"PidTagAddressBookDistributionListRejectMessagesFromDLMembers",
+		"PidTagAddressBookHierarchicalIsHierarchicalGroup",
+		"PidTagAddressBookDistributionListMemberCount",
+		"PidTagAddressBookDistributionListExternalMemberCount",
+		"PidTagAddressBookIsMaster",
+		"PidTagAddressBookParentEntryId",
+		"PidTagAddressBookContainerId",
+		"PidTagCurrentDraftEntryId",
+		"PidTagTemplateData",
+		"PidTagAlternateRecipientAllowed",
+		"PidTagAutoForwardComment",
+		"PidTagScriptData",
+		"PidTagAutoForwarded",
+		"PidTagRequiredAttendees",
+		"PidTagOptionalAttendees",
+		"PidTagResourceAttendees",
+		"PidTagDelegateMail",
+		"PidTagIsException",
+		"PidTagConversationKey",
+		"PidTagTimeZone",
+		"PidTagStartRecurrenceDate",
+		"PidTagStartRecurrenceTime",
+		"PidTagDeferredDeliveryTime",
+		"PidTagEndRecurrenceTime",
+		"PidTagDeliverTime",
+		"PidTagDayInterval",
+		"PidTagWeekInterval",
+		"PidTagMonthInterval",
+		"PidTagYearInterval",
+		"PidTagExpiryTime",
+		"PidTagImportance",
+		"PidTagOldRecurrenceType",
+		"PidTagMessageClass",
+		"PidTagMessageClassW",
+		"PidTagCalendarType",
+		"PidTagOriginatorDeliveryReportRequested",
+		"PidTagParentKey",
+		"PidTagPriority",
+		"PidTagOldLocation",
+		"PidTagReadReceiptRequested",
+		"PidTagConvertHtmlSecurity",
+		"PidTagReceiptTime",
+		"PidTagRecipientReassignmentProhibited",
+		"PidTagOriginalSensitivity",
+		"PidTagReplyTime",
+		"PidTagReportTag",
+		"PidTagReportTime",
+		"PidTagSensitivity",
+		"PidTagSubject",
+		"PidTagSubjectW",
+		"PidTagClientSubmitTime",
+		"PidTagReportName",
+		"PidTagSentRepresentingSearchKey",
+		"PidTagSubjectPrefix",
+		"PidTagReceivedByEntryId",
+		"PidTagReceivedByName",
+		"PidTagReceivedByNameW",
+		"PidTagSentRepresentingEntryId",
+		"PidTagSentRepresentingName",
+		"PidTagSentRepresentingNameW",
+		"PidTagReceivedRepresentingEntryId",
+		"PidTagReceivedRepresentingName",
+		"PidTagReportEntryId",
+		"PidTagReadReceiptEntryId",
+		"PidTagMessageSubmissionId",
+		"PidTagProviderSubmitTime",
+		"PidTagOriginalSubject",
+		"PidTagOriginalMessageClass",
+		"PidTagOriginalAuthorEntryId",
+		"PidTagOriginalAuthorName",
+		"PidTagOriginalSubmitTime",
+		"PidTagReplyRecipientEntries",
+		"PidTagReplyRecipientNames",
+		"PidTagReplyRecipientNamesW",
+		"PidTagReceivedBySearchKey",
+		"PidTagReceivedRepresentingSearchKey",
+		"PidTagReadReceiptSearchKey",
+		"PidTagReportSearchKey",
+		"PidTagOriginalDeliveryTime",
+		"PidTagMessageToMe",
+		"PidTagMessageCcMe",
+		"PidTagMessageRecipientMe",
+		"PidTagOriginalSenderName",
+		"PidTagOriginalSenderEntryId",
+		"PidTagOriginalSenderSearchKey",
+		"PidTagOriginalSentRepresentingName",
+		"PidTagOriginalSentRepresentingEntryId",
+		"PidTagOriginalSentRepresentingSearchKey",
+		"PidTagStartDate",
+		"PidTagEndDate",
+		"PidTagOwnerApppointmentId",
+		"PidTagResponseRequested",
+		"PidTagSentRepresentingAddressType",
+		"PidTagSentRepresentingAddressTypeW",
+		"PidTagSentRepresentingEmailAddress",
+		"PidTagSentRepresentingEmailAddressW",
+		"PidTagOriginalSenderAddressType",
+		"PidTagOriginalSenderEmailAddress",
+		"PidTagOriginalSentRepresentingAddressType",
+		"PidTagOriginalSentRepresentingEmailAddress",
+		"PidTagConversationTopic",
+		"PidTagConversationTopicW",
+		"PidTagConversationIndex",
+		"PidTagOriginalDisplayBcc",
+		"PidTagOriginalDisplayCc",
+		"PidTagOriginalDisplayTo",
+		"PidTagReceivedByAddressType",
+		"PidTagReceivedByAddressTypeW",
+		"PidTagReceivedByEmailAddress",
+		"PidTagReceivedByEmailAddressW",
+		"PidTagReceivedRepresentingAddressType",
+		"PidTagRemoteHeaderLoc",
+		"PidTagTransportMessageHeaders",
+		"PidTagTransportMessageHeadersW",
+		"PidTagDelegation",
+		"PidTagTnefCorrelationKey",
+		"PidTagReportDisposition",
+		"PidTagReportDispositionW",
+		"PidTagReportDispositionMode",
+		"PidTagReportDispositionModeW",
+		"PidTagReportOriginalSender",
+		"PidTagReportDispositionToNames",
+		"PidTagReportDispositionToEmailAddresses",
+		"PidTagAddressBookRoomCapacity",
+		"PidTagAddressBookRoomDescription",
+		"PidTagNonDeliveryReportReasonCode",
+		"PidTagNonDeliveryReportDiagCode",
+		"PidTagNonReceiptNotificationRequested",
+		"PidTagOriginatorNonDeliveryReportRequested",
+		"PidTagRecipientType",
+		"PidTagReplyRequested",
+		"PidTagSenderEntryId",
+		"PidTagSenderName",
+		"PidTagSenderNameW",
+		"PidTagSupplementaryInfo",
+		"PidTagSenderSearchKey",
+		"PidTagSenderAddressType",
+		"PidTagSenderAddressTypeW",
+		"PidTagSenderEmailAddress",
+		"PidTagSenderEmailAddressW",
+		"PidTagNonDeliveryReportStatusCode",
+		"PidTagRemoteMessageTransferAgent",
+		"PidTagDeleteAfterSubmit",
+		"PidTagDisplayBcc",
+		"PidTagDisplayBccW",
+		"PidTagDisplayCc",
+		"PidTagDisplayCcW",
+		"PidTagDisplayTo",
+		"PidTagDisplayToW",
+		"PidTagParentDisplayW",
+		"PidTagMessageDeliveryTime",
+		"PidTagMessageFlags",
+		"PidTagMessageSize",
+		"PidTagMessageSizeExtended",
+		"PidTagParentEntryId",
+		"PidTagSentMailEntryId",
+		"PidTagCorrelateMtsid",
+		"PidTagResponsibility",
+		"PidTagMessageRecipients",
+		"PidTagMessageAttachments",
+		"PidTagSubmitFlags",
+		"PidTagMessageStatus",
+		"PidTagCreationVersion",
+		"PidTagHasAttachments",
+		"PidTagNormalizedSubject",
+		"PidTagRtfInSync",
+		"PidTagAttachSize",
+		"PidTagAttachNumber",
+		"PidTagInternetArticleNumber",
+		"PidTagSecurityDescriptor",
+		"PidTagPrimarySendAccount",
+		"PidTagPrimarySendAccountW",
+		"PidTagNextSendAcct",
+		"PidTagNextSendAcctW",
+		"PidTagToDoItemFlags",
+		"PidTagSwappedToDoStore",
+		"PidTagSwappedToDoData",
+		"PidTagUrlCompNameSet",
+		"PidTagRead",
+		"PidTagSecurityDescriptorAsXml",
+		"PidTagTrustSender",
+		"PidTagExchangeNTSecurityDescriptor",
+		"PidTagExtendedRuleMessageActions",
+		"PidTagExtendedRuleMessageCondition",
+		"PidTagExtendedRuleSizeLimit",
+		"PidTagAccess",
+		"PidTagRowType",
+		"PidTagInstanceKey",
+		"PidTagAccessLevel",
+		"PidTagMappingSignature",
+		"PidTagRecordKey",
+		"PidTagStoreEntryId",
+		"PidTagObjectType",
+		"PidTagEntryId",
+		"PidTagBody",
+		"PidTagBodyW",
+		"PidTagReportText",
+		"PidTagRtfSyncBodyCrc",
+		"PidTagRtfSyncBodyCount",
+		"PidTagRtfSyncBodyTag",
+		"PidTagRtfSyncBodyTagW",
+		"PidTagRtfCompressed",
+		"PidTagRtfSyncPrefixCount",
+		"PidTagRtfSyncTrailingCount",
+		"PidTagBodyHtml",
+		"PidTagBodyHtmlW",
+		"PidTagHtml",
+		"PidTagBodyContentLocation",
+		"PidTagBodyContentId",
+		"PidTagNativeBody",
+		"PidTagInternetLines",
+		"PidTagInternetMessageId",
+		"PidTagInternetMessageIdW",
+		"PidTagInternetOrganization",
+		"PidTagInternetReferences",
+		"PidTagInReplyToId",
+		"PidTagInReplyToIdW",
+		"PidTagListHelp",
+		"PidTagListSubscribe",
+		"PidTagListUnsubscribe",
+		"PidTagOriginalMessageId",
+		"PidTagInternetReturnPath",
+		"PidTagIconIndex",
+		"PidTagLastVerbExecuted",
+		"PidTagLastVerbExecutionTime",
+		"PidTagFlagStatus",
+		"PidTagFlagCompleteTime",
+		"PidTagFollowupIcon",
+		"PidTagBlockStatus",
+		"PidTagItemTemporaryFlags",
+		"PidTagConflictItems",
+		"PidTagICalendarStartTime",
+		"PidTagICalendarEndTime",
+		"PidTagCdoRecurrenceid",
+		"PidTagICalendarReminderNextTime",
+		"PidTagImapCachedMsgsize",
+		"PidTagUrlCompName",
+		"PidTagAttributeHidden",
+		"PidTagAttributeSystem",
+		"PidTagAttributeReadOnly",
+		"PidTagRowid",
+		"PidTagDisplayName",
+		"PidTagDisplayNameW",
+		"PidTagAddressType",
+		"PidTagEmailAddress",
+		"PidTagEmailAddressW",
+		"PidTagComment",
+		"PidTagCommentW",
+		"PidTagDepth",
+		"PidTagCreationTime",
+		"PidTagLastModificationTime",
+		"PidTagSearchKey",
+		"PidTagOriginalMessageEntryId",
+		"PidTagTargetEntryId",
+		"PidTagConversationId",
+		"PidTagConversationIndexTracking",
+		"PidTagArchiveTag",
+		"PidTagPolicyTag",
+		"PidTagRetentionPeriod",
+		"PidTagStartDateEtc",
+		"PidTagRetentionDate",
+		"PidTagRetentionFlags",
+		"PidTagArchivePeriod",
+		"PidTagArchiveDate",
+		"PidTagStoreSupportMask",
+		"PidTagStoreState",
+		"PidTagValidFolderMask",
+		"PidTagIpmSubTreeEntryId",
+		"PidTagIpmOutboxEntryId",
+		"PidTagIpmWasteBasketEntryId",
+		"PidTagIpmSentMailEntryId",
+		"PidTagViewsEntryId",
+		"PidTagCommonViewsEntryId",
+		"PidTagFinderEntryId",
+		"PidTagContainerFlags",
+		"PidTagFolderType",
+		"PidTagContentCount",
+		"PidTagContentUnreadCount",
+		"PidTagCreateTemplates",
+		"PidTagSelectable",
+		"PidTagSubfolders",
+		"PidTagStatus",
+		"PidTagAnr",
+		"PidTagContainerHierarchy",
+		"PidTagContainerContents",
+		"PidTagFolderAssociatedContents",
+		"PidTagContainerClass",
+		"PidTagContainerClassW",
+		"PidTagIpmAppointmentEntryId",
+		"PidTagIpmContactEntryId",
+		"PidTagIpmJournalEntryId",
+		"PidTagIpmNoteEntryId",
+		"PidTagIpmTaskEntryId",
+		"PidTagRemindersOnlineEntryId",
+		"PidTagIpmDraftsEntryId",
+		"PidTagAdditionalRenEntryIds",
+		"PidTagAdditionalRenEntryIdsEx",
+		"PidTagExtendedFolderFlags",
+		"PidTagOrdinalMost",
+		"PidTagFreeBusyEntryIds",
+		"PidTagDefaultPostMessageClass",
+		"PidTagAttachDataObject",
+		"PidTagAttachDataBinary",
+		"PidTagAttachEncoding",
+		"PidTagAttachExtension",
+		"PidTagAttachExtensionW",
+		"PidTagAttachFilename",
+		"PidTagAttachFilenameW",
+		"PidTagAttachMethod",
+		"PidTagAttachLongFilename",
+		"PidTagAttachLongFilenameW",
+		"PidTagAttachPathname",
+		"PidTagAttachPathnameW",
+		"PidTagAttachRendering",
+		"PidTagAttachTag",
+		"PidTagRenderingPosition",
+		"PidTagAttachTransportName",
+		"PidTagAttachLongPathname",
+		"PidTagAttachLongPathnameW",
+		"PidTagAttachMimeTag",
+		"PidTagAttachMimeTagW",
+		"PidTagAttachAdditionalInformation",
+		"PidTagAttachMimeSequence",
+		"PidTagAttachContentBase",
+		"PidTagAttachContentId",
+		"PidTagAttachContentLocation",
+		"PidTagAttachFlags",
+		"PidTagAttachPayloadProviderGuidString",
+		"PidTagAttachPayloadClass",
+		"PidTagTextAttachmentCharset",
+		"PidTagDisplayType",
+		"PidTagTemplateid",
+		"PidTagDisplayTypeEx",
+		"PidTagPrimarySmtpAddress",
+		"PidTag_7BitDisplayName",
+		"PidTagAccount",
+		"PidTagCallbackTelephoneNumber",
+		"PidTagGeneration",
+		"PidTagGivenName",
+		"PidTagGivenNameW",
+		"PidTagGovernmentIdNumber",
+		"PidTagBusinessTelephoneNumber",
+		"PidTagBusinessTelephoneNumberW",
+		"PidTagHomeTelephoneNumber",
+		"PidTagHomeTelephoneNumberW",
+		"PidTagInitials",
+		"PidTagKeyword",
+		"PidTagLanguage",
+		"PidTagLocation",
+		"PidTagMessageHandlingSystemCommonName",
+		"PidTagOrganizationalIdNumber",
+		"PidTagSurname",
+		"PidTagSurnameW",
+		"PidTagOriginalEntryId",
+		"PidTagOriginalDisplayName",
+		"PidTagOriginalSearchKey",
+		"PidTagPostalAddress",
+		"PidTagPostalAddressW",
+		"PidTagCompanyName",
+		"PidTagCompanyNameW",
+		"PidTagTitle",
+		"PidTagDepartmentName",
+		"PidTagOfficeLocation",
+		"PidTagPrimaryTelephoneNumber",
+		"PidTagBusiness2TelephoneNumber",
+		"PidTagBusiness2TelephoneNumberW",
+		"PidTagBusiness2TelephoneNumbers",
+		"PidTagMobileTelephoneNumber",
+		"PidTagMobileTelephoneNumberW",
+		"PidTagRadioTelephoneNumber",
+		"PidTagRadioTelephoneNumberW",
+		"PidTagCarTelephoneNumber",
+		"PidTagCarTelephoneNumberW",
+		"PidTagOtherTelephoneNumber",
+		"PidTagOtherTelephoneNumberW",
+		"PidTagTransmittableDisplayName",
+		"PidTagPagerTelephoneNumber",
+		"PidTagPagerTelephoneNumberW",
+		"PidTagUserCertificate",
+		"PidTagPrimaryFaxNumber",
+		"PidTagBusinessFaxNumber",
+		"PidTagBusinessFaxNumberW",
+		"PidTagHomeFaxNumber",
+		"PidTagHomeFaxNumberW",
+		"PidTagCountry",
+		"PidTagLocality",
+		"PidTagStateOrProvince",
+		"PidTagStreetAddress",
+		"PidTagPostalCode",
+		"PidTagPostOfficeBox",
+		"PidTagTelexNumber",
+		"PidTagTelexNumberW",
+		"PidTagTelexNumberNspi",
+		"PidTagIsdnNumber",
+		"PidTagIsdnNumberW",
+		"PidTagAssistantTelephoneNumber",
+		"PidTagAssistantTelephoneNumberW",
+		"PidTagHome2TelephoneNumber",
+		"PidTagHome2TelephoneNumberW",
+		"PidTagHome2TelephoneNumbers",
+		"PidTagAssistant",
+		"PidTagSendRichInfo",
+		"PidTagWeddingAnniversary",
+		"PidTagBirthday",
+		"PidTagHobbies",
+		"PidTagMiddleName",
+		"PidTagMiddleNameW",
+		"PidTagDisplayNamePrefix",
+		"PidTagProfession",
+		"PidTagPreferredByName",
+		"PidTagSpouseName",
+		"PidTagComputerNetworkName",
+		"PidTagCustomerId",
+		"PidTagTelecommunicationsDeviceForDeafTelephoneNumber",
+		"PidTagTtyTddPhoneNumber",
+		"PidTagFtpSite",
+		"PidTagGender",
+		"PidTagManagerName",
+		"PidTagNickname",
+		"PidTagPersonalHomePage",
+		"PidTagBusinessHomePage",
+		"PidTagCompanyMainTelephoneNumber",
+		"PidTagCompanyMainTelephoneNumberW",
+		"PidTagChildrensNames",
+		"PidTagHomeAddressCity",
+		"PidTagHomeAddressCountry",
+		"PidTagHomeAddressPostalCode",
+		"PidTagHomeAddressStateOrProvince",
+		"PidTagHomeAddressStreet",
+		"PidTagHomeAddressPostOfficeBox",
+		"PidTagOtherAddressCity",
+		"PidTagOtherAddressCountry",
+		"PidTagOtherAddressPostalCode",
+		"PidTagOtherAddressStateOrProvince",
+		"PidTagOtherAddressStreet",
+		"PidTagOtherAddressPostOfficeBox",
+		"PidTagUserX509Certificate",
+		"PidTagSendInternetEncoding",
+		"PidTagInitialDetailsPane",
+		"PidTagTemporaryDefaultDocument",
+		"PidTagInternetCodepage",
+		"PidTagAutoResponseSuppress",
+		"PidTagAccessControlListData",
+		"PidTagDelegatedByRule",
+		"PidTagResolveMethod",
+		"PidTagHasDeferredActionMessages",
+		"PidTagDeferredSendNumber",
+		"PidTagDeferredSendUnits",
+		"PidTagExpiryNumber",
+		"PidTagExpiryUnits",
+		"PidTagDeferredSendTime",
+		"PidTagConflictEntryId",
+		"PidTagMessageLocaleId",
+		"PidTagCreatorName",
+		"PidTagCreatorEntryId",
+		"PidTagLastModifierName",
+		"PidTagLastModifierEntryId",
+		"PidTagMessageCodepage",
+		"PidTagNewAttach",
+		"PidTagStartEmbed",
+		"PidTagEndEmbed",
+		"PidTagStartRecip",
+		"PidTagEndToRecip",
+		"PidTagStartTopFld",
+		"PidTagStartSubFld",
+		"PidTagEndFolder",
+		"PidTagStartMessage",
+		"PidTagEndMessage",
+		"PidTagEndAttach",
+		"PidTagEcWarning",
+		"PidTagStartFAIMsg",
+		"PidTagNewFXFolder",
+		"PidTagIncrSyncChg",
+		"PidTagIncrSyncDel",
+		"PidTagIncrSyncEnd",
+		"PidTagIncrSyncMessage",
+		"PidTagFXDelProp",
+		"PidTagIdsetGiven",
+		"PidTagFXErrorInfo",
+		"PidTagSenderFlags",
+		"PidTagSentRepresentingFlags",
+		"PidTagReceivedByFlags",
+		"PidTagReceivedRepresentingFlags",
+		"PidTagIdsetSoftDeleted",
+		"PidTagCreatorAddressType",
+		"PidTagCreatorEmailAddress",
+		"PidTagReadReceiptAddressType",
+		"PidTagReadReceiptEmailAddress",
+		"PidTagReadReceiptName",
+		"PidTagIdsetRead",
+		"PidTagIdsetUnread",
+		"PidTagIncrSyncRead",
+		"PidTagSenderSimpleDisplayName",
+		"PidTagSentRepresentingSimpleDisplayName",
+		"PidTagReceivedRepresentingSimpleDisplayName",
+		"PidTagCreatorSimpleDisplayName",
+		"PidTagLastModifierSimpleDisplayName",
+		"PidTagIncrSyncStateBegin",
+		"PidTagIncrSyncStateEnd",
+		"PidTagIncrSyncProgressMode",
+		"PidTagIncrSyncProgressPerMsg",
+		"PidTagContentFilterSpamConfidenceLevel",
+		"PidTagSenderIdStatus",
+		"PidTagIncrementalSyncMessagePartial",
+		"PidTagIncrSyncGroupInfo",
+		"PidTagIncrSyncGroupId",
+		"PidTagIncrSyncChgPartial",
+		"PidTagHierRev",
+		"PidTagPurportedSenderDomain",
+		"PidTagContentFilterPhishingConfidenceLevel",
+		"PidTagInternetMailOverrideFormat",
+		"PidTagMessageEditorFormat",
+		"PidTagSenderSmtpAddress",
+		"PidTagSentRepresentingSmtpAddress",
+		"PidTagReadReceiptSmtpAddress",
+		"PidTagReceivedBySmtpAddress",
+		"PidTagReceivedRepresentingSmtpAddress",
+		"PidTagRecipientResourceState",
+		"PidTagRecipientOrder",
+		"PidTagRecipientProposed",
+		"PidTagRecipientProposedStartTime",
+		"PidTagRecipientProposedEndTime",
+		"PidTagSessionInitiationProtocolUri",
+		"PidTagRecipientDisplayName",
+		"PidTagRecipientEntryId",
+		"PidTagRecipientTrackStatusTime",
+		"PidTagRecipientFlags",
+		"PidTagRecipientTrackStatus",
+		"PidTagJunkIncludeContacts",
+		"PidTagJunkThreshold",
+		"PidTagJunkPermanentlyDelete",
+		"PidTagJunkAddRecipientsToSafeSendersList",
+		"PidTagJunkPhishingEnableLinks",
+		"PidTagJunkPostmarkOutgoingMail",
+		"PidTagMimeSkeleton",
+		"PidTagReplyTemplateId",
+		"PidTagSecureSubmitFlags",
+		"PidTagSourceKey",
+		"PidTagParentSourceKey",
+		"PidTagChangeKey",
+		"PidTagPredecessorChangeList",
+		"PidTagRuleMsgState",
+		"PidTagRuleMsgUserFlags",
+		"PidTagRuleMsgProvider",
+		"PidTagRuleMsgName",
+		"PidTagRuleMsgLevel",
+		"PidTagRuleMsgProviderData",
+		"PidTagRuleMsgActions",
+		"PidTagRuleMsgCondition",
+		"PidTagRuleMsgSequence",
+		"PidTagPstBodyPrefix",
+		"PidTagUserEntryId",
+		"PidTagMailboxOwnerEntryId",
+		"PidTagMailboxOwnerName",
+		"PidTagOutOfOfficeState",
+		"PidTagSchedulePlusFreeBusyEntryId",
+		"PidTagPstLrNoRestrictions",
+		"PidTagPstHiddenCount",
+		"PidTagPstHiddenUnread",
+		"PidTagChangeNotificationGuid",
+		"PidTagSerializedReplidGuidMap",
+		"PidTagRights",
+		"PidTagHasRules",
+		"PidTagAddressBookEntryId",
+		"PidTagHierarchyChangeNumber",
+		"PidTagDeletedMessageCount",
+		"PidTagDeletedAssociatedMessageCount",
+		"PidTagClientActions",
+		"PidTagDamOriginalEntryId",
+		"PidTagDamBackPatched",
+		"PidTagRuleError",
+		"PidTagRuleActionType",
+		"PidTagHasNamedProperties",
+		"PidTagRuleActionNumber",
+		"PidTagRuleFolderEntryId",
+		"PidTagProhibitReceiveQuota",
+		"PidTagInConflict",
+		"PidTagMaximumSubmitMessageSize",
+		"PidTagProhibitSendQuota",
+		"PidTagMemberId",
+		"PidTagMemberName",
+		"PidTagMemberRights",
+		"PidTagRuleId",
+		"PidTagRuleIds",
+		"PidTagRuleSequence",
+		"PidTagRuleState",
+		"PidTagRuleUserFlags",
+		"PidTagRuleCondition",
+		"PidTagRuleActions",
+		"PidTagRuleProvider",
+		"PidTagRuleName",
+		"PidTagRuleLevel",
+		"PidTagRuleProviderData",
+		"PidTagDeletedOn",
+		"PidTagDeletedMessageSizeExtended",
+		"PidTagDeletedNormalMessageSizeExtended",
+		"PidTagDeletedAssociatedMessageSizeExtended",
+		"PidTagLocaleId",
+		"PidTagFolderFlags",
+		"PidTagNormalMessageSize",
+		"PidTagCodePageId",
+		"PidTagAddressBookManageDistributionList",
+		"PidTagSortLocaleId",
+		"PidTagUrlName",
+		"PidTagSubfolder",
+		"PidTagLocalCommitTime",
+		"PidTagLocalCommitTimeMax",
+		"PidTagDeletedCountTotal",
+		"PidTagFlatUrlName",
+		"PidTagPublicFolderAdministrativeDescription",
+		"PidTagPublicFolderProxy",
+		"PidTagSentMailSvrEID",
+		"PidTagDeferredActionMessageOriginalEntryId",
+		"PidTagFolderId32",
+		"PidTagFolderId",
+		"PidTagParentFolderId",
+		"PidTagMid",
+		"PidTagInstID",
+		"PidTagInstanceNum",
+		"PidTagAddressBookMessageId",
+		"PidTagMsgFolderTemplateRes13",
+		"PidTagIdsetExpired",
+		"PidTagCnsetSeen",
+		"PidTagChangeNumber",
+		"PidTagAssociated",
+		"PidTagCnsetRead",
+		"PidTagCnsetSeenFAI",
+		"PidTagIdsetDeleted",
+		"PidTagLtpParentNid",
+		"PidTagLtpRowId",
+		"PidTagLtpRowVer",
+		"PidTagLtpPstPassword",
+		"PidTagOfflineAddressBookName",
+		"PidTagVoiceMessageDuration",
+		"PidTagOfflineAddressBookContainerGuid",
+		"PidTagSenderTelephoneNumber",
+		"PidTagRwRulesStream",
+		"PidTagOfflineAddressBookMessageClass",
+		"PidTagSendOutlookRecallReport",
+		"PidTagVoiceMessageSenderName",
+		"PidTagFaxNumberOfPages",
+		"PidTagOfflineAddressBookDistinguishedName",
+		"PidTagVoiceMessageAttachmentOrder",
+		"PidTagOfflineAddressBookTruncatedProperties",
+		"PidTagCallId",
+		"PidTagOfflineAddressBookShaHash",
+		"PidTagOfflineAddressBookLanguageId",
+		"PidTagOfflineAddressBookFileType",
+		"PidTagOfflineAddressBookCompressedSize",
+		"PidTagOfflineAddressBookFileSize",
+		"PidTagReportingMessageTransferAgent",
+		"PidTagMapiFormComposeCommand",
+		"PidTagSearchFolderLastUsed",
+		"PidTagSearchFolderExpiration",
+		"PidTagSearchFolderTemplateId",
+		"PidTagScheduleInfoDelegatorWantsCopy",
+		"PidTagWlinkGroupHeaderID",
+		"PidTagScheduleInfoDontMailDelegates",
+		"PidTagSearchFolderRecreateInfo",
+		"PidTagScheduleInfoDelegateNames",
+		"PidTagSearchFolderDefinition",
+		"PidTagScheduleInfoDelegateEntryIds",
+		"PidTagSearchFolderStorageType",
+		"PidTagGatewayNeedsToRefresh",
+		"PidTagWlinkSaveStamp",
+		"PidTagSearchFolderEfpFlags",
+		"PidTagWlinkType",
+		"PidTagFreeBusyMessageEmailAddress",
+		"PidTagWlinkFlags",
+		"PidTagScheduleInfoDelegateNamesW",
+		"PidTagScheduleInfoDelegatorWantsInfo",
+		"PidTagWlinkOrdinal",
+		"PidTagWlinkEntryId",
+		"PidTagWlinkRecordKey",
+		"PidTagWlinkStoreEntryId",
+		"PidTagWlinkFolderType",
+		"PidTagScheduleInfoMonthsMerged",
+		"PidTagWlinkGroupClsid",
+		"PidTagScheduleInfoFreeBusyMerged",
+		"PidTagWlinkGroupName",
+		"PidTagScheduleInfoMonthsTentative",
+		"PidTagWlinkSection",
+		"PidTagScheduleInfoFreeBusyTentative",
+		"PidTagWlinkCalendarColor",
+		"PidTagScheduleInfoMonthsBusy",
+		"PidTagWlinkAddressBookEID",
+		"PidTagScheduleInfoFreeBusyBusy",
+		"PidTagScheduleInfoMonthsAway",
+		"PidTagScheduleInfoFreeBusyAway",
+		"PidTagFreeBusyRangeTimestamp",
+		"PidTagFreeBusyCountMonths",
+		"PidTagScheduleInfoAppointmentTombstone",
+		"PidTagDelegateFlags",
+		"PidTagScheduleInfoFreeBusy",
+		"PidTagScheduleInfoAutoAcceptAppointments",
+		"PidTagScheduleInfoDisallowRecurringAppts",
+		"PidTagScheduleInfoDisallowOverlappingAppts",
+		"PidTagWlinkClientID",
+		"PidTagWlinkAddressBookStoreEID",
+		"PidTagWlinkROGroupType",
+		"PidTagViewDescriptorBinary",
+		"PidTagViewDescriptorStrings",
+		"PidTagViewDescriptorFlags",
+		"PidTagViewDescriptorLinkTo",
+		"PidTagViewDescriptorViewFolder",
+		"PidTagViewDescriptorName",
+		"PidTagViewDescriptorVersion",
+		"PidTagRoamingDatatypes",
+		"PidTagRoamingDictionary",
+		"PidTagRoamingXmlStream",
+		"PidTagOscSyncEnabled",
+		"PidTagStoreUserEntryId",
+		"PidTagProcessed",
+		"PidTagExceptionReplaceTime",
+		"PidTagAttachmentLinkId",
+		"PidTagExceptionStartTime",
+		"PidTagExceptionEndTime",
+		"PidTagAttachmentFlags",
+		"PidTagAttachmentHidden",
+		"PidTagAttachmentContactPhoto",
+	};
+
+	/** Find the name of a known property tag.
+	*	@param	tag	The property tag to look up
+	*	@return	The name of the property tag, or null if it is not a known property tag
+	*/
+	static String find(int tag)
+	{
+		int index = java.util.Arrays.binarySearch(TAGS, tag);
+		return index >= 0 ? NAMES[index] : null;
 	}
 
 	public static void main(String[] args)
 	{
-		java.util.Iterator<java.util.Map.Entry<Integer, String>> iter = PropertyTags.tags.entrySet().iterator();
-		while (iter.hasNext()) {
-			java.util.Map.Entry<Integer, String> e = iter.next();
-			System.out.printf("0x%08x: %s%n", e.getKey(), e.getValue());
-		}
+		for (int i = 0; i < TAGS.length; ++i)
+			System.out.printf("0x%08x: %s%n", TAGS[i], NAMES[i]);
 	}
 }
@@ -0,0 +1,695 @@
+package io.github.jmcleodfoss.msg;
+
+/** Extract the HTML or plain text encapsulated in an RTF message body. This is an OutputStream, so it can be used as the
+*   destination for {@link CompressedRTF#decompress(java.io.InputStream, java.io.OutputStream)}: the RTF is tokenized as it is
+*   written, and the encapsulated HTML or text is written to the given Writer as it is found, without holding the RTF in memory.
+*   <p>
+*   If the RTF does not declare that it encapsulates HTML (\fromhtml1) or plain text (\fromtext), the text of the RTF document is
+*   extracted instead, and {@link #getFormat} returns {@link Format#RTF}.
+*   <p>
+*   Call {@link #flush} or {@link #close} after all the RTF has been written to make sure all text has been written to the Writer.
+*   Closing this stream does not close the Writer.
+*	@see MSG#deEncapsulateRTF(java.io.Writer)
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfex/411d0d58-49f7-496c-b8c3-5859b045f6cf">MS-OXRTFEX Section 2: Structures</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfex/906fbb0f-2467-490e-8c3e-bdc31c5e9d35">MS-OXRTFEX Section 2.1.3: De-Encapsulating HTML from RTF</a>
+*/
+public class RTFDeEncapsulator extends java.io.OutputStream
+{
+	/** The type of content found in the RTF. */
+	public enum Format {
+		/** No content has been found yet. */
+		UNKNOWN,
+
+		/** The RTF encapsulates HTML (\fromhtml1). */
+		HTML,
+
+		/** The RTF encapsulates plain text (\fromtext). */
+		TEXT,
+
+		/** The RTF does not encapsulate anything; the text of the RTF document is extracted. */
+		RTF
+	}
+
+	/** Tokenizer state: reading text */
+	private static final int STATE_TEXT = 0;
+
+	/** Tokenizer state: read a backslash */
+	private static final int STATE_ESCAPE = 1;
+
+	/** Tokenizer state: reading the letters of a control word */
+	private static final int STATE_CONTROL_WORD = 2;
+
+	/** Tokenizer state: reading the numeric parameter of a control word */
+	private static final int STATE_PARAMETER = 3;
+
+	/** Tokenizer state: reading the two hex digits following \' */
+	private static final int STATE_HEX = 4;
+
+	/** Tokenizer state: skipping the data following \binN */
+	private static final int STATE_BINARY = 5;
+
+	/** The maximum length of a control word
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfex/752835a4-ad5e-49e3-acce-6b654b828de5">MS-OXRTFEX Section 2.1.3.1.1: Recognizing RTF Control Words</a>
+	*/
+	private static final int MAX_CONTROL_WORD = 32;
+
+	/** The size of the output buffer */
+	private static final int BUFFER_SIZE = 4096;
+
+	/** The default code page for \'hh escapes, used until an \ansicpg control word is found */
+	private static final java.nio.charset.Charset DEFAULT_CHARSET = java.nio.charset.Charset.forName("windows-1252");
+
+	/** Destinations whose contents are never part of the body text */
+	private static final java.util.Set<String> SKIPPED_DESTINATIONS = new java.util.HashSet<String>(java.util.Arrays.asList(
+		"author", "bkmkend", "bkmkstart", "colortbl", "colorschememapping", "comment", "company", "datastore", "doccomm",
+		"fldinst", "filetbl", "fonttbl", "footer", "footerf", "footerl", "footerr", "generator", "header", "headerf", "headerl",
+		"headerr", "info", "keywords", "latentstyles", "listoverridetable", "listtable", "nonshppict", "object", "objdata",
+		"operator", "pgdsctbl", "pict", "revtbl", "rsidtbl", "stylesheet", "subject", "themedata", "title", "xmlnstbl"
+	));
+
+	/** Characters represented by control words */
+	private static final java.util.Map<String, String> SPECIAL_CHARACTERS = new java.util.HashMap<String, String>();
+	static {
+		SPECIAL_CHARACTERS.put("par", "\r\n");
+		SPECIAL_CHARACTERS.put("line", "\r\n");
+		SPECIAL_CHARACTERS.put("sect", "\r\n");
+		SPECIAL_CHARACTERS.put("page", "\r\n");
+		SPECIAL_CHARACTERS.put("tab", "\t");
+		SPECIAL_CHARACTERS.put("emdash", "\u2014");
+		SPECIAL_CHARACTERS.put("endash", "\u2013");
+		SPECIAL_CHARACTERS.put("emspace", "\u2003");
+		SPECIAL_CHARACTERS.put("enspace", "\u2002");
+		SPECIAL_CHARACTERS.put("qmspace", "\u2005");
+		SPECIAL_CHARACTERS.put("bullet", "\u2022");
+		SPECIAL_CHARACTERS.put("lquote", "\u2018");
+		SPECIAL_CHARACTERS.put("rquote", "\u2019");
+		SPECIAL_CHARACTERS.put("ldblquote", "\u201c");
+		SPECIAL_CHARACTERS.put("rdblquote", "\u201d");
+	}
+
+	/** The destination for the de-encapsulated content */
+	private final java.io.Writer out;
+
+	/** The output buffer */
+	private final char[] buffer;
+
+	/** The number of characters in the output buffer */
+	private int bufferLength;
+
+	/** The content type, set when \fromhtml or \fromtext is found or when text is found without either. */
+	private Format format;
+
+	/** The current tokenizer state */
+	private int state;
+
+	/** The control word being read */
+	private final StringBuilder controlWord;
+
+	/** Does the control word being read have a parameter? */
+	private boolean hasParameter;
+
+	/** Is the parameter of the control word being read negative? */
+	private boolean negativeParameter;
+
+	/** The parameter of the control word being read */
+	private int parameter;
+
+	/** The value of the \'hh escape being read */
+	private int hexValue;
+
+	/** The number of digits of the \'hh escape read so far */
+	private int hexDigits;
+
+	/** The number of bytes of \binN data remaining to skip */
+	private int binaryRemaining;
+
+	/** Was the last token \*, marking the group as an ignorable destination? */
+	private boolean ignorableDestination;
+
+	/** The number of characters remaining to skip after a \\uN Unicode character */
+	private int unicodeSkipRemaining;
+
+	/** The decoder for \'hh escapes */
+	private java.nio.charset.CharsetDecoder decoder;
+
+	/** Bytes from consecutive \'hh escapes waiting to be decoded */
+	private final java.nio.ByteBuffer pendingBytes;
+
+	/** The group nesting level */
+	private int depth;
+
+	/** For each group level, is the group a destination whose contents are skipped? */
+	private boolean[] skipped;
+
+	/** For each group level, is RTF-only content being suppressed by \htmlrtf? */
+	private boolean[] suppressed;
+
+	/** For each group level, is the group an \*\htmltag destination? */
+	private boolean[] htmlTag;
+
+	/** For each group level, the number of characters to skip after a \\uN Unicode character */
+	private int[] unicodeSkip;
+
+	/** Create a de-encapsulator writing to the given Writer.
+	*	@param	out	The destination for the encapsulated HTML or text
+	*/
+	public RTFDeEncapsulator(java.io.Writer out)
+	{
+		this.out = out;
+		buffer = new char[BUFFER_SIZE];
+		format = Format.UNKNOWN;
+		controlWord = new StringBuilder(MAX_CONTROL_WORD);
+		decoder = newDecoder(DEFAULT_CHARSET);
+		pendingBytes = java.nio.ByteBuffer.allocate(BUFFER_SIZE);
+
+		final int INITIAL_DEPTH = 16;
+		skipped = new boolean[INITIAL_DEPTH];
+		suppressed = new boolean[INITIAL_DEPTH];
+		htmlTag = new boolean[INITIAL_DEPTH];
+		unicodeSkip = new int[INITIAL_DEPTH];
+		unicodeSkip[0] = 1;
+	}
+
+	/** Get the type of content found in the RTF.
+	*	@return	The content type, or {@link Format#UNKNOWN} if neither an encapsulation control word nor any text has been found yet
+	*/
+	public Format getFormat()
+	{
+		return format;
+	}
+
+	/** Write any text which has been found to the Writer, and flush the Writer.
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	@Override
+	public void flush()
+	throws
+		java.io.IOException
+	{
+		decodePendingBytes();
+		flushBuffer();
+		out.flush();
+	}
+
+	/** Write any text which has been found to the Writer. The Writer is flushed but not closed.
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	@Override
+	public void close()
+	throws
+		java.io.IOException
+	{
+		flush();
+	}
+
+	/** Process a byte of RTF.
+	*	@param	b	The byte to process
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	@Override
+	public void write(int b)
+	throws
+		java.io.IOException
+	{
+		process(b & 0xff);
+	}
+
+	/** Process a sequence of bytes of RTF.
+	*	@param	b	The buffer containing the RTF
+	*	@param	off	The offset of the first byte to process
+	*	@param	len	The number of bytes to process
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	@Override
+	public void write(byte[] b, int off, int len)
+	throws
+		java.io.IOException
+	{
+		java.util.Objects.checkFromIndexSize(off, len, b.length);
+		for (int i = off; i < off + len; ++i)
+			process(b[i] & 0xff);
+	}
+
+	/** Advance the tokenizer by one character.
+	*	@param	c	The character to process
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void process(int c)
+	throws
+		java.io.IOException
+	{
+		switch (state) {
+		case STATE_TEXT:
+			if (c == '\\')
+				state = STATE_ESCAPE;
+			else if (c == '{')
+				openGroup();
+			else if (c == '}')
+				closeGroup();
+			else if (c != '\r' && c != '\n')
+				text((char)c);
+			break;
+
+		case STATE_ESCAPE:
+			if (isLetter(c)) {
+				controlWord.setLength(0);
+				controlWord.append((char)c);
+				hasParameter = false;
+				negativeParameter = false;
+				parameter = 0;
+				state = STATE_CONTROL_WORD;
+			} else if (c == '\'') {
+				hexValue = 0;
+				hexDigits = 0;
+				state = STATE_HEX;
+			} else {
+				state = STATE_TEXT;
+				controlSymbol(c);
+			}
+			break;
+
+		case STATE_CONTROL_WORD:
+			if (isLetter(c)) {
+				if (controlWord.length() < MAX_CONTROL_WORD)
+					controlWord.append((char)c);
+			} else if (c == '-') {
+				negativeParameter = true;
+				state = STATE_PARAMETER;
+			} else if (isDigit(c)) {
+				hasParameter = true;
+				parameter = c - '0';
+				state = STATE_PARAMETER;
+			} else {
+				endControlWord(c);
+			}
+			break;
+
+		case STATE_PARAMETER:
+			if (isDigit(c)) {
+				hasParameter = true;
+				if (parameter < Integer.MAX_VALUE / 10)
+					parameter = parameter * 10 + c - '0';
+			} else {
+				endControlWord(c);
+			}
+			break;
+
+		case STATE_HEX:
+			int digit = Character.digit(c, 16);
+			if (digit == -1) {
+				state = STATE_TEXT;
+				process(c);
+			} else {
+				hexValue = hexValue * 16 + digit;
+				if (++hexDigits == 2) {
+					state = STATE_TEXT;
+					encodedByte(hexValue);
+				}
+			}
+			break;
+
+		case STATE_BINARY:
+			if (--binaryRemaining <= 0)
+				state = STATE_TEXT;
+			break;
+
+		default:
+			break;
+		}
+	}
+
+	/** Handle the end of a control word.
+	*	@param	c	The character which ended the control word; it is consumed if it is a space, and processed otherwise.
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void endControlWord(int c)
+	throws
+		java.io.IOException
+	{
+		state = STATE_TEXT;
+		if (negativeParameter)
+			parameter = -parameter;
+		controlWord(controlWord.toString());
+		if (c != ' ' && state == STATE_TEXT)
+			process(c);
+	}
+
+	/** Is the given character an ASCII letter?
+	*	@param	c	The character to check
+	*	@return	true if c is in a-z or A-Z, false otherwise
+	*/
+	private static boolean isLetter(int c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	/** Is the given character an ASCII digit?
+	*	@param	c	The character to check
+	*	@return	true if c is in 0-9, false otherwise
+	*/
+	private static boolean isDigit(int c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+	/** Start a new group, inheriting the state of the enclosing group. */
+	private void openGroup()
+	{
+		if (++depth == skipped.length) {
+			skipped = java.util.Arrays.copyOf(skipped, depth * 2);
+			suppressed = java.util.Arrays.copyOf(suppressed, depth * 2);
+			htmlTag = java.util.Arrays.copyOf(htmlTag, depth * 2);
+			unicodeSkip = java.util.Arrays.copyOf(unicodeSkip, depth * 2);
+		}
+		skipped[depth] = skipped[depth-1];
+		suppressed[depth] = suppressed[depth-1];
+		htmlTag[depth] = htmlTag[depth-1];
+		unicodeSkip[depth] = unicodeSkip[depth-1];
+		ignorableDestination = false;
+		unicodeSkipRemaining = 0;
+	}
+
+	/** End the current group, restoring the state of the enclosing group. */
+	private void closeGroup()
+	{
+		if (depth > 0)
+			--depth;
+		ignorableDestination = false;
+		unicodeSkipRemaining = 0;
+	}
+
+	/** Should text in the current group be written?
+	*	@return	true if text is part of the encapsulated content, false otherwise
+	*/
+	private boolean isVisible()
+	{
+		if (skipped[depth])
+			return false;
+		if (htmlTag[depth])
+			return true;
+		return !suppressed[depth];
+	}
+
+	/** Handle a control symbol (a backslash followed by a non-letter).
+	*	@param	c	The character following the backslash
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void controlSymbol(int c)
+	throws
+		java.io.IOException
+	{
+		switch (c) {
+		case '\\':
+		case '{':
+		case '}':
+			text((char)c);
+			break;
+
+		case '~':
+			text('\u00a0');
+			break;
+
+		case '_':
+			text('\u2011');
+			break;
+
+		case '*':
+			ignorableDestination = true;
+			break;
+
+		case '\r':
+		case '\n':
+			emit("\r\n");
+			break;
+
+		default:
+			break;
+		}
+	}
+
+	/** Handle a control word.
+	*	@param	word	The control word, without the leading backslash or parameter
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void controlWord(String word)
+	throws
+		java.io.IOException
+	{
+		boolean wasIgnorable = ignorableDestination;
+		ignorableDestination = false;
+
+		if (wasIgnorable) {
+			if (format == Format.HTML && "htmltag".equals(word)) {
+				htmlTag[depth] = true;
+				suppressed[depth] = false;
+			} else {
+				skipped[depth] = true;
+			}
+			return;
+		}
+
+		if (SKIPPED_DESTINATIONS.contains(word)) {
+			skipped[depth] = true;
+			return;
+		}
+
+		String special = SPECIAL_CHARACTERS.get(word);
+		if (special != null) {
+			emit(special);
+			return;
+		}
+
+		switch (word) {
+		case "fromhtml":
+			if (format == Format.UNKNOWN && (!hasParameter || parameter == 1))
+				format = Format.HTML;
+			break;
+
+		case "fromtext":
+			if (format == Format.UNKNOWN)
+				format = Format.TEXT;
+			break;
+
+		case "htmlrtf":
+			if (!htmlTag[depth])
+				suppressed[depth] = !hasParameter || parameter != 0;
+			break;
+
+		case "ansicpg":
+			decodePendingBytes();
+			decoder = newDecoder(codePageCharset(parameter));
+			break;
+
+		case "uc":
+			unicodeSkip[depth] = Math.max(parameter, 0);
+			break;
+
+		case "u":
+			if (isVisible())
+				emit((char)parameter);
+			unicodeSkipRemaining = unicodeSkip[depth];
+			break;
+
+		case "bin":
+			if (parameter > 0) {
+				binaryRemaining = parameter;
+				state = STATE_BINARY;
+			}
+			break;
+
+		default:
+			break;
+		}
+	}
+
+	/** Handle a text character.
+	*	@param	c	The character
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void text(char c)
+	throws
+		java.io.IOException
+	{
+		if (unicodeSkipRemaining > 0) {
+			--unicodeSkipRemaining;
+			return;
+		}
+		if (isVisible())
+			emit(c);
+	}
+
+	/** Handle a byte given by an \'hh escape. Consecutive escaped bytes are decoded together so that multi-byte characters in
+	*   double-byte code pages are decoded correctly.
+	*	@param	b	The byte value
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void encodedByte(int b)
+	throws
+		java.io.IOException
+	{
+		if (unicodeSkipRemaining > 0) {
+			--unicodeSkipRemaining;
+			return;
+		}
+		if (!isVisible())
+			return;
+		if (format == Format.UNKNOWN)
+			format = Format.RTF;
+
+		if (!pendingBytes.hasRemaining())
+			decodePendingBytes();
+		pendingBytes.put((byte)b);
+	}
+
+	/** Write a character to the output buffer.
+	*	@param	c	The character
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void emit(char c)
+	throws
+		java.io.IOException
+	{
+		if (format == Format.UNKNOWN)
+			format = Format.RTF;
+		if (pendingBytes.position() > 0)
+			decodePendingBytes();
+		if (bufferLength == buffer.length)
+			flushBuffer();
+		buffer[bufferLength++] = c;
+	}
+
+	/** Write a string to the output buffer, if text in the current group is visible.
+	*	@param	s	The string
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void emit(String s)
+	throws
+		java.io.IOException
+	{
+		if (!isVisible())
+			return;
+		for (int i = 0; i < s.length(); ++i)
+			emit(s.charAt(i));
+	}
+
+	/** Decode any bytes from \'hh escapes into the output buffer.
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void decodePendingBytes()
+	throws
+		java.io.IOException
+	{
+		if (pendingBytes.position() == 0)
+			return;
+
+		pendingBytes.flip();
+		java.nio.CharBuffer chars = java.nio.CharBuffer.wrap(buffer);
+		chars.position(bufferLength);
+		decoder.reset();
+		while (true){
+			java.nio.charset.CoderResult result = decoder.decode(pendingBytes, chars, true);
+			if (result.isOverflow()) {
+				bufferLength = chars.position();
+				flushBuffer();
+				chars.clear();
+				continue;
+			}
+			if (decoder.flush(chars).isOverflow()) {
+				bufferLength = chars.position();
+				flushBuffer();
+				chars.clear();
+				decoder.flush(chars);
+			}
+			break;
+		}
+		bufferLength = chars.position();
+		pendingBytes.clear();
+	}
+
+	/** Write the output buffer to the Writer.
+	*	@throws	java.io.IOException	There was a problem writing to the Writer.
+	*/
+	private void flushBuffer()
+	throws
+		java.io.IOException
+	{
+		if (bufferLength > 0) {
+			out.write(buffer, 0, bufferLength);
+			bufferLength = 0;
+		}
+	}
+
+	/** Create a decoder for the given character set which replaces undecodable bytes rather than reporting an error.
+	*	@param	charset	The character set
+	*	@return	A decoder for the character set
+	*/
+	private static java.nio.charset.CharsetDecoder newDecoder(java.nio.charset.Charset charset)
+	{
+		return charset.newDecoder()
+			.onMalformedInput(java.nio.charset.CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(java.nio.charset.CodingErrorAction.REPLACE);
+	}
+
+	/** Find the character set for a Windows code page.
+	*	@param	codePage	The code page number from an \ansicpg control word
+	*	@return	The character set for the code page, or windows-1252 if the code page is not supported
+	*/
+	static java.nio.charset.Charset codePageCharset(int codePage)
+	{
+		if (codePage == 65001)
+			return java.nio.charset.StandardCharsets.UTF_8;
+
+		final String[] NAME_FORMATS = {"windows-%d", "x-windows-%d", "cp%d", "x-mswin-%d", "MS%d"};
+		for (String nameFormat: NAME_FORMATS) {
+			try {
+				return java.nio.charset.Charset.forName(String.format(nameFormat, codePage));
+			} catch (final IllegalArgumentException e) {
+				// Try the next naming convention
+			}
+		}
+		return DEFAULT_CHARSET;
+	}
+
+	/** Test this class by printing out the encapsulated HTML or text in the RTF body of each given file.
+	*	@param	args	The msg file(s) to display the body of.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.RTFDeEncapsulator msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		java.io.PrintWriter out = new java.io.PrintWriter(new java.io.OutputStreamWriter(System.out, java.nio.charset.StandardCharsets.UTF_8));
+		for (String a: args) {
+			out.println(a);
+			try {
+				MSG msg = new MSG(a);
+				try {
+					java.io.StringWriter body = new java.io.StringWriter();
+					Format format = msg.deEncapsulateRTF(body);
+					if (format == null) {
+						out.println("No RTF body");
+					} else {
+						out.printf("Format: %s%n", format);
+						out.println(body.toString());
+					}
+				} finally {
+					msg.close();
+				}
+			} catch (final CompressedRTFException e) {
+				e.printStackTrace(out);
+			} catch (final java.io.FileNotFoundException e) {
+				out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(out);
+			}
+			out.flush();
+		}
+	}
+}
@@ -53,6 +53,16 @@ class Sector {
 		}
 	}
 
+	/** Is the given sector ID the index of a regular sector, rather than one of the special values?
+	*	@param	sectorId	The sector ID to check
+	*	@return	true if the sector ID is a regular sector index, false if it is a special value
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/9d33df18-7aee-4065-9121-4eabe41c29d4">MS-CFB Section 2.1: Compound Sector Numbers and Types</a>
+	*/
+	static boolean isRegularSector(int sectorId)
+	{
+		return Integer.compareUnsigned(sectorId, MAXREGSEC) <= 0;
+	}
+
 	/** Get the sector size given the sector shift.
 	*	@param	sectorShift	The sector shift value (2 is shifted by this number to get the sector size)
 	*	@return	The sector size corresponding to the given sectorShift.
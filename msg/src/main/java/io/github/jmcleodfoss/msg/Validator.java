@@ -0,0 +1,448 @@
+package io.github.jmcleodfoss.msg;
+
+/** Check the structure of a msg file as it is opened, so that a corrupt or hostile file is rejected with a
+*   {@link CorruptFileException} rather than making the reader loop forever, recurse without bound, or allocate huge buffers.
+*   <p>
+*   The header is checked first, then the DIFAT, then every sector chain reachable from the header and the directory tree, and
+*   finally the mini sector chains once the Mini FAT has been read. Each sector and directory entry is visited at most once, and a
+*   sector or entry reached a second time is reported as an error, so the work done is proportional to the size of the file. The
+*   limits on the number of sectors, the size of each stream, and the depth of the storage tree are configurable.
+*   <p>
+*   A Validator has no state beyond its limits, so one instance may be shared by several threads opening different files.
+*	@see MSG#MSG(String, Validator)
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/9d33df18-7aee-4065-9121-4eabe41c29d4">MS-CFB Section 2.1: Compound Sector Numbers and Types</a>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/windows_protocols/ms-cfb/a94d7445-c4be-49cd-b6b9-2f4abc663817">MS-CFB Section 2.6: Compound File Directory Sectors</a>
+*/
+public class Validator
+{
+	/** The size of the file header, including the first 109 DIFAT entries */
+	private static final int HEADER_SIZE = (DIFAT.HEADER_DIFAT_OFFSET + DIFAT.HEADER_DIFAT_ENTRIES) * DataType.SIZEOF_INT;
+
+	/** The maximum length in bytes of a directory entry name, including the terminating null */
+	private static final int MAX_NAME_LENGTH = 64;
+
+	/** The offset of the name length within a directory entry */
+	private static final int NAME_LENGTH_OFFSET = MAX_NAME_LENGTH;
+
+	/** The offset of the object type within a directory entry */
+	private static final int OBJECT_TYPE_OFFSET = NAME_LENGTH_OFFSET + DataType.SIZEOF_SHORT;
+
+	/** The offset of the left sibling ID within a directory entry */
+	private static final int LEFT_SIBLING_OFFSET = OBJECT_TYPE_OFFSET + 2;
+
+	/** The offset of the right sibling ID within a directory entry */
+	private static final int RIGHT_SIBLING_OFFSET = LEFT_SIBLING_OFFSET + DataType.SIZEOF_INT;
+
+	/** The offset of the child ID within a directory entry */
+	private static final int CHILD_OFFSET = RIGHT_SIBLING_OFFSET + DataType.SIZEOF_INT;
+
+	/** The offset of the starting sector location within a directory entry */
+	private static final int STARTING_SECTOR_OFFSET = DirectoryEntry.SIZE - DataType.SIZEOF_LONG - DataType.SIZEOF_INT;
+
+	/** The offset of the stream size within a directory entry */
+	private static final int STREAM_SIZE_OFFSET = DirectoryEntry.SIZE - DataType.SIZEOF_LONG;
+
+	/** The default maximum depth of the storage tree */
+	private static final int DEFAULT_MAX_DEPTH = 64;
+
+	/** The maximum number of sectors in the file, excluding the header */
+	private int maxSectors = Integer.MAX_VALUE;
+
+	/** The maximum size of a stream in bytes; by default, the largest byte array which can be allocated */
+	private long maxStreamSize = Integer.MAX_VALUE;
+
+	/** The maximum depth of the storage tree, where the children of the root storage are at depth 1 */
+	private int maxDepth = DEFAULT_MAX_DEPTH;
+
+	/** Create a validator which checks the file's structure, with no limit on the number of sectors or the size of a stream, and
+	*   the default limit on the depth of the storage tree.
+	*/
+	public Validator()
+	{
+	}
+
+	/** Set the maximum number of sectors the file may have.
+	*	@param	maxSectors	The maximum number of sectors, excluding the header
+	*	@return	This Validator, to allow calls to be chained
+	*/
+	public Validator maxSectors(int maxSectors)
+	{
+		this.maxSectors = maxSectors;
+		return this;
+	}
+
+	/** Set the maximum size of any stream in the file.
+	*	@param	maxStreamSize	The maximum stream size in bytes
+	*	@return	This Validator, to allow calls to be chained
+	*/
+	public Validator maxStreamSize(long maxStreamSize)
+	{
+		this.maxStreamSize = maxStreamSize;
+		return this;
+	}
+
+	/** Set the maximum depth of the storage tree. Each embedded message adds two levels: the attachment storage and the
+	*   message storage within it.
+	*	@param	maxDepth	The maximum depth, where the children of the root storage are at depth 1
+	*	@return	This Validator, to allow calls to be chained
+	*/
+	public Validator maxDepth(int maxDepth)
+	{
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/** Check that the file is large enough to hold a header.
+	*	@param	fileSize	The size of the file in bytes
+	*	@throws	CorruptFileException	The file is too small to hold a header.
+	*/
+	void checkFileSize(long fileSize)
+	throws
+		CorruptFileException
+	{
+		if (fileSize < HEADER_SIZE)
+			throw new CorruptFileException(String.format("File size %d is smaller than the header", fileSize));
+	}
+
+	/** Check the header fields which determine how the rest of the file is read.
+	*	@param	header	The file header
+	*	@throws	CorruptFileException	The header is invalid, or the file has more sectors than allowed.
+	*/
+	void checkHeader(Header header)
+	throws
+		CorruptFileException
+	{
+		if (header.sectorSize != Sector.sectorSize(CFBWriter.VERSION_3_SECTOR_SHIFT) && header.sectorSize != Sector.sectorSize(CFBWriter.VERSION_4_SECTOR_SHIFT))
+			throw new CorruptFileException("Invalid sector size " + header.sectorSize);
+		if (header.miniSectorSize != MiniFAT.MINI_SECTOR_SIZE)
+			throw new CorruptFileException("Invalid mini sector size " + header.miniSectorSize);
+		if (!header.isInMiniStream(CFBWriter.MINI_STREAM_CUTOFF_SIZE - 1) || header.isInMiniStream(CFBWriter.MINI_STREAM_CUTOFF_SIZE))
+			throw new CorruptFileException("Invalid mini stream cutoff size");
+
+		final int sectors = header.numberOfSectors() - 1;
+		if (sectors > maxSectors)
+			throw new CorruptFileException(String.format("File has %d sectors, more than the limit of %d", sectors, maxSectors));
+		checkCount("FAT sectors", header.numberOfFATSectors(), sectors);
+		checkCount("DIFAT sectors", header.numberOfDIFATSectors(), sectors);
+		checkCount("Mini FAT sectors", header.numberOfMiniFATSectors(), sectors);
+	}
+
+	/** Check a sector count from the header.
+	*	@param	what	A description of the sectors counted
+	*	@param	count	The number of sectors given in the header
+	*	@param	sectors	The number of sectors in the file
+	*	@throws	CorruptFileException	The count is negative or larger than the number of sectors in the file.
+	*/
+	private static void checkCount(String what, int count, int sectors)
+	throws
+		CorruptFileException
+	{
+		if (count < 0 || count > sectors)
+			throw new CorruptFileException(String.format("Header gives %d %s, but the file has only %d sectors", count, what, sectors));
+	}
+
+	/** Mark a sector as used, checking that it is in the file and has not already been used.
+	*	@param	what	A description of the chain or table the sector belongs to
+	*	@param	sector	The sector to mark
+	*	@param	limit	The number of valid sector IDs
+	*	@param	used	The sectors used so far
+	*	@throws	CorruptFileException	The sector is out of range or has already been used.
+	*/
+	private static void markUsed(String what, int sector, int limit, boolean[] used)
+	throws
+		CorruptFileException
+	{
+		if (Integer.compareUnsigned(sector, limit) >= 0)
+			throw new CorruptFileException(String.format("%s: sector %s is out of range", what, Sector.getDescription(sector)));
+		if (used[sector])
+			throw new CorruptFileException(String.format("%s: sector %d is used more than once", what, sector));
+		used[sector] = true;
+	}
+
+	/** Check the DIFAT sector chain and the locations of the FAT sectors it lists.
+	*	@param	mbb	The file
+	*	@param	header	The file header
+	*	@return	A map of the sectors used by the DIFAT and FAT, to be passed to {@link #checkDirectory}
+	*	@throws	CorruptFileException	The DIFAT is invalid.
+	*/
+	boolean[] checkDIFAT(java.nio.ByteBuffer mbb, Header header)
+	throws
+		CorruptFileException
+	{
+		final int sectors = header.numberOfSectors() - 1;
+		boolean[] used = new boolean[sectors];
+
+		int fatSectors = 0;
+		for (int i = 0; i < DIFAT.HEADER_DIFAT_ENTRIES; ++i)
+			fatSectors += checkFATSector(mbb.getInt((DIFAT.HEADER_DIFAT_OFFSET + i) * DataType.SIZEOF_INT), sectors, used);
+
+		int difatSector = header.firstDIFATSectorLocation;
+		for (int i = 0; i < header.numberOfDIFATSectors() && difatSector != Sector.ENDOFCHAIN && difatSector != Sector.FREESECT; ++i){
+			markUsed("DIFAT", difatSector, sectors, used);
+			int offset = header.offset(difatSector);
+			for (int j = 0; j < header.intsPerSector() - 1; ++j)
+				fatSectors += checkFATSector(mbb.getInt(offset + j * DataType.SIZEOF_INT), sectors, used);
+			difatSector = mbb.getInt(offset + header.sectorSize - DataType.SIZEOF_INT);
+		}
+
+		if (fatSectors > header.numberOfFATSectors())
+			throw new CorruptFileException(String.format("DIFAT lists %d FAT sectors, but the header gives %d", fatSectors, header.numberOfFATSectors()));
+		return used;
+	}
+
+	/** Check a FAT sector location listed in the DIFAT.
+	*	@param	sector	The sector location from the DIFAT
+	*	@param	sectors	The number of sectors in the file
+	*	@param	used	The sectors used so far
+	*	@return	1 if the entry is a FAT sector, 0 if it is unused
+	*	@throws	CorruptFileException	The sector is out of range or has already been used.
+	*/
+	private static int checkFATSector(int sector, int sectors, boolean[] used)
+	throws
+		CorruptFileException
+	{
+		if (sector == Sector.FREESECT)
+			return 0;
+		markUsed("FAT", sector, sectors, used);
+		return 1;
+	}
+
+	/** Follow a sector chain through the FAT, checking that every sector is in the file and used only once.
+	*	@param	what	A description of the chain
+	*	@param	start	The first sector in the chain
+	*	@param	header	The file header
+	*	@param	fat	The file's FAT
+	*	@param	used	The sectors used so far
+	*	@param	chain	A list to add the sectors in the chain to, or null
+	*	@return	The number of sectors in the chain
+	*	@throws	CorruptFileException	The chain includes a sector outside the file, or a sector already used.
+	*/
+	private static int checkChain(String what, int start, Header header, FAT fat, boolean[] used, java.util.ArrayList<Integer> chain)
+	throws
+		CorruptFileException
+	{
+		final int limit = Math.min(used.length, header.numberOfFATEntries());
+		int length = 0;
+		for (int sector = start; sector != Sector.ENDOFCHAIN; sector = fat.next(sector)){
+			markUsed(what, sector, limit, used);
+			if (chain != null)
+				chain.add(sector);
+			++length;
+		}
+		return length;
+	}
+
+	/** Check that a stream's sector chain is exactly as long as its size requires.
+	*	@param	what	A description of the stream
+	*	@param	length	The number of sectors in the chain
+	*	@param	size	The size of the stream in bytes
+	*	@param	sectorSize	The size of each sector in the chain
+	*	@throws	CorruptFileException	The chain is too short or too long.
+	*/
+	private static void checkChainLength(String what, int length, long size, int sectorSize)
+	throws
+		CorruptFileException
+	{
+		long expected = (size + sectorSize - 1) / sectorSize;
+		if (length != expected)
+			throw new CorruptFileException(String.format("%s: size %d needs %d sectors, but the chain has %d", what, size, expected, length));
+	}
+
+	/** Check a stream size against the limit.
+	*	@param	what	A description of the stream
+	*	@param	size	The size of the stream in bytes
+	*	@throws	CorruptFileException	The size is negative or larger than the limit.
+	*/
+	private void checkStreamSize(String what, long size)
+	throws
+		CorruptFileException
+	{
+		if (size < 0 || size > maxStreamSize)
+			throw new CorruptFileException(String.format("%s: size %d is outside the limit of %d", what, size, maxStreamSize));
+	}
+
+	/** Check a sibling or child ID in a directory entry, and mark the entry it refers to as visited.
+	*	@param	what	A description of the reference
+	*	@param	id	The ID to check
+	*	@param	entries	The number of entries in the directory
+	*	@param	visited	The entries visited so far
+	*	@return	true if the ID refers to an entry, false if it is empty
+	*	@throws	CorruptFileException	The ID is outside the directory or refers to an entry already visited.
+	*/
+	private static boolean visit(String what, int id, int entries, boolean[] visited)
+	throws
+		CorruptFileException
+	{
+		if (id == Sector.FREESECT)
+			return false;
+		if (Integer.compareUnsigned(id, entries) >= 0)
+			throw new CorruptFileException(String.format("%s: directory entry %d is out of range", what, id));
+		if (visited[id])
+			throw new CorruptFileException(String.format("%s: directory entry %d is reached more than once", what, id));
+		visited[id] = true;
+		return true;
+	}
+
+	/** Get the file offset of a directory entry.
+	*	@param	id			The directory entry ID
+	*	@param	directorySectors	The sectors in the directory chain
+	*	@param	entriesPerSector	The number of directory entries in each sector
+	*	@param	header			The file header
+	*	@return	The offset of the directory entry in the file
+	*/
+	private static int entryOffset(int id, java.util.ArrayList<Integer> directorySectors, int entriesPerSector, Header header)
+	{
+		return header.offset(directorySectors.get(id / entriesPerSector)) + (id % entriesPerSector) * DirectoryEntry.SIZE;
+	}
+
+	/** Check the directory sector chain, the directory tree, and every regular sector chain it refers to, including the Mini FAT
+	*   and mini stream chains. This reads the directory entries directly from the file, so that the tree can be checked before
+	*   the reader follows it.
+	*	@param	mbb	The file
+	*	@param	header	The file header
+	*	@param	fat	The file's FAT
+	*	@param	used	The sectors used by the DIFAT and FAT, as returned by {@link #checkDIFAT}
+	*	@throws	CorruptFileException	A chain or the directory tree is invalid, or a limit is exceeded.
+	*/
+	void checkDirectory(java.nio.ByteBuffer mbb, Header header, FAT fat, boolean[] used)
+	throws
+		CorruptFileException
+	{
+		java.util.ArrayList<Integer> directorySectors = new java.util.ArrayList<Integer>();
+		checkChain("Directory", header.firstDirectorySectorLocation, header, fat, used, directorySectors);
+		final int entriesPerSector = header.sectorSize / DirectoryEntry.SIZE;
+		final int entries = directorySectors.size() * entriesPerSector;
+		if (entries == 0)
+			throw new CorruptFileException("Directory is empty");
+
+		int miniFATLength = checkChain("Mini FAT", header.firstMiniFATSectorLocation, header, fat, used, null);
+		if (miniFATLength != header.numberOfMiniFATSectors())
+			throw new CorruptFileException(String.format("Mini FAT chain has %d sectors, but the header gives %d", miniFATLength, header.numberOfMiniFATSectors()));
+
+		// The reader parses every entry, whether or not it is in the tree
+		for (int id = 0; id < entries; ++id){
+			final int offset = entryOffset(id, directorySectors, entriesPerSector, header);
+			int nameLength = mbb.getShort(offset + NAME_LENGTH_OFFSET);
+			if (nameLength < 0 || nameLength > MAX_NAME_LENGTH)
+				throw new CorruptFileException(String.format("Directory entry %d: invalid name length %d", id, nameLength));
+			byte objectType = mbb.get(offset + OBJECT_TYPE_OFFSET);
+			if (objectType != ObjectType.UNKNOWN.type && objectType != ObjectType.STORAGE.type && objectType != ObjectType.STREAM.type && objectType != ObjectType.ROOT_STORAGE.type)
+				throw new CorruptFileException(String.format("Directory entry %d: invalid object type %d", id, objectType));
+		}
+
+		boolean[] visited = new boolean[entries];
+		visited[0] = true;
+		java.util.ArrayDeque<int[]> stack = new java.util.ArrayDeque<int[]>();
+		stack.push(new int[]{0, 0});
+		while (!stack.isEmpty()){
+			int[] item = stack.pop();
+			final int id = item[0];
+			final int depth = item[1];
+			final int offset = entryOffset(id, directorySectors, entriesPerSector, header);
+			final String what = "Directory entry " + id;
+
+			byte objectType = mbb.get(offset + OBJECT_TYPE_OFFSET);
+			if (id == 0 ? objectType != ObjectType.ROOT_STORAGE.type : objectType != ObjectType.STORAGE.type && objectType != ObjectType.STREAM.type)
+				throw new CorruptFileException(String.format("%s: invalid object type %d in the directory tree", what, objectType));
+
+			int leftSiblingId = mbb.getInt(offset + LEFT_SIBLING_OFFSET);
+			if (visit(what, leftSiblingId, entries, visited))
+				stack.push(new int[]{leftSiblingId, depth});
+			int rightSiblingId = mbb.getInt(offset + RIGHT_SIBLING_OFFSET);
+			if (visit(what, rightSiblingId, entries, visited))
+				stack.push(new int[]{rightSiblingId, depth});
+
+			int childId = mbb.getInt(offset + CHILD_OFFSET);
+			if (objectType == ObjectType.STREAM.type) {
+				if (childId != Sector.FREESECT)
+					throw new CorruptFileException(what + ": stream has a child");
+			} else if (childId != Sector.FREESECT) {
+				if (depth + 1 > maxDepth)
+					throw new CorruptFileException(String.format("%s: storage tree is deeper than the limit of %d", what, maxDepth));
+				if (visit(what, childId, entries, visited))
+					stack.push(new int[]{childId, depth + 1});
+			}
+
+			if (objectType == ObjectType.STORAGE.type)
+				continue;
+
+			// The root entry's stream is the mini stream, which the reader always follows; other streams below the cutoff are in
+			// the mini stream and are checked by checkMiniStreams, and empty streams are never followed.
+			long size = mbb.getLong(offset + STREAM_SIZE_OFFSET);
+			checkStreamSize(what, size);
+			if (id != 0 && (size == 0 || header.isInMiniStream(size)))
+				continue;
+			int length = checkChain(what, mbb.getInt(offset + STARTING_SECTOR_OFFSET), header, fat, used, null);
+			checkChainLength(what, length, size, header.sectorSize);
+		}
+	}
+
+	/** Check the mini sector chains of all streams stored in the mini stream.
+	*	@param	header		The file header
+	*	@param	miniFAT		The file's Mini FAT
+	*	@param	directory	The file's directory, which must have been checked by {@link #checkDirectory}
+	*	@throws	CorruptFileException	A mini sector chain is invalid.
+	*/
+	void checkMiniStreams(Header header, MiniFAT miniFAT, Directory directory)
+	throws
+		CorruptFileException
+	{
+		DirectoryEntry root = directory.entries.get(0);
+		final int limit = (int)Math.min(miniFAT.numberOfEntries(), (root.streamSize + MiniFAT.MINI_SECTOR_SIZE - 1) / MiniFAT.MINI_SECTOR_SIZE);
+		boolean[] used = new boolean[limit];
+
+		java.util.ArrayDeque<DirectoryEntry> stack = new java.util.ArrayDeque<DirectoryEntry>();
+		stack.push(root);
+		while (!stack.isEmpty()){
+			DirectoryEntry parent = stack.pop();
+			for (DirectoryEntry de: directory.getChildren(parent)){
+				if (!de.objectType.isStream()) {
+					stack.push(de);
+					continue;
+				}
+				if (de.streamSize == 0 || !header.isInMiniStream(de.streamSize))
+					continue;
+
+				final String what = "Mini stream " + de.directoryEntryName;
+				int length = 0;
+				for (int miniSector = de.startingSectorLocation; miniSector != Sector.ENDOFCHAIN; miniSector = miniFAT.next(miniSector)){
+					markUsed(what, miniSector, limit, used);
+					++length;
+				}
+				checkChainLength(what, length, de.streamSize, MiniFAT.MINI_SECTOR_SIZE);
+			}
+		}
+	}
+
+	/** Test this class by validating each msg file with the default limits and displaying the result.
+	*	@param	args	The msg file or files to validate.
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		if (args.length == 0) {
+			System.out.println("use:\n\tjava io.github.jmcleodfoss.msg.Validator msg-file [msg-file ...]");
+			System.exit(1);
+		}
+
+		Validator validator = new Validator();
+		for (String a: args) {
+			System.out.println(a);
+			try {
+				MSG msg = new MSG(a, validator);
+				msg.close();
+				System.out.println("valid");
+			} catch (final CorruptFileException e) {
+				System.out.println(e.getMessage());
+			} catch (final java.io.FileNotFoundException e) {
+				System.out.printf("File %s not found%n", a);
+			} catch (final java.io.IOException e) {
+				System.out.printf("There was a problem reading from file %s%n", a);
+			} catch (final NotCFBFileException e) {
+				e.printStackTrace(System.out);
+			} catch (final UnknownStorageTypeException e) {
+				e.printStackTrace(System.out);
+			}
+		}
+	}
+}
@@ -1,3 +1,5 @@
 module io.github.jmcleodfoss.msg {
+	requires static transitive java.management;
+	requires jdk.jfr;
 	exports io.github.jmcleodfoss.msg;
 }
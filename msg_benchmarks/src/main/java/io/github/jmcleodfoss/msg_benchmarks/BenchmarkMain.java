@@ -0,0 +1,29 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import java.util.Arrays;
+
+/** The entry point for the benchmarks jar, which runs JMH with the GC profiler enabled so that allocation rates are reported
+*   alongside the timings.
+<pre>
+Run (after mvn package):
+	java -jar msg_benchmarks/target/benchmarks.jar [JMH options] [benchmark regexp]
+</pre>
+*/
+public class BenchmarkMain
+{
+	/** The JMH options which enable the GC profiler */
+	private static final String[] GC_PROFILER_OPTIONS = { "-prof", "gc" };
+
+	/** Run JMH with the GC profiler and the given options.
+	*	@param	args	The JMH command line options
+	*	@throws	Exception	JMH could not run the benchmarks.
+	*/
+	public static void main(String[] args)
+	throws
+		Exception
+	{
+		String[] jmhArgs = Arrays.copyOf(GC_PROFILER_OPTIONS, GC_PROFILER_OPTIONS.length + args.length);
+		System.arraycopy(args, 0, jmhArgs, GC_PROFILER_OPTIONS.length, args.length);
+		org.openjdk.jmh.Main.main(jmhArgs);
+	}
+}
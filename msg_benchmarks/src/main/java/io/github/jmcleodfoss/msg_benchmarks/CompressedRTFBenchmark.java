@@ -0,0 +1,122 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import io.github.jmcleodfoss.msg.CompressedRTF;
+import io.github.jmcleodfoss.msg.CompressedRTFException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmark decompression of PidTagRtfCompressed data for RTF bodies of several sizes.
+<pre>
+Run (after mvn package):
+	java -jar msg_benchmarks/target/benchmarks.jar CompressedRTFBenchmark
+</pre>
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressedRTFBenchmark
+{
+	/** The size of the uncompressed RTF body */
+	@Param({"16384", "1048576", "16777216"})
+	public int rtfSize;
+
+	/** The compressed RTF */
+	private byte[] compressed;
+
+	/** Create the compressed RTF and check that it decompresses to the original.
+	*	@throws	CompressedRTFException	The test data is not valid compressed RTF.
+	*	@throws	IOException	Not possible when reading from and writing to memory.
+	*/
+	@Setup
+	public void setup()
+	throws
+		CompressedRTFException,
+		IOException
+	{
+		byte[] rtf = SyntheticRTF.generate(rtfSize, rtfSize);
+		compressed = LZFuCompressor.compress(rtf);
+
+		ByteArrayOutputStream check = new ByteArrayOutputStream(rtf.length);
+		CompressedRTF.decompress(new ByteArrayInputStream(compressed), check);
+		if (!Arrays.equals(rtf, check.toByteArray()))
+			throw new IllegalStateException("Compressed test data does not decompress to the original RTF");
+	}
+
+	/** Decompress to an OutputStream which passes the data to JMH's Blackhole.
+	*	@param	blackhole	The JMH Blackhole which consumes the output so the work is not eliminated as dead code
+	*	@throws	CompressedRTFException	The test data is not valid compressed RTF.
+	*	@throws	IOException	Not possible when reading from memory.
+	*/
+	@Benchmark
+	public void decompressToOutputStream(final Blackhole blackhole)
+	throws
+		CompressedRTFException,
+		IOException
+	{
+		CompressedRTF.decompress(new ByteArrayInputStream(compressed), new OutputStream() {
+			@Override
+			public void write(int b)
+			{
+				blackhole.consume(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			{
+				blackhole.consume(b);
+			}
+		});
+	}
+
+	/** Decompress to a Writer which passes the data to JMH's Blackhole.
+	*	@param	blackhole	The JMH Blackhole which consumes the output so the work is not eliminated as dead code
+	*	@throws	CompressedRTFException	The test data is not valid compressed RTF.
+	*	@throws	IOException	Not possible when reading from memory.
+	*/
+	@Benchmark
+	public void decompressToWriter(final Blackhole blackhole)
+	throws
+		CompressedRTFException,
+		IOException
+	{
+		CompressedRTF.decompress(new ByteArrayInputStream(compressed), new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len)
+			{
+				blackhole.consume(cbuf);
+			}
+
+			@Override
+			public void flush()
+			{
+			}
+
+			@Override
+			public void close()
+			{
+			}
+		});
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/** The synthetic msg files used by the reader benchmarks. Half the attachments are stored in the mini stream and half in regular
+*   sectors.
+*/
+public enum Corpus
+{
+	/** A short message: 4 KB body, 2 recipients, 2 attachments, 10 named properties, around 20 KB in total */
+	SMALL(new SyntheticMSG().bodySize(2_000).recipients(2).attachments(2, 1_000, 8_000).namedProperties(8, 2)),
+
+	/** A typical message with a few attachments: 512 KB body, 20 recipients, 10 attachments, 100 named properties, around 2 MB in
+	*   total
+	*/
+	MEDIUM(new SyntheticMSG().bodySize(256_000).recipients(20).attachments(10, 2_000, 256_000).namedProperties(80, 20)),
+
+	/** A large message: 2 MB body, 200 recipients, 40 attachments, 1000 named properties, around 5 MB in total */
+	LARGE(new SyntheticMSG().bodySize(1_000_000).recipients(200).attachments(40, 3_000, 150_000).namedProperties(800, 200));
+
+	/** The generator for this corpus */
+	private final SyntheticMSG generator;
+
+	/** Create a corpus.
+	*	@param	generator	The generator for the corpus' msg file
+	*/
+	Corpus(SyntheticMSG generator)
+	{
+		this.generator = generator;
+	}
+
+	/** Write the msg file for this corpus to a temporary file, which is deleted when the JVM exits.
+	*	@return	The path of the msg file
+	*	@throws	IOException	The file could not be written.
+	*/
+	public Path createFile()
+	throws
+		IOException
+	{
+		Path file = Files.createTempFile("msg-benchmark-" + name().toLowerCase(Locale.ROOT) + "-", ".msg");
+		file.toFile().deleteOnExit();
+		generator.write(file);
+		return file;
+	}
+}
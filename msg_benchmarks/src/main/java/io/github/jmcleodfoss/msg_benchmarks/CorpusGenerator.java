@@ -0,0 +1,136 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/** Command line application to write a directory of synthetic msg files for load and stress testing, e.g. to populate the
+*   test-msg-files directory used by extras/test.sh. The settings for each file are drawn at random from the seed, so the same
+*   command always produces the same files; the settings are printed as each file is written.
+<pre>
+Use (assuming the jar for msg_benchmarks is in the classpath):
+	java io.github.jmcleodfoss.msg_benchmarks.CorpusGenerator [-n count] [-s seed] [-v 3|4] [-f] [-x scale] output-directory
+Options
+	-n: The number of files to write (default 10)
+	-s: The seed (default 0)
+	-v: The compound file version for all files (default: a mix of versions 3 and 4)
+	-f: Fragment the sector chains of all files (default: a mix of fragmented and contiguous files)
+	-x: Multiply the body and large attachment sizes by this factor (default 1)
+</pre>
+*/
+public class CorpusGenerator
+{
+	/** The default number of files to write */
+	private static final int DEFAULT_COUNT = 10;
+
+	/** The largest body before scaling, in characters */
+	private static final int MAX_BODY_SIZE = 64 * 1024;
+
+	/** The largest attachment stored in regular sectors before scaling */
+	private static final int MAX_LARGE_ATTACHMENT_SIZE = 256 * 1024;
+
+	/** The mini stream cutoff size */
+	private static final int MINI_STREAM_CUTOFF_SIZE = 4096;
+
+	/** Choose the settings for one file.
+	*	@param	random	The random number generator for the corpus
+	*	@param	version	The compound file version, or 0 to choose one at random
+	*	@param	fragmented	Whether to fragment the file, or null to choose at random
+	*	@param	scale	The factor to multiply the body and large attachment sizes by
+	*	@param	description	The buffer to append a description of the settings to
+	*	@return	The generator for the file
+	*/
+	private static SyntheticMSG settings(Random random, int version, Boolean fragmented, int scale, StringBuilder description)
+	{
+		long seed = random.nextLong();
+		int v = version != 0 ? version : 3 + random.nextInt(2);
+		boolean f = fragmented != null ? fragmented : random.nextBoolean();
+		int bodySize = random.nextInt(MAX_BODY_SIZE * scale + 1);
+		int recipients = random.nextInt(21);
+		int attachments = random.nextInt(9);
+		int smallAttachmentSize = 1 + random.nextInt(MINI_STREAM_CUTOFF_SIZE - 1);
+		int largeAttachmentSize = MINI_STREAM_CUTOFF_SIZE + random.nextInt(MAX_LARGE_ATTACHMENT_SIZE * scale - MINI_STREAM_CUTOFF_SIZE + 1);
+		double miniStreamFraction = random.nextInt(5) / 4.0;
+		int numericalNamedProperties = random.nextInt(201);
+		int stringNamedProperties = random.nextInt(21);
+		int nestingDepth = random.nextInt(4);
+
+		description.append(String.format("seed %d version %d %s body %d recipients %d attachments %d (%d bytes, %d bytes, %.2f in mini stream) named properties %d+%d depth %d",
+			seed, v, f ? "fragmented" : "contiguous", bodySize, recipients, attachments, smallAttachmentSize, largeAttachmentSize, miniStreamFraction,
+			numericalNamedProperties, stringNamedProperties, nestingDepth));
+
+		return new SyntheticMSG()
+			.seed(seed)
+			.version(v)
+			.fragmented(f)
+			.bodySize(bodySize)
+			.recipients(recipients)
+			.attachments(attachments, smallAttachmentSize, largeAttachmentSize)
+			.miniStreamFraction(miniStreamFraction)
+			.namedProperties(numericalNamedProperties, stringNamedProperties)
+			.nestingDepth(nestingDepth);
+	}
+
+	/** Write the corpus.
+	*	@param	args	The command line arguments
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		int count = DEFAULT_COUNT;
+		long seed = 0;
+		int version = 0;
+		Boolean fragmented = null;
+		int scale = 1;
+		String outputDirectory = null;
+		try {
+			for (int i = 0; i < args.length; ++i){
+				if ("-n".equals(args[i]) && i + 1 < args.length)
+					count = Integer.parseInt(args[++i]);
+				else if ("-s".equals(args[i]) && i + 1 < args.length)
+					seed = Long.parseLong(args[++i]);
+				else if ("-v".equals(args[i]) && i + 1 < args.length)
+					version = Integer.parseInt(args[++i]);
+				else if ("-f".equals(args[i]))
+					fragmented = Boolean.TRUE;
+				else if ("-x".equals(args[i]) && i + 1 < args.length)
+					scale = Integer.parseInt(args[++i]);
+				else
+					outputDirectory = args[i];
+			}
+		} catch (final NumberFormatException e) {
+			outputDirectory = null;
+		}
+
+		if (outputDirectory == null || (version != 0 && version != 3 && version != 4) || scale < 1) {
+			System.out.println("use (assuming the jar file for msg_benchmarks is in the classpath):");
+			System.out.println();
+			System.out.println("\tjava io.github.jmcleodfoss.msg_benchmarks.CorpusGenerator [-n count] [-s seed] [-v 3|4] [-f] [-x scale] output-directory");
+			System.out.println();
+			System.out.println("Options:");
+			System.out.println("\t-n: the number of files to write (default 10)");
+			System.out.println("\t-s: the seed (default 0)");
+			System.out.println("\t-v: the compound file version for all files (default: a mix of versions 3 and 4)");
+			System.out.println("\t-f: fragment the sector chains of all files (default: a mix of fragmented and contiguous files)");
+			System.out.println("\t-x: multiply the body and large attachment sizes by this factor (default 1)");
+			System.exit(1);
+		}
+
+		try {
+			Path directory = Files.createDirectories(Paths.get(outputDirectory));
+			Random random = new Random(seed);
+			for (int i = 0; i < count; ++i){
+				StringBuilder description = new StringBuilder();
+				SyntheticMSG generator = settings(random, version, fragmented, scale, description);
+				Path file = directory.resolve(String.format("synthetic-%05d.msg", i));
+				generator.write(file);
+				System.out.printf("%s: %s%n", file.getFileName(), description);
+			}
+		} catch (final IOException e) {
+			System.err.printf("Error: %s%n", e.getMessage());
+			System.exit(1);
+		}
+	}
+}
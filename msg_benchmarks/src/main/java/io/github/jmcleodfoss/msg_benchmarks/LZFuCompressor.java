@@ -0,0 +1,175 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** A simple LZFu compressor used to create PidTagRtfCompressed test data for the benchmarks. It uses greedy matching with a short
+*   hash chain, which compresses well enough to give realistic input to the decompressor, but is not intended to match the
+*   compression ratio of Outlook.
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/e49a5ae7-7086-4b29-ac6d-c5e6c48b3a4b">MS-OXRTFCP Section 2.1.2: Compressed RTF Structure</a>
+*/
+class LZFuCompressor
+{
+	/** The initial contents of the dictionary; must match the decompressor's. */
+	private static final byte[] INITIAL_DICTIONARY = (
+		"{\\rtf1\\ansi\\mac\\deff0\\deftab720{\\fonttbl;}" +
+		"{\\f0\\fnil \\froman \\fswiss \\fmodern \\fscript \\fdecor MS Sans SerifSymbolArialTimes New RomanCourier" +
+		"{\\colortbl\\red0\\green0\\blue0\r\n\\par \\pard\\plain\\f0\\fs20\\b\\i\\u\\tab\\tx"
+		).getBytes(StandardCharsets.US_ASCII);
+
+	/** The size of the dictionary */
+	private static final int DICTIONARY_SIZE = 4096;
+
+	/** The longest match a dictionary reference can encode */
+	private static final int MAX_MATCH = 17;
+
+	/** The shortest match worth encoding as a reference */
+	private static final int MIN_MATCH = 3;
+
+	/** The number of hash chain entries to examine for each position */
+	private static final int MAX_CHAIN = 16;
+
+	/** The number of bits in the hash of the next three bytes */
+	private static final int HASH_BITS = 12;
+
+	/** COMPTYPE value for compressed data, "LZFu" */
+	private static final int COMPRESSED = 0x75465a4c;
+
+	/** Static methods only; no instances. */
+	private LZFuCompressor()
+	{
+	}
+
+	/** Compress the given RTF.
+	*	@param	rtf	The RTF to compress
+	*	@return	The compressed RTF, including the header, as stored in a PidTagRtfCompressed property
+	*/
+	static byte[] compress(byte[] rtf)
+	{
+		// Positions are indices into the initial dictionary followed by the data, so a match may start in either.
+		byte[] text = Arrays.copyOf(INITIAL_DICTIONARY, INITIAL_DICTIONARY.length + rtf.length);
+		System.arraycopy(rtf, 0, text, INITIAL_DICTIONARY.length, rtf.length);
+
+		int[] head = new int[1 << HASH_BITS];
+		Arrays.fill(head, -1);
+		int[] previous = new int[DICTIONARY_SIZE];
+		for (int i = 0; i + MIN_MATCH <= INITIAL_DICTIONARY.length; ++i)
+			insert(text, i, head, previous);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(rtf.length / 2 + 64);
+		byte[] group = new byte[1 + 8 * 2];
+		int groupLength = 1;
+		int control = 0;
+		int bit = 0;
+
+		int position = INITIAL_DICTIONARY.length;
+		boolean finished = false;
+		while (!finished){
+			if (position >= text.length) {
+				// The end marker is a reference to the current write offset.
+				int word = (position % DICTIONARY_SIZE) << 4;
+				control |= 1 << bit;
+				group[groupLength++] = (byte)(word >>> 8);
+				group[groupLength++] = (byte)word;
+				finished = true;
+			} else {
+				int bestLength = 0;
+				int bestPosition = 0;
+				if (position + MIN_MATCH <= text.length) {
+					int limit = Math.min(MAX_MATCH, text.length - position);
+					int candidate = head[hash(text, position)];
+					for (int chain = 0; chain < MAX_CHAIN && candidate >= 0 && position - candidate < DICTIONARY_SIZE; ++chain){
+						int length = 0;
+						while (length < limit && text[candidate + length] == text[position + length])
+							++length;
+						if (length > bestLength) {
+							bestLength = length;
+							bestPosition = candidate;
+							if (length == limit)
+								break;
+						}
+						int next = previous[candidate % DICTIONARY_SIZE];
+						if (next >= candidate)
+							break;
+						candidate = next;
+					}
+				}
+
+				if (bestLength >= MIN_MATCH) {
+					int word = ((bestPosition % DICTIONARY_SIZE) << 4) | (bestLength - 2);
+					control |= 1 << bit;
+					group[groupLength++] = (byte)(word >>> 8);
+					group[groupLength++] = (byte)word;
+				} else {
+					bestLength = 1;
+					group[groupLength++] = text[position];
+				}
+
+				for (int i = 0; i < bestLength; ++i, ++position){
+					if (position + MIN_MATCH <= text.length)
+						insert(text, position, head, previous);
+				}
+			}
+
+			if (++bit == 8 || finished) {
+				group[0] = (byte)control;
+				out.write(group, 0, groupLength);
+				groupLength = 1;
+				control = 0;
+				bit = 0;
+			}
+		}
+
+		byte[] payload = out.toByteArray();
+		ByteBuffer compressed = ByteBuffer.allocate(16 + payload.length).order(ByteOrder.LITTLE_ENDIAN);
+		compressed.putInt(payload.length + 12);
+		compressed.putInt(rtf.length);
+		compressed.putInt(COMPRESSED);
+		compressed.putInt(crc(payload));
+		compressed.put(payload);
+		return compressed.array();
+	}
+
+	/** Calculate the CRC of the compressed data following the header, or of the name of a string named property.
+	*	@param	data	The data to calculate the CRC of
+	*	@return	The CRC
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfcp/34b78de0-0c72-4fbc-a3fe-eec9a2d5fd13">MS-OXRTFCP Section 2.1.3.2: CRC Calculation</a>
+	*/
+	static int crc(byte[] data)
+	{
+		int crc = 0;
+		for (byte b: data){
+			crc ^= b & 0xff;
+			for (int k = 0; k < 8; ++k)
+				crc = (crc & 1) != 0 ? 0xedb88320 ^ (crc >>> 1) : crc >>> 1;
+		}
+		return crc;
+	}
+
+	/** Calculate the hash of the three bytes starting at the given position.
+	*	@param	text		The data being compressed
+	*	@param	position	The position to calculate the hash at
+	*	@return	The hash value
+	*/
+	private static int hash(byte[] text, int position)
+	{
+		int h = ((text[position] & 0xff) << 16) | ((text[position + 1] & 0xff) << 8) | (text[position + 2] & 0xff);
+		return (h * 0x9e3779b1) >>> (32 - HASH_BITS);
+	}
+
+	/** Add the given position to the hash chains.
+	*	@param	text		The data being compressed
+	*	@param	position	The position to add
+	*	@param	head		The most recent position for each hash value
+	*	@param	previous	The previous position with the same hash value, for each position in the dictionary window
+	*/
+	private static void insert(byte[] text, int position, int[] head, int[] previous)
+	{
+		int h = hash(text, position);
+		previous[position % DICTIONARY_SIZE] = head[h];
+		head[h] = position;
+	}
+}
@@ -0,0 +1,190 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import io.github.jmcleodfoss.msg.DirectoryEntryData;
+import io.github.jmcleodfoss.msg.MSG;
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.Property;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark opening msg files and reading properties and attachments through the public API, for synthetic messages of several
+*   sizes.
+<pre>
+Run (after mvn package):
+	java -jar msg_benchmarks/target/benchmarks.jar MSGBenchmark
+</pre>
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MSGBenchmark
+{
+	/** PidTagBody */
+	private static final int PID_TAG_BODY = 0x1000001f;
+
+	/** Streams smaller than this are stored in the mini stream */
+	private static final int MINI_STREAM_CUTOFF_SIZE = 4096;
+
+	/** The entry name of the PidTagAttachDataBinary stream */
+	private static final String ATTACH_DATA_BINARY = "__substg1.0_37010102";
+
+	/** The message to read */
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public Corpus corpus;
+
+	/** The msg file */
+	private String file;
+
+	/** The open msg file used by the read benchmarks */
+	private MSG msg;
+
+	/** The root directory entry */
+	private DirectoryEntryData root;
+
+	/** The PidTagBody property */
+	private Property body;
+
+	/** The data stream of an attachment stored in the mini stream */
+	private DirectoryEntryData miniStreamAttachment;
+
+	/** The data stream of an attachment stored in regular sectors */
+	private DirectoryEntryData fatAttachment;
+
+	/** Find the PidTagAttachDataBinary stream for an attachment.
+	*	@param	attachment	The attachment storage
+	*	@return	The attachment's data stream
+	*/
+	private DirectoryEntryData attachmentData(DirectoryEntryData attachment)
+	{
+		Iterator<DirectoryEntryData> iter = msg.getChildIterator(attachment);
+		while (iter.hasNext()){
+			DirectoryEntryData child = iter.next();
+			if (ATTACH_DATA_BINARY.equals(child.name))
+				return child;
+		}
+		throw new IllegalStateException("Attachment has no data stream");
+	}
+
+	/** Create the msg file and open it for the read benchmarks.
+	*	@throws	IOException	The file could not be written or read.
+	*	@throws	NotCFBFileException	The generated file is not a valid CFB file.
+	*	@throws	UnknownStorageTypeException	The generated file contains an invalid directory entry.
+	*/
+	@Setup
+	public void setup()
+	throws
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		Path path = corpus.createFile();
+		file = path.toString();
+		msg = new MSG(file);
+		root = msg.getDirectoryTree();
+		body = msg.getPropertiesAsHashMap(root).get(PID_TAG_BODY);
+		if (body == null)
+			throw new IllegalStateException("Test data has no PidTagBody property");
+
+		Iterator<DirectoryEntryData> attachments = msg.attachments();
+		while (attachments.hasNext()){
+			DirectoryEntryData data = attachmentData(attachments.next());
+			if (msg.getFile(data).length < MINI_STREAM_CUTOFF_SIZE){
+				if (miniStreamAttachment == null)
+					miniStreamAttachment = data;
+			} else if (fatAttachment == null){
+				fatAttachment = data;
+			}
+		}
+		if (miniStreamAttachment == null || fatAttachment == null)
+			throw new IllegalStateException("Test data does not have attachments in both the mini stream and regular sectors");
+	}
+
+	/** Close the msg file.
+	*	@throws	IOException	The file could not be closed.
+	*/
+	@TearDown
+	public void tearDown()
+	throws
+		IOException
+	{
+		msg.close();
+	}
+
+	/** Open and close the msg file, which reads the header, DIFAT, FAT, directory, mini FAT, and named properties.
+	*	@return	The number of sectors in the file, so the work is not eliminated as dead code
+	*	@throws	IOException	The file could not be read.
+	*	@throws	NotCFBFileException	The file is not a valid CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an invalid directory entry.
+	*/
+	@Benchmark
+	public int open()
+	throws
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		MSG m = new MSG(file);
+		try {
+			return m.numberOfSectors();
+		} finally {
+			m.close();
+		}
+	}
+
+	/** Read the message's properties.
+	*	@return	The properties
+	*/
+	@Benchmark
+	public HashMap<Integer, Property> getPropertiesAsHashMap()
+	{
+		return msg.getPropertiesAsHashMap(root);
+	}
+
+	/** Read the message body.
+	*	@return	The message body
+	*/
+	@Benchmark
+	public String getPropertyValueBody()
+	{
+		return msg.getPropertyValue(body);
+	}
+
+	/** Read an attachment stored in the mini stream.
+	*	@return	The attachment contents
+	*/
+	@Benchmark
+	public byte[] getFileMiniStream()
+	{
+		return msg.getFile(miniStreamAttachment);
+	}
+
+	/** Read an attachment stored in regular sectors.
+	*	@return	The attachment contents
+	*/
+	@Benchmark
+	public byte[] getFileFAT()
+	{
+		return msg.getFile(fatAttachment);
+	}
+}
@@ -0,0 +1,123 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import io.github.jmcleodfoss.msg.CompressedRTF;
+import io.github.jmcleodfoss.msg.CompressedRTFException;
+import io.github.jmcleodfoss.msg.RTFDeEncapsulator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmark extraction of the HTML encapsulated in RTF bodies of several sizes.
+<pre>
+Run (after mvn package):
+	java -jar msg_benchmarks/target/benchmarks.jar RTFDeEncapsulatorBenchmark
+</pre>
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RTFDeEncapsulatorBenchmark
+{
+	/** The size of the uncompressed RTF body */
+	@Param({"16384", "1048576", "16777216"})
+	public int rtfSize;
+
+	/** The uncompressed RTF */
+	private byte[] rtf;
+
+	/** The compressed RTF */
+	private byte[] compressed;
+
+	/** Create the RTF and check that it contains encapsulated HTML.
+	*	@throws	IOException	Not possible when writing to memory.
+	*/
+	@Setup
+	public void setup()
+	throws
+		IOException
+	{
+		rtf = SyntheticRTF.generate(rtfSize, rtfSize);
+		compressed = LZFuCompressor.compress(rtf);
+
+		StringWriter check = new StringWriter();
+		RTFDeEncapsulator deEncapsulator = new RTFDeEncapsulator(check);
+		deEncapsulator.write(rtf);
+		deEncapsulator.close();
+		if (deEncapsulator.getFormat() != RTFDeEncapsulator.Format.HTML || !check.toString().endsWith("</html>"))
+			throw new IllegalStateException("Test data does not contain encapsulated HTML");
+	}
+
+	/** Create a Writer which passes the data to JMH's Blackhole.
+	*	@param	blackhole	The JMH Blackhole which consumes the output so the work is not eliminated as dead code
+	*	@return	A Writer which discards its input into the Blackhole
+	*/
+	private static Writer blackholeWriter(final Blackhole blackhole)
+	{
+		return new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len)
+			{
+				blackhole.consume(cbuf);
+			}
+
+			@Override
+			public void flush()
+			{
+			}
+
+			@Override
+			public void close()
+			{
+			}
+		};
+	}
+
+	/** Extract the HTML from already-decompressed RTF.
+	*	@param	blackhole	The JMH Blackhole which consumes the output so the work is not eliminated as dead code
+	*	@throws	IOException	Not possible when writing to the Blackhole.
+	*/
+	@Benchmark
+	public void deEncapsulate(Blackhole blackhole)
+	throws
+		IOException
+	{
+		RTFDeEncapsulator deEncapsulator = new RTFDeEncapsulator(blackholeWriter(blackhole));
+		deEncapsulator.write(rtf);
+		deEncapsulator.close();
+	}
+
+	/** Decompress the RTF and extract the HTML in a single pass.
+	*	@param	blackhole	The JMH Blackhole which consumes the output so the work is not eliminated as dead code
+	*	@throws	CompressedRTFException	The test data is not valid compressed RTF.
+	*	@throws	IOException	Not possible when reading from memory.
+	*/
+	@Benchmark
+	public void decompressAndDeEncapsulate(Blackhole blackhole)
+	throws
+		CompressedRTFException,
+		IOException
+	{
+		RTFDeEncapsulator deEncapsulator = new RTFDeEncapsulator(blackholeWriter(blackhole));
+		CompressedRTF.decompress(new ByteArrayInputStream(compressed), deEncapsulator);
+		deEncapsulator.close();
+	}
+}
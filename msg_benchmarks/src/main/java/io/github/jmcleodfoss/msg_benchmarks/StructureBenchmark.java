@@ -0,0 +1,115 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import io.github.jmcleodfoss.msg.DirectoryEntryData;
+import io.github.jmcleodfoss.msg.MSG;
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark building the directory tree and parsing the named properties of a freshly opened msg file, for synthetic messages of
+*   several sizes. Both benchmarks open the file, so the cost of the structures themselves is the difference between their times
+*   and that of {@link MSGBenchmark#open}.
+<pre>
+Run (after mvn package):
+	java -jar msg_benchmarks/target/benchmarks.jar StructureBenchmark
+</pre>
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StructureBenchmark
+{
+	/** The message to read */
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public Corpus corpus;
+
+	/** The msg file */
+	private String file;
+
+	/** Create the msg file.
+	*	@throws	IOException	The file could not be written.
+	*/
+	@Setup
+	public void setup()
+	throws
+		IOException
+	{
+		file = corpus.createFile().toString();
+	}
+
+	/** Open the msg file, which builds the directory, and visit every entry in the directory tree.
+	*	@return	The number of entries visited, so the work is not eliminated as dead code
+	*	@throws	IOException	The file could not be read.
+	*	@throws	NotCFBFileException	The file is not a valid CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an invalid directory entry.
+	*/
+	@Benchmark
+	public int buildDirectory()
+	throws
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		MSG msg = new MSG(file);
+		try {
+			int entries = 0;
+			ArrayDeque<DirectoryEntryData> storages = new ArrayDeque<DirectoryEntryData>();
+			storages.push(msg.getDirectoryTree());
+			while (!storages.isEmpty()){
+				Iterator<DirectoryEntryData> iter = msg.getChildIterator(storages.pop());
+				while (iter.hasNext()){
+					DirectoryEntryData child = iter.next();
+					++entries;
+					if (msg.isStorageObject(child))
+						storages.push(child);
+				}
+			}
+			return entries;
+		} finally {
+			msg.close();
+		}
+	}
+
+	/** Open the msg file and read the GUID, entry, and string streams of its named property mapping storage.
+	*	@return	The number of named property entries, so the work is not eliminated as dead code
+	*	@throws	IOException	The file could not be read.
+	*	@throws	NotCFBFileException	The file is not a valid CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an invalid directory entry.
+	*/
+	@Benchmark
+	public int parseNamedProperties()
+	throws
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		MSG msg = new MSG(file);
+		try {
+			return msg.namedPropertiesGUIDs().length
+				+ msg.namedPropertiesNumericalEntries().size()
+				+ msg.namedPropertiesStringEntries().size()
+				+ msg.namedPropertiesStrings().size();
+		} finally {
+			msg.close();
+		}
+	}
+}
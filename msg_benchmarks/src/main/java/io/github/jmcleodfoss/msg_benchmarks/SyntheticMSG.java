@@ -0,0 +1,440 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import io.github.jmcleodfoss.msg.CFBWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/** Generate msg files for benchmarks and stress tests. The messages have a plain-text body, recipients, attachments, numerical
+*   and string named properties, and optionally a chain of embedded messages, written by {@link CFBWriter} as a version 3 (512-byte
+*   sector) or version 4 (4096-byte sector) compound file. The sector chains can be contiguous, or fragmented by scattering the
+*   sectors in a random order. The output depends only on the settings, so the same settings and seed always produce the same
+*   file.
+<pre>
+	new SyntheticMSG().seed(42).version(4).bodySize(100_000).attachments(6, 1_000, 50_000).fragmented(true).write(path);
+</pre>
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/193c169b-0628-4392-aa51-83009be7d71f">MS-OXMSG Section 2.2.3: Named Property Mapping Storage</a>
+*/
+public class SyntheticMSG
+{
+	/** Streams smaller than this are stored in the mini stream */
+	private static final int MINI_STREAM_CUTOFF_SIZE = 4096;
+
+	/** The size of the properties stream header for the top-level message */
+	private static final int TOP_LEVEL_HEADER_SIZE = 32;
+
+	/** The size of the properties stream header for embedded messages */
+	private static final int EMBEDDED_MESSAGE_HEADER_SIZE = 24;
+
+	/** The size of the properties stream header for recipients and attachments */
+	private static final int RECIPIENT_OR_ATTACHMENT_HEADER_SIZE = 8;
+
+	/** The PidTagMessageClass value */
+	private static final String MESSAGE_CLASS = "IPM.Note";
+
+	/** The words the message bodies are made from */
+	private static final String[] WORDS = {
+		"the", "quarterly", "report", "is", "attached", "please", "review", "and", "send", "comments", "before", "meeting",
+		"on", "Thursday", "thanks", "regards", "project", "schedule", "budget", "update", "customer", "invoice", "for", "team"
+	};
+
+	/** The GUID for the numerical named properties (PSETID_Common), as stored in the GUID stream */
+	private static final byte[] PSETID_COMMON = {
+		(byte)0x08, (byte)0x20, (byte)0x06, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x00,
+		(byte)0xc0, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x00, (byte)0x46
+	};
+
+	/** The GUID index of the first GUID in the GUID stream, used for the numerical named properties
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/abdc1a7d-5a44-4bb2-aa35-b241e4a3f0d9">MS-OXMSG Section 2.2.3.1.2.1: Index and Kind Information</a>
+	*/
+	private static final int GUID_INDEX_STREAM = 3;
+
+	/** The GUID index of PS_PUBLIC_STRINGS, used for the string named properties
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/abdc1a7d-5a44-4bb2-aa35-b241e4a3f0d9">MS-OXMSG Section 2.2.3.1.2.1: Index and Kind Information</a>
+	*/
+	private static final int GUID_INDEX_PS_PUBLIC_STRINGS = 2;
+
+	/** The first named property ID */
+	private static final int FIRST_NAMED_PROPERTY_ID = 0x8000;
+
+	/** The first LID used for the numerical named properties */
+	private static final int FIRST_LID = 0x8500;
+
+	/** The number of property name to property ID mapping streams */
+	private static final int NUM_MAPPING_STREAMS = 0x1f;
+
+	/** The seed for the message content and the sector order */
+	private long seed;
+
+	/** The compound file major version, 3 or 4 */
+	private int version = 3;
+
+	/** The number of characters in the message body */
+	private int bodySize = 1000;
+
+	/** The number of recipients */
+	private int recipientCount = 1;
+
+	/** The number of attachments, not counting embedded messages */
+	private int attachmentCount;
+
+	/** The size of the attachments stored in the mini stream */
+	private int smallAttachmentSize = 1000;
+
+	/** The size of the attachments stored in regular sectors */
+	private int largeAttachmentSize = 10_000;
+
+	/** The fraction of attachments stored in the mini stream */
+	private double miniStreamFraction = 0.5;
+
+	/** The number of numerical named properties */
+	private int numericalNamedPropertyCount;
+
+	/** The number of string named properties */
+	private int stringNamedPropertyCount;
+
+	/** Whether sectors are scattered in random order rather than each sector chain being contiguous */
+	private boolean fragmented;
+
+	/** The depth of the chain of embedded messages */
+	private int nestingDepth;
+
+	/** The random number generator for the file being generated */
+	private Random random;
+
+	/** Set the seed for the message content and, for fragmented files, the sector order.
+	*	@param	seed	The seed
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG seed(long seed)
+	{
+		this.seed = seed;
+		return this;
+	}
+
+	/** Set the compound file version.
+	*	@param	version	3 for 512-byte sectors, or 4 for 4096-byte sectors
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG version(int version)
+	{
+		if (version != 3 && version != 4)
+			throw new IllegalArgumentException("Compound file version must be 3 or 4");
+		this.version = version;
+		return this;
+	}
+
+	/** Set the size of the message body.
+	*	@param	bodySize	The number of characters in the body of each message
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG bodySize(int bodySize)
+	{
+		this.bodySize = bodySize;
+		return this;
+	}
+
+	/** Set the number of recipients.
+	*	@param	recipientCount	The number of recipients of each message
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG recipients(int recipientCount)
+	{
+		this.recipientCount = recipientCount;
+		return this;
+	}
+
+	/** Set the number and sizes of the attachments.
+	*	@param	attachmentCount	The number of attachments to each message, not counting embedded messages
+	*	@param	smallAttachmentSize	The size of the attachments stored in the mini stream, which must be less than 4096
+	*	@param	largeAttachmentSize	The size of the attachments stored in regular sectors, which must be at least 4096
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG attachments(int attachmentCount, int smallAttachmentSize, int largeAttachmentSize)
+	{
+		if (smallAttachmentSize >= MINI_STREAM_CUTOFF_SIZE || largeAttachmentSize < MINI_STREAM_CUTOFF_SIZE)
+			throw new IllegalArgumentException("Small attachments must be smaller than the mini stream cutoff size and large attachments no smaller");
+		this.attachmentCount = attachmentCount;
+		this.smallAttachmentSize = smallAttachmentSize;
+		this.largeAttachmentSize = largeAttachmentSize;
+		return this;
+	}
+
+	/** Set the fraction of attachments stored in the mini stream. The small and large attachments are interleaved as evenly as
+	*   possible.
+	*	@param	miniStreamFraction	The fraction of attachments stored in the mini stream, from 0 to 1
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG miniStreamFraction(double miniStreamFraction)
+	{
+		if (miniStreamFraction < 0 || miniStreamFraction > 1)
+			throw new IllegalArgumentException("The mini stream fraction must be between 0 and 1");
+		this.miniStreamFraction = miniStreamFraction;
+		return this;
+	}
+
+	/** Set the number of named properties set on each message.
+	*	@param	numericalCount	The number of numerical named properties, in PSETID_Common
+	*	@param	stringCount	The number of string named properties, in PS_PUBLIC_STRINGS
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG namedProperties(int numericalCount, int stringCount)
+	{
+		if (numericalCount + stringCount > 0x7fff)
+			throw new IllegalArgumentException("There can be at most 32767 named properties");
+		this.numericalNamedPropertyCount = numericalCount;
+		this.stringNamedPropertyCount = stringCount;
+		return this;
+	}
+
+	/** Set whether the sector chains are fragmented.
+	*	@param	fragmented	If true, sectors are scattered in random order; if false, each chain is contiguous
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG fragmented(boolean fragmented)
+	{
+		this.fragmented = fragmented;
+		return this;
+	}
+
+	/** Set the depth of embedded messages.
+	*	@param	nestingDepth	The number of levels of embedded messages; each message but the innermost has one embedded
+	*				message attachment in addition to its other attachments
+	*	@return	This generator, to allow calls to be chained
+	*/
+	public SyntheticMSG nestingDepth(int nestingDepth)
+	{
+		this.nestingDepth = nestingDepth;
+		return this;
+	}
+
+	/** Encode a string as UTF-16LE, as for the content of a PtypString property stream.
+	*	@param	s	The string to encode
+	*	@return	The encoded string
+	*/
+	private static byte[] unicode(String s)
+	{
+		return s.getBytes(StandardCharsets.UTF_16LE);
+	}
+
+	/** Create a buffer for a property stream.
+	*	@param	headerSize	The size of the property stream header
+	*	@param	numProperties	The number of properties which will be written
+	*	@return	A little-endian ByteBuffer positioned after the header
+	*/
+	private static ByteBuffer propertyStream(int headerSize, int numProperties)
+	{
+		ByteBuffer bb = ByteBuffer.allocate(headerSize + 16 * numProperties).order(ByteOrder.LITTLE_ENDIAN);
+		bb.position(headerSize);
+		return bb;
+	}
+
+	/** Write a fixed-length property record.
+	*	@param	bb	The property stream
+	*	@param	tag	The property tag
+	*	@param	value	The value, stored in the first eight bytes of the value field
+	*/
+	private static void putFixed(ByteBuffer bb, int tag, long value)
+	{
+		bb.putInt(tag).putInt(6).putLong(value);
+	}
+
+	/** Write a variable-length property record and add the stream holding its value to the parent storage. The size recorded for
+	*   PtypString properties includes the terminating null character, which is not present in the stream.
+	*	@param	bb	The property stream
+	*	@param	parent	The storage holding the property stream
+	*	@param	tag	The property tag
+	*	@param	value	The value of the property
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/08185828-e9e9-4ef2-bcd2-f6e69c00891b">MS-OXMSG Section 2.1.3: Variable Length Properties</a>
+	*/
+	private static void putVariable(ByteBuffer bb, CFBWriter.Storage parent, int tag, byte[] value)
+	{
+		bb.putInt(tag).putInt(6).putInt(value.length + ((tag & 0xffff) == 0x001f ? 2 : 0)).putInt(0);
+		parent.addStream(String.format("__substg1.0_%08X", tag), value);
+	}
+
+	/** Create the message body text.
+	*	@return	A body of bodySize characters made of random words
+	*/
+	private String body()
+	{
+		StringBuilder sb = new StringBuilder(bodySize + 16);
+		int wordsOnLine = 0;
+		while (sb.length() < bodySize){
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+			if (++wordsOnLine == 12){
+				sb.append(".\r\n");
+				wordsOnLine = 0;
+			} else {
+				sb.append(' ');
+			}
+		}
+		sb.setLength(bodySize);
+		return sb.toString();
+	}
+
+	/** Add the storage for a recipient.
+	*	@param	parent	The message storage
+	*	@param	i	The recipient number
+	*/
+	private static void recipient(CFBWriter.Storage parent, int i)
+	{
+		CFBWriter.Storage storage = parent.addStorage(String.format("__recip_version1.0_#%08X", i));
+		ByteBuffer bb = propertyStream(RECIPIENT_OR_ATTACHMENT_HEADER_SIZE, 3);
+		putFixed(bb, 0x0c150003, 1 + i % 3);
+		putVariable(bb, storage, 0x3001001f, unicode("Recipient " + i));
+		putVariable(bb, storage, 0x39fe001f, unicode("recipient" + i + "@example.com"));
+		storage.addStream("__properties_version1.0", bb.array());
+	}
+
+	/** Is the given attachment stored in the mini stream? Attachments are assigned so that the first i attachments include
+	*   floor(i * miniStreamFraction) small ones.
+	*	@param	i	The attachment number
+	*	@return	true if the attachment is small enough to be stored in the mini stream
+	*/
+	private boolean isSmallAttachment(int i)
+	{
+		return Math.floor((i + 1) * miniStreamFraction) > Math.floor(i * miniStreamFraction);
+	}
+
+	/** Add the storage for a file attachment.
+	*	@param	parent	The message storage
+	*	@param	i	The attachment number
+	*/
+	private void attachment(CFBWriter.Storage parent, int i)
+	{
+		byte[] data = new byte[isSmallAttachment(i) ? smallAttachmentSize : largeAttachmentSize];
+		random.nextBytes(data);
+
+		CFBWriter.Storage storage = parent.addStorage(String.format("__attach_version1.0_#%08X", i));
+		ByteBuffer bb = propertyStream(RECIPIENT_OR_ATTACHMENT_HEADER_SIZE, 4);
+		putFixed(bb, 0x37050003, 1);
+		putFixed(bb, 0x0e200003, data.length);
+		putVariable(bb, storage, 0x3707001f, unicode("attachment" + i + ".bin"));
+		putVariable(bb, storage, 0x37010102, data);
+		storage.addStream("__properties_version1.0", bb.array());
+	}
+
+	/** Add the storage for an embedded message attachment.
+	*	@param	parent	The message storage
+	*	@param	i	The attachment number
+	*	@param	depth	The number of levels of embedded messages below the message to be embedded
+	*/
+	private void embeddedMessageAttachment(CFBWriter.Storage parent, int i, int depth)
+	{
+		CFBWriter.Storage storage = parent.addStorage(String.format("__attach_version1.0_#%08X", i));
+		ByteBuffer bb = propertyStream(RECIPIENT_OR_ATTACHMENT_HEADER_SIZE, 3);
+		putFixed(bb, 0x37050003, 5);
+		putVariable(bb, storage, 0x3707001f, unicode("embedded" + depth + ".msg"));
+		bb.putInt(0x3701000d).putInt(6).putInt(0xffffffff).putInt(0);
+		storage.addStream("__properties_version1.0", bb.array());
+		message(storage.addStorage("__substg1.0_3701000D"), EMBEDDED_MESSAGE_HEADER_SIZE, depth);
+	}
+
+	/** Add the properties, recipients, and attachments of a message to its storage.
+	*	@param	storage	The root storage or the embedded message storage
+	*	@param	headerSize	The size of the properties stream header
+	*	@param	depth	The number of levels of embedded messages to include below this one
+	*/
+	private void message(CFBWriter.Storage storage, int headerSize, int depth)
+	{
+		final int numNamedProperties = numericalNamedPropertyCount + stringNamedPropertyCount;
+		final int numAttachments = attachmentCount + (depth > 0 ? 1 : 0);
+
+		ByteBuffer bb = propertyStream(headerSize, 7 + numNamedProperties);
+		bb.putInt(8, recipientCount).putInt(12, numAttachments).putInt(16, recipientCount).putInt(20, numAttachments);
+		putFixed(bb, 0x00390040, 131_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE) * 10_000_000L);
+		putFixed(bb, 0x0e1b000b, numAttachments > 0 ? 1 : 0);
+		putFixed(bb, 0x0e070003, 1);
+		putVariable(bb, storage, 0x0037001f, unicode("Synthetic message " + depth));
+		putVariable(bb, storage, 0x0c1f001f, unicode("sender@example.com"));
+		putVariable(bb, storage, 0x001a001f, unicode(MESSAGE_CLASS));
+		putVariable(bb, storage, 0x1000001f, unicode(body()));
+		for (int i = 0; i < numNamedProperties; ++i)
+			putFixed(bb, (FIRST_NAMED_PROPERTY_ID + i) << 16 | 0x0003, random.nextInt());
+		storage.addStream("__properties_version1.0", bb.array());
+
+		for (int i = 0; i < recipientCount; ++i)
+			recipient(storage, i);
+		for (int i = 0; i < attachmentCount; ++i)
+			attachment(storage, i);
+		if (depth > 0)
+			embeddedMessageAttachment(storage, attachmentCount, depth - 1);
+	}
+
+	/** Add the named property mapping storage. The numerical named properties are assigned property IDs from 0x8000 up,
+	*   followed by the string named properties.
+	*	@param	root	The root storage
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/81159dd0-649e-4491-b216-877008b23f65">MS-OXMSG Section 2.2.3.1.2: Entry Stream</a>
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/14dd4e27-58e1-4d6c-b4c2-7a1fd19d819c">MS-OXMSG Section 2.2.3.1.3: String Stream</a>
+	*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxmsg/a84c08f9-c93b-4620-9c96-5314c6fa3ccc">MS-OXMSG Section 2.2.3.2.4: Obtaining Stream Data</a>
+	*/
+	private void namedProperties(CFBWriter.Storage root)
+	{
+		final int numNamedProperties = numericalNamedPropertyCount + stringNamedPropertyCount;
+
+		ByteBuffer entries = ByteBuffer.allocate(8 * numNamedProperties).order(ByteOrder.LITTLE_ENDIAN);
+		ArrayList<ByteBuffer> mappings = new ArrayList<ByteBuffer>();
+		for (int i = 0; i < NUM_MAPPING_STREAMS; ++i)
+			mappings.add(ByteBuffer.allocate(8 * numNamedProperties).order(ByteOrder.LITTLE_ENDIAN));
+		ByteArrayOutputStream strings = new ByteArrayOutputStream();
+		ByteBuffer length = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+
+		for (int i = 0; i < numNamedProperties; ++i){
+			int nameIdentifierOrStringOffset;
+			int indexAndKind;
+			int mappingValue;
+			if (i < numericalNamedPropertyCount){
+				nameIdentifierOrStringOffset = FIRST_LID + i;
+				indexAndKind = GUID_INDEX_STREAM << 1;
+				mappingValue = nameIdentifierOrStringOffset;
+			} else {
+				byte[] name = unicode("X-Synthetic-Property-" + (i - numericalNamedPropertyCount));
+				nameIdentifierOrStringOffset = strings.size();
+				indexAndKind = GUID_INDEX_PS_PUBLIC_STRINGS << 1 | 1;
+				mappingValue = LZFuCompressor.crc(name);
+
+				length.clear();
+				strings.write(length.putInt(name.length).array(), 0, 4);
+				strings.write(name, 0, name.length);
+				while (strings.size() % 4 != 0)
+					strings.write(0);
+			}
+			entries.putInt(nameIdentifierOrStringOffset).putInt(i << 16 | indexAndKind);
+			int streamId = (int)(((mappingValue ^ indexAndKind) & 0xffffffffL) % NUM_MAPPING_STREAMS);
+			mappings.get(streamId).putInt(mappingValue).putInt(i << 16 | indexAndKind);
+		}
+
+		CFBWriter.Storage storage = root.addStorage("__nameid_version1.0");
+		storage.addStream("__substg1.0_00020102", PSETID_COMMON);
+		storage.addStream("__substg1.0_00030102", entries.array());
+		storage.addStream("__substg1.0_00040102", strings.toByteArray());
+		for (int i = 0; i < mappings.size(); ++i){
+			ByteBuffer mapping = mappings.get(i);
+			if (mapping.position() > 0)
+				storage.addStream(String.format("__substg1.0_%04X0102", 0x1000 + i), Arrays.copyOf(mapping.array(), mapping.position()));
+		}
+	}
+
+	/** Create the msg file and write it to disk.
+	*	@param	file	The file to write
+	*	@throws	IOException	The file could not be written.
+	*/
+	public void write(Path file)
+	throws
+		IOException
+	{
+		random = new Random(seed);
+		CFBWriter writer = new CFBWriter(version);
+		message(writer.root(), TOP_LEVEL_HEADER_SIZE, nestingDepth);
+		namedProperties(writer.root());
+		writer.scatter(fragmented ? random : null).write(file.toString());
+	}
+}
@@ -0,0 +1,75 @@
+package io.github.jmcleodfoss.msg_benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/** Generator for RTF bodies resembling those Outlook creates for HTML mail: an RTF header declaring \fromhtml1, followed by
+*   paragraphs of text with the original HTML markup carried in \*\htmltag groups and RTF-only formatting marked by \htmlrtf.
+*   The output is deterministic for a given size and seed.
+*	@see <a href="https://docs.microsoft.com/en-us/openspecs/exchange_server_protocols/ms-oxrtfex/411d0d58-49f7-496c-b8c3-5859b045f6cf">MS-OXRTFEX Section 2: Structures</a>
+*/
+class SyntheticRTF
+{
+	/** The RTF header and the start of the HTML document */
+	private static final String HEADER =
+		"{\\rtf1\\ansi\\ansicpg1252\\fromhtml1 \\fbidis \\deff0{\\fonttbl\r\n" +
+		"{\\f0\\fswiss\\fcharset0 Arial;}\r\n" +
+		"{\\f1\\fmodern Courier New;}\r\n" +
+		"{\\f2\\fnil\\fcharset2 Symbol;}}\r\n" +
+		"{\\colortbl\\red0\\green0\\blue0;\\red5\\green99\\blue193;}\r\n" +
+		"\\uc1\\pard\\plain\\deftab360 \\f0\\fs20 {\\*\\htmltag19 <html>}\r\n" +
+		"{\\*\\htmltag34 <head>}\r\n" +
+		"{\\*\\htmltag1 \\par }\r\n" +
+		"{\\*\\htmltag241 <style>}\r\n" +
+		"{\\*\\htmltag241 p.MsoNormal \\{margin:0cm;font-size:11.0pt;font-family:\"Calibri\",sans-serif;\\}}\r\n" +
+		"{\\*\\htmltag249 </style>}\r\n" +
+		"{\\*\\htmltag41 </head>}\r\n" +
+		"{\\*\\htmltag50 <body lang=EN-US link=\"#0563C1\">}\\htmlrtf \\lang1033 \\htmlrtf0 \r\n";
+
+	/** The end of the HTML document and the RTF */
+	private static final String TRAILER =
+		"{\\*\\htmltag58 </body>}\r\n" +
+		"{\\*\\htmltag27 </html>}}\r\n";
+
+	/** Words to build paragraphs from, including some which need escaping in RTF */
+	private static final String[] WORDS = {
+		"the", "quarterly", "report", "is", "attached", "please", "review", "before", "Friday", "meeting",
+		"caf\\'e9", "na\\'efve", "r\\'e9sum\\'e9", "\\u8364?", "budget", "forecast", "and", "of", "to", "with",
+		"customer", "invoice", "shipment", "delivery", "schedule", "thanks", "regards", "team", "project", "status"
+	};
+
+	/** Static methods only; no instances. */
+	private SyntheticRTF()
+	{
+	}
+
+	/** Create an RTF body of approximately the given size.
+	*	@param	size	The minimum size of the body in bytes
+	*	@param	seed	The seed for the random number generator used to choose words
+	*	@return	The RTF body
+	*/
+	static byte[] generate(int size, long seed)
+	{
+		Random random = new Random(seed);
+		StringBuilder rtf = new StringBuilder(size + 256);
+		rtf.append(HEADER);
+		while (rtf.length() < size){
+			rtf.append("{\\*\\htmltag64 <p class=MsoNormal>}\\htmlrtf {\\htmlrtf0 ");
+			int words = 8 + random.nextInt(60);
+			for (int i = 0; i < words; ++i){
+				if (i > 0)
+					rtf.append(' ');
+				if (random.nextInt(40) == 0) {
+					rtf.append("{\\*\\htmltag84 <a href=\"https://example.com/").append(random.nextInt(1000)).append("\">}")
+						.append("\\htmlrtf {\\field{\\*\\fldinst{HYPERLINK \"https://example.com/\"}}{\\fldrslt\\cf1\\ul \\htmlrtf0 link\\htmlrtf }\\htmlrtf0 \\htmlrtf }\\htmlrtf0 ")
+						.append("{\\*\\htmltag92 </a>}");
+				} else {
+					rtf.append(WORDS[random.nextInt(WORDS.length)]);
+				}
+			}
+			rtf.append("\\htmlrtf\\par}\\htmlrtf0\r\n{\\*\\htmltag72 </p>}\r\n");
+		}
+		rtf.append(TRAILER);
+		return rtf.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,3 @@
+/** JMH benchmarks for the msg library. */
+
+package io.github.jmcleodfoss.msg_benchmarks;
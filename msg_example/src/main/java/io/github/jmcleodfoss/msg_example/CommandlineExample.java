@@ -1,5 +1,6 @@
 package io.github.jmcleodfoss.msg_example;
 
+import io.github.jmcleodfoss.msg.AttachmentStore;
 import io.github.jmcleodfoss.msg.DirectoryEntryData;
 import io.github.jmcleodfoss.msg.MSG;
 import io.github.jmcleodfoss.msg.NotCFBFileException;
@@ -11,8 +12,15 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -20,9 +28,11 @@ import java.util.Iterator;
 <pre>
 
 Use (assuming the jars for msg_example and msg are in the classpath):
-	java io.github.jmcleodfoss.msg_example.CommandlineExample [-s] msg-file-1 [msg-file 2 ...]
+	java io.github.jmcleodfoss.msg_example.CommandlineExample [-s] [-d store-directory] msg-file-1 [msg-file 2 ...]
 Options
 	-s: Save all attachments found in the main message (does not save anything for embedded msg entities)
+	-d: Save the attachments found at every depth to a content-addressed store in store-directory, keeping one copy of each
+	    distinct attachment, and append a line describing each attachment to store-directory/manifest.ndjson
 </pre>
 */
 public class CommandlineExample
@@ -30,6 +40,12 @@ public class CommandlineExample
 	/** Command line option to save attachments */
 	private static final String OPTION_SAVE_ATTACHMENTS = "-s";
 
+	/** Command line option to save attachments to a content-addressed store */
+	private static final String OPTION_STORE_ATTACHMENTS = "-d";
+
+	/** The name of the manifest file in the content-addressed store */
+	private static final String MANIFEST_FILE = "manifest.ndjson";
+
 	/** Format for displaying attachments and the description thereof */
 	private static final String ATTACHMENT_INFO_FORMAT = "%-25s %-30s %-10s%n";
 
@@ -49,8 +65,10 @@ public class CommandlineExample
 	/* Show the selected information about the given file, saving attachments if requested
 	*	@param	filename	The name of the .msg file to open
 	*	@param	fSaveAttachments	Whether to save the attachments found in the file
+	*	@param	store	The content-addressed store to save the attachments to, or null to not use one
+	*	@param	manifest	The manifest for the content-addressed store, or null if there is no store
 	*/
-	private static void showMsgFile(String filename, boolean fSaveAttachments)
+	private static void showMsgFile(String filename, boolean fSaveAttachments, AttachmentStore store, Writer manifest)
 	throws
 		FileNotFoundException,
 		IOException,
@@ -93,7 +111,8 @@ public class CommandlineExample
 			HashMap<Integer, Property> m = msg.getPropertiesAsHashMap(a);
 			String name = getPropertyValue(msg, m, PropertyTags.PidTagAttachLongFilename);
 			String mimeType = getPropertyValue(msg, m, PropertyTags.PidTagAttachMimeTag);
-			String size = m.get(PropertyTags.PidTagAttachDataBinary).value();
+			Property data = m.get(PropertyTags.PidTagAttachDataBinary);
+			String size = data != null ? data.value() : "not found";
 			System.out.printf(ATTACHMENT_INFO_FORMAT, name, mimeType, size);
 
 			// Save attachment if requested
@@ -134,6 +153,10 @@ public class CommandlineExample
 				}
 			}
 		}
+
+		// Save attachments at every depth to the content-addressed store if requested; each attachment is hashed as it is copied.
+		if (store != null)
+			System.out.printf("Stored %d attachments in %s%n", store.storeAttachments(msg, filename, manifest), filename);
 		msg.close();
 	}
 
@@ -145,38 +168,53 @@ public class CommandlineExample
 	{
 		// Validate command line arguments
 		boolean fSaveAttachments = false;
-		int numFiles = 0;
-		for (String a: args){
-			if (OPTION_SAVE_ATTACHMENTS.equals(a))
+		String storeDirectory = null;
+		ArrayList<String> files = new ArrayList<String>();
+		for (int i = 0; i < args.length; ++i){
+			if (OPTION_SAVE_ATTACHMENTS.equals(args[i]))
 				fSaveAttachments = true;
+			else if (OPTION_STORE_ATTACHMENTS.equals(args[i]) && i + 1 < args.length)
+				storeDirectory = args[++i];
 			else
-				++numFiles;
+				files.add(args[i]);
 		}
 
 		// Print usage info if no valid arguments encountered
-		if (numFiles == 0) {
+		if (files.isEmpty()) {
 			System.out.println("use (assuming the jar files for msg_example and msg are in the classpath):");
 			System.out.println();
-			System.out.println("\tjava io.github.jmcleodfoss.msg_example.CommandlineExample [-s] msg-file1 [msg-file2 ...]");
+			System.out.println("\tjava io.github.jmcleodfoss.msg_example.CommandlineExample [-s] [-d store-directory] msg-file1 [msg-file2 ...]");
 			System.out.println();
-			System.out.println("Option:");
+			System.out.println("Options:");
 			System.out.println("\t-s: save all attachments found");
+			System.out.println("\t-d: save the attachments found at every depth to a content-addressed store in store-directory, with a manifest");
 			System.exit(0);
 		}
 
+		// Open the content-addressed store if requested
+		AttachmentStore store = null;
+		Writer manifest = null;
+		if (storeDirectory != null) {
+			try {
+				store = new AttachmentStore(Paths.get(storeDirectory));
+				Path manifestPath = Paths.get(storeDirectory, MANIFEST_FILE);
+				manifest = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			} catch (final IOException e) {
+				System.out.printf("Error: the attachment store %s could not be opened (%s)%n", storeDirectory, e.getMessage());
+				System.exit(1);
+			}
+		}
+
 		// Process file(s)
 		boolean first = false;
-		for(String f: args){
-			if (OPTION_SAVE_ATTACHMENTS.equals(f))
-				continue;
-
+		for(String f: files){
 			if (first)
 				System.out.println("--------------------\n");
 			else
 				first = true;
 
 			try {
-				showMsgFile(f, fSaveAttachments);
+				showMsgFile(f, fSaveAttachments, store, manifest);
 			} catch (final FileNotFoundException e) {
 				System.out.printf("Error: %s not found%n", f);
 			} catch (final IOException e) {
@@ -187,5 +225,14 @@ public class CommandlineExample
 				System.out.printf("Error: Unknown storage type encountered reading %s%n", f);
 			}
 		}
+
+		if (manifest != null) {
+			try {
+				manifest.close();
+			} catch (final IOException e) {
+				System.out.printf("Error writing the attachment store manifest (%s)%n", e.getMessage());
+			}
+			System.out.println(store);
+		}
 	}
 }
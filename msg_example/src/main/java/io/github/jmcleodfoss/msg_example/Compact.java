@@ -0,0 +1,131 @@
+package io.github.jmcleodfoss.msg_example;
+
+import io.github.jmcleodfoss.msg.Compactor;
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+
+/** Command line application to compact .msg files, removing free sectors and storing every stream contiguously, and report the
+*   space saved and the fragmentation before and after.
+<pre>
+
+Use (assuming the jars for msg_example and msg are in the classpath):
+	java io.github.jmcleodfoss.msg_example.Compact (-o output-directory | -i) msg-file-or-directory-1 [msg-file-or-directory-2 ...]
+Options
+	-o: Write the compacted files to output-directory, keeping their paths relative to the directories given
+	-i: Replace each file with its compacted version if that is smaller
+</pre>
+Directories are searched recursively for files with the extension .msg. Files which cannot be read are reported on the standard
+error stream and skipped.
+*/
+public class Compact
+{
+	/** Command line option to write the compacted files to a directory */
+	private static final String OPTION_OUTPUT_DIRECTORY = "-o";
+
+	/** Command line option to compact the files in place */
+	private static final String OPTION_IN_PLACE = "-i";
+
+	/** The totals over all the files compacted. */
+	private static class Totals
+	{
+		/** The number of files compacted */
+		private int files;
+
+		/** The total size of the files before compaction */
+		private long originalSize;
+
+		/** The total number of bytes saved */
+		private long saved;
+	}
+
+	/** Compact a single file.
+	*	@param	file		The file to compact
+	*	@param	output		The file to write the compacted version to, or null to replace the file if the compacted version is smaller
+	*	@return	The result of the compaction
+	*	@throws	FileNotFoundException	The file could not be found.
+	*	@throws	IOException	There was a problem reading the file or writing the compacted version.
+	*	@throws	NotCFBFileException	The file is not a CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an unknown storage type.
+	*/
+	private static Compactor.Result compactFile(Path file, Path output)
+	throws
+		FileNotFoundException,
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		if (output != null) {
+			Path parent = output.getParent();
+			if (parent != null)
+				Files.createDirectories(parent);
+			return Compactor.compact(file.toString(), output.toString());
+		}
+
+		Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "compact", MsgFileBatch.MSG_EXTENSION);
+		try {
+			Compactor.Result result = Compactor.compact(file.toString(), temp.toString());
+			if (result.bytesSaved() > 0)
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			return result;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/** Compact the given files and directories
+	*	@param	args	The command line arguments giving the files and directories to compact, and the options
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		// Validate command line arguments
+		boolean fInPlace = false;
+		String outputDirectory = null;
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < args.length; ++i){
+			if (OPTION_IN_PLACE.equals(args[i]))
+				fInPlace = true;
+			else if (OPTION_OUTPUT_DIRECTORY.equals(args[i]) && i + 1 < args.length)
+				outputDirectory = args[++i];
+			else
+				names.add(args[i]);
+		}
+
+		// Print usage info if no valid arguments encountered
+		if (names.isEmpty() || fInPlace == (outputDirectory != null)) {
+			System.out.println("use (assuming the jar files for msg_example and msg are in the classpath):");
+			System.out.println();
+			System.out.println("\tjava io.github.jmcleodfoss.msg_example.Compact (-o output-directory | -i) msg-file-or-directory-1 [msg-file-or-directory-2 ...]");
+			System.out.println();
+			System.out.println("Options:");
+			System.out.println("\t-o: write the compacted files to output-directory");
+			System.out.println("\t-i: replace each file with its compacted version if that is smaller");
+			System.exit(0);
+		}
+
+		final Path outputRoot = outputDirectory == null ? null : Paths.get(outputDirectory);
+		final boolean inPlace = fInPlace;
+		final Totals totals = new Totals();
+		MsgFileBatch.forEach(names, "compacting", (root, file) -> {
+			Path output = outputRoot == null ? null : outputRoot.resolve(Files.isDirectory(root) ? root.relativize(file) : file.getFileName());
+			if (output != null && Compactor.isSameFile(file.toString(), output.toString())) {
+				System.err.printf("Error: %s would be overwritten by its compacted version; skipping it%n", file);
+				return;
+			}
+			Compactor.Result result = compactFile(file, output);
+			System.out.printf("%s: %s%n", file, result);
+			totals.originalSize += result.originalSize;
+			totals.saved += inPlace ? Math.max(result.bytesSaved(), 0) : result.bytesSaved();
+			++totals.files;
+		});
+		System.out.printf("%d files, %d bytes, %d bytes saved%n", totals.files, totals.originalSize, totals.saved);
+	}
+}
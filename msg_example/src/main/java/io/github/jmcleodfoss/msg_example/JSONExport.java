@@ -0,0 +1,115 @@
+package io.github.jmcleodfoss.msg_example;
+
+import io.github.jmcleodfoss.msg.JSONExporter;
+import io.github.jmcleodfoss.msg.MSG;
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/** Command line application to export message properties as newline-delimited JSON (NDJSON), one line per .msg file.
+<pre>
+
+Use (assuming the jars for msg_example and msg are in the classpath):
+	java io.github.jmcleodfoss.msg_example.JSONExport [-b] [-o output-file] msg-file-or-directory-1 [msg-file-or-directory-2 ...]
+Options
+	-b: Include binary properties (including attachment contents) as base64 strings
+	-o: Write the JSON to output-file rather than to the standard output
+</pre>
+Directories are searched recursively for files with the extension .msg. Files which cannot be read are reported on the standard
+error stream and skipped.
+*/
+public class JSONExport
+{
+	/** Command line option to include binary properties */
+	private static final String OPTION_INCLUDE_BINARY = "-b";
+
+	/** Command line option to write the output to a file */
+	private static final String OPTION_OUTPUT_FILE = "-o";
+
+	/** Export a single file as one line of JSON. The JSON is built in the exporter's buffer and only written to the output once
+	*   it is complete, so a file which fails partway through leaves no partial line in the output.
+	*	@param	exporter	The JSON exporter, which writes to record
+	*	@param	record		The buffer the exporter writes to
+	*	@param	out		The destination for the JSON
+	*	@param	file		The file to export
+	*	@throws	FileNotFoundException	The file could not be found.
+	*	@throws	IOException	There was a problem reading the file or writing the JSON.
+	*	@throws	NotCFBFileException	The file is not a CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an unknown storage type.
+	*/
+	private static void exportFile(JSONExporter exporter, StringWriter record, Writer out, Path file)
+	throws
+		FileNotFoundException,
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		record.getBuffer().setLength(0);
+		MSG msg = new MSG(file.toString());
+		try {
+			exporter.export(msg, file.toString());
+		} finally {
+			msg.close();
+		}
+		out.append(record.getBuffer()).write('\n');
+	}
+
+	/** Export the given files and directories
+	*	@param	args	The command line arguments giving the files and directories to export, and the options
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		// Validate command line arguments
+		boolean fIncludeBinary = false;
+		String outputFile = null;
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < args.length; ++i){
+			if (OPTION_INCLUDE_BINARY.equals(args[i]))
+				fIncludeBinary = true;
+			else if (OPTION_OUTPUT_FILE.equals(args[i]) && i + 1 < args.length)
+				outputFile = args[++i];
+			else
+				names.add(args[i]);
+		}
+
+		// Print usage info if no valid arguments encountered
+		if (names.isEmpty()) {
+			System.out.println("use (assuming the jar files for msg_example and msg are in the classpath):");
+			System.out.println();
+			System.out.println("\tjava io.github.jmcleodfoss.msg_example.JSONExport [-b] [-o output-file] msg-file-or-directory-1 [msg-file-or-directory-2 ...]");
+			System.out.println();
+			System.out.println("Options:");
+			System.out.println("\t-b: include binary properties as base64 strings");
+			System.out.println("\t-o: write the JSON to output-file rather than the standard output");
+			System.exit(0);
+		}
+
+		try {
+			OutputStream stream = outputFile == null ? System.out : Files.newOutputStream(Paths.get(outputFile));
+			Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+			try {
+				StringWriter record = new StringWriter();
+				JSONExporter exporter = new JSONExporter(record).includeBinary(fIncludeBinary);
+				MsgFileBatch.forEach(names, "reading", (root, file) -> exportFile(exporter, record, out, file));
+			} finally {
+				out.close();
+			}
+		} catch (final IOException e) {
+			System.err.printf("Error: %s%n", e.getMessage());
+			System.exit(1);
+		}
+	}
+}
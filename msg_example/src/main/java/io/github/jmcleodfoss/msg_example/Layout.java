@@ -0,0 +1,102 @@
+package io.github.jmcleodfoss.msg_example;
+
+import io.github.jmcleodfoss.msg.LayoutAnalysis;
+import io.github.jmcleodfoss.msg.MSG;
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/** Command line application to report the physical layout of .msg files (fragmentation, free space, mini stream use, and slack)
+*   as newline-delimited JSON (NDJSON), one line per file.
+<pre>
+
+Use (assuming the jars for msg_example and msg are in the classpath):
+	java io.github.jmcleodfoss.msg_example.Layout [-c] [-f threshold] msg-file-or-directory-1 [msg-file-or-directory-2 ...]
+Options
+	-c: Include the layout of each sector chain
+	-f: Only report files whose fragmentation or free space, as a fraction from 0 to 1, is at least threshold
+</pre>
+Directories are searched recursively for files with the extension .msg. Files which cannot be read are reported on the standard
+error stream and skipped.
+*/
+public class Layout
+{
+	/** Command line option to include the layout of each chain */
+	private static final String OPTION_INCLUDE_CHAINS = "-c";
+
+	/** Command line option to report only files which are at least as fragmented as a threshold */
+	private static final String OPTION_THRESHOLD = "-f";
+
+	/** Analyze the layout of a single file.
+	*	@param	file	The file to analyze
+	*	@return	The analysis of the file's layout
+	*	@throws	FileNotFoundException	The file could not be found.
+	*	@throws	IOException	There was a problem reading the file.
+	*	@throws	NotCFBFileException	The file is not a CFB file.
+	*	@throws	UnknownStorageTypeException	The file contains an unknown storage type.
+	*/
+	private static LayoutAnalysis analyzeFile(Path file)
+	throws
+		FileNotFoundException,
+		IOException,
+		NotCFBFileException,
+		UnknownStorageTypeException
+	{
+		MSG msg = new MSG(file.toString());
+		try {
+			return msg.analyzeLayout();
+		} finally {
+			msg.close();
+		}
+	}
+
+	/** Report the layout of the given files and directories
+	*	@param	args	The command line arguments giving the files and directories to analyze, and the options
+	*/
+	@SuppressWarnings("PMD.DoNotCallSystemExit")
+	public static void main(String[] args)
+	{
+		// Validate command line arguments
+		boolean fIncludeChains = false;
+		double threshold = 0.0;
+		boolean fValid = true;
+		ArrayList<String> names = new ArrayList<String>();
+		for (int i = 0; i < args.length; ++i){
+			if (OPTION_INCLUDE_CHAINS.equals(args[i])) {
+				fIncludeChains = true;
+			} else if (OPTION_THRESHOLD.equals(args[i]) && i + 1 < args.length) {
+				try {
+					threshold = Double.parseDouble(args[++i]);
+				} catch (final NumberFormatException e) {
+					fValid = false;
+				}
+			} else {
+				names.add(args[i]);
+			}
+		}
+
+		// Print usage info if no valid arguments encountered
+		if (names.isEmpty() || !fValid) {
+			System.out.println("use (assuming the jar files for msg_example and msg are in the classpath):");
+			System.out.println();
+			System.out.println("\tjava io.github.jmcleodfoss.msg_example.Layout [-c] [-f threshold] msg-file-or-directory-1 [msg-file-or-directory-2 ...]");
+			System.out.println();
+			System.out.println("Options:");
+			System.out.println("\t-c: include the layout of each sector chain");
+			System.out.println("\t-f: only report files whose fragmentation or free space (from 0 to 1) is at least threshold");
+			System.exit(0);
+		}
+
+		final boolean includeChains = fIncludeChains;
+		final double minimum = threshold;
+		MsgFileBatch.forEach(names, "reading", (root, file) -> {
+			LayoutAnalysis analysis = analyzeFile(file);
+			if (analysis.fragmentation >= minimum || analysis.freeSpace() >= minimum)
+				System.out.println(analysis.toJSON(file.toString(), includeChains));
+		});
+	}
+}
@@ -0,0 +1,108 @@
+package io.github.jmcleodfoss.msg_example;
+
+import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Run an operation over the .msg files named on the command line of one of the batch applications. Directories are searched
+*   recursively for files with the extension .msg. A file which cannot be processed, including one which is truncated or corrupt
+*   and fails while it is being parsed, is reported on the standard error stream, and the batch carries on with the next file.
+*/
+class MsgFileBatch
+{
+	/** The extension of the files to process when searching directories */
+	static final String MSG_EXTENSION = ".msg";
+
+	/** The operation to run on each file. */
+	interface Operation
+	{
+		/** Process a single file.
+		*	@param	root	The file or directory given on the command line which the file was found from
+		*	@param	file	The file to process
+		*	@throws	FileNotFoundException	The file could not be found.
+		*	@throws	IOException	There was a problem reading the file or writing the output.
+		*	@throws	NotCFBFileException	The file is not a CFB file.
+		*	@throws	UnknownStorageTypeException	The file contains an unknown storage type.
+		*/
+		void process(Path root, Path file)
+		throws
+			FileNotFoundException,
+			IOException,
+			NotCFBFileException,
+			UnknownStorageTypeException;
+	}
+
+	/** This class has only static members. */
+	private MsgFileBatch()
+	{
+	}
+
+	/** Find the .msg files to process for a command line argument.
+	*	@param	path	The file or directory given on the command line
+	*	@return	The file itself, or all .msg files under the directory, sorted by name
+	*	@throws	IOException	There was a problem reading the directory.
+	*/
+	static ArrayList<Path> findFiles(Path path)
+	throws
+		IOException
+	{
+		ArrayList<Path> files = new ArrayList<Path>();
+		if (!Files.isDirectory(path)) {
+			files.add(path);
+			return files;
+		}
+
+		try (Stream<Path> walk = Files.walk(path)) {
+			files.addAll(walk
+				.filter(p -> Files.isRegularFile(p) && p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(MSG_EXTENSION))
+				.sorted()
+				.collect(Collectors.toList()));
+		}
+		return files;
+	}
+
+	/** Run an operation on every file found from the given command line arguments, reporting the files which fail.
+	*	@param	names		The files and directories given on the command line
+	*	@param	activity	A description of the operation for error messages, such as "reading"
+	*	@param	operation	The operation to run on each file
+	*/
+	static void forEach(List<String> names, String activity, Operation operation)
+	{
+		for (String name: names){
+			Path root = Paths.get(name);
+			ArrayList<Path> files;
+			try {
+				files = findFiles(root);
+			} catch (final IOException e) {
+				System.err.printf("Error reading %s: %s%n", root, e.getMessage());
+				continue;
+			}
+
+			for (Path file: files){
+				try {
+					operation.process(root, file);
+				} catch (final FileNotFoundException e) {
+					System.err.printf("Error: %s not found%n", file);
+				} catch (final IOException e) {
+					System.err.printf("Error %s %s: %s%n", activity, file, e.getMessage());
+				} catch (final NotCFBFileException e) {
+					System.err.printf("Error: %s is not a compound binary file format or msg file%n", file);
+				} catch (final UnknownStorageTypeException e) {
+					System.err.printf("Error: Unknown storage type encountered reading %s%n", file);
+				} catch (final RuntimeException e) {
+					System.err.printf("Error: %s could not be parsed (%s)%n", file, e);
+				}
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package io.github.jmcleodfoss.msgexplorer;
 
 import io.github.jmcleodfoss.msg.MSG;
 import io.github.jmcleodfoss.msg.NotCFBFileException;
+import io.github.jmcleodfoss.msg.PropertyCache;
 import io.github.jmcleodfoss.msg.UnknownStorageTypeException;
 
 import java.io.File;
@@ -37,6 +38,9 @@ public class MsgExplorer extends Application
 	private static final String ALL_FILES = "openfile.filechooser.all-files";
 	private static final String MSG_FILES = "openfile.filechooser.msg-files";
 
+	/** The maximum size of the property streams whose decoded values are cached while navigating a file */
+	private static final long PROPERTY_CACHE_SIZE = 4 * 1024 * 1024;
+
 	/** The MSG object we are exploring */
 	private MSG msg;
 
@@ -73,6 +77,7 @@ public class MsgExplorer extends Application
 		if (pathAndFileName != null) {
 			try {
 				msg = new MSG(pathAndFileName);
+				msg.setPropertyCache(new PropertyCache(PROPERTY_CACHE_SIZE));
 			} catch (final FileNotFoundException e) {
 				System.out.printf("Error: %s not found%n", pathAndFileName);
 				msg = null;